@@ -20,11 +20,13 @@ import org.junit.experimental.categories.Category;
  * <ol>
  * <li>Generate a random matrix and write it into a DB dump file.
  * <li>Read that dump file with ChronoDB.
- * <li>From the resulting DB, create a dump.
+ * <li>From the resulting DB, create a dump in the XML format and a dump in the binary format.
+ * <li>Read both dumps into fresh DB instances.
  * </ol>
  *
  * <p>
- * Since this test does not produce any output on its own, please use JVisualVM to monitor the memory consumption.
+ * The benchmark logs the time required for writing and reading both dump formats. Please use JVisualVM to monitor the
+ * memory consumption.
  *
  * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
  *
@@ -53,14 +55,37 @@ public class SimpleDumpBenchmark extends AllChronoDBBackendsTest {
 		ChronoLogger.log("Reading dump file into DB instance of type [" + this.getChronoBackendName() + "].");
 		db.readDump(dumpFile, DumpOption.batchSize(10_000));
 		ChronoLogger.log("Successfully read dump file into DB.");
-		// stream out the data into a new file
-		File dumpFile2 = new File(this.getTestDirectory(), "output.chronodump");
-		dumpFile2.createNewFile();
-		dumpFile2.deleteOnExit();
-		ChronoLogger.log("Writing ChronoDB dump into test file.");
-		db.writeDump(dumpFile2);
-		ChronoLogger.log("Dump file written successfully.");
+		// stream out the data into a new file, once per format
+		File xmlDumpFile = new File(this.getTestDirectory(), "output.chronodump");
+		xmlDumpFile.createNewFile();
+		xmlDumpFile.deleteOnExit();
+		File binaryDumpFile = new File(this.getTestDirectory(), "output.chronodump.bin");
+		binaryDumpFile.createNewFile();
+		binaryDumpFile.deleteOnExit();
+		ChronoLogger.log("Writing ChronoDB dump into test file (XML format).");
+		long timeBeforeXmlWrite = System.currentTimeMillis();
+		db.writeDump(xmlDumpFile);
+		long xmlWriteTime = System.currentTimeMillis() - timeBeforeXmlWrite;
+		ChronoLogger.log("Writing ChronoDB dump into test file (binary format).");
+		long timeBeforeBinaryWrite = System.currentTimeMillis();
+		db.writeDump(binaryDumpFile, DumpOption.BINARY_FORMAT, DumpOption.batchSize(10_000));
+		long binaryWriteTime = System.currentTimeMillis() - timeBeforeBinaryWrite;
+		ChronoLogger.log("Dump files written successfully.");
+		// read the dumps back into fresh DB instances
+		ChronoLogger.log("Reading XML dump file into a new DB instance.");
+		long timeBeforeXmlRead = System.currentTimeMillis();
+		this.reinstantiateDB().readDump(xmlDumpFile, DumpOption.batchSize(10_000));
+		long xmlReadTime = System.currentTimeMillis() - timeBeforeXmlRead;
+		ChronoLogger.log("Reading binary dump file into a new DB instance.");
+		long timeBeforeBinaryRead = System.currentTimeMillis();
+		this.reinstantiateDB().readDump(binaryDumpFile, DumpOption.batchSize(10_000));
+		long binaryReadTime = System.currentTimeMillis() - timeBeforeBinaryRead;
 		ChronoLogger.log("Original dump has " + FileUtils.byteCountToDisplaySize(dumpFile.length())
-				+ ", output dump has " + FileUtils.byteCountToDisplaySize(dumpFile.length()));
+				+ ", XML output dump has " + FileUtils.byteCountToDisplaySize(xmlDumpFile.length())
+				+ ", binary output dump has " + FileUtils.byteCountToDisplaySize(binaryDumpFile.length()));
+		ChronoLogger.log("Write: XML " + xmlWriteTime + "ms, binary " + binaryWriteTime + "ms (speedup: "
+				+ String.format("%.2f", (double) xmlWriteTime / Math.max(1, binaryWriteTime)) + "x)");
+		ChronoLogger.log("Read: XML " + xmlReadTime + "ms, binary " + binaryReadTime + "ms (speedup: "
+				+ String.format("%.2f", (double) xmlReadTime / Math.max(1, binaryReadTime)) + "x)");
 	}
 }
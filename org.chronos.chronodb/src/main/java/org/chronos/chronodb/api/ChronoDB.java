@@ -2,8 +2,12 @@ package org.chronos.chronodb.api;
 
 import java.io.File;
 
+import org.chronos.chronodb.api.builder.subscription.CommitSubscriptionBuilder;
+import org.chronos.chronodb.api.diff.DiffEntry;
+import org.chronos.chronodb.api.event.CommitSubscriber;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 
 /**
  * The top-level interface for interaction with a {@link ChronoDB} instance.
@@ -77,6 +81,80 @@ public interface ChronoDB extends TransactionSource, AutoCloseable {
 	 */
 	public ChronoDBCache getCache();
 
+	/**
+	 * Computes the differences in the given keyspace between two versions of the database.
+	 *
+	 * <p>
+	 * Each version is identified by a branch and a timestamp. The two versions may reside on different branches; the
+	 * branch ancestry is taken into account. The diff is computed from the time-ordered modification indices, i.e. only
+	 * keys which have been modified in one of the versions since their common state are inspected. Keys which have the
+	 * same value in both versions are omitted from the result.
+	 *
+	 * <p>
+	 * The resulting entries are produced lazily, in ascending key order.
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param keyspace
+	 *            The keyspace to compute the differences for. Must not be <code>null</code>.
+	 * @param oldBranch
+	 *            The name of the branch of the "old" version. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 * @param oldTimestamp
+	 *            The timestamp of the "old" version. Must not be negative, must not be greater than the "now" timestamp
+	 *            of the old branch.
+	 * @param newBranch
+	 *            The name of the branch of the "new" version. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 * @param newTimestamp
+	 *            The timestamp of the "new" version. Must not be negative, must not be greater than the "now" timestamp
+	 *            of the new branch.
+	 *
+	 * @return An iterator over the differences. May be empty, but never <code>null</code>.
+	 */
+	public CloseableIterator<DiffEntry> diff(String keyspace, String oldBranch, long oldTimestamp, String newBranch,
+			long newTimestamp);
+
+	/**
+	 * Computes the differences in the given keyspace between two versions of the master branch.
+	 *
+	 * <p>
+	 * This is a shorthand for {@link #diff(String, String, long, String, long)} on the
+	 * {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch.
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param keyspace
+	 *            The keyspace to compute the differences for. Must not be <code>null</code>.
+	 * @param oldTimestamp
+	 *            The timestamp of the "old" version. Must not be negative.
+	 * @param newTimestamp
+	 *            The timestamp of the "new" version. Must not be negative.
+	 *
+	 * @return An iterator over the differences. May be empty, but never <code>null</code>.
+	 */
+	public default CloseableIterator<DiffEntry> diff(final String keyspace, final long oldTimestamp,
+			final long newTimestamp) {
+		return this.diff(keyspace, ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, oldTimestamp,
+				ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, newTimestamp);
+	}
+
+	/**
+	 * Creates a builder for registering a {@link CommitSubscriber} which is notified about successful commits.
+	 *
+	 * <p>
+	 * Subscribers receive the commit timestamp, the commit metadata and the changed keys together with their new
+	 * (serialized) values, without having to poll the commit log. Please refer to the documentation of
+	 * {@link CommitSubscriptionBuilder} for the available options.
+	 *
+	 * @return The builder. Never <code>null</code>.
+	 */
+	public CommitSubscriptionBuilder commitSubscriptionBuilder();
+
 	/**
 	 * Creates a database dump of the entire current database state.
 	 *
@@ -108,6 +186,9 @@ public interface ChronoDB extends TransactionSource, AutoCloseable {
 	 * <p>
 	 * <b>WARNING:</b> As this is a management operation, there is no rollback or undo option!
 	 *
+	 * <p>
+	 * Dumps written with {@link DumpOption#BINARY_FORMAT} are detected automatically; the option does not need to be passed here.
+	 *
 	 * @param dumpFile
 	 *            The dump file to read the data from. Must not be <code>null</code>, must exist, and must point to a file (not a directory).
 	 * @param options
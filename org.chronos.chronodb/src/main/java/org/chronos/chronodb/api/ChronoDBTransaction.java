@@ -10,6 +10,7 @@ import org.chronos.chronodb.api.exceptions.ValueTypeMismatchException;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -169,6 +170,93 @@ public interface ChronoDBTransaction {
      */
     public Set<String> keySet(String keyspaceName);
 
+    /**
+     * Returns the entries in the <i>default</i> keyspace whose keys lie within the given range, at the timestamp of
+     * this transaction.
+     * <p>
+     * <p>
+     * The entries are streamed lazily in ascending key order. Keys which have no value at the timestamp of this
+     * transaction are not contained in the result.
+     * <p>
+     * <p>
+     * <b>/!\ WARNING /!\</b><br>
+     * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+     * <p>
+     * <pre>
+     * try (CloseableIterator&lt;Entry&lt;String, Object&gt;&gt; entries = tx.scan("a", "m")) {
+     * 	while (entries.hasNext()) {
+     * 		Entry&lt;String, Object&gt; entry = entries.next();
+     * 		// ... process the entry
+     * 	}
+     * }
+     * </pre>
+     *
+     * @param fromKey The lower bound of the key range (inclusive). Must not be <code>null</code>.
+     * @param toKey   The upper bound of the key range (exclusive). May be <code>null</code> to scan until the last key.
+     * @return An iterator over the entries in the given key range. May be empty, but never <code>null</code>. Must be
+     * closed by the caller.
+     */
+    public CloseableIterator<Entry<String, Object>> scan(String fromKey, String toKey);
+
+    /**
+     * Returns the entries in the given keyspace whose keys lie within the given range, at the timestamp of this
+     * transaction.
+     * <p>
+     * <p>
+     * The entries are streamed lazily in ascending key order. Keys which have no value at the timestamp of this
+     * transaction are not contained in the result.
+     * <p>
+     * <p>
+     * <b>/!\ WARNING /!\</b><br>
+     * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+     *
+     * @param keyspaceName The name of the keyspace to scan. Must not be <code>null</code>.
+     * @param fromKey      The lower bound of the key range (inclusive). Must not be <code>null</code>.
+     * @param toKey        The upper bound of the key range (exclusive). May be <code>null</code> to scan until the last
+     *                     key.
+     * @return An iterator over the entries in the given key range. May be empty, but never <code>null</code>. Must be
+     * closed by the caller.
+     */
+    public CloseableIterator<Entry<String, Object>> scan(String keyspaceName, String fromKey, String toKey);
+
+    /**
+     * Returns the entries in the <i>default</i> keyspace whose keys start with the given prefix, at the timestamp of
+     * this transaction.
+     * <p>
+     * <p>
+     * The entries are streamed lazily in ascending key order. Keys which have no value at the timestamp of this
+     * transaction are not contained in the result.
+     * <p>
+     * <p>
+     * <b>/!\ WARNING /!\</b><br>
+     * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+     *
+     * @param prefix The key prefix to search for. Must not be <code>null</code>. The empty prefix matches all keys.
+     * @return An iterator over the entries with the given key prefix. May be empty, but never <code>null</code>. Must
+     * be closed by the caller.
+     */
+    public CloseableIterator<Entry<String, Object>> prefix(String prefix);
+
+    /**
+     * Returns the entries in the given keyspace whose keys start with the given prefix, at the timestamp of this
+     * transaction.
+     * <p>
+     * <p>
+     * The entries are streamed lazily in ascending key order. Keys which have no value at the timestamp of this
+     * transaction are not contained in the result.
+     * <p>
+     * <p>
+     * <b>/!\ WARNING /!\</b><br>
+     * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+     *
+     * @param keyspaceName The name of the keyspace to scan. Must not be <code>null</code>.
+     * @param prefix       The key prefix to search for. Must not be <code>null</code>. The empty prefix matches all
+     *                     keys.
+     * @return An iterator over the entries with the given key prefix. May be empty, but never <code>null</code>. Must
+     * be closed by the caller.
+     */
+    public CloseableIterator<Entry<String, Object>> prefix(String keyspaceName, String prefix);
+
     /**
      * Returns the timestamps in the past at which the value for the given key has changed in the <i>default</i>
      * keyspace, up to the timestamp of this transaction.
@@ -0,0 +1,26 @@
+package org.chronos.chronodb.api;
+
+/**
+ * A marker for values which do not store their full state, but only the changes relative to a previous version of
+ * the same key.
+ *
+ * <p>
+ * Such a value can only be resolved as long as the version it has been computed against remains available. ChronoDB
+ * respects this dependency when {@linkplain MaintenanceManager#pruneHistory(String, String, long) pruning the
+ * history}: for every retained delta-encoded value, the version of the same key (in the same branch) which is visible
+ * at the {@linkplain #getPredecessorTimestamp() predecessor timestamp} is retained as well, even if it would
+ * otherwise be superseded.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface DeltaEncodedValue {
+
+	/**
+	 * Returns a timestamp at which the version this value has been computed against is visible.
+	 *
+	 * @return The predecessor timestamp. Never negative.
+	 */
+	public long getPredecessorTimestamp();
+
+}
@@ -31,6 +31,21 @@ public abstract class DumpOption {
 	 */
 	public static final DumpOption ENABLE_GZIP = new FlagOption("enableGZip");
 
+	/**
+	 * Writes the dump in the segmented binary format instead of XML.
+	 *
+	 * <p>
+	 * The binary format stores the serialized values as-is in length-prefixed records. Records are grouped into segments
+	 * (one or more per branch and keyspace) which are compressed independently of each other, which allows to encode and
+	 * decode them in parallel. Binary dumps are detected automatically by {@link ChronoDB#readDump(java.io.File, DumpOption...)}.
+	 *
+	 * <p>
+	 * Please note that {@linkplain #aliasHint(Class, String) aliases}, {@linkplain #defaultConverter(Class, ChronoConverter)
+	 * default converters} and {@link #ENABLE_GZIP} do not apply to binary dumps. Binary dumps can only be read by a
+	 * {@link ChronoDB} that has the value classes on its classpath.
+	 */
+	public static final DumpOption BINARY_FORMAT = new FlagOption("binaryFormat");
+
 	/**
 	 * Creates an alias for the given class in the output format.
 	 *
@@ -124,6 +139,46 @@ public abstract class DumpOption {
 		return new IntOption("batchSize", batchSize);
 	}
 
+	/**
+	 * Sets the number of threads which encode and decode segments of a {@linkplain #BINARY_FORMAT binary dump}.
+	 *
+	 * <p>
+	 * By default, one thread per available processor is used. This option has no effect on XML dumps.
+	 *
+	 * @param threadCount
+	 *            The number of threads to use. Must be greater than or equal to 1.
+	 * @return The option that sets the thread count. Never <code>null</code>.
+	 */
+	public static DumpOption threadCount(final int threadCount) {
+		checkArgument(threadCount > 0,
+				"Precondition violation - argument 'threadCount' must be strictly greater than zero!");
+		return new IntOption("threadCount", threadCount);
+	}
+
+	/**
+	 * Restricts the dump to the changes which happened strictly after the given timestamp.
+	 *
+	 * <p>
+	 * An incremental dump contains only the entries and commit metadata with timestamps greater than the given one, as
+	 * well as the branch and indexer definitions. Such a dump can be {@linkplain ChronoDB#readDump(java.io.File, DumpOption...)
+	 * read} into a database which already contains the state up to (at least) the given timestamp, typically by reading the
+	 * full dump first and then each incremental dump in the order in which they were written. Branches and indices which
+	 * already exist in the target database are kept as they are.
+	 *
+	 * <p>
+	 * A suitable timestamp for the next incremental dump is the {@linkplain Branch#getNow() now} timestamp of the master
+	 * branch at the time the previous dump was written. Entries which are contained in two subsequent dumps are simply
+	 * written again when the dumps are loaded, so overlapping time ranges are harmless, while gaps lead to missing data.
+	 *
+	 * @param timestamp
+	 *            The timestamp after which changes should be dumped (exclusive). Must not be negative.
+	 * @return The option that makes the dump incremental. Never <code>null</code>.
+	 */
+	public static DumpOption incrementalSince(final long timestamp) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		return new LongOption("incrementalSince", timestamp);
+	}
+
 	// =====================================================================================================================
 	// INNER CLASSES
 	// =====================================================================================================================
@@ -394,4 +449,84 @@ public abstract class DumpOption {
 
 	}
 
+	/**
+	 * A {@link LongOption} is a named container for a long value.
+	 *
+	 * <p>
+	 * LongOptions are uniquely identified by their name.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 *
+	 */
+	public static class LongOption extends DumpOption {
+
+		/** The name of this option. */
+		private final String name;
+		/** The long value associated with this option. */
+		private final long value;
+
+		/**
+		 * Constructs a new LongOption.
+		 *
+		 * @param name
+		 *            The name to use for the option. Must not be <code>null</code>.
+		 * @param value
+		 *            The value to use for the option.
+		 */
+		public LongOption(final String name, final long value) {
+			checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
+			this.name = name;
+			this.value = value;
+		}
+
+		/**
+		 * Returns the name of this option.
+		 *
+		 * @return The name. Never <code>null</code>.
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the long value associated with this option.
+		 *
+		 * @return The long value.
+		 */
+		public long getValue() {
+			return this.value;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + (this.name == null ? 0 : this.name.hashCode());
+			return result;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null) {
+				return false;
+			}
+			if (this.getClass() != obj.getClass()) {
+				return false;
+			}
+			LongOption other = (LongOption) obj;
+			if (this.name == null) {
+				if (other.name != null) {
+					return false;
+				}
+			} else if (!this.name.equals(other.name)) {
+				return false;
+			}
+			return true;
+		}
+
+	}
+
 }
@@ -281,17 +281,14 @@ public interface IndexManager {
 	 * Re-indexes the index with the given name.
 	 *
 	 * <p>
-	 * This operation will <b>force</b> a re-index. Re-indexing is an expensive operation. Furthermore, re-indexing is an exclusive operation that does not permit any concurrent reads and/or writes on the database.
+	 * This operation will <b>force</b> a re-index of the given index; all other indices remain untouched. Re-indexing is an expensive operation. Commits are blocked while the index is being rebuilt, but other reads on the database may proceed. Queries on the given index which run concurrently to the re-indexing process may deliver incomplete results.
 	 *
 	 * <p>
 	 * If you are unsure if any index is dirty and requires re-indexing, please consider using {@link #reindexAll()} instead.
 	 *
 	 * @param indexName
-	 *            The name of the index to re-index. Must not be <code>null</code>.
-	 *
-	 * @deprecated In Chronos 0.6.9 and later, simply use {@link #reindexAll()}.
+	 *            The name of the index to re-index. Must not be <code>null</code>. Must refer to an existing index.
 	 */
-	@Deprecated
 	public void reindex(String indexName);
 
 	/**
@@ -432,6 +429,21 @@ public interface IndexManager {
 	 */
 	public void rollback(Branch branch, long timestamp);
 
+	/**
+	 * Removes all index entries in the given branch and keyspace which are no longer valid at or after the given timestamp.
+	 *
+	 * <p>
+	 * This method is used for {@linkplain MaintenanceManager#pruneHistory(String, long) history pruning} and is not intended to be called by clients directly. Queries at or after the given timestamp are not affected by this operation.
+	 *
+	 * @param branch
+	 *            The branch to prune. Must not be <code>null</code>.
+	 * @param keyspace
+	 *            The keyspace to prune. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The cut-off timestamp. Must not be negative.
+	 */
+	public void pruneHistory(Branch branch, String keyspace, long timestamp);
+
 	/**
 	 * Clears the internal query cache, if query result caching is enabled.
 	 * <p>
@@ -89,4 +89,78 @@ public interface MaintenanceManager {
 	 */
 	public void performRolloverOnAllBranchesWhere(Predicate<String> branchPredicate);
 
+	/**
+	 * Prunes the history of the given keyspace in the given branch.
+	 *
+	 * <p>
+	 * This operation removes all versions which are no longer visible at or after the given timestamp. For every key,
+	 * the version which is visible at the given timestamp is retained, as are all later versions. Versions which are
+	 * required to resolve a retained {@link DeltaEncodedValue} are retained as well. Secondary index entries and commit
+	 * metadata which belong exclusively to removed versions are removed too. Queries at timestamps greater than or
+	 * equal to the given timestamp produce the same results as before; queries at earlier timestamps may produce
+	 * incomplete results.
+	 *
+	 * <p>
+	 * Afterwards, the backend attempts to reclaim the freed disk space by compacting its files. The JDBC backend can
+	 * only do so if it is connected to an embedded H2 database; any other database has to be compacted with its own
+	 * tools.
+	 *
+	 * <p>
+	 * The cut-off timestamp is automatically reduced to the smallest branching timestamp among the direct child
+	 * branches of the given branch, because child branches need to be able to access the state of their origin at
+	 * their branching timestamp. It is also limited to the "now" timestamp of the branch.
+	 *
+	 * <p>
+	 * This operation can be executed while the database is online. Concurrent commits are blocked until the operation
+	 * has completed. Concurrent reads may proceed, except on the in-memory and MapDB backends, which block them as
+	 * well.
+	 *
+	 * <p>
+	 * <b>Important note:</b> This operation is <b>irreversible</b>. Please consider creating a
+	 * {@linkplain ChronoDB#writeDump(java.io.File, DumpOption...) dump} first.
+	 *
+	 * @param branchName
+	 *            The name of the branch to prune. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 * @param keyspace
+	 *            The name of the keyspace to prune. Must not be <code>null</code>. If the keyspace does not exist in
+	 *            the given branch, this method has no effect.
+	 * @param timestamp
+	 *            The cut-off timestamp. Must not be negative.
+	 *
+	 * @return The number of removed versions.
+	 */
+	public long pruneHistory(String branchName, String keyspace, long timestamp);
+
+	/**
+	 * Prunes the history of all keyspaces in the given branch.
+	 *
+	 * <p>
+	 * Please see {@link #pruneHistory(String, String, long)} for details.
+	 *
+	 * @param branchName
+	 *            The name of the branch to prune. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 * @param timestamp
+	 *            The cut-off timestamp. Must not be negative.
+	 *
+	 * @return The number of removed versions.
+	 */
+	public long pruneHistory(String branchName, long timestamp);
+
+	/**
+	 * Prunes the history of all keyspaces in the {@link ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch.
+	 *
+	 * <p>
+	 * Please see {@link #pruneHistory(String, String, long)} for details.
+	 *
+	 * @param timestamp
+	 *            The cut-off timestamp. Must not be negative.
+	 *
+	 * @return The number of removed versions.
+	 */
+	public default long pruneHistoryOnMaster(final long timestamp) {
+		return this.pruneHistory(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp);
+	}
+
 }
@@ -0,0 +1,93 @@
+package org.chronos.chronodb.api.builder.subscription;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.event.CommitEvent;
+import org.chronos.chronodb.api.event.CommitSubscriber;
+
+/**
+ * This class represents a fluid builder API for the registration of {@link CommitSubscriber}s.
+ *
+ * <p>
+ * This class is intended to be used in a fluent way. For example:
+ *
+ * <pre>
+ * ChronoDB chronoDB = ...; // get some ChronoDB instance
+ * chronoDB.commitSubscriptionBuilder().onBranch("MyBranch").inKeyspace("MyKeyspace").resumeAfter(timestamp).subscribe(subscriber);
+ * </pre>
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface CommitSubscriptionBuilder {
+
+	/**
+	 * Restricts the subscription to commits on the given branch.
+	 *
+	 * <p>
+	 * By default, the subscription refers to the {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master}
+	 * branch. Commits on other branches (including child branches) are not delivered.
+	 *
+	 * @param branchName
+	 *            The name of the branch to subscribe to. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 *
+	 * @return The builder (<code>this</code>) for method chaining. Never <code>null</code>.
+	 */
+	public CommitSubscriptionBuilder onBranch(String branchName);
+
+	/**
+	 * Restricts the subscription to changes in the given keyspace.
+	 *
+	 * <p>
+	 * This method may be called several times to subscribe to several keyspaces. If it is never called, changes in all
+	 * keyspaces are delivered. Commits which contain no changes in any of the given keyspaces are not delivered.
+	 *
+	 * @param keyspace
+	 *            The name of the keyspace to subscribe to. Must not be <code>null</code>.
+	 *
+	 * @return The builder (<code>this</code>) for method chaining. Never <code>null</code>.
+	 */
+	public CommitSubscriptionBuilder inKeyspace(String keyspace);
+
+	/**
+	 * Replays all commits which happened (strictly) after the given timestamp from the commit log, before switching
+	 * to the delivery of new commits.
+	 *
+	 * <p>
+	 * By default, only commits which happen after the subscription has been established are delivered. Subscribers
+	 * which persist the timestamp of the last {@link CommitEvent} they have processed can use this method to resume
+	 * where they left off.
+	 *
+	 * @param timestamp
+	 *            The timestamp after which the commits should be replayed. Must not be negative.
+	 *
+	 * @return The builder (<code>this</code>) for method chaining. Never <code>null</code>.
+	 */
+	public CommitSubscriptionBuilder resumeAfter(long timestamp);
+
+	/**
+	 * Sets the maximum number of events which are buffered for the subscriber.
+	 *
+	 * <p>
+	 * Events which arrive while the buffer is full will be replayed from the commit log later on.
+	 *
+	 * @param bufferSize
+	 *            The buffer size to use. Must be positive.
+	 *
+	 * @return The builder (<code>this</code>) for method chaining. Never <code>null</code>.
+	 */
+	public CommitSubscriptionBuilder withBufferSize(int bufferSize);
+
+	/**
+	 * Registers the given subscriber in the {@link ChronoDB} instance, based on the configuration in this builder.
+	 *
+	 * <p>
+	 * The subscriber receives its subscription via {@link CommitSubscriber#onSubscribe} before this method returns.
+	 *
+	 * @param subscriber
+	 *            The subscriber to register. Must not be <code>null</code>.
+	 */
+	public void subscribe(CommitSubscriber subscriber);
+
+}
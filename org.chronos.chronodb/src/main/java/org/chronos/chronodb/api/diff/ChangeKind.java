@@ -0,0 +1,19 @@
+package org.chronos.chronodb.api.diff;
+
+/**
+ * Describes how the value of a single key differs between the two sides of a {@link DiffEntry}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public enum ChangeKind {
+
+	/** The key does not exist on the old side, but exists on the new side. */
+	ADDED,
+
+	/** The key exists on both sides, but with different values. */
+	MODIFIED,
+
+	/** The key exists on the old side, but does not exist on the new side. */
+	REMOVED
+
+}
@@ -0,0 +1,69 @@
+package org.chronos.chronodb.api.diff;
+
+import org.chronos.chronodb.api.ChronoDB;
+
+/**
+ * A single entry in a temporal diff, as produced by {@link ChronoDB#diff(String, String, long, String, long)}.
+ *
+ * <p>
+ * A diff entry describes a key which has a different value on the "new" side of the diff than on the "old" side. Keys
+ * which have the same value on both sides never produce a diff entry.
+ *
+ * <p>
+ * The values are available both in their serialized form (which is cheap to access, and sufficient for forwarding the
+ * change to another system) and in deserialized form. Deserialization is performed on demand.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface DiffEntry {
+
+	/**
+	 * Returns the name of the keyspace in which the key resides.
+	 *
+	 * @return The keyspace name. Never <code>null</code>.
+	 */
+	public String getKeyspace();
+
+	/**
+	 * Returns the key which differs between the two sides.
+	 *
+	 * @return The key. Never <code>null</code>.
+	 */
+	public String getKey();
+
+	/**
+	 * Returns the kind of change which happened to the key.
+	 *
+	 * @return The change kind. Never <code>null</code>.
+	 */
+	public ChangeKind getChangeKind();
+
+	/**
+	 * Returns the serialized value of the key on the old side of the diff.
+	 *
+	 * @return The serialized old value, or <code>null</code> if the key does not exist on the old side.
+	 */
+	public byte[] getOldValueBytes();
+
+	/**
+	 * Returns the serialized value of the key on the new side of the diff.
+	 *
+	 * @return The serialized new value, or <code>null</code> if the key does not exist on the new side.
+	 */
+	public byte[] getNewValueBytes();
+
+	/**
+	 * Returns the deserialized value of the key on the old side of the diff.
+	 *
+	 * @return The old value, or <code>null</code> if the key does not exist on the old side.
+	 */
+	public Object getOldValue();
+
+	/**
+	 * Returns the deserialized value of the key on the new side of the diff.
+	 *
+	 * @return The new value, or <code>null</code> if the key does not exist on the new side.
+	 */
+	public Object getNewValue();
+
+}
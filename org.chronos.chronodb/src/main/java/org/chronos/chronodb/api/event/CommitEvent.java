@@ -0,0 +1,63 @@
+package org.chronos.chronodb.api.event;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.chronos.chronodb.api.ChronoDBTransaction;
+
+/**
+ * Describes a single successful commit, as delivered to a {@link CommitSubscriber}.
+ *
+ * <p>
+ * A commit event carries the commit timestamp, the commit metadata object (see
+ * {@link ChronoDBTransaction#commit(Object)}) and the changed keys together with their new values in serialized form.
+ * If the subscription is restricted to certain keyspaces, only the changes in those keyspaces are contained in the
+ * event.
+ *
+ * <p>
+ * Instances of this interface are immutable.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface CommitEvent {
+
+	/**
+	 * Returns the name of the branch on which the commit occurred.
+	 *
+	 * @return The branch name. Never <code>null</code>.
+	 */
+	public String getBranchName();
+
+	/**
+	 * Returns the timestamp of the commit.
+	 *
+	 * @return The commit timestamp. Never negative.
+	 */
+	public long getTimestamp();
+
+	/**
+	 * Returns the metadata object which was attached to the commit.
+	 *
+	 * @return The commit metadata. May be <code>null</code> if no metadata was given for the commit.
+	 */
+	public Object getCommitMetadata();
+
+	/**
+	 * Returns the names of the keyspaces which contain changes in this event.
+	 *
+	 * @return An unmodifiable view on the keyspace names. Never <code>null</code>.
+	 */
+	public Set<String> getKeyspaces();
+
+	/**
+	 * Returns the changes in the given keyspace.
+	 *
+	 * @param keyspace
+	 *            The name of the keyspace to get the changes for. Must not be <code>null</code>.
+	 *
+	 * @return An unmodifiable map from changed key to the serialized new value. Deleted keys are mapped to
+	 *         <code>null</code>. Empty if there are no changes in the keyspace, never <code>null</code>.
+	 */
+	public Map<String, byte[]> getChanges(String keyspace);
+
+}
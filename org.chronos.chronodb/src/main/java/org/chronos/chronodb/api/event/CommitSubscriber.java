@@ -0,0 +1,52 @@
+package org.chronos.chronodb.api.event;
+
+import org.chronos.chronodb.api.builder.subscription.CommitSubscriptionBuilder;
+
+/**
+ * A subscriber which receives {@link CommitEvent}s after they have been committed.
+ *
+ * <p>
+ * Subscribers are registered via a {@link CommitSubscriptionBuilder}. All methods of a single subscriber are invoked
+ * sequentially (never concurrently), on a background thread that is managed by the database.
+ *
+ * <p>
+ * This interface mirrors the contract of a reactive streams subscriber.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface CommitSubscriber {
+
+	/**
+	 * Invoked exactly once, before any other method, when the subscription is established.
+	 *
+	 * <p>
+	 * No events will be delivered until {@link CommitSubscription#request(long)} is called on the given subscription.
+	 *
+	 * @param subscription
+	 *            The new subscription. Never <code>null</code>.
+	 */
+	public void onSubscribe(CommitSubscription subscription);
+
+	/**
+	 * Invoked for each commit event, in ascending order of commit timestamps.
+	 *
+	 * @param event
+	 *            The commit event. Never <code>null</code>.
+	 */
+	public void onNext(CommitEvent event);
+
+	/**
+	 * Invoked when the subscription is terminated due to an error. No further methods will be invoked afterwards.
+	 *
+	 * @param throwable
+	 *            The error which caused the termination. Never <code>null</code>.
+	 */
+	public void onError(Throwable throwable);
+
+	/**
+	 * Invoked when the subscription is terminated because the database is closed. No further methods will be invoked
+	 * afterwards.
+	 */
+	public void onComplete();
+
+}
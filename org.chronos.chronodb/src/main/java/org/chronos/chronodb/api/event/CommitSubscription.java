@@ -0,0 +1,44 @@
+package org.chronos.chronodb.api.event;
+
+/**
+ * Represents the link between a {@link CommitSubscriber} and the stream of commit events of a ChronoDB instance.
+ *
+ * <p>
+ * Commit events are only delivered upon demand, which is signaled via {@link #request(long)}. Events which have not
+ * been requested yet are kept in a bounded buffer. If the buffer runs full, newer events are not buffered any longer;
+ * instead, they are replayed from the commit log as soon as the subscriber catches up. Committing transactions are
+ * therefore never blocked by slow subscribers, and no events are lost.
+ *
+ * <p>
+ * This interface mirrors the contract of a reactive streams subscription.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface CommitSubscription {
+
+	/**
+	 * Requests the given number of additional commit events.
+	 *
+	 * @param n
+	 *            The number of additional events to deliver. Must be positive. A non-positive value cancels the
+	 *            subscription and signals an {@link IllegalArgumentException} to the subscriber.
+	 */
+	public void request(long n);
+
+	/**
+	 * Cancels this subscription.
+	 *
+	 * <p>
+	 * After cancellation, no further events will be delivered (events which are currently being delivered may still
+	 * arrive). Calling this method on an already cancelled subscription has no effect.
+	 */
+	public void cancel();
+
+	/**
+	 * Checks if this subscription has been cancelled (or completed).
+	 *
+	 * @return <code>true</code> if this subscription is no longer active, otherwise <code>false</code>.
+	 */
+	public boolean isCancelled();
+
+}
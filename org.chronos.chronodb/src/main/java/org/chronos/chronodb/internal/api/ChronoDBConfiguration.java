@@ -211,6 +211,37 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public static final String DROP_ON_SHUTDOWN = NS_DOT + "storage.file.drop_on_shutdown";
 
+	/**
+	 * Sets the maximum time (in milliseconds) for which secondary index changes may remain un-flushed in backends which
+	 * store their secondary indices in a Lucene index on disk (e.g. {@link ChronosBackend#MAPDB}).
+	 *
+	 * <p>
+	 * Index changes become visible to queries immediately after each commit. Writing them durably to disk (which
+	 * involves an fsync) is deferred until either this interval has elapsed, or the number of pending writes exceeds
+	 * {@link #INDEX_FLUSH_MAX_PENDING_WRITES}. If the process terminates before a flush, the affected indices are
+	 * marked as dirty on the next startup and need to be re-indexed.
+	 *
+	 * <p>
+	 * Type: long<br>
+	 * Default value: 1000<br>
+	 * Maps to: {@link #getIndexFlushInterval()}
+	 */
+	public static final String INDEX_FLUSH_INTERVAL = NS_DOT + "storage.file.index_flush_interval";
+
+	/**
+	 * Sets the maximum number of index writes which may remain un-flushed in backends which store their secondary
+	 * indices in a Lucene index on disk (e.g. {@link ChronosBackend#MAPDB}).
+	 *
+	 * <p>
+	 * See {@link #INDEX_FLUSH_INTERVAL} for details. Use 1 to flush the index after every write.
+	 *
+	 * <p>
+	 * Type: int<br>
+	 * Default value: 100<br>
+	 * Maps to: {@link #getIndexFlushMaxPendingWrites()}
+	 */
+	public static final String INDEX_FLUSH_MAX_PENDING_WRITES = NS_DOT + "storage.file.index_flush_max_pending_writes";
+
 	/**
 	 * Sets the JDBC database connection URL when {@link ChronoDB} is operating in {@link ChronosBackend#JDBC} mode.
 	 *
@@ -251,6 +282,37 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public static final String JDBC_CREDENTIALS_PASSWORD = NS_DOT + "storage.jdbc.credentials.password";
 
+	/**
+	 * Sets the maximum number of prepared statements to cache per pooled JDBC connection when {@link ChronoDB} is
+	 * operating in {@link ChronosBackend#JDBC} mode.
+	 *
+	 * <p>
+	 * Cached statements are reused whenever the same SQL is executed again on the same connection, which avoids
+	 * re-preparing (re-parsing and re-planning) the queries of the storage engine on every call. Use zero to disable
+	 * the statement cache.
+	 *
+	 * <p>
+	 * Type: int<br>
+	 * Default value: 256<br>
+	 * Maps to: {@link #getJdbcStatementCacheSize()}
+	 */
+	public static final String JDBC_STATEMENT_CACHE_SIZE = NS_DOT + "storage.jdbc.statement_cache_size";
+
+	/**
+	 * Sets the maximum number of rows which are sent to the database in a single JDBC batch when {@link ChronoDB} is
+	 * operating in {@link ChronosBackend#JDBC} mode.
+	 *
+	 * <p>
+	 * Commits write their matrix entries and index documents in batches of (at most) this size, instead of issuing one
+	 * statement per row. Use 1 to send every row individually.
+	 *
+	 * <p>
+	 * Type: int<br>
+	 * Default value: 1000<br>
+	 * Maps to: {@link #getJdbcBatchSize()}
+	 */
+	public static final String JDBC_BATCH_SIZE = NS_DOT + "storage.jdbc.batch_size";
+
 	// =================================================================================================================
 	// GENERAL CONFIGURATION
 	// =================================================================================================================
@@ -399,6 +461,26 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public File getWorkingFile();
 
+	/**
+	 * Returns the maximum time (in milliseconds) for which secondary index changes may remain un-flushed.
+	 *
+	 * <p>
+	 * Mapped by setting: {@value #INDEX_FLUSH_INTERVAL}
+	 *
+	 * @return The flush interval in milliseconds. Always greater than zero.
+	 */
+	public long getIndexFlushInterval();
+
+	/**
+	 * Returns the maximum number of index writes which may remain un-flushed.
+	 *
+	 * <p>
+	 * Mapped by setting: {@value #INDEX_FLUSH_MAX_PENDING_WRITES}
+	 *
+	 * @return The maximum number of pending index writes. Always greater than zero.
+	 */
+	public int getIndexFlushMaxPendingWrites();
+
 	// =================================================================================================================
 	// JDBC CONFIGURATION
 	// =================================================================================================================
@@ -433,4 +515,24 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public String getJdbcCredentialsPassword();
 
+	/**
+	 * Returns the maximum number of prepared statements to cache per pooled JDBC connection.
+	 *
+	 * <p>
+	 * Mapped by setting: {@value #JDBC_STATEMENT_CACHE_SIZE}
+	 *
+	 * @return The statement cache size per connection. Zero indicates that statements are not cached.
+	 */
+	public int getJdbcStatementCacheSize();
+
+	/**
+	 * Returns the maximum number of rows to send to the database in a single JDBC batch.
+	 *
+	 * <p>
+	 * Mapped by setting: {@value #JDBC_BATCH_SIZE}
+	 *
+	 * @return The batch size. Always greater than zero.
+	 */
+	public int getJdbcBatchSize();
+
 }
@@ -9,6 +9,7 @@ import org.chronos.chronodb.internal.api.query.QueryManager;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.dump.CommitMetadataMap;
+import org.chronos.chronodb.internal.impl.event.CommitEventPublisher;
 import org.chronos.common.autolock.ReadWriteAutoLockable;
 import org.chronos.common.version.ChronosVersion;
 
@@ -46,6 +47,13 @@ public interface ChronoDBInternal extends ChronoDB, ReadWriteAutoLockable {
 	 */
 	public QueryManager getQueryManager();
 
+	/**
+	 * Returns the {@link CommitEventPublisher} which manages the commit subscriptions of this database instance.
+	 *
+	 * @return The commit event publisher. Never <code>null</code>.
+	 */
+	public CommitEventPublisher getCommitEventPublisher();
+
 	/**
 	 * Creates a transaction on this {@link ChronoDB} based on the given configuration.
 	 *
@@ -80,6 +88,24 @@ public interface ChronoDBInternal extends ChronoDB, ReadWriteAutoLockable {
 	 */
 	public CloseableIterator<ChronoDBEntry> entryStream();
 
+	/**
+	 * Creates an iterable stream of the {@link ChronoDBEntry entries} in this {@link ChronoDB} instance which have been
+	 * written within the given time range.
+	 *
+	 * <p>
+	 * <b>IMPORTANT:</b> The resulting stream <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param minTimestamp
+	 *            The minimum timestamp of the entries to include (inclusive). Must not be negative.
+	 * @param maxTimestamp
+	 *            The maximum timestamp of the entries to include (inclusive). Must not be less than the minimum timestamp.
+	 *
+	 * @return The stream of entries. Never <code>null</code>, may be empty. Must be closed explicitly.
+	 *
+	 * @see #entryStream()
+	 */
+	public CloseableIterator<ChronoDBEntry> entryStream(long minTimestamp, long maxTimestamp);
+
 	/**
 	 * Loads the given list of entries into this {@link ChronoDB} instance.
 	 *
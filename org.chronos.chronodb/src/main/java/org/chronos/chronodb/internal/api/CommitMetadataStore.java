@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.api;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDBTransaction;
@@ -343,6 +344,17 @@ public interface CommitMetadataStore {
 	 */
 	public void rollbackToTimestamp(long timestamp);
 
+	/**
+	 * Removes the commit metadata associated with the given commit timestamps from the store.
+	 *
+	 * <p>
+	 * Timestamps which are not associated with any commit metadata are ignored.
+	 *
+	 * @param commitTimestamps
+	 *            The commit timestamps to remove. Must not be <code>null</code>.
+	 */
+	public void purge(Set<Long> commitTimestamps);
+
 	/**
 	 * Returns the {@link Branch} to which this store belongs.
 	 *
@@ -7,6 +7,7 @@ import java.util.Set;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
 /**
@@ -110,6 +111,26 @@ public interface TemporalDataMatrix {
 	 */
 	public CloseableIterator<UnqualifiedTemporalEntry> allEntriesIterator(long timestamp);
 
+	/**
+	 * Returns an iterator over the entries which are valid at the given timestamp for all keys in the given key range.
+	 *
+	 * <p>
+	 * For each key in the range, the iterator returns the latest entry with a timestamp less than or equal to the given
+	 * timestamp (if any). Entries are returned in ascending key order. Deletions are included in the result (with an
+	 * empty value).
+	 *
+	 * @param timestamp
+	 *            The timestamp at which the scan takes place. Must not be negative.
+	 * @param fromKey
+	 *            The lower bound of the key range (inclusive). Must not be <code>null</code>.
+	 * @param toKey
+	 *            The upper bound of the key range (exclusive). May be <code>null</code> to indicate that the key range
+	 *            has no upper bound.
+	 * @return An iterator over the entries in the key range. May be empty, but never <code>null</code>. Must be closed
+	 *         by the caller.
+	 */
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(long timestamp, String fromKey, String toKey);
+
 	/**
 	 * Returns the timestamp at which the last (latest) commit has happened on the given key.
 	 *
@@ -201,6 +222,20 @@ public interface TemporalDataMatrix {
 	 */
 	public void rollback(long timestamp);
 
+	/**
+	 * Removes the entries with the given keys from this matrix.
+	 *
+	 * <p>
+	 * This method is intended for {@linkplain org.chronos.chronodb.api.MaintenanceManager#pruneHistory(String, long)
+	 * history pruning}. It does not perform any consistency checks; removing entries which are still visible at some
+	 * timestamp changes the history of this matrix.
+	 *
+	 * @param keys
+	 *            The keys of the entries to remove. Must not be <code>null</code>. Keys which do not exist in this
+	 *            matrix are ignored. If the set is empty, this method is a no-op and returns immediately.
+	 */
+	public void purgeEntries(Set<UnqualifiedTemporalKey> keys);
+
 	/**
 	 * Returns the modifications to the keyset performed in this matrix, up to the given timestamp.
 	 *
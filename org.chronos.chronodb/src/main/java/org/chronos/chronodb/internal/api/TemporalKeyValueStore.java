@@ -17,6 +17,7 @@ import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.autolock.ReadWriteAutoLockable;
 
@@ -278,6 +279,101 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public Set<String> performKeySet(ChronoDBTransaction tx, String keyspaceName);
 
+	/**
+	 * Returns the entries in the given keyspace whose keys lie within the given range, at the timestamp of the given
+	 * transaction.
+	 *
+	 * <p>
+	 * Entries are returned lazily, in ascending key order. For child branches, the entries of the origin branch are
+	 * merged into the result. Keys without a value at the given timestamp are omitted.
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param tx
+	 *            The transaction on which this operation occurs. Must not be <code>null</code>.
+	 * @param keyspaceName
+	 *            The name of the keyspace to scan. Must not be <code>null</code>.
+	 * @param fromKey
+	 *            The lower bound of the key range (inclusive). Must not be <code>null</code>.
+	 * @param toKey
+	 *            The upper bound of the key range (exclusive). May be <code>null</code> to indicate that the range is
+	 *            unbounded.
+	 *
+	 * @return An iterator over the key-value pairs in the given range. May be empty, but never <code>null</code>.
+	 */
+	public CloseableIterator<Entry<String, Object>> performScan(ChronoDBTransaction tx, String keyspaceName,
+			String fromKey, String toKey);
+
+	/**
+	 * Returns the raw entries in the given keyspace whose keys lie within the given range, at the given timestamp.
+	 *
+	 * <p>
+	 * In contrast to {@link #performScan(ChronoDBTransaction, String, String, String)}, the resulting iterator also
+	 * contains deletions (i.e. entries with an empty value) and the values are not deserialized. This is required for
+	 * merging the entries of a child branch with the entries of its origin.
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param keyspaceName
+	 *            The name of the keyspace to scan. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp at which to perform the scan. Must not be negative.
+	 * @param fromKey
+	 *            The lower bound of the key range (inclusive). Must not be <code>null</code>.
+	 * @param toKey
+	 *            The upper bound of the key range (exclusive). May be <code>null</code> to indicate that the range is
+	 *            unbounded.
+	 *
+	 * @return An iterator over the entries in the given range, in ascending key order. May be empty, but never
+	 *         <code>null</code>.
+	 */
+	public CloseableIterator<UnqualifiedTemporalEntry> scanEntries(String keyspaceName, long timestamp, String fromKey,
+			String toKey);
+
+	/**
+	 * Returns the serialized value of the given key at the given timestamp.
+	 *
+	 * <p>
+	 * For child branches, the request is forwarded to the origin branch if this branch contains no entry for the key.
+	 * In contrast to {@link #performGet(ChronoDBTransaction, QualifiedKey)}, the value is neither deserialized nor
+	 * cached.
+	 *
+	 * @param keyspaceName
+	 *            The name of the keyspace in which the key resides. Must not be <code>null</code>.
+	 * @param key
+	 *            The key to get the serialized value for. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp at which to read the value. Must not be negative.
+	 *
+	 * @return The serialized value, or <code>null</code> if there is no value for the key at the given timestamp.
+	 */
+	public byte[] getSerialForm(String keyspaceName, String key, long timestamp);
+
+	/**
+	 * Returns the keys in the given keyspace which have been modified in the given time range.
+	 *
+	 * <p>
+	 * This operation only considers the modifications which are stored in this store; modifications in the origin
+	 * branch are <b>not</b> taken into account. The result is computed from the time-ordered index of the matrix, i.e.
+	 * keys which were not modified in the range are never touched.
+	 *
+	 * @param keyspaceName
+	 *            The name of the keyspace to look for modifications in. Must not be <code>null</code>. For non-existing
+	 *            keyspaces, the result will be empty.
+	 * @param timestampLowerBound
+	 *            The lower bound of the time range (inclusive). Must not be negative. Must be less than or equal to
+	 *            <code>timestampUpperBound</code>.
+	 * @param timestampUpperBound
+	 *            The upper bound of the time range (inclusive). Must not be negative.
+	 *
+	 * @return The set of modified keys. May be empty, but never <code>null</code>.
+	 */
+	public Set<String> getModifiedKeys(String keyspaceName, long timestampLowerBound, long timestampUpperBound);
+
 	/**
 	 * Returns the history of the given key in this store, up to and including the timestamp of the given transaction.
 	 *
@@ -724,6 +820,33 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public CloseableIterator<ChronoDBEntry> allEntriesIterator(long maxTimestamp);
 
+	/**
+	 * Returns an iterator over all entries in this data store which have been written within the given time range.
+	 *
+	 * <p>
+	 * In contrast to {@link #allEntriesIterator(long)}, this method only visits the modifications in the given range
+	 * (which are located via the inverse index of each keyspace), and is therefore suitable for incremental backups.
+	 * Deletions are reported as entries with an empty value.
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * This method will return only entries from <b>this</b> branch! Entries from the origin branch (if any) will
+	 * <b>not</b> be included in the returned iterator!
+	 *
+	 * <p>
+	 * <b>/!\ WARNING /!\</b><br>
+	 * The resulting iterator <b>must</b> be {@linkplain CloseableIterator#close() closed} by the caller!
+	 *
+	 * @param minTimestamp
+	 *            The minimum timestamp to consider (inclusive). Must not be negative.
+	 * @param maxTimestamp
+	 *            The maximum timestamp to consider (inclusive). Must not be less than the minimum timestamp.
+	 *
+	 * @return An iterator over all entries with timestamps in the given range. May be empty, but never
+	 *         <code>null</code>. Must be closed by the caller.
+	 */
+	public CloseableIterator<ChronoDBEntry> allEntriesIterator(long minTimestamp, long maxTimestamp);
+
 	/**
 	 * Directly inserts the given entries into this store, without performing any temporal consistency checks.
 	 *
@@ -737,6 +860,30 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public void insertEntries(Set<ChronoDBEntry> entries);
 
+	/**
+	 * Removes all versions from the given keyspaces which are no longer visible at or after the given timestamp.
+	 *
+	 * <p>
+	 * For every key, the version which is visible at the cut-off timestamp is retained, as are all versions after it.
+	 * Secondary index documents which have been terminated at or before the cut-off are removed as well, and so is
+	 * the metadata of commits which no longer have any entries associated with them. Reading the store at any
+	 * timestamp greater than or equal to the cut-off yields the same results as before the operation.
+	 *
+	 * <p>
+	 * The cut-off timestamp is reduced to the "now" timestamp of this store, and to the smallest branching timestamp
+	 * among the direct child branches of the owning branch (as those need to be able to read the state of this store
+	 * at their branching timestamp).
+	 *
+	 * @param keyspaces
+	 *            The keyspaces to prune. Must not be <code>null</code>. Keyspaces which do not exist in this store are
+	 *            ignored.
+	 * @param timestamp
+	 *            The cut-off timestamp. Must not be negative.
+	 *
+	 * @return The number of matrix entries which have been removed.
+	 */
+	public long pruneHistory(Set<String> keyspaces, long timestamp);
+
 	// =================================================================================================================
 	// DEBUG METHODS
 	// =================================================================================================================
@@ -807,4 +954,18 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public void setDebugCallbackBeforeTransactionCommitted(final Consumer<ChronoDBTransaction> action);
 
+	/**
+	 * Executes the given debug action during {@linkplain #pruneHistory(Set, long) history pruning}, after the matrices have been pruned, but before the commit metadata is purged.
+	 *
+	 * <p>
+	 * The action receives the effective cutoff timestamp of the pruning process as argument.
+	 *
+	 * <p>
+	 * This method is intended for debugging purposes only and should not be used during normal operation.
+	 *
+	 * @param action
+	 *            The action to be executed. Must not be <code>null</code>.
+	 */
+	public void setDebugCallbackBeforeCommitMetadataPurge(final Consumer<Long> action);
+
 }
@@ -51,6 +51,18 @@ public interface DocumentBasedIndexManagerBackend extends IndexManagerBackend {
 	 */
 	public void applyModifications(ChronoIndexModifications indexModifications);
 
+	/**
+	 * Checks if this backend permits index queries while {@linkplain #applyModifications(ChronoIndexModifications) modifications} are being applied by another thread.
+	 *
+	 * <p>
+	 * If this is the case, rebuilding a single index only needs to block concurrent commits. Otherwise, it requires exclusive access to the database.
+	 *
+	 * @return <code>true</code> if index queries may run concurrently to index modifications, otherwise <code>false</code>.
+	 */
+	public default boolean isQueryingDuringModificationSupported() {
+		return false;
+	}
+
 	// =================================================================================================================
 	// INDEX QUERYING
 	// =================================================================================================================
@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.api.index;
 import java.util.Map;
 import java.util.Set;
 
+import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.IndexManager;
 import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.QualifiedKey;
@@ -107,4 +108,19 @@ public interface IndexManagerBackend {
 	 */
 	public void rollback(Set<String> branches, long timestamp, Set<QualifiedKey> keys);
 
+	/**
+	 * Removes the index documents from the given branch and keyspace which are no longer visible at the given timestamp.
+	 *
+	 * <p>
+	 * This is the index counterpart of pruning the history of a keyspace: after this operation, index queries at or after the given timestamp produce the same results as before, whereas queries before the given timestamp are no longer supported.
+	 *
+	 * @param branch
+	 *            The branch to prune. Must not be <code>null</code>.
+	 * @param keyspace
+	 *            The keyspace to prune. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The pruning timestamp. Documents which have been terminated at or before this timestamp will be removed. Must not be negative.
+	 */
+	public void pruneHistory(Branch branch, String keyspace, long timestamp);
+
 }
@@ -2,11 +2,14 @@ package org.chronos.chronodb.internal.api.stream;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.chronos.chronodb.internal.impl.stream.ConcatenatedCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.FilteringCloseableIterator;
 import org.chronos.chronodb.internal.impl.stream.TransformingCloseableIterator;
 
 /**
@@ -70,6 +73,39 @@ public interface CloseableIterator<T> extends AutoCloseable {
 		return new TransformingCloseableIterator<>(iterator, function);
 	}
 
+	/**
+	 * Filters the given iterator, resulting in a new iterator which only contains the elements that match the given
+	 * predicate.
+	 *
+	 * <p>
+	 * The predicate will be applied in a lazy way, i.e. elements will be checked on the fly when they are requested via
+	 * {@link #hasNext()}.
+	 *
+	 * <p>
+	 * Closing the resulting iterator will also close the wrapped iterator.
+	 *
+	 * @param iterator
+	 *            The iterator to filter. Must not be <code>null</code>.
+	 * @param predicate
+	 *            The predicate which decides which elements to keep. Must not be <code>null</code>.
+	 * @return The filtered iterator. Never <code>null</code>.
+	 */
+	public static <E> CloseableIterator<E> filter(final CloseableIterator<E> iterator,
+			final Predicate<? super E> predicate) {
+		checkNotNull(iterator, "Precondition violation - argument 'iterator' must not be NULL!");
+		checkNotNull(predicate, "Precondition violation - argument 'predicate' must not be NULL!");
+		return new FilteringCloseableIterator<>(iterator, predicate);
+	}
+
+	/**
+	 * Returns a closeable iterator which contains no elements.
+	 *
+	 * @return The empty iterator. Never <code>null</code>.
+	 */
+	public static <E> CloseableIterator<E> empty() {
+		return new ConcatenatedCloseableIterator<E>(Collections.emptyIterator());
+	}
+
 	// =====================================================================================================================
 	// PUBLIC API
 	// =====================================================================================================================
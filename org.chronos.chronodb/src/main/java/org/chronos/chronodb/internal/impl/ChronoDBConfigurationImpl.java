@@ -24,6 +24,10 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 	// =====================================================================================================================
 
 	private static final long DEFAULT__STORAGE_BACKEND_CACHE = 1024L * 1024L * 200L; // 200 MB (in bytes)
+	private static final int DEFAULT__JDBC_STATEMENT_CACHE_SIZE = 256;
+	private static final int DEFAULT__JDBC_BATCH_SIZE = 1000;
+	private static final long DEFAULT__INDEX_FLUSH_INTERVAL = 1000L;
+	private static final int DEFAULT__INDEX_FLUSH_MAX_PENDING_WRITES = 100;
 
 	// =====================================================================================================================
 	// FIELDS
@@ -81,6 +85,12 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 	@IgnoredIf(field = "backendType", comparison = Comparison.IS_NOT_SET_TO, compareValue = "file")
 	private boolean dropOnShutdown = false;
 
+	@Parameter(key = INDEX_FLUSH_INTERVAL, optional = true)
+	private long indexFlushInterval = DEFAULT__INDEX_FLUSH_INTERVAL;
+
+	@Parameter(key = INDEX_FLUSH_MAX_PENDING_WRITES, optional = true)
+	private int indexFlushMaxPendingWrites = DEFAULT__INDEX_FLUSH_MAX_PENDING_WRITES;
+
 	// jdbc backend settings
 	@Parameter(key = JDBC_CONNECTION_URL)
 	@RequiredIf(field = "backendType", comparison = Comparison.IS_SET_TO, compareValue = "jdbc")
@@ -96,6 +106,14 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 	@IgnoredIf(field = "backendType", comparison = Comparison.IS_NOT_SET_TO, compareValue = "jdbc")
 	private String jdbcCredentialsPassword;
 
+	@Parameter(key = JDBC_STATEMENT_CACHE_SIZE, optional = true)
+	@IgnoredIf(field = "backendType", comparison = Comparison.IS_NOT_SET_TO, compareValue = "jdbc")
+	private int jdbcStatementCacheSize = DEFAULT__JDBC_STATEMENT_CACHE_SIZE;
+
+	@Parameter(key = JDBC_BATCH_SIZE, optional = true)
+	@IgnoredIf(field = "backendType", comparison = Comparison.IS_NOT_SET_TO, compareValue = "jdbc")
+	private int jdbcBatchSize = DEFAULT__JDBC_BATCH_SIZE;
+
 	// =================================================================================================================
 	// CACHES
 	// =================================================================================================================
@@ -184,6 +202,16 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 		return this.getWorkingFile().getParentFile();
 	}
 
+	@Override
+	public long getIndexFlushInterval() {
+		return Math.max(1L, this.indexFlushInterval);
+	}
+
+	@Override
+	public int getIndexFlushMaxPendingWrites() {
+		return Math.max(1, this.indexFlushMaxPendingWrites);
+	}
+
 	// =================================================================================================================
 	// JDBC BACKEND SETTINGS
 	// =================================================================================================================
@@ -203,6 +231,16 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 		return this.jdbcCredentialsPassword;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return this.jdbcStatementCacheSize;
+	}
+
+	@Override
+	public int getJdbcBatchSize() {
+		return Math.max(1, this.jdbcBatchSize);
+	}
+
 	// =================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =================================================================================================================
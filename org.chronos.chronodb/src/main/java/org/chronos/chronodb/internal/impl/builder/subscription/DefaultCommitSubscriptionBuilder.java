@@ -0,0 +1,72 @@
+package org.chronos.chronodb.internal.impl.builder.subscription;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.builder.subscription.CommitSubscriptionBuilder;
+import org.chronos.chronodb.api.event.CommitSubscriber;
+import org.chronos.chronodb.api.exceptions.InvalidTransactionBranchException;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+
+import com.google.common.collect.Sets;
+
+public class DefaultCommitSubscriptionBuilder implements CommitSubscriptionBuilder {
+
+	private static final int DEFAULT_BUFFER_SIZE = 256;
+
+	private final ChronoDBInternal owningDB;
+
+	private String branchName = ChronoDBConstants.MASTER_BRANCH_IDENTIFIER;
+	private final Set<String> keyspaces = Sets.newHashSet();
+	private long resumeAfterTimestamp = -1;
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	public DefaultCommitSubscriptionBuilder(final ChronoDBInternal owningDB) {
+		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
+		this.owningDB = owningDB;
+	}
+
+	@Override
+	public CommitSubscriptionBuilder onBranch(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		this.branchName = branchName;
+		return this;
+	}
+
+	@Override
+	public CommitSubscriptionBuilder inKeyspace(final String keyspace) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		this.keyspaces.add(keyspace);
+		return this;
+	}
+
+	@Override
+	public CommitSubscriptionBuilder resumeAfter(final long timestamp) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		this.resumeAfterTimestamp = timestamp;
+		return this;
+	}
+
+	@Override
+	public CommitSubscriptionBuilder withBufferSize(final int bufferSize) {
+		checkArgument(bufferSize > 0, "Precondition violation - argument 'bufferSize' must be positive!");
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	@Override
+	public void subscribe(final CommitSubscriber subscriber) {
+		checkNotNull(subscriber, "Precondition violation - argument 'subscriber' must not be NULL!");
+		if (this.owningDB.getBranchManager().existsBranch(this.branchName) == false) {
+			throw new InvalidTransactionBranchException(
+					"There is no branch '" + this.branchName + "' in this ChronoDB!");
+		}
+		this.owningDB.getCommitEventPublisher().subscribe(subscriber, this.branchName,
+				Collections.unmodifiableSet(Sets.newHashSet(this.keyspaces)), this.resumeAfterTimestamp,
+				this.bufferSize);
+	}
+
+}
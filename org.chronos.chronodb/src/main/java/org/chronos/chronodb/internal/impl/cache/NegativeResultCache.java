@@ -0,0 +1,129 @@
+package org.chronos.chronodb.internal.impl.cache;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.internal.api.Period;
+
+/**
+ * A bounded cache that remembers in which periods a given key is <b>not</b> present in the matrix of a single branch.
+ *
+ * <p>
+ * Child branches only contain the changes that were performed on them after the branching timestamp; any other key
+ * has to be resolved in the origin branch. In deep branch hierarchies, every read of such an inherited key would have
+ * to probe the matrix of each branch along the way. This cache allows to skip the probes on the branches which are
+ * already known not to contain the key at the requested timestamp.
+ *
+ * <p>
+ * Entries are evicted in least-recently-used order. The owner of this cache is responsible for
+ * {@linkplain #invalidate(QualifiedKey) invalidating} keys which are written to the branch.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class NegativeResultCache {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final int maxSize;
+	private final Map<QualifiedKey, Period> keyToAbsencePeriod;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * Creates a new negative result cache.
+	 *
+	 * @param maxSize
+	 *            The maximum number of keys to keep in the cache. Must not be negative. Use zero to disable the cache.
+	 */
+	@SuppressWarnings("serial")
+	public NegativeResultCache(final int maxSize) {
+		checkArgument(maxSize >= 0, "Precondition violation - argument 'maxSize' must not be negative!");
+		this.maxSize = maxSize;
+		this.keyToAbsencePeriod = new LinkedHashMap<QualifiedKey, Period>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<QualifiedKey, Period> eldest) {
+				return this.size() > NegativeResultCache.this.maxSize;
+			}
+
+		};
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	/**
+	 * Checks if the given key is known to be absent at the given timestamp.
+	 *
+	 * @param qualifiedKey
+	 *            The key to check. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp to check. Must not be negative.
+	 *
+	 * @return <code>true</code> if the key is known to be absent, or <code>false</code> if it is present or its state
+	 *         is unknown.
+	 */
+	public synchronized boolean isAbsent(final QualifiedKey qualifiedKey, final long timestamp) {
+		checkNotNull(qualifiedKey, "Precondition violation - argument 'qualifiedKey' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		Period period = this.keyToAbsencePeriod.get(qualifiedKey);
+		return period != null && period.contains(timestamp);
+	}
+
+	/**
+	 * Records that the given key is absent during the given period.
+	 *
+	 * <p>
+	 * Only a single period is stored per key; recording a new period replaces the previous one.
+	 *
+	 * @param qualifiedKey
+	 *            The key which is absent. Must not be <code>null</code>.
+	 * @param period
+	 *            The period in which the key is absent. Must not be <code>null</code>.
+	 */
+	public synchronized void cacheAbsence(final QualifiedKey qualifiedKey, final Period period) {
+		checkNotNull(qualifiedKey, "Precondition violation - argument 'qualifiedKey' must not be NULL!");
+		checkNotNull(period, "Precondition violation - argument 'period' must not be NULL!");
+		if (this.maxSize <= 0 || period.isEmpty()) {
+			return;
+		}
+		this.keyToAbsencePeriod.put(qualifiedKey, period);
+	}
+
+	/**
+	 * Removes the cached absence information about the given key.
+	 *
+	 * @param qualifiedKey
+	 *            The key to invalidate. Must not be <code>null</code>.
+	 */
+	public synchronized void invalidate(final QualifiedKey qualifiedKey) {
+		checkNotNull(qualifiedKey, "Precondition violation - argument 'qualifiedKey' must not be NULL!");
+		this.keyToAbsencePeriod.remove(qualifiedKey);
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public synchronized void clear() {
+		this.keyToAbsencePeriod.clear();
+	}
+
+	/**
+	 * Returns the number of keys in this cache.
+	 *
+	 * @return The number of keys. Never negative.
+	 */
+	public synchronized int size() {
+		return this.keyToAbsencePeriod.size();
+	}
+
+}
@@ -0,0 +1,84 @@
+package org.chronos.chronodb.internal.impl.diff;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.chronos.chronodb.api.SerializationManager;
+import org.chronos.chronodb.api.diff.ChangeKind;
+import org.chronos.chronodb.api.diff.DiffEntry;
+
+public class DiffEntryImpl implements DiffEntry {
+
+	private final String keyspace;
+	private final String key;
+	private final byte[] oldValueBytes;
+	private final byte[] newValueBytes;
+	private final SerializationManager serializationManager;
+
+	public DiffEntryImpl(final String keyspace, final String key, final byte[] oldValueBytes,
+			final byte[] newValueBytes, final SerializationManager serializationManager) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		checkArgument(oldValueBytes != null || newValueBytes != null,
+				"Precondition violation - at least one of the arguments 'oldValueBytes' and 'newValueBytes' must not be NULL!");
+		checkNotNull(serializationManager,
+				"Precondition violation - argument 'serializationManager' must not be NULL!");
+		this.keyspace = keyspace;
+		this.key = key;
+		this.oldValueBytes = oldValueBytes;
+		this.newValueBytes = newValueBytes;
+		this.serializationManager = serializationManager;
+	}
+
+	@Override
+	public String getKeyspace() {
+		return this.keyspace;
+	}
+
+	@Override
+	public String getKey() {
+		return this.key;
+	}
+
+	@Override
+	public ChangeKind getChangeKind() {
+		if (this.oldValueBytes == null) {
+			return ChangeKind.ADDED;
+		} else if (this.newValueBytes == null) {
+			return ChangeKind.REMOVED;
+		} else {
+			return ChangeKind.MODIFIED;
+		}
+	}
+
+	@Override
+	public byte[] getOldValueBytes() {
+		return this.oldValueBytes;
+	}
+
+	@Override
+	public byte[] getNewValueBytes() {
+		return this.newValueBytes;
+	}
+
+	@Override
+	public Object getOldValue() {
+		if (this.oldValueBytes == null) {
+			return null;
+		}
+		return this.serializationManager.deserialize(this.oldValueBytes);
+	}
+
+	@Override
+	public Object getNewValue() {
+		if (this.newValueBytes == null) {
+			return null;
+		}
+		return this.serializationManager.deserialize(this.newValueBytes);
+	}
+
+	@Override
+	public String toString() {
+		return "DiffEntry[" + this.getChangeKind() + " " + this.keyspace + "->" + this.key + "]";
+	}
+
+}
@@ -0,0 +1,85 @@
+package org.chronos.chronodb.internal.impl.diff;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.chronos.chronodb.api.SerializationManager;
+import org.chronos.chronodb.api.diff.DiffEntry;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+
+/**
+ * Lazily resolves a sequence of candidate keys into {@link DiffEntry diff entries}.
+ *
+ * <p>
+ * For each candidate key, the serialized values on the old and the new side are fetched. Keys which have the same value
+ * on both sides (e.g. because they were changed and then changed back) are skipped.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class TemporalDiffIterator extends AbstractCloseableIterator<DiffEntry> {
+
+	private final String keyspace;
+	private final Iterator<String> candidateKeys;
+	private final TemporalKeyValueStore oldTKVS;
+	private final long oldTimestamp;
+	private final TemporalKeyValueStore newTKVS;
+	private final long newTimestamp;
+	private final SerializationManager serializationManager;
+
+	private DiffEntry nextEntry;
+
+	public TemporalDiffIterator(final String keyspace, final Iterator<String> candidateKeys,
+			final TemporalKeyValueStore oldTKVS, final long oldTimestamp, final TemporalKeyValueStore newTKVS,
+			final long newTimestamp, final SerializationManager serializationManager) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(candidateKeys, "Precondition violation - argument 'candidateKeys' must not be NULL!");
+		checkNotNull(oldTKVS, "Precondition violation - argument 'oldTKVS' must not be NULL!");
+		checkArgument(oldTimestamp >= 0, "Precondition violation - argument 'oldTimestamp' must not be negative!");
+		checkNotNull(newTKVS, "Precondition violation - argument 'newTKVS' must not be NULL!");
+		checkArgument(newTimestamp >= 0, "Precondition violation - argument 'newTimestamp' must not be negative!");
+		checkNotNull(serializationManager,
+				"Precondition violation - argument 'serializationManager' must not be NULL!");
+		this.keyspace = keyspace;
+		this.candidateKeys = candidateKeys;
+		this.oldTKVS = oldTKVS;
+		this.oldTimestamp = oldTimestamp;
+		this.newTKVS = newTKVS;
+		this.newTimestamp = newTimestamp;
+		this.serializationManager = serializationManager;
+	}
+
+	@Override
+	public DiffEntry next() {
+		if (this.hasNext() == false) {
+			throw new NoSuchElementException("Iterator is exhausted; there are no more elements!");
+		}
+		DiffEntry entry = this.nextEntry;
+		this.nextEntry = null;
+		return entry;
+	}
+
+	@Override
+	protected boolean hasNextInternal() {
+		while (this.nextEntry == null && this.candidateKeys.hasNext()) {
+			String key = this.candidateKeys.next();
+			byte[] oldValue = this.oldTKVS.getSerialForm(this.keyspace, key, this.oldTimestamp);
+			byte[] newValue = this.newTKVS.getSerialForm(this.keyspace, key, this.newTimestamp);
+			if (Arrays.equals(oldValue, newValue)) {
+				// no difference (this also covers the case where the key exists on neither side)
+				continue;
+			}
+			this.nextEntry = new DiffEntryImpl(this.keyspace, key, oldValue, newValue, this.serializationManager);
+		}
+		return this.nextEntry != null;
+	}
+
+	@Override
+	protected void closeInternal() {
+		// nothing to close; the candidate keys are held in-memory
+	}
+
+}
@@ -0,0 +1,708 @@
+package org.chronos.chronodb.internal.impl.dump;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.DumpOption;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.SerializationManager;
+import org.chronos.chronodb.api.exceptions.ChronoDBSerializationException;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.api.indexing.Indexer;
+import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.CommitMetadataStore;
+import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.dump.meta.BranchDumpMetadata;
+import org.chronos.chronodb.internal.impl.dump.meta.ChronoDBDumpMetadata;
+import org.chronos.chronodb.internal.impl.dump.meta.IndexerDumpMetadata;
+import org.chronos.common.serialization.KryoManager;
+import org.chronos.common.version.ChronosVersion;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Reads and writes DB dumps in the segmented binary format (see {@link DumpOption#BINARY_FORMAT}).
+ *
+ * <p>
+ * A binary dump starts with a magic header and the format version, followed by a sequence of segments. Every segment
+ * consists of an uncompressed frame header (segment type, branch name, keyspace name, record count and payload
+ * lengths) and a payload which is deflated independently of all other segments. The first segment always contains the
+ * DB metadata (branches, indexers and, for incremental dumps, the timestamp they are based upon). It is followed by
+ * the entry segments (each of which holds the entries of a single keyspace in a single branch) and the commit metadata
+ * segments. An empty end segment terminates the dump.
+ *
+ * <p>
+ * The payloads are sequences of records whose variable-length fields are length-prefixed:
+ * <ul>
+ * <li>Entry records consist of the timestamp, the key and the serialized value, exactly as it is stored in the DB.
+ * <li>Commit records consist of the commit timestamp and the serialized commit metadata.
+ * </ul>
+ *
+ * <p>
+ * As segments are independent of each other, they are encoded (when writing) and decoded (when reading) on a thread
+ * pool, while the dump file itself is written and read sequentially. The number of segments which are in flight at any
+ * point in time is bounded, so neither writing nor reading a dump requires the whole dump content to reside in memory.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoDBBinaryDumpUtil {
+
+	// =====================================================================================================================
+	// CONSTANTS
+	// =====================================================================================================================
+
+	private static final byte[] MAGIC_HEADER = "CHRONODUMP".getBytes(StandardCharsets.US_ASCII);
+	private static final int FORMAT_VERSION = 2;
+	/** The first format version which carries the {@linkplain DumpOption#incrementalSince(long) incremental} flag. */
+	private static final int FORMAT_VERSION_INCREMENTAL = 2;
+
+	private static final byte SEGMENT_TYPE_END = 0;
+	private static final byte SEGMENT_TYPE_METADATA = 1;
+	private static final byte SEGMENT_TYPE_ENTRIES = 2;
+	private static final byte SEGMENT_TYPE_COMMITS = 3;
+
+	private static final int NULL_LENGTH = -1;
+	private static final int IO_BUFFER_SIZE = 1024 * 1024;
+	private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	/**
+	 * Checks if the given file is a dump in the binary format.
+	 *
+	 * @param dumpFile
+	 *            The file to check. Must not be <code>null</code>.
+	 * @return <code>true</code> if the file starts with the binary dump header, otherwise <code>false</code>.
+	 */
+	public static boolean isBinaryDump(final File dumpFile) {
+		checkNotNull(dumpFile, "Precondition violation - argument 'dumpFile' must not be NULL!");
+		if (dumpFile.isFile() == false || dumpFile.length() < MAGIC_HEADER.length) {
+			return false;
+		}
+		try (DataInputStream input = new DataInputStream(new FileInputStream(dumpFile))) {
+			byte[] header = new byte[MAGIC_HEADER.length];
+			input.readFully(header);
+			return Arrays.equals(MAGIC_HEADER, header);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	public static void writeDump(final ChronoDBInternal db, final File dumpFile, final DumpOptions options) {
+		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+		checkNotNull(dumpFile, "Precondition violation - argument 'dumpFile' must not be NULL!");
+		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+		SerializationManager sm = db.getSerializationManager();
+		int segmentSize = options.getBatchSize();
+		ExecutorService executor = createExecutor(options);
+		try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(dumpFile), IO_BUFFER_SIZE))) {
+			output.write(MAGIC_HEADER);
+			output.writeInt(FORMAT_VERSION);
+			// the metadata segment is small; we write it right away
+			long dumpTimestamp = System.currentTimeMillis();
+			output.write(encodeMetadataSegment(db, options));
+			SegmentPipeline<byte[]> pipeline = new SegmentPipeline<>(executor, getMaxSegmentsInFlight(options),
+					segment -> output.write(segment));
+			// stream the entries, cutting a new segment whenever the keyspace changes or the segment is full
+			try (CloseableIterator<ChronoDBEntry> entryStream = ChronoDBDumpUtil.openEntryStream(db, options,
+					dumpTimestamp)) {
+				List<ChronoDBEntry> segment = Lists.newArrayList();
+				while (entryStream.hasNext()) {
+					ChronoDBEntry entry = entryStream.next();
+					if (segment.isEmpty() == false
+							&& (segment.size() >= segmentSize || isSameKeyspace(segment.get(0), entry) == false)) {
+						List<ChronoDBEntry> entries = segment;
+						pipeline.submit(() -> encodeEntrySegment(entries));
+						segment = Lists.newArrayList();
+					}
+					segment.add(entry);
+				}
+				if (segment.isEmpty() == false) {
+					List<ChronoDBEntry> entries = segment;
+					pipeline.submit(() -> encodeEntrySegment(entries));
+				}
+			}
+			// stream the commit metadata page by page, instead of loading it all at once
+			long minTimestamp = ChronoDBDumpUtil.getMinimumDumpTimestamp(options);
+			for (Branch branch : db.getBranchManager().getBranches()) {
+				String branchName = branch.getName();
+				CommitMetadataStore commitStore = ((BranchInternal) branch).getTemporalKeyValueStore()
+						.getCommitMetadataStore();
+				int pageIndex = 0;
+				while (minTimestamp <= dumpTimestamp) {
+					List<Entry<Long, Object>> page = Lists.newArrayList(commitStore.getCommitMetadataPaged(
+							minTimestamp, dumpTimestamp, segmentSize, pageIndex, Order.ASCENDING));
+					if (page.isEmpty() == false) {
+						pipeline.submit(() -> encodeCommitSegment(branchName, page, sm));
+					}
+					if (page.size() < segmentSize) {
+						break;
+					}
+					pageIndex++;
+				}
+			}
+			pipeline.drain();
+			writeFrame(output, SEGMENT_TYPE_END, "", "", 0, new byte[0]);
+		} catch (IOException e) {
+			throw new ChronoDBStorageBackendException(
+					"Failed to write binary dump to '" + dumpFile.getAbsolutePath() + "'!", e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	public static void readDump(final ChronoDBInternal db, final File dumpFile, final DumpOptions options) {
+		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+		checkNotNull(dumpFile, "Precondition violation - argument 'dumpFile' must not be NULL!");
+		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+		SerializationManager sm = db.getSerializationManager();
+		ExecutorService executor = createExecutor(options);
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(dumpFile), IO_BUFFER_SIZE))) {
+			int formatVersion = readHeader(input);
+			// the first segment is always the metadata; we need the branches before we can load anything
+			SegmentFrame metadataFrame = readFrame(input);
+			if (metadataFrame.getType() != SEGMENT_TYPE_METADATA) {
+				throw new ChronoDBSerializationException("Failed to read dump - metadata segment is missing!");
+			}
+			ChronoDBDumpMetadata metadata = decodeMetadataSegment(metadataFrame, formatVersion);
+			ChronoDBDumpUtil.createBranches(db, metadata);
+			// decode the remaining segments in parallel, but load them in file order
+			DumpLoader loader = new DumpLoader(db, options.getBatchSize());
+			SegmentPipeline<DecodedSegment> pipeline = new SegmentPipeline<>(executor,
+					getMaxSegmentsInFlight(options), loader::load);
+			SegmentFrame frame = readFrame(input);
+			while (frame.getType() != SEGMENT_TYPE_END) {
+				SegmentFrame currentFrame = frame;
+				pipeline.submit(() -> decodeSegment(currentFrame, sm));
+				frame = readFrame(input);
+			}
+			pipeline.drain();
+			loader.finish();
+			ChronoDBDumpUtil.restoreIndexers(db, metadata);
+		} catch (IOException e) {
+			throw new ChronoDBStorageBackendException(
+					"Failed to read binary dump from '" + dumpFile.getAbsolutePath() + "'!", e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// =====================================================================================================================
+	// SERIALIZATION / DUMP WRITE METHODS
+	// =====================================================================================================================
+
+	private static byte[] encodeMetadataSegment(final ChronoDBInternal db, final DumpOptions options)
+			throws IOException {
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(payload);
+		output.writeUTF(ChronosVersion.getCurrentVersion().toString());
+		output.writeLong(System.currentTimeMillis());
+		Set<Branch> branches = db.getBranchManager().getBranches();
+		output.writeInt(branches.size());
+		for (Branch branch : branches) {
+			BranchDumpMetadata branchDump = new BranchDumpMetadata(branch);
+			output.writeUTF(branchDump.getName());
+			output.writeBoolean(branchDump.getParentName() != null);
+			if (branchDump.getParentName() != null) {
+				output.writeUTF(branchDump.getParentName());
+			}
+			output.writeLong(branchDump.getBranchingTimestamp());
+		}
+		Map<String, Set<Indexer<?>>> indexersByIndexName = db.getIndexManager().getIndexersByIndexName();
+		output.writeInt(indexersByIndexName.values().stream().mapToInt(Set::size).sum());
+		for (Entry<String, Set<Indexer<?>>> indexNameToIndexers : indexersByIndexName.entrySet()) {
+			for (Indexer<?> indexer : indexNameToIndexers.getValue()) {
+				output.writeUTF(indexNameToIndexers.getKey());
+				writeBytes(output, KryoManager.serialize(indexer));
+			}
+		}
+		output.writeLong(options.getIncrementalSinceTimestamp().orElse(-1L));
+		output.flush();
+		return createFrame(SEGMENT_TYPE_METADATA, "", "", branches.size(), payload.toByteArray());
+	}
+
+	private static byte[] encodeEntrySegment(final List<ChronoDBEntry> entries) throws IOException {
+		ChronoIdentifier firstIdentifier = entries.get(0).getIdentifier();
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(payload);
+		for (ChronoDBEntry entry : entries) {
+			ChronoIdentifier identifier = entry.getIdentifier();
+			output.writeLong(identifier.getTimestamp());
+			writeBytes(output, identifier.getKey().getBytes(StandardCharsets.UTF_8));
+			writeBytes(output, entry.getValue());
+		}
+		output.flush();
+		return createFrame(SEGMENT_TYPE_ENTRIES, firstIdentifier.getBranchName(), firstIdentifier.getKeyspace(),
+				entries.size(), payload.toByteArray());
+	}
+
+	private static byte[] encodeCommitSegment(final String branchName, final List<Entry<Long, Object>> commits,
+			final SerializationManager serializationManager) throws IOException {
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(payload);
+		for (Entry<Long, Object> commit : commits) {
+			output.writeLong(commit.getKey());
+			if (commit.getValue() == null) {
+				writeBytes(output, null);
+			} else {
+				writeBytes(output, serializationManager.serialize(commit.getValue()));
+			}
+		}
+		output.flush();
+		return createFrame(SEGMENT_TYPE_COMMITS, branchName, "", commits.size(), payload.toByteArray());
+	}
+
+	private static byte[] createFrame(final byte type, final String branchName, final String keyspace,
+			final int recordCount, final byte[] payload) throws IOException {
+		ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length / 2 + 64);
+		DataOutputStream output = new DataOutputStream(frame);
+		writeFrame(output, type, branchName, keyspace, recordCount, payload);
+		output.flush();
+		return frame.toByteArray();
+	}
+
+	private static void writeFrame(final DataOutputStream output, final byte type, final String branchName,
+			final String keyspace, final int recordCount, final byte[] payload) throws IOException {
+		byte[] compressedPayload = deflate(payload);
+		output.writeByte(type);
+		output.writeUTF(branchName);
+		output.writeUTF(keyspace);
+		output.writeInt(recordCount);
+		output.writeInt(payload.length);
+		output.writeInt(compressedPayload.length);
+		output.write(compressedPayload);
+	}
+
+	private static void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+		if (bytes == null) {
+			output.writeInt(NULL_LENGTH);
+		} else {
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+	}
+
+	private static byte[] deflate(final byte[] data) {
+		// favour speed over ratio; dumps of large databases are bound by CPU time, not by disk space
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+			byte[] buffer = new byte[COMPRESSION_BUFFER_SIZE];
+			while (deflater.finished() == false) {
+				int length = deflater.deflate(buffer);
+				output.write(buffer, 0, length);
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static boolean isSameKeyspace(final ChronoDBEntry first, final ChronoDBEntry second) {
+		ChronoIdentifier firstIdentifier = first.getIdentifier();
+		ChronoIdentifier secondIdentifier = second.getIdentifier();
+		return firstIdentifier.getBranchName().equals(secondIdentifier.getBranchName())
+				&& firstIdentifier.getKeyspace().equals(secondIdentifier.getKeyspace());
+	}
+
+	// =====================================================================================================================
+	// DESERIALIZATION / DUMP READ METHODS
+	// =====================================================================================================================
+
+	private static int readHeader(final DataInputStream input) throws IOException {
+		byte[] header = new byte[MAGIC_HEADER.length];
+		input.readFully(header);
+		if (Arrays.equals(MAGIC_HEADER, header) == false) {
+			throw new ChronoDBSerializationException("Failed to read dump - the file is not a binary dump!");
+		}
+		int formatVersion = input.readInt();
+		if (formatVersion < 1 || formatVersion > FORMAT_VERSION) {
+			throw new ChronoDBSerializationException("Failed to read dump - unsupported binary format version "
+					+ formatVersion + " (expected: 1 to " + FORMAT_VERSION + ")!");
+		}
+		return formatVersion;
+	}
+
+	private static SegmentFrame readFrame(final DataInputStream input) throws IOException {
+		byte type = input.readByte();
+		String branchName = input.readUTF();
+		String keyspace = input.readUTF();
+		int recordCount = input.readInt();
+		int payloadLength = input.readInt();
+		int compressedPayloadLength = input.readInt();
+		byte[] compressedPayload = new byte[compressedPayloadLength];
+		input.readFully(compressedPayload);
+		return new SegmentFrame(type, branchName, keyspace, recordCount, payloadLength, compressedPayload);
+	}
+
+	private static ChronoDBDumpMetadata decodeMetadataSegment(final SegmentFrame frame, final int formatVersion)
+			throws IOException {
+		DataInputStream input = frame.openPayload();
+		ChronoDBDumpMetadata metadata = new ChronoDBDumpMetadata();
+		metadata.setChronosVersion(ChronosVersion.parse(input.readUTF()));
+		metadata.setCreationDate(new Date(input.readLong()));
+		int branchCount = input.readInt();
+		for (int i = 0; i < branchCount; i++) {
+			BranchDumpMetadata branchDump = new BranchDumpMetadata();
+			branchDump.setName(input.readUTF());
+			if (input.readBoolean()) {
+				branchDump.setParentName(input.readUTF());
+			}
+			branchDump.setBranchingTimestamp(input.readLong());
+			metadata.getBranchDumpMetadata().add(branchDump);
+		}
+		int indexerCount = input.readInt();
+		for (int i = 0; i < indexerCount; i++) {
+			String indexName = input.readUTF();
+			Indexer<?> indexer = KryoManager.deserialize(readBytes(input));
+			metadata.getIndexerDumpMetadata().add(new IndexerDumpMetadata(indexName, indexer));
+		}
+		if (formatVersion >= FORMAT_VERSION_INCREMENTAL) {
+			long incrementalSince = input.readLong();
+			if (incrementalSince >= 0) {
+				metadata.setIncrementalSince(incrementalSince);
+			}
+		}
+		return metadata;
+	}
+
+	private static DecodedSegment decodeSegment(final SegmentFrame frame,
+			final SerializationManager serializationManager) throws IOException {
+		DataInputStream input = frame.openPayload();
+		switch (frame.getType()) {
+		case SEGMENT_TYPE_ENTRIES:
+			List<ChronoDBEntry> entries = Lists.newArrayListWithCapacity(frame.getRecordCount());
+			for (int i = 0; i < frame.getRecordCount(); i++) {
+				long timestamp = input.readLong();
+				String key = new String(readBytes(input), StandardCharsets.UTF_8);
+				byte[] value = readBytes(input);
+				ChronoIdentifier identifier = ChronoIdentifier.create(frame.getBranchName(), timestamp,
+						frame.getKeyspace(), key);
+				entries.add(ChronoDBEntry.create(identifier, value));
+			}
+			return DecodedSegment.entries(entries);
+		case SEGMENT_TYPE_COMMITS:
+			CommitMetadataMap commits = new CommitMetadataMap();
+			for (int i = 0; i < frame.getRecordCount(); i++) {
+				long timestamp = input.readLong();
+				byte[] serializedMetadata = readBytes(input);
+				Object metadata = null;
+				if (serializedMetadata != null) {
+					metadata = serializationManager.deserialize(serializedMetadata);
+				}
+				commits.addEntry(frame.getBranchName(), timestamp, metadata);
+			}
+			return DecodedSegment.commits(commits);
+		default:
+			throw new ChronoDBSerializationException(
+					"Failed to read dump - encountered unknown segment type " + frame.getType() + "!");
+		}
+	}
+
+	private static byte[] readBytes(final DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return bytes;
+	}
+
+	private static byte[] inflate(final byte[] data, final int length) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			byte[] result = new byte[length];
+			int offset = 0;
+			while (offset < length) {
+				int inflated = inflater.inflate(result, offset, length - offset);
+				if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new ChronoDBSerializationException("Failed to read dump - segment is truncated!");
+				}
+				offset += inflated;
+			}
+			return result;
+		} catch (DataFormatException e) {
+			throw new ChronoDBSerializationException("Failed to read dump - segment is corrupted!", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private static ExecutorService createExecutor(final DumpOptions options) {
+		return Executors.newFixedThreadPool(options.getThreadCount(),
+				new ThreadFactoryBuilder().setNameFormat("ChronoDB-Dump-%d").setDaemon(true).build());
+	}
+
+	private static int getMaxSegmentsInFlight(final DumpOptions options) {
+		// enough to keep all threads busy, but bounded to keep the memory footprint low
+		return options.getThreadCount() * 2;
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	/**
+	 * A raw, still compressed segment as it has been read from the dump file.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 *
+	 */
+	private static class SegmentFrame {
+
+		private final byte type;
+		private final String branchName;
+		private final String keyspace;
+		private final int recordCount;
+		private final int payloadLength;
+		private final byte[] compressedPayload;
+
+		public SegmentFrame(final byte type, final String branchName, final String keyspace, final int recordCount,
+				final int payloadLength, final byte[] compressedPayload) {
+			this.type = type;
+			this.branchName = branchName;
+			this.keyspace = keyspace;
+			this.recordCount = recordCount;
+			this.payloadLength = payloadLength;
+			this.compressedPayload = compressedPayload;
+		}
+
+		public byte getType() {
+			return this.type;
+		}
+
+		public String getBranchName() {
+			return this.branchName;
+		}
+
+		public String getKeyspace() {
+			return this.keyspace;
+		}
+
+		public int getRecordCount() {
+			return this.recordCount;
+		}
+
+		public DataInputStream openPayload() {
+			byte[] payload = inflate(this.compressedPayload, this.payloadLength);
+			return new DataInputStream(new ByteArrayInputStream(payload));
+		}
+
+	}
+
+	/**
+	 * The decoded content of a single segment; either a list of entries or a page of commit metadata.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 *
+	 */
+	private static class DecodedSegment {
+
+		public static DecodedSegment entries(final List<ChronoDBEntry> entries) {
+			return new DecodedSegment(entries, null);
+		}
+
+		public static DecodedSegment commits(final CommitMetadataMap commits) {
+			return new DecodedSegment(null, commits);
+		}
+
+		private final List<ChronoDBEntry> entries;
+		private final CommitMetadataMap commits;
+
+		private DecodedSegment(final List<ChronoDBEntry> entries, final CommitMetadataMap commits) {
+			this.entries = entries;
+			this.commits = commits;
+		}
+
+		public List<ChronoDBEntry> getEntries() {
+			return this.entries;
+		}
+
+		public CommitMetadataMap getCommits() {
+			return this.commits;
+		}
+
+	}
+
+	/**
+	 * Loads decoded segments into the database, in batches.
+	 *
+	 * <p>
+	 * Commit metadata is loaded page by page as it arrives. Commit timestamps which only occur in entries (but not in the
+	 * commit metadata segments) are loaded with <code>null</code> metadata when the dump has been read completely.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 *
+	 */
+	private static class DumpLoader {
+
+		private final ChronoDBInternal db;
+		private final int batchSize;
+		private final List<ChronoDBEntry> batch;
+		private final SetMultimap<String, Long> commitTimestampsWithoutMetadata;
+
+		public DumpLoader(final ChronoDBInternal db, final int batchSize) {
+			this.db = db;
+			this.batchSize = batchSize;
+			this.batch = Lists.newArrayListWithCapacity(batchSize);
+			this.commitTimestampsWithoutMetadata = HashMultimap.create();
+		}
+
+		public void load(final DecodedSegment segment) {
+			if (segment.getEntries() != null) {
+				for (ChronoDBEntry entry : segment.getEntries()) {
+					this.batch.add(entry);
+					ChronoIdentifier identifier = entry.getIdentifier();
+					this.commitTimestampsWithoutMetadata.put(identifier.getBranchName(), identifier.getTimestamp());
+					if (this.batch.size() >= this.batchSize) {
+						this.flushBatch();
+					}
+				}
+			} else {
+				this.flushBatch();
+				CommitMetadataMap commits = segment.getCommits();
+				for (String branchName : commits.getContainedBranches()) {
+					for (Long timestamp : commits.getCommitMetadataForBranch(branchName).keySet()) {
+						this.commitTimestampsWithoutMetadata.remove(branchName, timestamp);
+					}
+				}
+				this.db.loadCommitTimestamps(commits);
+			}
+		}
+
+		public void finish() {
+			this.flushBatch();
+			CommitMetadataMap remainingCommits = new CommitMetadataMap();
+			for (Entry<String, Long> entry : this.commitTimestampsWithoutMetadata.entries()) {
+				remainingCommits.addEntry(entry.getKey(), entry.getValue(), null);
+			}
+			this.db.loadCommitTimestamps(remainingCommits);
+		}
+
+		private void flushBatch() {
+			if (this.batch.isEmpty()) {
+				return;
+			}
+			this.db.loadEntries(this.batch);
+			this.batch.clear();
+		}
+
+	}
+
+	/**
+	 * Processes segments on an {@link ExecutorService}, and hands the results to a consumer in submission order.
+	 *
+	 * <p>
+	 * At most <code>maxSegmentsInFlight</code> segments are pending at any point in time; when this limit is exceeded,
+	 * {@link #submit(Callable)} blocks until the oldest segment has been consumed.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 *
+	 * @param <T>
+	 *            The type of the processed segments.
+	 */
+	private static class SegmentPipeline<T> {
+
+		private final ExecutorService executor;
+		private final int maxSegmentsInFlight;
+		private final SegmentConsumer<T> consumer;
+		private final Deque<Future<T>> pendingSegments;
+
+		public SegmentPipeline(final ExecutorService executor, final int maxSegmentsInFlight,
+				final SegmentConsumer<T> consumer) {
+			this.executor = executor;
+			this.maxSegmentsInFlight = maxSegmentsInFlight;
+			this.consumer = consumer;
+			this.pendingSegments = new ArrayDeque<>();
+		}
+
+		public void submit(final Callable<T> task) throws IOException {
+			this.pendingSegments.addLast(this.executor.submit(task));
+			while (this.pendingSegments.size() > this.maxSegmentsInFlight) {
+				this.consumeNext();
+			}
+		}
+
+		public void drain() throws IOException {
+			while (this.pendingSegments.isEmpty() == false) {
+				this.consumeNext();
+			}
+		}
+
+		private void consumeNext() throws IOException {
+			Future<T> future = this.pendingSegments.removeFirst();
+			T segment;
+			try {
+				segment = future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ChronoDBStorageBackendException("Interrupted while processing dump segments!", e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new ChronoDBStorageBackendException("Failed to process dump segment!", cause);
+			}
+			this.consumer.accept(segment);
+		}
+
+	}
+
+	@FunctionalInterface
+	private static interface SegmentConsumer<T> {
+
+		public void accept(T segment) throws IOException;
+
+	}
+
+}
@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +19,9 @@ import java.util.UUID;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchManager;
 import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.DumpOption;
 import org.chronos.chronodb.api.IndexManager;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.SerializationManager;
 import org.chronos.chronodb.api.dump.ChronoConverter;
 import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
@@ -65,8 +68,10 @@ public class ChronoDBDumpUtil {
 		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
 		// stream out data using a sequence writer that fills a root array
 		try {
+			// all entries and commits up to this timestamp will be part of the dump
+			long dumpTimestamp = System.currentTimeMillis();
 			// calculate the metadata we need to write as the first object
-			ChronoDBDumpMetadata dbMetadata = extractMetadata(db);
+			ChronoDBDumpMetadata dbMetadata = extractMetadata(db, options, dumpTimestamp);
 			// write the DB data into the dump file
 			output.write(dbMetadata);
 			// set up some caches and variables we are going to need later
@@ -74,7 +79,7 @@ public class ChronoDBDumpUtil {
 			boolean forceBinary = options.isForceBinaryEncodingEnabled();
 			ConverterRegistry converters = new ConverterRegistry(options);
 			// now, stream in the entries from the database
-			try (CloseableIterator<ChronoDBEntry> entryStream = db.entryStream()) {
+			try (CloseableIterator<ChronoDBEntry> entryStream = openEntryStream(db, options, dumpTimestamp)) {
 				while (entryStream.hasNext()) {
 					ChronoDBEntry entry = entryStream.next();
 					// convert the entry to the dump entry, depending on the settings
@@ -110,15 +115,7 @@ public class ChronoDBDumpUtil {
 			// load the elements
 			loadEntries(db, input, metadata, converters, options);
 			// set up the indexers
-			if (db instanceof ChunkedChronoDB) {
-				// for the chunked version, don't reindex - the index loader takes care of that
-				// when the index is first accessed. This access happens when commiting the first
-				// batch of data from the dump into the database. We therefore only set up the
-				// indices here, but refrain from recreating the index at this point.
-				setupIndexers(db, metadata);
-			} else {
-				setupIndexersAndReindex(db, metadata);
-			}
+			restoreIndexers(db, metadata);
 		} catch (Exception e) {
 			ChronoLogger.logError("Failed to load DB dump!", e);
 		}
@@ -219,11 +216,54 @@ public class ChronoDBDumpUtil {
 	// SERIALIZATION / DUMP WRITE METHODS
 	// =====================================================================================================================
 
-	private static ChronoDBDumpMetadata extractMetadata(final ChronoDBInternal db) {
+	/**
+	 * Returns the lowest timestamp of the entries and commits which need to be written to the dump.
+	 *
+	 * @param options
+	 *            The dump options to use. Must not be <code>null</code>.
+	 * @return The minimum timestamp (inclusive). This is zero for full dumps, and the timestamp after the
+	 *         {@linkplain DumpOption#incrementalSince(long) given one} for incremental dumps.
+	 */
+	static long getMinimumDumpTimestamp(final DumpOptions options) {
+		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+		return options.getIncrementalSinceTimestamp().map(timestamp -> timestamp + 1).orElse(0L);
+	}
+
+	/**
+	 * Opens the stream of entries which need to be written to the dump.
+	 *
+	 * <p>
+	 * For incremental dumps, only the modifications since the {@linkplain DumpOption#incrementalSince(long) given
+	 * timestamp} are streamed; they are located via the inverse index of each matrix instead of scanning the full
+	 * history.
+	 *
+	 * @param db
+	 *            The database to dump. Must not be <code>null</code>.
+	 * @param options
+	 *            The dump options to use. Must not be <code>null</code>.
+	 * @param dumpTimestamp
+	 *            The highest timestamp to consider for incremental dumps (inclusive). Must not be negative.
+	 * @return The entry stream. Must be closed by the caller. Never <code>null</code>.
+	 */
+	static CloseableIterator<ChronoDBEntry> openEntryStream(final ChronoDBInternal db, final DumpOptions options,
+			final long dumpTimestamp) {
+		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+		if (options.isIncremental() == false) {
+			return db.entryStream();
+		}
+		long minTimestamp = getMinimumDumpTimestamp(options);
+		return db.entryStream(minTimestamp, Math.max(minTimestamp, dumpTimestamp));
+	}
+
+	private static ChronoDBDumpMetadata extractMetadata(final ChronoDBInternal db, final DumpOptions options,
+			final long dumpTimestamp) {
 		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
 		ChronoDBDumpMetadata dbDumpMetadata = new ChronoDBDumpMetadata();
 		dbDumpMetadata.setCreationDate(new Date());
 		dbDumpMetadata.setChronosVersion(ChronosVersion.getCurrentVersion());
+		dbDumpMetadata.setIncrementalSince(options.getIncrementalSinceTimestamp().orElse(null));
 		// copy branch metadata
 		BranchManager branchManager = db.getBranchManager();
 		for (Branch branch : branchManager.getBranches()) {
@@ -234,8 +274,14 @@ public class ChronoDBDumpUtil {
 		for (Branch branch : branchManager.getBranches()) {
 			String branchName = branch.getName();
 			CommitMetadataStore commitStore = ((BranchInternal) branch).getTemporalKeyValueStore().getCommitMetadataStore();
-			List<Entry<Long, Object>> commits = commitStore.getCommitMetadataBefore(System.currentTimeMillis() + 1, Integer.MAX_VALUE);
-			for (Entry<Long, Object> commit : commits) {
+			long minTimestamp = getMinimumDumpTimestamp(options);
+			if (minTimestamp > dumpTimestamp) {
+				continue;
+			}
+			Iterator<Entry<Long, Object>> commits = commitStore.getCommitMetadataBetween(minTimestamp, dumpTimestamp,
+					Order.ASCENDING);
+			while (commits.hasNext()) {
+				Entry<Long, Object> commit = commits.next();
 				Long timestamp = commit.getKey();
 				Object metadata = commit.getValue();
 				CommitDumpMetadata commitDump = new CommitDumpMetadata(branchName, timestamp, metadata);
@@ -333,7 +379,7 @@ public class ChronoDBDumpUtil {
 		return (ChronoDBDumpMetadata) element;
 	}
 
-	private static void createBranches(final ChronoDBInternal db, final ChronoDBDumpMetadata metadata) {
+	static void createBranches(final ChronoDBInternal db, final ChronoDBDumpMetadata metadata) {
 		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
 		checkNotNull(metadata, "Precondition violation - argument 'metadata' must not be NULL!");
 		BranchManagerInternal branchManager = db.getBranchManager();
@@ -399,6 +445,10 @@ public class ChronoDBDumpUtil {
 						branchingTimestamp, directoryName);
 				// remember to visit this child to create its children
 				branchesToVisit.push(childBranchMetadata);
+				if (metadata.isIncremental() && branchManager.existsBranch(childBranchName)) {
+					// incremental dumps are applied on top of an existing database; keep the existing branch
+					continue;
+				}
 				// remember that we created this child
 				loadedBranches.add(childBranchMetadata);
 			}
@@ -514,6 +564,30 @@ public class ChronoDBDumpUtil {
 		return ChronoDBEntry.create(plainEntry.getChronoIdentifier(), serializedValue);
 	}
 
+	static void restoreIndexers(final ChronoDBInternal db, final ChronoDBDumpMetadata metadata) {
+		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+		checkNotNull(metadata, "Precondition violation - argument 'metadata' must not be NULL!");
+		if (metadata.isIncremental()) {
+			// the entries of an incremental dump have been inserted without updating the existing indices;
+			// drop them and set them up again from the (current) indexers in the dump, which rebuilds them.
+			IndexManager indexManager = db.getIndexManager();
+			for (IndexerDumpMetadata indexerMetadata : metadata.getIndexerDumpMetadata()) {
+				if (indexManager.getIndexNames().contains(indexerMetadata.getIndexName())) {
+					indexManager.removeIndex(indexerMetadata.getIndexName());
+				}
+			}
+		}
+		if (db instanceof ChunkedChronoDB) {
+			// for the chunked version, don't reindex - the index loader takes care of that
+			// when the index is first accessed. This access happens when commiting the first
+			// batch of data from the dump into the database. We therefore only set up the
+			// indices here, but refrain from recreating the index at this point.
+			setupIndexers(db, metadata);
+		} else {
+			setupIndexersAndReindex(db, metadata);
+		}
+	}
+
 	private static void setupIndexers(final ChronoDBInternal db, final ChronoDBDumpMetadata metadata) {
 		checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
 		checkNotNull(metadata, "Precondition violation - argument 'metadata' must not be NULL!");
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 
 import org.chronos.chronodb.api.DumpOption;
 import org.chronos.chronodb.api.DumpOption.IntOption;
+import org.chronos.chronodb.api.DumpOption.LongOption;
 
 import com.google.common.collect.Sets;
 
@@ -19,6 +20,8 @@ public class DumpOptions {
 
 	public static final int DEFAULT_BATCH_SIZE = 1000;
 
+	public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
 	// =====================================================================================================================
 	// FIELDS
 	// =====================================================================================================================
@@ -51,6 +54,10 @@ public class DumpOptions {
 		return this.isOptionEnabled(DumpOption.FORCE_BINARY_ENCODING);
 	}
 
+	public boolean isBinaryFormatEnabled() {
+		return this.isOptionEnabled(DumpOption.BINARY_FORMAT);
+	}
+
 	public boolean isOptionEnabled(final DumpOption option) {
 		checkNotNull(option, "Precondition violation - argument 'option' must not be NULL!");
 		return this.options.contains(option);
@@ -77,16 +84,34 @@ public class DumpOptions {
 	}
 
 	public int getBatchSize() {
-		Optional<IntOption> batchSize = this.options.stream().filter(option -> option instanceof IntOption)
-				.map(option -> (IntOption) option).filter(option -> "batchSize".equals(option.getName())).findAny();
-		if (batchSize.isPresent()) {
-			return batchSize.get().getValue();
-		} else {
-			return DEFAULT_BATCH_SIZE;
-		}
+		return this.getIntOptionValue("batchSize", DEFAULT_BATCH_SIZE);
+	}
+
+	public int getThreadCount() {
+		return this.getIntOptionValue("threadCount", DEFAULT_THREAD_COUNT);
+	}
+
+	public boolean isIncremental() {
+		return this.getIncrementalSinceTimestamp().isPresent();
+	}
+
+	public Optional<Long> getIncrementalSinceTimestamp() {
+		return this.options.stream().filter(option -> option instanceof LongOption).map(option -> (LongOption) option)
+				.filter(option -> "incrementalSince".equals(option.getName())).map(option -> option.getValue())
+				.findAny();
 	}
 
 	public DumpOption[] toArray() {
 		return this.options.toArray(new DumpOption[this.options.size()]);
 	}
+
+	private int getIntOptionValue(final String name, final int defaultValue) {
+		Optional<IntOption> intOption = this.options.stream().filter(option -> option instanceof IntOption)
+				.map(option -> (IntOption) option).filter(option -> name.equals(option.getName())).findAny();
+		if (intOption.isPresent()) {
+			return intOption.get().getValue();
+		} else {
+			return defaultValue;
+		}
+	}
 }
@@ -31,6 +31,8 @@ public class ChronoDBDumpMetadata extends ChronoDBDumpElement {
 	private Set<BranchDumpMetadata> branchMetadata = Sets.newHashSet();
 	/** The indexers and corresponding metadata. */
 	private Set<IndexerDumpMetadata> indexerMetadata = Sets.newHashSet();
+	/** The timestamp after which the changes in an incremental dump occurred, or <code>null</code> for full dumps. */
+	private Long incrementalSince;
 
 	// =====================================================================================================================
 	// CONSTRUCTOR
@@ -74,6 +76,23 @@ public class ChronoDBDumpMetadata extends ChronoDBDumpElement {
 		return new Date(this.creationDate.getTime());
 	}
 
+	public void setIncrementalSince(final Long timestamp) {
+		this.incrementalSince = timestamp;
+	}
+
+	/**
+	 * Returns the timestamp after which the changes contained in this dump occurred.
+	 *
+	 * @return The (exclusive) lower timestamp bound of an incremental dump, or <code>null</code> if this is a full dump.
+	 */
+	public Long getIncrementalSince() {
+		return this.incrementalSince;
+	}
+
+	public boolean isIncremental() {
+		return this.incrementalSince != null;
+	}
+
 	public Set<BranchDumpMetadata> getBranchDumpMetadata() {
 		return this.branchMetadata;
 	}
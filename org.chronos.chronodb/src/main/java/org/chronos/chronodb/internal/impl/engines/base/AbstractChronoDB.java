@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedMap;
@@ -17,7 +18,9 @@ import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.DumpOption;
+import org.chronos.chronodb.api.builder.subscription.CommitSubscriptionBuilder;
 import org.chronos.chronodb.api.builder.transaction.ChronoDBTransactionBuilder;
+import org.chronos.chronodb.api.diff.DiffEntry;
 import org.chronos.chronodb.api.dump.ChronoDBDumpFormat;
 import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.exceptions.ChronosBuildVersionConflictException;
@@ -33,10 +36,14 @@ import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.api.stream.ObjectInput;
 import org.chronos.chronodb.internal.api.stream.ObjectOutput;
+import org.chronos.chronodb.internal.impl.builder.subscription.DefaultCommitSubscriptionBuilder;
 import org.chronos.chronodb.internal.impl.builder.transaction.DefaultTransactionBuilder;
+import org.chronos.chronodb.internal.impl.diff.TemporalDiffIterator;
+import org.chronos.chronodb.internal.impl.dump.ChronoDBBinaryDumpUtil;
 import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
 import org.chronos.chronodb.internal.impl.dump.CommitMetadataMap;
 import org.chronos.chronodb.internal.impl.dump.DumpOptions;
+import org.chronos.chronodb.internal.impl.event.CommitEventPublisher;
 import org.chronos.chronodb.internal.util.ThreadBound;
 import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.logging.ChronoLogger;
@@ -44,6 +51,7 @@ import org.chronos.common.version.ChronosVersion;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
@@ -57,6 +65,8 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 	private final ThreadBound<AutoLock> exclusiveLockHolder;
 	private final ThreadBound<AutoLock> nonExclusiveLockHolder;
 
+	private final CommitEventPublisher commitEventPublisher;
+
 	private boolean closed = false;
 
 	protected AbstractChronoDB(final ChronoDBConfiguration configuration) {
@@ -66,6 +76,7 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		this.exclusiveLockHolder = ThreadBound.createWeakReference();
 		this.nonExclusiveLockHolder = ThreadBound.createWeakReference();
 		this.shutdownHooks = Collections.synchronizedSet(Sets.newHashSet());
+		this.commitEventPublisher = new CommitEventPublisher(this);
 	}
 
 	// =================================================================================================================
@@ -106,6 +117,8 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		if (this.isClosed()) {
 			return;
 		}
+		// pending commit event deliveries may need to read the commit log, so we let them finish first
+		this.commitEventPublisher.close();
 		try (AutoLock lock = this.lockExclusive()) {
 			for (ChronoDBShutdownHook hook : this.shutdownHooks) {
 				hook.onShutdown();
@@ -150,6 +163,93 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		}
 	}
 
+	// =================================================================================================================
+	// COMMIT SUBSCRIPTIONS
+	// =================================================================================================================
+
+	@Override
+	public CommitSubscriptionBuilder commitSubscriptionBuilder() {
+		return new DefaultCommitSubscriptionBuilder(this);
+	}
+
+	@Override
+	public CommitEventPublisher getCommitEventPublisher() {
+		return this.commitEventPublisher;
+	}
+
+	// =================================================================================================================
+	// TEMPORAL DIFF
+	// =================================================================================================================
+
+	@Override
+	public CloseableIterator<DiffEntry> diff(final String keyspace, final String oldBranch, final long oldTimestamp,
+			final String newBranch, final long newTimestamp) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(oldBranch, "Precondition violation - argument 'oldBranch' must not be NULL!");
+		checkArgument(oldTimestamp >= 0, "Precondition violation - argument 'oldTimestamp' must not be negative!");
+		checkNotNull(newBranch, "Precondition violation - argument 'newBranch' must not be NULL!");
+		checkArgument(newTimestamp >= 0, "Precondition violation - argument 'newTimestamp' must not be negative!");
+		try (AutoLock lock = this.lockNonExclusive()) {
+			Map<String, Long> oldBranchToTimestamp = this.getVisibleBranchTimestamps(oldBranch, oldTimestamp);
+			Map<String, Long> newBranchToTimestamp = this.getVisibleBranchTimestamps(newBranch, newTimestamp);
+			// a key can only differ if it has been modified on one side after the state both sides have in common.
+			// Branches which occur on both sides share their state up to the lower of the two timestamps; branches
+			// which occur only on one side contribute all of their modifications.
+			Set<String> candidateKeys = Sets.newTreeSet();
+			for (String branchName : Sets.union(oldBranchToTimestamp.keySet(), newBranchToTimestamp.keySet())) {
+				TemporalKeyValueStore tkvs = this.getTKVS(branchName);
+				Long timestampOnOldSide = oldBranchToTimestamp.get(branchName);
+				Long timestampOnNewSide = newBranchToTimestamp.get(branchName);
+				if (timestampOnOldSide == null) {
+					candidateKeys.addAll(tkvs.getModifiedKeys(keyspace, 0, timestampOnNewSide));
+				} else if (timestampOnNewSide == null) {
+					candidateKeys.addAll(tkvs.getModifiedKeys(keyspace, 0, timestampOnOldSide));
+				} else if (timestampOnOldSide.longValue() != timestampOnNewSide.longValue()) {
+					long lowerBound = Math.min(timestampOnOldSide, timestampOnNewSide) + 1;
+					long upperBound = Math.max(timestampOnOldSide, timestampOnNewSide);
+					candidateKeys.addAll(tkvs.getModifiedKeys(keyspace, lowerBound, upperBound));
+				}
+			}
+			return new TemporalDiffIterator(keyspace, candidateKeys.iterator(), this.getTKVS(oldBranch),
+					oldTimestamp, this.getTKVS(newBranch), newTimestamp, this.getSerializationManager());
+		}
+	}
+
+	/**
+	 * Calculates which branches contribute to the state of the given branch at the given timestamp, and up to which
+	 * timestamp they do so.
+	 *
+	 * @param branchName
+	 *            The name of the branch to start at. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param timestamp
+	 *            The timestamp on the given branch. Must not be negative, must not be greater than the "now" timestamp
+	 *            of the given branch.
+	 *
+	 * @return A map from branch name to the latest timestamp on that branch which is visible from the given coordinates.
+	 *         Contains the given branch and all of its (transitive) origins.
+	 */
+	private Map<String, Long> getVisibleBranchTimestamps(final String branchName, final long timestamp) {
+		if (this.getBranchManager().existsBranch(branchName) == false) {
+			throw new InvalidTransactionBranchException("There is no branch '" + branchName + "' in this ChronoDB!");
+		}
+		long now = this.getTKVS(branchName).getNow();
+		if (timestamp > now) {
+			throw new InvalidTransactionTimestampException(
+					"Cannot compute a diff at the given timestamp: it's after the latest commit! Latest commit: " + now
+							+ ", requested timestamp: " + timestamp + ", branch: '" + branchName + "'");
+		}
+		Map<String, Long> branchToTimestamp = Maps.newHashMap();
+		Branch branch = this.getBranchManager().getBranch(branchName);
+		long visibleTimestamp = timestamp;
+		while (branch != null) {
+			branchToTimestamp.put(branch.getName(), visibleTimestamp);
+			// the origin is visible only up to the branching timestamp
+			visibleTimestamp = Math.min(visibleTimestamp, branch.getBranchingTimestamp());
+			branch = branch.getOrigin();
+		}
+		return branchToTimestamp;
+	}
+
 	// =================================================================================================================
 	// DUMP CREATION & DUMP LOADING
 	// =================================================================================================================
@@ -167,6 +267,21 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		return CloseableIterator.concat(branchStreams);
 	}
 
+	@Override
+	public CloseableIterator<ChronoDBEntry> entryStream(final long minTimestamp, final long maxTimestamp) {
+		checkArgument(minTimestamp >= 0, "Precondition violation - argument 'minTimestamp' must not be negative!");
+		checkArgument(minTimestamp <= maxTimestamp,
+				"Precondition violation - argument 'minTimestamp' must be less than or equal to 'maxTimestamp'!");
+		Set<String> branchNames = this.getBranchManager().getBranchNames();
+		Iterator<String> branchIterator = branchNames.iterator();
+		Iterator<CloseableIterator<ChronoDBEntry>> branchStreams = Iterators.transform(branchIterator,
+				(final String branch) -> {
+					TemporalKeyValueStore tkvs = this.getTKVS(branch);
+					return tkvs.allEntriesIterator(minTimestamp, maxTimestamp);
+				});
+		return CloseableIterator.concat(branchStreams);
+	}
+
 	@Override
 	public void loadEntries(final List<ChronoDBEntry> entries) {
 		checkNotNull(entries, "Precondition violation - argument 'entries' must not be NULL!");
@@ -213,6 +328,10 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		}
 		DumpOptions options = new DumpOptions(dumpOptions);
 		try (AutoLock lock = this.lockNonExclusive()) {
+			if (options.isBinaryFormatEnabled()) {
+				ChronoDBBinaryDumpUtil.writeDump(this, dumpFile, options);
+				return;
+			}
 			try (ObjectOutput output = ChronoDBDumpFormat.createOutput(dumpFile, options)) {
 				ChronoDBDumpUtil.dumpDBContentsToOutput(this, output, options);
 			}
@@ -228,6 +347,10 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 				"Precondition violation - argument 'dumpFile' must be a File (is a Directory)!");
 		DumpOptions options = new DumpOptions(dumpOptions);
 		try (AutoLock lock = this.lockExclusive()) {
+			if (ChronoDBBinaryDumpUtil.isBinaryDump(dumpFile)) {
+				ChronoDBBinaryDumpUtil.readDump(this, dumpFile, options);
+				return;
+			}
 			try (ObjectInput input = ChronoDBDumpFormat.createInput(dumpFile, options)) {
 				ChronoDBDumpUtil.readDumpContentsFromInput(this, input, options);
 			}
@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.*;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -95,6 +96,20 @@ public abstract class AbstractCommitMetadataStore implements CommitMetadataStore
 		}
 	}
 
+	@Override
+	public void purge(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		if (commitTimestamps.isEmpty()) {
+			return;
+		}
+		this.lock.writeLock().lock();
+		try {
+			this.purgeInternal(commitTimestamps);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
 	@Override
 	public Branch getOwningBranch() {
 		return this.owningBranch;
@@ -158,6 +173,8 @@ public abstract class AbstractCommitMetadataStore implements CommitMetadataStore
 
 	protected abstract void rollbackToTimestampInternal(long timestamp);
 
+	protected abstract void purgeInternal(Set<Long> commitTimestamps);
+
 	// =================================================================================================================
 	// INNER CLASSES
 	// =================================================================================================================
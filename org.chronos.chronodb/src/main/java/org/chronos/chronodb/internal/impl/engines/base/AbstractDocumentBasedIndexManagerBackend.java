@@ -10,6 +10,7 @@ import java.util.Set;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.IndexManager;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
 import org.chronos.chronodb.internal.api.index.ChronoIndexModifications;
@@ -138,6 +139,27 @@ public abstract class AbstractDocumentBasedIndexManagerBackend implements Docume
 		this.rollbackInternal(timestamp, branches, keys);
 	}
 
+	@Override
+	public void pruneHistory(final Branch branch, final String keyspace, final long timestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		Collection<ChronoIndexDocument> documents = this.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp,
+				branch.getName(), keyspace);
+		ChronoIndexModifications indexModifications = ChronoIndexModifications.create();
+		for (ChronoIndexDocument document : documents) {
+			if (branch.getOrigin() != null && document.getValidFromTimestamp() == branch.getBranchingTimestamp()) {
+				// this document may mark the termination of a value inherited from the origin branch (see
+				// getMatchingDocuments(...)); it is still required for queries after the given timestamp.
+				continue;
+			}
+			indexModifications.addDocumentDeletion(document);
+		}
+		if (indexModifications.isEmpty() == false) {
+			this.applyModifications(indexModifications);
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
@@ -218,6 +240,24 @@ public abstract class AbstractDocumentBasedIndexManagerBackend implements Docume
 		}
 	}
 
+	/**
+	 * Marks all known indices as dirty in the persistent index states.
+	 *
+	 * <p>
+	 * This is used when the index contents cannot be trusted anymore (e.g. because index writes were lost in a crash).
+	 * Dirty indices are re-built on the next call to {@link IndexManager#reindexAll()}.
+	 */
+	protected void markAllIndicesAsDirty() {
+		Map<String, Boolean> indexStates = this.loadIndexStates();
+		for (String indexName : this.loadIndexersFromPersistence().keySet()) {
+			indexStates.put(indexName, true);
+		}
+		for (String indexName : indexStates.keySet()) {
+			indexStates.put(indexName, true);
+		}
+		this.persistIndexDirtyStates(indexStates);
+	}
+
 	// =====================================================================================================================
 	// ABSTRACT METHOD DECLARATIONS
 	// =====================================================================================================================
@@ -235,6 +275,21 @@ public abstract class AbstractDocumentBasedIndexManagerBackend implements Docume
 	protected abstract Set<ChronoIndexDocument> getDocumentsTouchedAtOrAfterTimestamp(long timestamp,
 			Set<String> branches);
 
+	/**
+	 * Returns the documents in the given branch and keyspace whose validity has been terminated at or before the given timestamp.
+	 *
+	 * @param timestamp
+	 *            The timestamp in question. Must not be negative.
+	 * @param branchName
+	 *            The name of the branch to retrieve the documents for. Must not be <code>null</code>.
+	 * @param keyspace
+	 *            The keyspace to retrieve the documents for. Must not be <code>null</code>.
+	 *
+	 * @return The documents with a "valid to" timestamp less than or equal to the given timestamp. May be empty, but never <code>null</code>.
+	 */
+	protected abstract Collection<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(long timestamp,
+			String branchName, String keyspace);
+
 	protected abstract Collection<ChronoIndexDocument> getTerminatedBranchLocalDocuments(long timestamp,
 			String branchName, String keyspace, SearchSpecification<?> searchSpec);
 
@@ -0,0 +1,97 @@
+package org.chronos.chronodb.internal.impl.engines.base;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+
+import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+
+/**
+ * Base class for {@link MaintenanceManager} implementations which provides the backend-independent maintenance
+ * operations.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public abstract class AbstractMaintenanceManager implements MaintenanceManager {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final ChronoDBInternal owningDB;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	protected AbstractMaintenanceManager(final ChronoDBInternal owningDB) {
+		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
+		this.owningDB = owningDB;
+	}
+
+	// =================================================================================================================
+	// HISTORY PRUNING
+	// =================================================================================================================
+
+	@Override
+	public long pruneHistory(final String branchName, final String keyspace, final long timestamp) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		TemporalKeyValueStore tkvs = this.getTemporalKeyValueStore(branchName);
+		long purgedEntries = tkvs.pruneHistory(Collections.singleton(keyspace), timestamp);
+		if (purgedEntries > 0) {
+			this.reclaimDiskSpace(branchName, timestamp);
+		}
+		return purgedEntries;
+	}
+
+	@Override
+	public long pruneHistory(final String branchName, final long timestamp) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		TemporalKeyValueStore tkvs = this.getTemporalKeyValueStore(branchName);
+		long purgedEntries = tkvs.pruneHistory(tkvs.getKeyspaces(tkvs.getNow()), timestamp);
+		if (purgedEntries > 0) {
+			this.reclaimDiskSpace(branchName, timestamp);
+		}
+		return purgedEntries;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	protected ChronoDBInternal getOwningDB() {
+		return this.owningDB;
+	}
+
+	protected TemporalKeyValueStore getTemporalKeyValueStore(final String branchName) {
+		BranchInternal branch = (BranchInternal) this.owningDB.getBranchManager().getBranch(branchName);
+		if (branch == null) {
+			throw new IllegalArgumentException("There is no branch named '" + branchName + "'!");
+		}
+		return branch.getTemporalKeyValueStore();
+	}
+
+	/**
+	 * Attempts to hand the space which has been freed up by removing data back to the operating system.
+	 *
+	 * <p>
+	 * The default implementation does nothing. Backends which are capable of reclaiming disk space should override
+	 * this method.
+	 *
+	 * @param branchName
+	 *            The name of the branch which has been pruned. Never <code>null</code>.
+	 * @param timestamp
+	 *            The cut-off timestamp which has been used for pruning. Never negative.
+	 */
+	protected void reclaimDiskSpace(final String branchName, final long timestamp) {
+		// by default, we cannot reclaim anything
+	}
+
+}
@@ -2,11 +2,14 @@ package org.chronos.chronodb.internal.impl.engines.base;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -17,6 +20,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChangeSetEntry;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.DeltaEncodedValue;
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
 import org.chronos.chronodb.api.IndexManager;
 import org.chronos.chronodb.api.Order;
@@ -31,6 +35,7 @@ import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
 import org.chronos.chronodb.internal.api.GetResult;
 import org.chronos.chronodb.internal.api.Period;
@@ -40,8 +45,12 @@ import org.chronos.chronodb.internal.api.cache.CacheGetResult;
 import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.cache.NegativeResultCache;
 import org.chronos.chronodb.internal.impl.conflict.AtomicConflictImpl;
+import org.chronos.chronodb.internal.impl.event.CommitEventImpl;
+import org.chronos.chronodb.internal.impl.event.CommitEventPublisher;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.BranchOverlayIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
@@ -87,6 +96,11 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 	 * This lock is used to protect incremental commit data from illegal concurrent access.
 	 */
 	protected final Lock incrementalCommitLock = new ReentrantLock(true);
+
+	/**
+	 * Remembers the keys which are known to be absent in this branch (for non-master branches only).
+	 */
+	protected final NegativeResultCache negativeResultCache;
 	/**
 	 * This field is used to keep track of the transaction that is currently executing an incremental commit.
 	 */
@@ -102,6 +116,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 	protected Consumer<ChronoDBTransaction> debugCallbackBeforeCacheUpdate;
 	protected Consumer<ChronoDBTransaction> debugCallbackBeforeNowTimestampUpdate;
 	protected Consumer<ChronoDBTransaction> debugCallbackBeforeTransactionCommitted;
+	protected Consumer<Long> debugCallbackBeforeCommitMetadataPurge;
 
 	// =====================================================================================================================
 	// CONSTRUCTOR
@@ -112,6 +127,12 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
 		this.owningDB = owningDB;
 		this.owningBranch = owningBranch;
+		ChronoDBConfiguration configuration = owningDB.getConfiguration();
+		if (configuration.isCachingEnabled() && this.isMasterBranchTKVS() == false) {
+			this.negativeResultCache = new NegativeResultCache(configuration.getCacheMaxSize());
+		} else {
+			this.negativeResultCache = new NegativeResultCache(0);
+		}
 		this.owningBranch.setTemporalKeyValueStore(this);
 	}
 
@@ -271,10 +292,11 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 					// some of the preceeding incremental commits has very likely touched it.
 					touchedIndex = true;
 				}
+				Map<String, Map<String, byte[]>> serializedChanges = null;
 				try {
 					// here, we perform the actual *write* work.
 					this.debugCallbackBeforePrimaryIndexUpdate(tx);
-					this.updatePrimaryIndex(time, changeSet);
+					serializedChanges = this.updatePrimaryIndex(time, changeSet);
 					this.debugCallbackBeforeSecondaryIndexUpdate(tx);
 					touchedIndex = this.updateSecondaryIndices(changeSet) || touchedIndex;
 					this.debugCallbackBeforeMetadataUpdate(tx);
@@ -300,6 +322,9 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 				}
 				// everything ok in this commit, we can clear the write ahead log
 				this.clearWriteAheadLogToken();
+				// notify the commit subscribers (if any). We still hold the commit lock here, which
+				// guarantees that the subscribers receive the commits in the correct order.
+				this.publishCommitEvent(time, commitMetadata, serializedChanges);
 			} finally {
 				try {
 					if (this.isIncrementalCommitProcessOngoing()) {
@@ -413,8 +438,9 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
 	private Object performGet(final String branchName, final QualifiedKey qKey, final long timestamp) {
 		try (AutoLock lock = this.lockNonExclusive()) {
-			// first, try to find the result in our cache
-			CacheGetResult<Object> cacheGetResult = this.getCache().get(branchName, timestamp, qKey);
+			// first, try to find the result in our cache (or in the cache of the branch we inherit the key from)
+			CacheGetResult<Object> cacheGetResult = this.getCachedResultFromBranchHierarchy(branchName, qKey,
+					timestamp);
 			if (cacheGetResult.isHit()) {
 				Object result = cacheGetResult.getValue();
 				if (result == null) {
@@ -441,52 +467,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
 	@Override
 	public GetResult<Object> performRangedGet(final ChronoDBTransaction tx, final QualifiedKey key) {
-		try (AutoLock lock = this.lockNonExclusive()) {
-			String keyspace = key.getKeyspace();
-			TemporalDataMatrix matrix = this.getMatrix(keyspace);
-			if (matrix == null) {
-				if (this.isMasterBranchTKVS()) {
-					// matrix doesn't exist, so the get returns null by definition.
-					// In case of the ranged get, we return a result with a null value, and an
-					// unlimited range.
-					return GetResult.createNoValueResult(key, Period.eternal());
-				} else {
-					// matrix doesn't exist in the child branch, re-route the request to the parent
-					ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
-					return this.getOriginBranchTKVS().performRangedGet(tempTx, key);
-				}
-			}
-			// execute the query on the backend
-			GetResult<byte[]> rangedResult = matrix.get(tx.getTimestamp(), key.getKey());
-			if (rangedResult.isHit() == false && this.isMasterBranchTKVS() == false) {
-				// we did not find anything in our branch; re-route the request and try to find it in the origin branch
-				ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
-				return this.getOriginBranchTKVS().performRangedGet(tempTx, key);
-			}
-			// we do have a hit in our branch, so let's process it
-			byte[] serialForm = rangedResult.getValue();
-			Object deserializedValue = null;
-			Period range = rangedResult.getPeriod();
-			if (serialForm == null || serialForm.length <= 0) {
-				deserializedValue = null;
-			} else {
-				deserializedValue = this.getOwningDB().getSerializationManager().deserialize(serialForm);
-			}
-			GetResult<Object> result = GetResult.create(key, deserializedValue, range);
-			// cache the result
-			this.getCache().cache(tx.getBranchName(), result);
-			// depending on the configuration, we may need to duplicate the result before returning it
-			if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
-				// we may directly return the cached instance, as we can assume it to be immutable
-				return result;
-			} else {
-				// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
-				// and the client may change the returned element. If we did not duplicate it, changes by the
-				// client to the returned element would modify our cache state.
-				Object duplicatedValue = KryoManager.deepCopy(deserializedValue);
-				return GetResult.create(key, duplicatedValue, range);
-			}
-		}
+		return this.performRangedGetInternal(tx.getBranchName(), key, tx.getTimestamp());
 	}
 
 	protected GetResult<Object> performRangedGetInternal(final String branchName, final QualifiedKey qKey,
@@ -495,48 +476,30 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		checkNotNull(qKey, "Precondition violation - argument 'qKey' must not be NULL!");
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
 		try (AutoLock lock = this.lockNonExclusive()) {
-			TemporalDataMatrix matrix = this.getMatrix(qKey.getKeyspace());
-			if (matrix == null) {
-				if (this.isMasterBranchTKVS()) {
-					// matrix doesn't exist, so the get returns null by definition.
-					// In case of the ranged get, we return a result with a null value, and an
-					// unlimited range.
-					return GetResult.createNoValueResult(qKey, Period.eternal());
-				} else {
-					// matrix doesn't exist in the child branch, re-route the request to the parent
-					ChronoDBTransaction tempTx = this.createOriginBranchTx(timestamp);
-					return this.getOriginBranchTKVS().performRangedGet(tempTx, qKey);
+			// walk up the branch hierarchy until we find a branch that contains the key. We do this
+			// iteratively (rather than opening a transaction on each origin branch) to keep the overhead
+			// per branching level as low as possible.
+			AbstractTemporalKeyValueStore tkvs = this;
+			long branchTimestamp = timestamp;
+			while (true) {
+				GetResult<byte[]> rangedResult = tkvs.getFromOwnMatrix(qKey, branchTimestamp);
+				if (tkvs.isMasterBranchTKVS()) {
+					if (rangedResult == null) {
+						// matrix doesn't exist, so the get returns null by definition.
+						// In case of the ranged get, we return a result with a null value, and an
+						// unlimited range.
+						return GetResult.createNoValueResult(qKey, Period.eternal());
+					}
+					return tkvs.createAndCacheGetResult(qKey, rangedResult);
 				}
-			}
-			// execute the query on the backend
-			GetResult<byte[]> rangedResult = matrix.get(timestamp, qKey.getKey());
-			if (rangedResult.isHit() == false && this.isMasterBranchTKVS() == false) {
-				// we did not find anything in our branch; re-route the request and try to find it in the origin branch
-				ChronoDBTransaction tempTx = this.createOriginBranchTx(timestamp);
-				return this.getOriginBranchTKVS().performRangedGet(tempTx, qKey);
-			}
-			// we do have a hit in our branch, so let's process it
-			byte[] serialForm = rangedResult.getValue();
-			Object deserializedValue = null;
-			Period range = rangedResult.getPeriod();
-			if (serialForm == null || serialForm.length <= 0) {
-				deserializedValue = null;
-			} else {
-				deserializedValue = this.getOwningDB().getSerializationManager().deserialize(serialForm);
-			}
-			GetResult<Object> result = GetResult.create(qKey, deserializedValue, range);
-			// cache the result
-			this.getCache().cache(branchName, result);
-			// depending on the configuration, we may need to duplicate the result before returning it
-			if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
-				// we may directly return the cached instance, as we can assume it to be immutable
-				return result;
-			} else {
-				// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
-				// and the client may change the returned element. If we did not duplicate it, changes by the
-				// client to the returned element would modify our cache state.
-				Object duplicatedValue = KryoManager.deepCopy(deserializedValue);
-				return GetResult.create(qKey, duplicatedValue, range);
+				if (rangedResult != null && rangedResult.isHit()) {
+					// we do have a hit in this branch, so let's process it
+					return tkvs.createAndCacheGetResult(qKey, rangedResult);
+				}
+				// the key is not present in this branch; continue the search in the origin branch. We must
+				// hide any changes in the origin branch that happened after the branching.
+				branchTimestamp = Math.min(branchTimestamp, tkvs.getOwningBranch().getBranchingTimestamp());
+				tkvs = (AbstractTemporalKeyValueStore) tkvs.getOriginBranchTKVS();
 			}
 		}
 	}
@@ -575,6 +538,99 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		}
 	}
 
+	@Override
+	public CloseableIterator<Entry<String, Object>> performScan(final ChronoDBTransaction tx,
+			final String keyspaceName, final String fromKey, final String toKey) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		CloseableIterator<UnqualifiedTemporalEntry> entries = this.scanEntries(keyspaceName, tx.getTimestamp(),
+				fromKey, toKey);
+		// deletions are only required for merging branches; they are not part of the result
+		CloseableIterator<UnqualifiedTemporalEntry> existingEntries = CloseableIterator.filter(entries,
+				entry -> entry.getValue() != null && entry.getValue().length > 0);
+		SerializationManager serializationManager = this.getOwningDB().getSerializationManager();
+		return CloseableIterator.transform(existingEntries, entry -> Pair.of(entry.getKey().getKey(),
+				serializationManager.deserialize(entry.getValue())));
+	}
+
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scanEntries(final String keyspaceName, final long timestamp,
+			final String fromKey, final String toKey) {
+		checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		try (AutoLock lock = this.lockNonExclusive()) {
+			TemporalDataMatrix matrix = this.getMatrix(keyspaceName);
+			CloseableIterator<UnqualifiedTemporalEntry> branchEntries;
+			if (matrix == null) {
+				branchEntries = CloseableIterator.empty();
+			} else {
+				branchEntries = matrix.scan(timestamp, fromKey, toKey);
+			}
+			if (this.isMasterBranchTKVS()) {
+				return branchEntries;
+			}
+			// merge our branch-local entries with the state of our origin at the branching timestamp
+			long branchingTimestamp = this.getOwningBranch().getBranchingTimestamp();
+			long originTimestamp = Math.min(timestamp, branchingTimestamp);
+			CloseableIterator<UnqualifiedTemporalEntry> originEntries = this.getOriginBranchTKVS()
+					.scanEntries(keyspaceName, originTimestamp, fromKey, toKey);
+			return new BranchOverlayIterator(branchEntries, originEntries);
+		}
+	}
+
+	@Override
+	public byte[] getSerialForm(final String keyspaceName, final String key, final long timestamp) {
+		checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		try (AutoLock lock = this.lockNonExclusive()) {
+			TemporalDataMatrix matrix = this.getMatrix(keyspaceName);
+			GetResult<byte[]> result = null;
+			if (matrix != null) {
+				result = matrix.get(timestamp, key);
+			}
+			if ((result == null || result.isHit() == false) && this.isMasterBranchTKVS() == false) {
+				// we did not find anything in our branch; ask the origin branch
+				long originTimestamp = Math.min(timestamp, this.getOwningBranch().getBranchingTimestamp());
+				return this.getOriginBranchTKVS().getSerialForm(keyspaceName, key, originTimestamp);
+			}
+			if (result == null) {
+				return null;
+			}
+			byte[] serialForm = result.getValue();
+			if (serialForm == null || serialForm.length <= 0) {
+				// deletion marker
+				return null;
+			}
+			return serialForm;
+		}
+	}
+
+	@Override
+	public Set<String> getModifiedKeys(final String keyspaceName, final long timestampLowerBound,
+			final long timestampUpperBound) {
+		checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+		checkArgument(timestampLowerBound >= 0,
+				"Precondition violation - argument 'timestampLowerBound' must not be negative!");
+		checkArgument(timestampLowerBound <= timestampUpperBound,
+				"Precondition violation - argument 'timestampLowerBound' must be less than or equal to 'timestampUpperBound'!");
+		try (AutoLock lock = this.lockNonExclusive()) {
+			TemporalDataMatrix matrix = this.getMatrix(keyspaceName);
+			if (matrix == null) {
+				return Collections.emptySet();
+			}
+			Set<String> keys = Sets.newHashSet();
+			Iterator<TemporalKey> modifications = matrix.getModificationsBetween(timestampLowerBound,
+					timestampUpperBound);
+			while (modifications.hasNext()) {
+				keys.add(modifications.next().getKey());
+			}
+			return keys;
+		}
+	}
+
 	@Override
 	public Iterator<Long> performHistory(final ChronoDBTransaction tx, final QualifiedKey key) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
@@ -829,12 +885,23 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		}
 	}
 
+	@Override
+	public CloseableIterator<ChronoDBEntry> allEntriesIterator(final long minTimestamp, final long maxTimestamp) {
+		checkArgument(minTimestamp >= 0, "Precondition violation - argument 'minTimestamp' must not be negative!");
+		checkArgument(minTimestamp <= maxTimestamp,
+				"Precondition violation - argument 'minTimestamp' must be less than or equal to 'maxTimestamp'!");
+		try (AutoLock lock = this.lockNonExclusive()) {
+			return new ModifiedEntriesIterator(minTimestamp, maxTimestamp);
+		}
+	}
+
 	@Override
 	public void insertEntries(final Set<ChronoDBEntry> entries) {
 		try (AutoLock lock = this.lockBranchExclusive()) {
 			// insertion of entries can (potentially) completely wreck the consistency of our cache.
 			// in order to be safe, we clear it completely.
 			this.getCache().clear();
+			this.negativeResultCache.clear();
 			long maxTimestamp = this.getNow();
 			SetMultimap<String, UnqualifiedTemporalEntry> keyspaceToEntries = HashMultimap.create();
 			for (ChronoDBEntry entry : entries) {
@@ -864,6 +931,55 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		}
 	}
 
+	@Override
+	public long pruneHistory(final Set<String> keyspaces, final long timestamp) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		try (AutoLock lock = this.lockForPruning()) {
+			// we do not want commits to interfere with the pruning process. Readers may proceed; we only ever
+			// remove entries which are invisible from the cutoff timestamp onwards.
+			this.commitLock.lock();
+			try {
+				long cutoff = Math.min(timestamp, this.getNow());
+				// child branches access our state at their branching timestamp, so this state must remain intact
+				String branchName = this.getOwningBranch().getName();
+				for (Branch branch : this.getOwningDB().getBranchManager().getBranches()) {
+					Branch origin = branch.getOrigin();
+					if (origin != null && origin.getName().equals(branchName)) {
+						cutoff = Math.min(cutoff, branch.getBranchingTimestamp());
+					}
+				}
+				long purgedEntries = 0;
+				for (String keyspace : keyspaces) {
+					TemporalDataMatrix matrix = this.getMatrix(keyspace);
+					if (matrix == null) {
+						// keyspace does not exist in this branch, nothing to prune
+						continue;
+					}
+					purgedEntries += this.pruneMatrix(matrix, cutoff);
+					this.getOwningDB().getIndexManager().pruneHistory(this.getOwningBranch(), keyspace, cutoff);
+				}
+				this.debugCallbackBeforeCommitMetadataPurge(cutoff);
+				// purge the metadata of all commits which are no longer referenced by any entry
+				Set<Long> unreferencedCommits = Sets
+						.newHashSet(this.getCommitMetadataStore().getCommitTimestampsBetween(0, cutoff));
+				for (TemporalDataMatrix matrix : this.keyspaceToMatrix.values()) {
+					Iterator<Long> commitTimestamps = matrix.getCommitTimestampsBetween(0, cutoff);
+					while (commitTimestamps.hasNext()) {
+						unreferencedCommits.remove(commitTimestamps.next());
+					}
+				}
+				this.getCommitMetadataStore().purge(unreferencedCommits);
+				// the cache may still contain results which refer to removed entries
+				this.getCache().clear();
+				this.negativeResultCache.clear();
+				return purgedEntries;
+			} finally {
+				this.commitLock.unlock();
+			}
+		}
+	}
+
 	// =================================================================================================================
 	// DEBUG METHODS
 	// =================================================================================================================
@@ -898,6 +1014,11 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		this.debugCallbackBeforeTransactionCommitted = action;
 	}
 
+	@Override
+	public void setDebugCallbackBeforeCommitMetadataPurge(final Consumer<Long> action) {
+		this.debugCallbackBeforeCommitMetadataPurge = action;
+	}
+
 	// =================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =================================================================================================================
@@ -906,6 +1027,21 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return this.owningDB.getCache();
 	}
 
+	/**
+	 * Acquires the lock which is held while the {@linkplain #pruneHistory(Set, long) history is pruned}.
+	 *
+	 * <p>
+	 * By default, this is the {@linkplain #lockNonExclusive() non-exclusive lock}. It keeps commits out (they require
+	 * the exclusive lock), but permits reads while the pruning is in progress. Stores whose backend does not permit
+	 * reads while data is being written have to acquire the {@linkplain #lockBranchExclusive() exclusive branch lock}
+	 * instead.
+	 *
+	 * @return The lock which has been acquired. Never <code>null</code>.
+	 */
+	protected AutoLock lockForPruning() {
+		return this.lockNonExclusive();
+	}
+
 	@Override
 	protected void verifyTransaction(final ChronoDBTransaction tx) {
 		if (tx.getTimestamp() > this.getNow()) {
@@ -1004,6 +1140,111 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return matrix;
 	}
 
+	/**
+	 * Removes all entries from the given matrix which are not visible at or after the given cut-off timestamp.
+	 *
+	 * <p>
+	 * Entries which are required to resolve a retained {@link DeltaEncodedValue} are kept, even if they are not
+	 * visible at or after the cut-off timestamp.
+	 *
+	 * @param matrix
+	 *            The matrix to prune. Must not be <code>null</code>.
+	 * @param cutoff
+	 *            The cut-off timestamp. Must not be negative.
+	 *
+	 * @return The number of removed entries.
+	 */
+	protected long pruneMatrix(final TemporalDataMatrix matrix, final long cutoff) {
+		checkNotNull(matrix, "Precondition violation - argument 'matrix' must not be NULL!");
+		checkArgument(cutoff >= 0, "Precondition violation - argument 'cutoff' must not be negative!");
+		// collect the versions of each key; the later versions are required to check for delta dependencies
+		Map<String, NavigableSet<Long>> keyToTimestamps = Maps.newHashMap();
+		Iterator<TemporalKey> modifications = matrix.getModificationsBetween(0, Math.max(cutoff, this.getNow()));
+		while (modifications.hasNext()) {
+			TemporalKey modification = modifications.next();
+			keyToTimestamps.computeIfAbsent(modification.getKey(), key -> Sets.newTreeSet())
+					.add(modification.getTimestamp());
+		}
+		// the latest version of each key at the cut-off is retained; everything older than that is superseded
+		Map<String, Long> keyToLatestTimestamp = Maps.newHashMap();
+		Set<UnqualifiedTemporalKey> supersededEntries = Sets.newHashSet();
+		Set<String> keysWithRetainedPredecessors = Sets.newHashSet();
+		for (Entry<String, NavigableSet<Long>> entry : keyToTimestamps.entrySet()) {
+			String key = entry.getKey();
+			NavigableSet<Long> timestamps = entry.getValue();
+			Long latestTimestamp = timestamps.floor(cutoff);
+			if (latestTimestamp == null) {
+				// the key has been created after the cut-off
+				continue;
+			}
+			keyToLatestTimestamp.put(key, latestTimestamp);
+			NavigableSet<Long> superseded = timestamps.headSet(latestTimestamp, false);
+			if (superseded.isEmpty()) {
+				continue;
+			}
+			superseded.forEach(timestamp -> supersededEntries.add(new UnqualifiedTemporalKey(key, timestamp)));
+			// delta-encoded versions depend on the version which is visible at their predecessor timestamp
+			Deque<Long> versionsToCheck = new ArrayDeque<>(timestamps.tailSet(latestTimestamp, true));
+			while (versionsToCheck.isEmpty() == false) {
+				long timestamp = versionsToCheck.pop();
+				Long predecessorTimestamp = this.getPredecessorTimestamp(matrix, key, timestamp);
+				if (predecessorTimestamp == null) {
+					continue;
+				}
+				Long predecessor = timestamps.floor(predecessorTimestamp);
+				if (predecessor != null && supersededEntries.remove(new UnqualifiedTemporalKey(key, predecessor))) {
+					keysWithRetainedPredecessors.add(key);
+					versionsToCheck.push(predecessor);
+				}
+			}
+		}
+		matrix.purgeEntries(supersededEntries);
+		if (this.isMasterBranchTKVS() == false) {
+			// in child branches, deletions hide the entries of the origin branch, so we need to keep them
+			return supersededEntries.size();
+		}
+		// on the master branch, a deletion which has no predecessor left is equivalent to no entry at all.
+		// Note that we purge those only after the superseded entries are gone; this way, concurrent readers
+		// never get to see an older version "shining through" a removed deletion.
+		Set<UnqualifiedTemporalKey> obsoleteDeletions = Sets.newHashSet();
+		for (Entry<String, Long> entry : keyToLatestTimestamp.entrySet()) {
+			if (keysWithRetainedPredecessors.contains(entry.getKey())) {
+				continue;
+			}
+			byte[] value = matrix.get(entry.getValue(), entry.getKey()).getValue();
+			if (value == null || value.length <= 0) {
+				obsoleteDeletions.add(new UnqualifiedTemporalKey(entry.getKey(), entry.getValue()));
+			}
+		}
+		matrix.purgeEntries(obsoleteDeletions);
+		return supersededEntries.size() + obsoleteDeletions.size();
+	}
+
+	/**
+	 * Returns the {@linkplain DeltaEncodedValue#getPredecessorTimestamp() predecessor timestamp} of the given version
+	 * of the given key, if that version is delta-encoded.
+	 *
+	 * @param matrix
+	 *            The matrix to read the version from. Must not be <code>null</code>.
+	 * @param key
+	 *            The key to read. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp of the version to read. Must not be negative.
+	 *
+	 * @return The predecessor timestamp, or <code>null</code> if the version is a deletion or not delta-encoded.
+	 */
+	private Long getPredecessorTimestamp(final TemporalDataMatrix matrix, final String key, final long timestamp) {
+		byte[] serialForm = matrix.get(timestamp, key).getValue();
+		if (serialForm == null || serialForm.length <= 0) {
+			return null;
+		}
+		Object value = this.getOwningDB().getSerializationManager().deserialize(serialForm);
+		if (value instanceof DeltaEncodedValue == false) {
+			return null;
+		}
+		return ((DeltaEncodedValue) value).getPredecessorTimestamp();
+	}
+
 	protected void writeCommitThroughCache(final String branchName, final long timestamp,
 			final Map<String, Map<String, Object>> keyspaceToKeyToValue) {
 		// perform the write-through in our cache
@@ -1039,6 +1280,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		this.getCommitMetadataStore().rollbackToTimestamp(timestamp);
 		// roll back the cache
 		this.getCache().rollbackToTimestamp(timestamp);
+		this.negativeResultCache.clear();
 		// only rollback the index manager if we touched it during the commit
 		if (touchedIndex) {
 			this.getOwningDB().getIndexManager().rollback(this.getOwningBranch(), timestamp);
@@ -1169,6 +1411,96 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return ((BranchInternal) this.owningBranch.getOrigin()).getTemporalKeyValueStore();
 	}
 
+	/**
+	 * Queries the cache for the given key, following the branch hierarchy.
+	 *
+	 * <p>
+	 * If the cache contains no entry for the given branch, and the key is known to be absent in the branch at the
+	 * given timestamp, then the value is inherited from the origin branch. In this case, the cache entry of the origin
+	 * branch (at the branching timestamp, if necessary) is used. This is repeated until either a cache entry is found,
+	 * or the state of the key in the current branch is unknown.
+	 *
+	 * @param branchName
+	 *            The name of the branch to query. Must not be <code>null</code>.
+	 * @param qKey
+	 *            The key to query. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp to query. Must not be negative.
+	 *
+	 * @return The cache result. May be a {@linkplain CacheGetResult#isMiss() miss}. Never <code>null</code>.
+	 */
+	protected CacheGetResult<Object> getCachedResultFromBranchHierarchy(final String branchName,
+			final QualifiedKey qKey, final long timestamp) {
+		CacheGetResult<Object> cacheGetResult = this.getCache().get(branchName, timestamp, qKey);
+		AbstractTemporalKeyValueStore tkvs = this;
+		long branchTimestamp = timestamp;
+		while (cacheGetResult.isMiss() && tkvs.isMasterBranchTKVS() == false
+				&& tkvs.negativeResultCache.isAbsent(qKey, branchTimestamp)) {
+			branchTimestamp = Math.min(branchTimestamp, tkvs.getOwningBranch().getBranchingTimestamp());
+			tkvs = (AbstractTemporalKeyValueStore) tkvs.getOriginBranchTKVS();
+			cacheGetResult = this.getCache().get(tkvs.getOwningBranch().getName(), branchTimestamp, qKey);
+		}
+		return cacheGetResult;
+	}
+
+	/**
+	 * Performs a ranged get on the matrix of this branch only, i.e. without considering the origin branch.
+	 *
+	 * <p>
+	 * If the key is not present in this (non-master) branch, this fact is remembered in the
+	 * {@linkplain #negativeResultCache negative result cache}, such that subsequent requests may skip the matrix
+	 * access.
+	 *
+	 * @param qKey
+	 *            The key to get. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp to get the value at. Must not be negative.
+	 *
+	 * @return The result of the matrix, or <code>null</code> if the keyspace does not exist in this branch, or if the
+	 *         key is known to be absent in this branch at the given timestamp.
+	 */
+	private GetResult<byte[]> getFromOwnMatrix(final QualifiedKey qKey, final long timestamp) {
+		if (this.isMasterBranchTKVS() == false && this.negativeResultCache.isAbsent(qKey, timestamp)) {
+			return null;
+		}
+		try (AutoLock lock = this.lockNonExclusive()) {
+			TemporalDataMatrix matrix = this.getMatrix(qKey.getKeyspace());
+			if (matrix == null) {
+				return null;
+			}
+			GetResult<byte[]> rangedResult = matrix.get(timestamp, qKey.getKey());
+			if (rangedResult.isHit() == false && this.isMasterBranchTKVS() == false) {
+				this.negativeResultCache.cacheAbsence(qKey, rangedResult.getPeriod());
+			}
+			return rangedResult;
+		}
+	}
+
+	private GetResult<Object> createAndCacheGetResult(final QualifiedKey qKey, final GetResult<byte[]> rangedResult) {
+		byte[] serialForm = rangedResult.getValue();
+		Object deserializedValue = null;
+		Period range = rangedResult.getPeriod();
+		if (serialForm == null || serialForm.length <= 0) {
+			deserializedValue = null;
+		} else {
+			deserializedValue = this.getOwningDB().getSerializationManager().deserialize(serialForm);
+		}
+		GetResult<Object> result = GetResult.create(qKey, deserializedValue, range);
+		// cache the result for the branch which actually contains it; child branches will find it there.
+		this.getCache().cache(this.getOwningBranch().getName(), result);
+		// depending on the configuration, we may need to duplicate the result before returning it
+		if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
+			// we may directly return the cached instance, as we can assume it to be immutable
+			return result;
+		} else {
+			// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
+			// and the client may change the returned element. If we did not duplicate it, changes by the
+			// client to the returned element would modify our cache state.
+			Object duplicatedValue = KryoManager.deepCopy(deserializedValue);
+			return GetResult.create(qKey, duplicatedValue, range);
+		}
+	}
+
 	protected ChronoDBTransaction createOriginBranchTx(final long requestedTimestamp) {
 		long branchingTimestamp = this.owningBranch.getBranchingTimestamp();
 		long timestamp = 0;
@@ -1287,14 +1619,46 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return changeSet;
 	}
 
-	private void updatePrimaryIndex(final long time, final ChangeSet changSet) {
+	private Map<String, Map<String, byte[]>> updatePrimaryIndex(final long time, final ChangeSet changSet) {
 		SerializationManager serializer = this.getOwningDB().getSerializationManager();
+		Map<String, Map<String, byte[]>> keyspaceToSerializedContents = Maps.newHashMap();
 		for (Entry<String, Map<String, byte[]>> entry : changSet
 				.getSerializedEntriesByKeyspace(serializer::serialize)) {
 			String keyspace = entry.getKey();
-			Map<String, byte[]> contents = entry.getValue();
+			// note: the serialized entries are a lazy view; we copy them to serialize each value only once
+			Map<String, byte[]> contents = Maps.newHashMap(entry.getValue());
 			TemporalDataMatrix matrix = this.getOrCreateMatrix(keyspace, time);
 			matrix.put(time, contents);
+			keyspaceToSerializedContents.put(keyspace, contents);
+			// the written keys are now present in this branch
+			for (String key : contents.keySet()) {
+				this.negativeResultCache.invalidate(QualifiedKey.create(keyspace, key));
+			}
+		}
+		return keyspaceToSerializedContents;
+	}
+
+	private void publishCommitEvent(final long time, final Object commitMetadata,
+			final Map<String, Map<String, byte[]>> serializedChanges) {
+		CommitEventPublisher publisher = this.getOwningDB().getCommitEventPublisher();
+		String branchName = this.getOwningBranch().getName();
+		if (publisher.hasSubscribers(branchName) == false) {
+			// nobody is listening
+			return;
+		}
+		try {
+			CommitEventImpl event;
+			if (this.isIncrementalCommitProcessOngoing()) {
+				// the change set only contains the last increment; fetch the full commit from the commit log
+				event = publisher.loadCommitEvent(branchName, time, commitMetadata);
+			} else {
+				event = new CommitEventImpl(branchName, time, commitMetadata, serializedChanges);
+			}
+			publisher.publish(event);
+		} catch (Throwable t) {
+			// the commit itself was successful, so we must not propagate this error to the committing transaction
+			ChronoLogger.logError("Failed to publish commit event for commit at " + time + " on branch '"
+					+ branchName + "'!", t);
 		}
 	}
 
@@ -1398,6 +1762,15 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		}
 	}
 
+	protected void debugCallbackBeforeCommitMetadataPurge(final long cutoff) {
+		if (this.getOwningDB().getConfiguration().isDebugModeEnabled() == false) {
+			return;
+		}
+		if (this.debugCallbackBeforeCommitMetadataPurge != null) {
+			this.debugCallbackBeforeCommitMetadataPurge.accept(cutoff);
+		}
+	}
+
 	// =================================================================================================================
 	// ABSTRACT METHOD DECLARATIONS
 	// =================================================================================================================
@@ -1565,4 +1938,83 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
 	}
 
+	private class ModifiedEntriesIterator extends AbstractCloseableIterator<ChronoDBEntry> {
+
+		private final long minTimestamp;
+		private final long maxTimestamp;
+		private Iterator<String> keyspaceIterator;
+
+		private TemporalDataMatrix currentMatrix;
+		private Iterator<TemporalKey> currentModificationIterator;
+
+		public ModifiedEntriesIterator(final long minTimestamp, final long maxTimestamp) {
+			this.minTimestamp = minTimestamp;
+			this.maxTimestamp = maxTimestamp;
+			Set<String> keyspaces = Sets.newHashSet(AbstractTemporalKeyValueStore.this.getKeyspaces(maxTimestamp));
+			this.keyspaceIterator = keyspaces.iterator();
+		}
+
+		private void tryMoveToNextIterator() {
+			if (this.currentModificationIterator != null && this.currentModificationIterator.hasNext()) {
+				// current iterator has more elements; stay here
+				return;
+			}
+			while (this.keyspaceIterator.hasNext()) {
+				TemporalDataMatrix matrix = AbstractTemporalKeyValueStore.this.getMatrix(this.keyspaceIterator.next());
+				if (matrix == null) {
+					// keyspace is inherited from the parent branch; there are no modifications in this store
+					continue;
+				}
+				Iterator<TemporalKey> modifications = matrix.getModificationsBetween(this.minTimestamp,
+						this.maxTimestamp);
+				if (modifications.hasNext()) {
+					this.currentMatrix = matrix;
+					this.currentModificationIterator = modifications;
+					return;
+				}
+			}
+			// we are at the end of all keyspaces
+			this.currentMatrix = null;
+			this.currentModificationIterator = null;
+		}
+
+		@Override
+		protected boolean hasNextInternal() {
+			this.tryMoveToNextIterator();
+			if (this.currentModificationIterator == null) {
+				return false;
+			}
+			return this.currentModificationIterator.hasNext();
+		}
+
+		@Override
+		public ChronoDBEntry next() {
+			if (this.hasNext() == false) {
+				throw new NoSuchElementException();
+			}
+			TemporalKey modification = this.currentModificationIterator.next();
+			// the value written by the modification is the one that is valid at its exact timestamp
+			byte[] value = this.currentMatrix.get(modification.getTimestamp(), modification.getKey()).getValue();
+			if (value == null) {
+				// deletions are stored as empty arrays, just like in the matrix itself
+				value = new byte[0];
+			}
+			Branch branch = AbstractTemporalKeyValueStore.this.getOwningBranch();
+			ChronoIdentifier chronoIdentifier = ChronoIdentifier.create(branch, modification.getTimestamp(),
+					modification.getKeyspace(), modification.getKey());
+			return ChronoDBEntry.create(chronoIdentifier, value);
+		}
+
+		@Override
+		protected void closeInternal() {
+			this.currentMatrix = null;
+			this.currentModificationIterator = null;
+			// "burn out" the keyspace iterator
+			while (this.keyspaceIterator.hasNext()) {
+				this.keyspaceIterator.next();
+			}
+		}
+
+	}
+
 }
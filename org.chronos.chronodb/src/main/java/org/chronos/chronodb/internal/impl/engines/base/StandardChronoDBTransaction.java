@@ -12,6 +12,8 @@ import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.KeyRangeScanIterator;
 
 import java.util.*;
 import java.util.Map.Entry;
@@ -138,6 +140,43 @@ public class StandardChronoDBTransaction implements ChronoDBTransaction {
         return this.getTKVS().performKeySet(this, keyspaceName);
     }
 
+    // =================================================================================================================
+    // OPERATION [ SCAN ]
+    // =================================================================================================================
+
+    @Override
+    public CloseableIterator<Entry<String, Object>> scan(final String fromKey, final String toKey) {
+        checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+        return this.scanInternal(ChronoDBConstants.DEFAULT_KEYSPACE_NAME, fromKey, toKey);
+    }
+
+    @Override
+    public CloseableIterator<Entry<String, Object>> scan(final String keyspaceName, final String fromKey,
+                                                         final String toKey) {
+        checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+        checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+        return this.scanInternal(keyspaceName, fromKey, toKey);
+    }
+
+    @Override
+    public CloseableIterator<Entry<String, Object>> prefix(final String prefix) {
+        checkNotNull(prefix, "Precondition violation - argument 'prefix' must not be NULL!");
+        return this.scanInternal(ChronoDBConstants.DEFAULT_KEYSPACE_NAME, prefix,
+                KeyRangeScanIterator.getPrefixUpperBound(prefix));
+    }
+
+    @Override
+    public CloseableIterator<Entry<String, Object>> prefix(final String keyspaceName, final String prefix) {
+        checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+        checkNotNull(prefix, "Precondition violation - argument 'prefix' must not be NULL!");
+        return this.scanInternal(keyspaceName, prefix, KeyRangeScanIterator.getPrefixUpperBound(prefix));
+    }
+
+    protected CloseableIterator<Entry<String, Object>> scanInternal(final String keyspaceName, final String fromKey,
+                                                                    final String toKey) {
+        return this.getTKVS().performScan(this, keyspaceName, fromKey, toKey);
+    }
+
     // =================================================================================================================
     // OPERATION [ HISTORY ]
     // =================================================================================================================
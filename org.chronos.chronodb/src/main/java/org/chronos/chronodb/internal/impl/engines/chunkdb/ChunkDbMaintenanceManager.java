@@ -2,15 +2,20 @@ package org.chronos.chronodb.internal.impl.engines.chunkdb;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.io.IOException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.Period;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
+import org.chronos.chronodb.internal.impl.engines.tupl.TuplUtils;
+import org.chronos.chronodb.internal.impl.tupl.TuplTransaction;
 import org.chronos.common.autolock.AutoLock;
 
-public class ChunkDbMaintenanceManager implements MaintenanceManager {
+public class ChunkDbMaintenanceManager extends AbstractMaintenanceManager {
 
 	// =================================================================================================================
 	// FIELDS
@@ -25,6 +30,7 @@ public class ChunkDbMaintenanceManager implements MaintenanceManager {
 	// =================================================================================================================
 
 	public ChunkDbMaintenanceManager(final ChunkedChronoDB owningDB) {
+		super(owningDB);
 		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
 		this.owningDB = owningDB;
 	}
@@ -92,4 +98,24 @@ public class ChunkDbMaintenanceManager implements MaintenanceManager {
 		}
 	}
 
+	// =================================================================================================================
+	// INTERNAL METHODS
+	// =================================================================================================================
+
+	@Override
+	protected void reclaimDiskSpace(final String branchName, final long timestamp) {
+		// pruning only touches the chunks up to the cut-off timestamp. Compacting them hands the space of the
+		// removed entries back to the file system; chunks which have been emptied entirely shrink to a minimum.
+		BranchChunkManager branchChunkManager = this.owningDB.getChunkManager().getChunkManagerForBranch(branchName);
+		long upperBound = timestamp < Long.MAX_VALUE ? timestamp + 1 : timestamp;
+		for (ChronoChunk chunk : branchChunkManager.getChunksForPeriod(Period.createRange(0, upperBound))) {
+			try (TuplTransaction tx = this.owningDB.getChunkManager().openBogusTransactionOn(chunk.getDataFile())) {
+				tx.getDB().compactFile(null, TuplUtils.COMPACTION_TARGET);
+			} catch (IOException e) {
+				throw new ChronoDBStorageBackendException(
+						"Failed to compact the data file of chunk '" + chunk.getDataFile().getName() + "'!", e);
+			}
+		}
+	}
+
 }
@@ -17,10 +17,13 @@ import org.chronos.chronodb.internal.impl.engines.tupl.TuplDataMatrixUtil;
 import org.chronos.chronodb.internal.impl.engines.tupl.TuplUtils;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.tupl.TuplTransaction;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.SetMultimap;
 
 public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 
@@ -52,6 +55,13 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 						chunkPeriod.getUpperBound());
 				getResult = GetResult.alterPeriod(getResult, newPeriod);
 			}
+			if (getResult.isHit() == false && getResult.getPeriod().getLowerBound() < chunkPeriod.getLowerBound()) {
+				// if the key is absent in this chunk, the result says nothing about the previous
+				// chunks; we need to limit the "valid from" timestamp to the chunk's "valid from"
+				Period newPeriod = Period.createRange(chunkPeriod.getLowerBound(),
+						getResult.getPeriod().getUpperBound());
+				getResult = GetResult.alterPeriod(getResult, newPeriod);
+			}
 			return getResult;
 		}
 	}
@@ -89,6 +99,17 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		return new AllEntriesIterator(chunksForPeriod, timestamp);
 	}
 
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(final long timestamp, final String fromKey,
+			final String toKey) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		// the chunk which contains the timestamp also contains the full state at the beginning of the chunk, so
+		// a single chunk is sufficient. The transaction is closed by the returned iterator.
+		TuplTransaction tx = this.chunkManager.openBogusTransactionOn(this.branchName, timestamp);
+		return TuplDataMatrixUtil.scan(tx, this.mapName, timestamp, fromKey, toKey);
+	}
+
 	@Override
 	public long lastCommitTimestamp(final String key) {
 		Iterator<Long> history = this.history(Long.MAX_VALUE, key);
@@ -178,6 +199,26 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public void purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return;
+		}
+		// every entry resides in the chunk which contains its timestamp
+		BranchChunkManager branchChunkManager = this.chunkManager.getChunkManagerForBranch(this.branchName);
+		SetMultimap<ChronoChunk, UnqualifiedTemporalKey> chunkToKeys = HashMultimap.create();
+		for (UnqualifiedTemporalKey key : keys) {
+			chunkToKeys.put(branchChunkManager.getChunkForTimestamp(key.getTimestamp()), key);
+		}
+		for (ChronoChunk chunk : chunkToKeys.keySet()) {
+			try (TuplTransaction tx = this.chunkManager.openTransactionOn(chunk.getDataFile())) {
+				TuplDataMatrixUtil.purgeEntries(tx, this.mapName, chunkToKeys.get(chunk));
+				tx.commit();
+			}
+		}
+	}
+
 	// =================================================================================================================
 	// INNER CLASSES
 	// =================================================================================================================
@@ -275,7 +316,8 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		@Override
 		protected Iterator<TemporalKey> createChunkElementIterator(final ChronoChunk chunk) {
 			long lowerBound = Math.max(this.period.getLowerBound(), chunk.getMetaData().getValidFrom());
-			long upperBound = Math.min(this.period.getUpperBound(), chunk.getMetaData().getValidTo());
+			// note: periods have an exclusive upper bound, but the tupl utility expects an inclusive one
+			long upperBound = Math.min(this.period.getUpperBound(), chunk.getMetaData().getValidTo()) - 1;
 			try (TuplTransaction tx = TemporalChunkDbDataMatrix.this.chunkManager
 					.openTransactionOn(chunk.getDataFile())) {
 				return TuplDataMatrixUtil.getModificationsBetween(tx, TemporalChunkDbDataMatrix.this.mapName,
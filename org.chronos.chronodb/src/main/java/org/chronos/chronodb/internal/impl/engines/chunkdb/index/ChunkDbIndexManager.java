@@ -23,12 +23,19 @@ public class ChunkDbIndexManager extends DocumentBasedIndexManager {
 				// no indices are dirty -> no need to re-index
 				return;
 			}
-			this.getIndexManagerBackend().rebuildIndexOnAllChunks();
-			for (String indexName : this.getIndexNames()) {
-				this.setIndexClean(indexName);
-			}
-			this.getIndexManagerBackend().persistIndexDirtyStates(this.indexNameToDirtyFlag);
-			this.clearQueryCache();
+			this.rebuildIndicesOnAllChunks();
+		}
+	}
+
+	@Override
+	public void reindex(final String indexName) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkArgument(this.getIndexNames().contains(indexName),
+				"Precondition violation - argument 'indexName' does not refer to a known index!");
+		// the chunks always rebuild all of their indices at once, so there is nothing to gain from rebuilding
+		// a single index (see above).
+		try (AutoLock lock = this.getOwningDB().lockExclusive()) {
+			this.rebuildIndicesOnAllChunks();
 		}
 	}
 
@@ -47,4 +54,13 @@ public class ChunkDbIndexManager extends DocumentBasedIndexManager {
 		this.getIndexManagerBackend().rebuildIndexOnHeadChunk(branchName);
 	}
 
+	private void rebuildIndicesOnAllChunks() {
+		this.getIndexManagerBackend().rebuildIndexOnAllChunks();
+		for (String indexName : this.getIndexNames()) {
+			this.setIndexClean(indexName);
+		}
+		this.getIndexManagerBackend().persistIndexDirtyStates(this.indexNameToDirtyFlag);
+		this.clearQueryCache();
+	}
+
 }
@@ -213,6 +213,37 @@ public class ChunkDbIndexManagerBackend extends AbstractDocumentBasedIndexManage
 		return resultSet;
 	}
 
+	@Override
+	public void pruneHistory(final Branch branch, final String keyspace, final long timestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		// the chunk indices are derived from the chunk contents. Instead of pruning the documents one by one, we
+		// drop the indices of all chunks which have been affected; they will be rebuilt from the pruned chunks on
+		// demand.
+		BranchChunkManager branchChunkManager = this.getOwningDB().getChunkManager()
+				.getChunkManagerForBranch(branch.getName());
+		long upperBound = timestamp < Long.MAX_VALUE ? timestamp + 1 : timestamp;
+		for (ChronoChunk chunk : branchChunkManager.getChunksForPeriod(Period.createRange(0, upperBound))) {
+			this.indexChunkManager.deleteIndexForChunk(chunk);
+		}
+	}
+
+	@Override
+	protected Collection<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		// get the data chunk
+		ChronoChunk chunk = this.getOwningDB().getChunkManager().getChunkManagerForBranch(branchName)
+				.getChunkForTimestamp(timestamp);
+		// get the corresponding index
+		DocumentBasedChunkIndex index = this.indexChunkManager.getIndexForChunk(chunk);
+		// forward the call
+		return index.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName, keyspace);
+	}
+
 	@Override
 	protected Collection<ChronoIndexDocument> getTerminatedBranchLocalDocuments(final long timestamp,
 			final String branchName, final String keyspace, final SearchSpecification<?> searchSpec) {
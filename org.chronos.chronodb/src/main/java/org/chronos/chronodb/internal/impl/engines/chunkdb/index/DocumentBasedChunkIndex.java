@@ -79,6 +79,13 @@ public class DocumentBasedChunkIndex extends InMemoryIndexManagerBackend {
 		return super.getDocumentsTouchedAtOrAfterTimestamp(timestamp, branches);
 	}
 
+	@Override
+	public Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		// this method is repeated here because the visibility is increased to 'public'.
+		return super.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName, keyspace);
+	}
+
 	@Override
 	public Set<ChronoIndexDocument> getTerminatedBranchLocalDocuments(final long timestamp, final String branchName, final String keyspace,
 			final SearchSpecification<?> searchSpec) {
@@ -190,6 +190,32 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
 		return resultSet;
 	}
 
+	@Override
+	protected Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		Set<ChronoIndexDocument> resultSet = Sets.newHashSet();
+		for (Map<String, Map<String, SetMultimap<String, ChronoIndexDocument>>> branchToKeyspace : this.documents
+				.values()) {
+			Map<String, SetMultimap<String, ChronoIndexDocument>> keyspaceToKeyToDoc = branchToKeyspace.get(branchName);
+			if (keyspaceToKeyToDoc == null) {
+				continue;
+			}
+			SetMultimap<String, ChronoIndexDocument> keyToDoc = keyspaceToKeyToDoc.get(keyspace);
+			if (keyToDoc == null) {
+				continue;
+			}
+			for (ChronoIndexDocument document : keyToDoc.values()) {
+				if (document.getValidToTimestamp() <= timestamp) {
+					resultSet.add(document);
+				}
+			}
+		}
+		return resultSet;
+	}
+
 	// =================================================================================================================
 	// INDEX QUERYING
 	// =================================================================================================================
@@ -4,14 +4,15 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-public class InMemoryMaintenanceManager implements MaintenanceManager {
+public class InMemoryMaintenanceManager extends AbstractMaintenanceManager {
 
 	@SuppressWarnings("unused")
 	private final InMemoryChronoDB owningDB;
 
 	public InMemoryMaintenanceManager(final InMemoryChronoDB owningDB) {
+		super(owningDB);
 		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
 		this.owningDB = owningDB;
 	}
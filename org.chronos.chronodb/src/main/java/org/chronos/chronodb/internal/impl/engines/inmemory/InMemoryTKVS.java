@@ -14,6 +14,7 @@ import org.chronos.chronodb.internal.api.TemporalDataMatrix;
 import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalKeyValueStore;
 import org.chronos.chronodb.internal.impl.engines.base.WriteAheadLogToken;
+import org.chronos.common.autolock.AutoLock;
 
 public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements TemporalKeyValueStore {
 
@@ -52,6 +53,12 @@ public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements Tempo
 		this.now.set(timestamp);
 	}
 
+	@Override
+	protected AutoLock lockForPruning() {
+		// the in-memory secondary index is not thread-safe, so we cannot permit reads while pruning it
+		return this.lockBranchExclusive();
+	}
+
 	@Override
 	protected TemporalDataMatrix createMatrix(final String keyspace, final long timestamp) {
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -16,6 +16,7 @@ import org.chronos.chronodb.internal.api.Period;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatrix;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.KeyRangeScanIterator;
 import org.chronos.chronodb.internal.impl.temporal.InverseUnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
@@ -171,6 +172,22 @@ public class TemporalInMemoryMatrix extends AbstractTemporalDataMatrix {
 		return new AllEntriesIterator(this.contents.entrySet().iterator(), timestamp);
 	}
 
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(final long timestamp, final String fromKey,
+			final String toKey) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		NavigableMap<UnqualifiedTemporalKey, byte[]> range;
+		if (toKey == null) {
+			range = this.contents.tailMap(UnqualifiedTemporalKey.createMin(fromKey), true);
+		} else {
+			range = this.contents.subMap(UnqualifiedTemporalKey.createMin(fromKey), true,
+					UnqualifiedTemporalKey.createMin(toKey), false);
+		}
+		return new KeyRangeScanIterator(new AllEntriesIterator(range.entrySet().iterator(), timestamp), timestamp,
+				fromKey, toKey);
+	}
+
 	@Override
 	public long lastCommitTimestamp(final String key) {
 		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
@@ -200,6 +217,15 @@ public class TemporalInMemoryMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public void purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		for (UnqualifiedTemporalKey key : keys) {
+			this.contents.remove(key);
+			this.inverseContents.remove(InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey()));
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
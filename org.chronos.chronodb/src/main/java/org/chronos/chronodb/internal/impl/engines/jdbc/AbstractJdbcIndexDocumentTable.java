@@ -0,0 +1,155 @@
+package org.chronos.chronodb.internal.impl.engines.jdbc;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
+import org.chronos.chronodb.internal.impl.jdbc.table.DefaultJdbcTable;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Common base class for the index document tables, one for each type of indexed value.
+ *
+ * <p>
+ * All index document tables share the same layout: the document ID, branch, keyspace, key and index name, followed by
+ * the column(s) for the indexed value, followed by the validity range. Subclasses only need to bind the indexed value
+ * columns; the batched writes are implemented here.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+abstract class AbstractJdbcIndexDocumentTable extends DefaultJdbcTable {
+
+	protected AbstractJdbcIndexDocumentTable(final Connection connection) {
+		super(connection);
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public void insertAll(final Collection<ChronoIndexDocument> documents, final int batchSize) {
+		checkNotNull(documents, "Precondition violation - argument 'documents' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		if (documents.isEmpty()) {
+			return;
+		}
+		try (PreparedStatement pstmt = this.connection.prepareStatement(this.getInsertStatement())) {
+			int pending = 0;
+			for (ChronoIndexDocument document : documents) {
+				checkArgument(document.getValidFromTimestamp() < document.getValidToTimestamp(),
+						"Precondition violation - argument 'documents' contains a document with 'validFrom' >= 'validTo'!");
+				String id = UUID.randomUUID().toString();
+				pstmt.setString(1, id);
+				pstmt.setString(2, document.getBranch());
+				pstmt.setString(3, document.getKeyspace());
+				pstmt.setString(4, document.getKey());
+				pstmt.setString(5, document.getIndexName());
+				int parameterIndex = this.setIndexedValue(pstmt, 6, document.getIndexedValue());
+				pstmt.setLong(parameterIndex, document.getValidFromTimestamp());
+				pstmt.setLong(parameterIndex + 1, document.getValidToTimestamp());
+				pstmt.addBatch();
+				pending++;
+				if (pending >= batchSize) {
+					pstmt.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				pstmt.executeBatch();
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not insert into Index Documents Table!", e);
+		}
+	}
+
+	public void updateValidTo(final Map<String, Long> documentIdToNewValidTo, final int batchSize) {
+		checkNotNull(documentIdToNewValidTo,
+				"Precondition violation - argument 'documentIdToNewValidTo' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		if (documentIdToNewValidTo.isEmpty()) {
+			return;
+		}
+		try (PreparedStatement pstmt = this.connection.prepareStatement(this.getUpdateValidToStatement())) {
+			List<String> pendingIds = Lists.newArrayList();
+			for (Entry<String, Long> entry : documentIdToNewValidTo.entrySet()) {
+				checkArgument(entry.getValue() > 0,
+						"Precondition violation - argument 'documentIdToNewValidTo' contains a negative timestamp!");
+				pstmt.setLong(1, entry.getValue());
+				pstmt.setString(2, entry.getKey());
+				pstmt.addBatch();
+				pendingIds.add(entry.getKey());
+				if (pendingIds.size() >= batchSize) {
+					this.assertValidToUpdated(pstmt.executeBatch(), pendingIds);
+					pendingIds.clear();
+				}
+			}
+			if (pendingIds.isEmpty() == false) {
+				this.assertValidToUpdated(pstmt.executeBatch(), pendingIds);
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not update entry in Index Documents Table!", e);
+		}
+	}
+
+	// =================================================================================================================
+	// ABSTRACT METHODS
+	// =================================================================================================================
+
+	/**
+	 * Returns the SQL statement which inserts a single row into this table.
+	 *
+	 * @return The insert statement. Never <code>null</code>.
+	 */
+	protected abstract String getInsertStatement();
+
+	/**
+	 * Returns the SQL statement which updates the 'validTo' column of a single row, identified by its document ID.
+	 *
+	 * @return The update statement. Never <code>null</code>.
+	 */
+	protected abstract String getUpdateValidToStatement();
+
+	/**
+	 * Binds the given indexed value to the value column(s) of the insert statement.
+	 *
+	 * @param statement
+	 *            The insert statement to bind the value to. Must not be <code>null</code>.
+	 * @param parameterIndex
+	 *            The index of the first value column in the statement.
+	 * @param indexedValue
+	 *            The indexed value to bind. Must not be <code>null</code>.
+	 *
+	 * @return The index of the first parameter after the value column(s).
+	 *
+	 * @throws SQLException
+	 *             Thrown by the JDBC driver if the value cannot be bound.
+	 */
+	protected abstract int setIndexedValue(PreparedStatement statement, int parameterIndex, Object indexedValue)
+			throws SQLException;
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private void assertValidToUpdated(final int[] changedRows, final List<String> documentIds) {
+		for (int i = 0; i < changedRows.length; i++) {
+			// drivers may report SUCCESS_NO_INFO instead of a row count, we can only check explicit zeros
+			if (changedRows[i] == 0) {
+				throw new ChronoDBStorageBackendException(
+						"Failed to set 'validTo' property of document with ID '" + documentIds.get(i) + "'!");
+			}
+		}
+	}
+
+}
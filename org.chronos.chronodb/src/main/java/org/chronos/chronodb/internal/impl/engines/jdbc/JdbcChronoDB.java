@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.*;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
@@ -27,6 +28,7 @@ import org.chronos.chronodb.internal.impl.query.StandardQueryManager;
 import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.version.ChronosVersion;
 
+import com.google.common.collect.Maps;
 import com.mchange.v2.c3p0.DataSources;
 
 /**
@@ -222,7 +224,10 @@ public class JdbcChronoDB extends AbstractChronoDB {
 			} else {
 				unpooledDS = DataSources.unpooledDataSource(jdbcURL);
 			}
-			DataSource pooledDS = DataSources.pooledDataSource(unpooledDS);
+			// let the pool cache the prepared statements of each physical connection, our queries are highly repetitive
+			Map<String, Object> poolOverrides = Maps.newHashMap();
+			poolOverrides.put("maxStatementsPerConnection", config.getJdbcStatementCacheSize());
+			DataSource pooledDS = DataSources.pooledDataSource(unpooledDS, poolOverrides);
 			return pooledDS;
 		} catch (SQLException e) {
 			throw new ChronoDBConfigurationException("Could not connect to the given SQL Database!", e);
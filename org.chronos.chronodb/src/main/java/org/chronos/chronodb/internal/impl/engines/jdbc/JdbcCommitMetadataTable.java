@@ -11,6 +11,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -119,6 +120,9 @@ import com.google.common.collect.Maps;
 	public static final String NAMED_SQL__ROLLBACK_BRANCH_TO_TIMESTAMP = "DELETE FROM " + NAME + " WHERE "
 			+ PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_TIMESTAMP + " > ${timestamp}";
 
+	public static final String NAMED_SQL__DELETE_BRANCH_COMMIT = "DELETE FROM " + NAME + " WHERE " + PROPERTY_BRANCH
+			+ " = ${branch} AND " + PROPERTY_TIMESTAMP + " = ${timestamp}";
+
 	public static final String NAMED_SQL__GET_COMMIT_TIMESTAMPS_BETWEEN_ASC = "SELECT DISTINCT " + PROPERTY_TIMESTAMP
 			+ " FROM " + NAME + " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_TIMESTAMP
 			+ " >= ${from} AND " + PROPERTY_TIMESTAMP + " <= ${to} ORDER BY " + PROPERTY_TIMESTAMP + " ASC";
@@ -286,6 +290,21 @@ import com.google.common.collect.Maps;
 		}
 	}
 
+	public void deleteBranchCommits(final String branchName, final Set<Long> commitTimestamps) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		String sql = NAMED_SQL__DELETE_BRANCH_COMMIT;
+		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
+			for (Long commitTimestamp : commitTimestamps) {
+				nStmt.setParameter("branch", branchName);
+				nStmt.setParameter("timestamp", commitTimestamp);
+				nStmt.executeUpdate();
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to delete from Commit Metadata Table!", e);
+		}
+	}
+
 	public Iterator<Long> getCommitTimestampsBetween(final String branchName, final long from, final long to,
 			final Order order) {
 		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.*;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -33,6 +34,7 @@ import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.util.ReflectionUtils;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
@@ -183,23 +185,35 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		}
 		try (Connection connection = this.openConnection()) {
 			ChronoLogger.logDebug("Applying index modifications: " + indexModifications);
-			for (DocumentValidityTermination termination : indexModifications.getDocumentValidityTerminations()) {
-				ChronoIndexDocument document = termination.getDocument();
-				long timestamp = termination.getTerminationTimestamp();
-				this.terminateDocumentValidity(connection, document, timestamp);
-			}
-			for (DocumentAddition creation : indexModifications.getDocumentCreations()) {
-				ChronoIndexDocument document = creation.getDocumentToAdd();
-				this.persistDocument(connection, document);
+			connection.setAutoCommit(false);
+			int batchSize = this.getOwningDB().getConfiguration().getJdbcBatchSize();
+			try {
+				this.terminateDocumentValidities(connection, indexModifications.getDocumentValidityTerminations(), batchSize);
+				this.persistDocuments(connection, indexModifications.getDocumentCreations(), batchSize);
+				for (DocumentDeletion deletion : indexModifications.getDocumentDeletions()) {
+					this.deleteIndexDocument(connection, deletion.getDocumentToDelete());
+				}
+				connection.commit();
+			} catch (SQLException | RuntimeException e) {
+				// discard the batches which have already been executed, the modifications are applied all or nothing
+				connection.rollback();
+				throw e;
 			}
-			for (DocumentDeletion deletion : indexModifications.getDocumentDeletions()) {
-				this.deleteIndexDocument(connection, deletion.getDocumentToDelete());
+			// database operation successful, update the beans
+			for (DocumentValidityTermination termination : indexModifications.getDocumentValidityTerminations()) {
+				termination.getDocument().setValidToTimestamp(termination.getTerminationTimestamp());
 			}
 		} catch (SQLException | JdbcTableException e) {
 			throw new ChronoDBStorageBackendException("Could not apply index modifications!", e);
 		}
 	}
 
+	@Override
+	public boolean isQueryingDuringModificationSupported() {
+		// every modification is applied in a JDBC transaction of its own
+		return true;
+	}
+
 	@Override
 	protected Set<ChronoIndexDocument> getDocumentsTouchedAtOrAfterTimestamp(final long timestamp, final Set<String> branches) {
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
@@ -221,6 +235,28 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		}
 	}
 
+	@Override
+	protected Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		Set<ChronoIndexDocument> resultSet = Sets.newHashSet();
+		try (Connection connection = this.openConnection()) {
+			JdbcStringIndexDocumentTable documentsTable = JdbcStringIndexDocumentTable.get(connection);
+			resultSet.addAll(documentsTable.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName, keyspace));
+			JdbcLongIndexDocumentTable longDocumentsTable = JdbcLongIndexDocumentTable.get(connection);
+			resultSet.addAll(
+					longDocumentsTable.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName, keyspace));
+			JdbcDoubleIndexDocumentTable doubleDocumentsTable = JdbcDoubleIndexDocumentTable.get(connection);
+			resultSet.addAll(
+					doubleDocumentsTable.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName, keyspace));
+			return resultSet;
+		} catch (SQLException | JdbcTableException e) {
+			throw new ChronoDBStorageBackendException("Failed to query Index Documents Table!", e);
+		}
+	}
+
 	// =================================================================================================================
 	// INDEX QUERYING
 	// =================================================================================================================
@@ -562,48 +598,53 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		}
 	}
 
-	private void persistDocument(final Connection connection, final ChronoIndexDocument document) {
+	private void persistDocuments(final Connection connection, final Collection<DocumentAddition> creations, final int batchSize) {
 		checkNotNull(connection, "Precondition violation - argument 'connection' must not be NULL!");
-		checkNotNull(document, "Precondition violation - argument 'document' must not be NULL!");
-		String index = document.getIndexName();
-		String branch = document.getBranch();
-		String keyspace = document.getKeyspace();
-		String key = document.getKey();
-		long validFrom = document.getValidFromTimestamp();
-		long validTo = document.getValidToTimestamp();
-		Object value = document.getIndexedValue();
-		if (value instanceof String) {
-			JdbcStringIndexDocumentTable documentsTable = JdbcStringIndexDocumentTable.get(connection);
-			String valueCI = ((String) value).toLowerCase();
-			documentsTable.insert(branch, keyspace, key, index, (String) value, valueCI, validFrom, validTo);
-		} else if (ReflectionUtils.isLongCompatible(value)) {
-			JdbcLongIndexDocumentTable documentsTable = JdbcLongIndexDocumentTable.get(connection);
-			documentsTable.insert(branch, keyspace, key, index, ReflectionUtils.asLong(value), validFrom, validTo);
-		} else if (ReflectionUtils.isDoubleCompatible(value)) {
-			JdbcDoubleIndexDocumentTable documentsTable = JdbcDoubleIndexDocumentTable.get(connection);
-			documentsTable.insert(branch, keyspace, key, index, ReflectionUtils.asDouble(value), validFrom, validTo);
-		} else {
-			throw new IllegalStateException("Unknown index value type: '" + value.getClass().getName() + "'!");
+		checkNotNull(creations, "Precondition violation - argument 'creations' must not be NULL!");
+		// group the documents by value type, such that each document table receives a single batch
+		List<ChronoIndexDocument> stringDocuments = Lists.newArrayList();
+		List<ChronoIndexDocument> longDocuments = Lists.newArrayList();
+		List<ChronoIndexDocument> doubleDocuments = Lists.newArrayList();
+		for (DocumentAddition creation : creations) {
+			ChronoIndexDocument document = creation.getDocumentToAdd();
+			Object value = document.getIndexedValue();
+			if (value instanceof String) {
+				stringDocuments.add(document);
+			} else if (ReflectionUtils.isLongCompatible(value)) {
+				longDocuments.add(document);
+			} else if (ReflectionUtils.isDoubleCompatible(value)) {
+				doubleDocuments.add(document);
+			} else {
+				throw new IllegalStateException("Unknown index value type: '" + value.getClass().getName() + "'!");
+			}
 		}
+		JdbcStringIndexDocumentTable.get(connection).insertAll(stringDocuments, batchSize);
+		JdbcLongIndexDocumentTable.get(connection).insertAll(longDocuments, batchSize);
+		JdbcDoubleIndexDocumentTable.get(connection).insertAll(doubleDocuments, batchSize);
 	}
 
-	private void terminateDocumentValidity(final Connection connection, final ChronoIndexDocument indexDocument, final long timestamp) {
+	private void terminateDocumentValidities(final Connection connection, final Collection<DocumentValidityTermination> terminations, final int batchSize) {
 		checkNotNull(connection, "Precondition violation - argument 'connection' must not be NULL!");
-		checkNotNull(indexDocument, "Precondition violation - argument 'indexDocument' must not be NULL!");
-		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
-		Object value = indexDocument.getIndexedValue();
-		if (value instanceof String) {
-			JdbcStringIndexDocumentTable documentsTable = JdbcStringIndexDocumentTable.get(connection);
-			documentsTable.updateValidTo(indexDocument.getDocumentId(), timestamp);
-		} else if (ReflectionUtils.isLongCompatible(value)) {
-			JdbcLongIndexDocumentTable documentsTable = JdbcLongIndexDocumentTable.get(connection);
-			documentsTable.updateValidTo(indexDocument.getDocumentId(), timestamp);
-		} else if (ReflectionUtils.isDoubleCompatible(value)) {
-			JdbcDoubleIndexDocumentTable documentsTable = JdbcDoubleIndexDocumentTable.get(connection);
-			documentsTable.updateValidTo(indexDocument.getDocumentId(), timestamp);
+		checkNotNull(terminations, "Precondition violation - argument 'terminations' must not be NULL!");
+		Map<String, Long> stringDocumentIdToValidTo = Maps.newHashMap();
+		Map<String, Long> longDocumentIdToValidTo = Maps.newHashMap();
+		Map<String, Long> doubleDocumentIdToValidTo = Maps.newHashMap();
+		for (DocumentValidityTermination termination : terminations) {
+			ChronoIndexDocument document = termination.getDocument();
+			long timestamp = termination.getTerminationTimestamp();
+			checkArgument(timestamp >= 0, "Precondition violation - termination timestamp must not be negative!");
+			Object value = document.getIndexedValue();
+			if (value instanceof String) {
+				stringDocumentIdToValidTo.put(document.getDocumentId(), timestamp);
+			} else if (ReflectionUtils.isLongCompatible(value)) {
+				longDocumentIdToValidTo.put(document.getDocumentId(), timestamp);
+			} else if (ReflectionUtils.isDoubleCompatible(value)) {
+				doubleDocumentIdToValidTo.put(document.getDocumentId(), timestamp);
+			}
 		}
-		// database operation successful, update the bean
-		indexDocument.setValidToTimestamp(timestamp);
+		JdbcStringIndexDocumentTable.get(connection).updateValidTo(stringDocumentIdToValidTo, batchSize);
+		JdbcLongIndexDocumentTable.get(connection).updateValidTo(longDocumentIdToValidTo, batchSize);
+		JdbcDoubleIndexDocumentTable.get(connection).updateValidTo(doubleDocumentIdToValidTo, batchSize);
 	}
 
 	private void deleteIndexDocument(final Connection connection, final ChronoIndexDocument documentToDelete) {
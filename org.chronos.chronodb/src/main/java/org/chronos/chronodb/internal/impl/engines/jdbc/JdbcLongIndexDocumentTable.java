@@ -15,17 +15,17 @@ import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
 import org.chronos.chronodb.internal.impl.engines.jdbc.JdbcIndexManagerBackend.TimeSearchMode;
 import org.chronos.chronodb.internal.impl.index.ChronoIndexDocumentImpl;
-import org.chronos.chronodb.internal.impl.jdbc.table.DefaultJdbcTable;
 import org.chronos.chronodb.internal.impl.jdbc.table.IndexDeclaration;
 import org.chronos.chronodb.internal.impl.jdbc.table.TableColumn;
 import org.chronos.chronodb.internal.impl.jdbc.util.JdbcUtils;
 import org.chronos.chronodb.internal.impl.jdbc.util.NamedParameterStatement;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
 import org.chronos.common.logging.ChronoLogger;
+import org.chronos.common.util.ReflectionUtils;
 
 import com.google.common.collect.Sets;
 
-class JdbcLongIndexDocumentTable extends DefaultJdbcTable {
+class JdbcLongIndexDocumentTable extends AbstractJdbcIndexDocumentTable {
 
 	// =================================================================================================================
 	// FACTORY
@@ -124,6 +124,10 @@ class JdbcLongIndexDocumentTable extends DefaultJdbcTable {
 	private static final String NAMED_SQL_DELETE_WHERE_DOCUMENT_ID_EQUALS = "DELETE FROM " + NAME + " WHERE "
 			+ PROPERTY_ID + " = ${documentId}";
 
+	private static final String NAMED_SQL_GET_DOCUMENTS_TERMINATED_AT_OR_BEFORE = "SELECT * FROM " + NAME
+			+ " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND "
+			+ PROPERTY_VALID_TO + " <= ${timestamp}";
+
 	private static final String NAMED_SQL_GET_MATCHING_BRANCH_LOCAL_DOCUMENTS_FOR_IDENTIFIER = "SELECT * FROM " + NAME
 			+ " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND "
 			+ PROPERTY_KEY + " = ${key} AND " + PROPERTY_VALID_FROM + " <= ${timestamp} AND " + PROPERTY_VALID_TO
@@ -216,6 +220,23 @@ class JdbcLongIndexDocumentTable extends DefaultJdbcTable {
 		return INDICES;
 	}
 
+	@Override
+	protected String getInsertStatement() {
+		return SQL_INSERT;
+	}
+
+	@Override
+	protected String getUpdateValidToStatement() {
+		return SQL_UPDATE_VALID_TO;
+	}
+
+	@Override
+	protected int setIndexedValue(final PreparedStatement statement, final int parameterIndex,
+			final Object indexedValue) throws SQLException {
+		statement.setLong(parameterIndex, ReflectionUtils.asLong(indexedValue));
+		return parameterIndex + 1;
+	}
+
 	// =================================================================================================================
 	// PUBLIC API
 	// =================================================================================================================
@@ -457,6 +478,24 @@ class JdbcLongIndexDocumentTable extends DefaultJdbcTable {
 		}
 	}
 
+	public Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		String sql = NAMED_SQL_GET_DOCUMENTS_TERMINATED_AT_OR_BEFORE;
+		try (NamedParameterStatement namedStatement = new NamedParameterStatement(this.connection, sql)) {
+			namedStatement.setParameter("branch", branchName);
+			namedStatement.setParameter("keyspace", keyspace);
+			namedStatement.setParameter("timestamp", timestamp);
+			try (ResultSet resultSet = namedStatement.executeQuery()) {
+				return this.convertResultSetToDocuments(resultSet);
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not query Index Documents Table!", e);
+		}
+	}
+
 	public Collection<ChronoIndexDocument> getMatchingBranchLocalDocuments(final ChronoIdentifier chronoIdentifier) {
 		checkNotNull(chronoIdentifier, "Precondition violation - argument 'chronoIdentifier' must not be NULL!");
 		String sql = NAMED_SQL_GET_MATCHING_BRANCH_LOCAL_DOCUMENTS_FOR_IDENTIFIER;
@@ -2,16 +2,27 @@ package org.chronos.chronodb.internal.impl.engines.jdbc;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
+import org.h2.engine.Database;
+import org.h2.engine.Session;
+import org.h2.engine.SessionInterface;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.MVStore;
 
-public class JdbcMaintenanceManager implements MaintenanceManager {
+public class JdbcMaintenanceManager extends AbstractMaintenanceManager {
+
+	/** The desired fill rate (in percent) of the H2 store after compaction, as required by {@link MVStore#compact}. */
+	private static final int H2_COMPACTION_TARGET_FILL_RATE = 90;
 
-	@SuppressWarnings("unused")
 	private final JdbcChronoDB owningDB;
 
 	public JdbcMaintenanceManager(final JdbcChronoDB owningDB) {
+		super(owningDB);
 		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
 		this.owningDB = owningDB;
 	}
@@ -40,4 +51,34 @@ public class JdbcMaintenanceManager implements MaintenanceManager {
 		throw new UnsupportedOperationException("The JDBC backend does not support rollover operations.");
 	}
 
+	// =================================================================================================================
+	// INTERNAL METHODS
+	// =================================================================================================================
+
+	@Override
+	protected void reclaimDiskSpace(final String branchName, final long timestamp) {
+		// we can only compact embedded H2 databases; any other database manages its storage on its own
+		try (Connection connection = this.owningDB.getDataSource().getConnection()) {
+			if (connection.isWrapperFor(JdbcConnection.class) == false) {
+				return;
+			}
+			SessionInterface session = connection.unwrap(JdbcConnection.class).getSession();
+			if (session instanceof Session == false) {
+				// connected to a remote H2 server
+				return;
+			}
+			Database database = ((Session) session).getDatabase();
+			if (database.isPersistent() == false || database.getMvStore() == null) {
+				// in-memory database, or the legacy page store which can only be compacted on shutdown
+				return;
+			}
+			// rewrite all sparsely filled chunks, this releases the chunks which held the removed data
+			MVStore store = database.getMvStore().getStore();
+			store.compact(H2_COMPACTION_TARGET_FILL_RATE, Integer.MAX_VALUE);
+			store.commit();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to compact the H2 database!", e);
+		}
+	}
+
 }
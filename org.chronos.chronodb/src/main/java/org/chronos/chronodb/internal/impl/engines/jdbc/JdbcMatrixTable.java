@@ -4,16 +4,19 @@ import static org.chronos.common.logging.ChronoLogger.*;
 
 import static com.google.common.base.Preconditions.*;
 
-import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.ChronoDB;
@@ -140,6 +143,16 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 
 	private final String tableName;
 
+	/**
+	 * The SQL of the ranged get statement, per matrix table name.
+	 *
+	 * <p>
+	 * Table instances are short-lived (one per borrowed connection), but the statement text for a given table never
+	 * changes. Keeping it constant allows the JDBC driver (or the database) to reuse the prepared statement plan it has
+	 * cached for the pooled physical connection, instead of parsing the query on every call.
+	 */
+	private static final Map<String, String> SQL_GET_RANGED_VALUE = new ConcurrentHashMap<>();
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -166,6 +179,10 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		indices.add(keyIndex);
 		IndexDeclaration timeIndex = new IndexDeclaration(this.tableName + "_TimeIndex", PROPERTY_TIMESTAMP);
 		indices.add(timeIndex);
+		// the temporal "get" performs range scans on the timestamps of a single key
+		IndexDeclaration keyTimeIndex = new IndexDeclaration(this.tableName + "_KeyTimeIndex", PROPERTY_KEY,
+				PROPERTY_TIMESTAMP);
+		indices.add(keyTimeIndex);
 		return indices.toArray(new IndexDeclaration[0]);
 	}
 
@@ -179,125 +196,85 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 	// =================================================================================================================
 
 	/**
-	 * Generates and returns the SQL command for a temporal <i>get</i> operation.
+	 * Generates and returns the SQL command for a ranged temporal <i>get</i> operation.
 	 *
 	 * <p>
-	 * This operation generates the SQL syntax for a {@link NamedParameterStatement} with <b>two parameters</b>:
+	 * This operation generates the SQL syntax for a <b>prepared statement</b> with <b>four parameters</b>:
+	 * <ol>
+	 * <li>The map key to search for
+	 * <li>The timestamp at which the search occurs
+	 * <li>The map key to search for (again)
+	 * <li>The timestamp at which the search occurs (again)
+	 * </ol>
+	 *
+	 * The result of this query contains <b>at most two rows</b>, both with the columns {@link #PROPERTY_TIMESTAMP} and
+	 * {@link #PROPERTY_VALUE}:
 	 * <ul>
-	 * <li><b><code>${key}</code></b> -- The map key to search for
-	 * <li><b><code>${timestamp}</code></b> -- The timestamp at which the search occurs
+	 * <li>The latest entry for the key at or before the given timestamp (the "floor" entry), if any.
+	 * <li>The timestamp of the earliest entry for the key after the given timestamp (the "ceiling" entry), if any. The
+	 * value of this row is always <code>NULL</code>, as we only need its timestamp.
 	 * </ul>
 	 *
-	 * The <b>result</b> of this query will have two columns:
-	 * <ol>
-	 * <li>{@link PROPERTY_VALUE}: The actual value (blob)
-	 * <li>{@link PROPERTY_TIMESTAMP}: The actual timestamp where the given value was written
-	 * </ol>
+	 * Both parts are answered by a range scan over the (key, timestamp) index, which allows to compute the result and
+	 * its validity range in a single round trip.
 	 *
-	 * @return The SQL for the named parameter statement, as specified above.
+	 * @return The SQL prepared statement, as specified above.
 	 */
-	private String generateSQLGetValue() {
+	private String generateSQLGetRangedValue() {
 		StringBuilder sql = new StringBuilder();
-		sql.append("SELECT t1.");
-		sql.append(PROPERTY_VALUE);
-		sql.append(", t1.");
+		sql.append("( SELECT ");
 		sql.append(PROPERTY_TIMESTAMP);
+		sql.append(", ");
+		sql.append(PROPERTY_VALUE);
 		sql.append(" FROM ");
 		sql.append(this.tableName);
-		sql.append(" t1 WHERE t1.");
+		sql.append(" WHERE ");
 		sql.append(PROPERTY_KEY);
-		sql.append(" = ${key} AND t1.");
-		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(" = ( SELECT MAX(t2.");
+		sql.append(" = ? AND ");
 		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(") FROM ");
-		sql.append(this.tableName);
-		sql.append(" t2 WHERE t2.");
-		sql.append(PROPERTY_KEY);
-		sql.append(" = ${key} AND t2.");
+		sql.append(" <= ? ORDER BY ");
 		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(" <= ${timestamp} )");
-		return sql.toString();
-	}
-
-	private String generateSQLGetRangeValidUntil() {
-		StringBuilder sql = new StringBuilder();
-		sql.append("SELECT tCeil.");
+		sql.append(" DESC LIMIT 1 ) UNION ALL ( SELECT ");
 		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(" FROM ");
+		sql.append(", NULL FROM ");
 		sql.append(this.tableName);
-		sql.append(" AS tCeil WHERE tCeil.");
+		sql.append(" WHERE ");
 		sql.append(PROPERTY_KEY);
-		sql.append(" = ${key} AND tCeil.");
-		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(" = ( SELECT MIN(tTemp.");
+		sql.append(" = ? AND ");
 		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(") FROM ");
-		sql.append(this.tableName);
-		sql.append(" tTemp WHERE tTemp.");
-		sql.append(PROPERTY_KEY);
-		sql.append(" = ${key} AND tTemp.");
+		sql.append(" > ? ORDER BY ");
 		sql.append(PROPERTY_TIMESTAMP);
-		sql.append(" > ${timestamp}  )");
+		sql.append(" ASC LIMIT 1 )");
 		return sql.toString();
 	}
 
 	public GetResult<byte[]> getRangedValueForKey(final QualifiedKey qKey, final long timestamp) {
 		checkNotNull(qKey, "Precondition violation - argument 'qKey' must not be NULL!");
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
-		// Note: this operation is far too complex to be executed in a single query. We have to split it up.
-		// first, perform a regular "get" call
-		String sql = this.generateSQLGetValue();
-		long floorTimestamp = -1;
-		long ceilTimestamp = -1;
+		String sql = SQL_GET_RANGED_VALUE.computeIfAbsent(this.tableName, name -> this.generateSQLGetRangedValue());
+		// if we find no entry at or before the timestamp, the range starts at zero
+		long floorTimestamp = 0;
+		// if we find no entry after the timestamp, the range is open-ended
+		long ceilTimestamp = Long.MAX_VALUE;
 		byte[] value = null;
-		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
-			nStmt.setParameter("key", qKey.getKey());
-			nStmt.setParameter("timestamp", timestamp);
-			logTrace("[GTR] " + nStmt.toStringWithResolvedParameters());
-			try (ResultSet resultSet = nStmt.executeQuery()) {
-				if (resultSet.next()) {
-					// we found an entry for the given key at (or before) the given timestamp
-					floorTimestamp = resultSet.getLong(PROPERTY_TIMESTAMP);
-					Blob blob = resultSet.getBlob(PROPERTY_VALUE);
-					byte[] bytes = null;
-					try {
-						bytes = blob.getBytes(1, (int) blob.length());
-					} finally {
-						blob.free();
+		try (PreparedStatement pstmt = this.connection.prepareStatement(sql)) {
+			pstmt.setString(1, qKey.getKey());
+			pstmt.setLong(2, timestamp);
+			pstmt.setString(3, qKey.getKey());
+			pstmt.setLong(4, timestamp);
+			logTrace("[GTR] " + JdbcUtils.resolvePreparedStatement(sql, qKey.getKey(), timestamp, qKey.getKey(),
+					timestamp));
+			try (ResultSet resultSet = pstmt.executeQuery()) {
+				while (resultSet.next()) {
+					long rowTimestamp = resultSet.getLong(PROPERTY_TIMESTAMP);
+					if (rowTimestamp <= timestamp) {
+						// this is the entry for the given key at (or before) the given timestamp
+						floorTimestamp = rowTimestamp;
+						value = resultSet.getBytes(PROPERTY_VALUE);
+					} else {
+						// this is the next entry for the given key after the given timestamp
+						ceilTimestamp = rowTimestamp;
 					}
-					value = bytes;
-				} else {
-					// we have no entry for the given key at (or before) the given timestamp
-					floorTimestamp = 0;
-					value = null;
-				}
-				if (resultSet.next()) {
-					throw new ChronoDBStorageBackendException(
-							"[GTR(" + qKey + ", " + timestamp + ")] has multiple results for the same timestamp!");
-				}
-			}
-		} catch (SQLException e) {
-			throw new ChronoDBStorageBackendException(
-					"Could not perform [GTR(" + qKey + ", " + timestamp + ")]on Matrix Table '" + this.tableName + "'!",
-					e);
-		}
-		// then, run the query for the "ceilTimestamp"
-		sql = this.generateSQLGetRangeValidUntil();
-		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
-			nStmt.setParameter("key", qKey.getKey());
-			nStmt.setParameter("timestamp", timestamp);
-			try (ResultSet resultSet = nStmt.executeQuery()) {
-				if (resultSet.next()) {
-					// we found an entry for the given key after the given timestamp
-					ceilTimestamp = resultSet.getLong(PROPERTY_TIMESTAMP);
-				} else {
-					// we did not find an entry for the given key after the given timestamp
-					ceilTimestamp = Long.MAX_VALUE;
-				}
-				if (resultSet.next()) {
-					throw new ChronoDBStorageBackendException(
-							"[GTR(" + qKey + ", " + timestamp + ")] has multiple results for the same timestamp!");
 				}
 			}
 		} catch (SQLException e) {
@@ -347,6 +324,23 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		return sql.toString();
 	}
 
+	/**
+	 * Generates and returns the SQL <code>DELETE</code> command to remove the row for a given key and timestamp from
+	 * this Matrix Table.
+	 *
+	 * <p>
+	 * This operation generates the SQL syntax for a <b>prepared statement</b> with <b>two parameters</b>:
+	 * <ol>
+	 * <li>The timestamp of the row to remove
+	 * <li>The map key of the row to remove
+	 * </ol>
+	 *
+	 * @return The SQL prepared statement, as specified above.
+	 */
+	private String generateSQLDeleteEntry() {
+		return "DELETE FROM " + this.tableName + " WHERE " + PROPERTY_TIMESTAMP + " = ? AND " + PROPERTY_KEY + " = ?";
+	}
+
 	/**
 	 * Performs an insert operation into this Matrix Table.
 	 *
@@ -365,33 +359,74 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		checkArgument(timestamp >= 0,
 				"Precondition violation - argument 'timestamp' must be >= 0 (value: " + timestamp + ")!");
 		checkNotNull(mapKey, "Precondition violation - argument 'mapKey' must not be NULL!");
-		// first of all, remove the entry if it exists (in case of incremental update, that can happen)
-		String sqlRemove = "DELETE FROM " + this.tableName + " WHERE " + PROPERTY_TIMESTAMP + " = ? AND " + PROPERTY_KEY
-				+ " = ?";
-		try (PreparedStatement pstmt = this.connection.prepareStatement(sqlRemove)) {
-			pstmt.setLong(1, timestamp);
-			pstmt.setString(2, mapKey);
-			pstmt.executeUpdate();
-		} catch (SQLException e) {
-			throw new ChronoDBStorageBackendException("Could not perform INSERT into Matrix Table!", e);
+		UnqualifiedTemporalKey key = new UnqualifiedTemporalKey(mapKey, timestamp);
+		this.insertAll(Collections.singleton(new UnqualifiedTemporalEntry(key, value)), 1);
+	}
+
+	/**
+	 * Performs an insert operation for all of the given entries into this Matrix Table.
+	 *
+	 * <p>
+	 * The entries are sent to the database in JDBC batches of (at most) the given size. Existing rows with the same
+	 * key and timestamp are replaced (in case of incremental update, that can happen). This method does not commit the
+	 * connection; this is the responsibility of the caller.
+	 *
+	 * @param entries
+	 *            The entries to insert. Must not be <code>null</code>, may be empty. Entry values may be
+	 *            <code>null</code>.
+	 * @param batchSize
+	 *            The maximum number of rows per JDBC batch. Must be greater than zero.
+	 *
+	 * @throws ChronoDBStorageBackendException
+	 *             Thrown if an exception occurs in the storage backend during the execution of this operation.
+	 */
+	public void insertAll(final Collection<UnqualifiedTemporalEntry> entries, final int batchSize)
+			throws ChronoDBStorageBackendException {
+		checkNotNull(entries, "Precondition violation - argument 'entries' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		if (entries.isEmpty()) {
+			return;
 		}
+		String sqlRemove = this.generateSQLDeleteEntry();
 		String sql = this.generateSQLInsert();
-		try (PreparedStatement pstmt = this.connection.prepareStatement(sql)) {
-			String primaryKey = UUID.randomUUID().toString();
-			Blob blob = this.connection.createBlob();
-			if (value != null) {
-				blob.setBytes(1, value);
-			} else {
-				blob.setBytes(1, new byte[0]);
+		try (PreparedStatement removeStmt = this.connection.prepareStatement(sqlRemove);
+				PreparedStatement insertStmt = this.connection.prepareStatement(sql)) {
+			// first of all, remove the entries if they exist (in case of incremental update, that can happen)
+			int pending = 0;
+			for (UnqualifiedTemporalEntry entry : entries) {
+				removeStmt.setLong(1, entry.getKey().getTimestamp());
+				removeStmt.setString(2, entry.getKey().getKey());
+				removeStmt.addBatch();
+				pending++;
+				if (pending >= batchSize) {
+					removeStmt.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				removeStmt.executeBatch();
+			}
+			pending = 0;
+			for (UnqualifiedTemporalEntry entry : entries) {
+				String primaryKey = UUID.randomUUID().toString();
+				long timestamp = entry.getKey().getTimestamp();
+				String mapKey = entry.getKey().getKey();
+				byte[] value = entry.getValue();
+				insertStmt.setString(1, primaryKey);
+				insertStmt.setLong(2, timestamp);
+				insertStmt.setString(3, mapKey);
+				insertStmt.setBytes(4, value != null ? value : new byte[0]);
+				logTrace("[PUT] " + JdbcUtils.resolvePreparedStatement(sql, primaryKey, timestamp, mapKey, value));
+				insertStmt.addBatch();
+				pending++;
+				if (pending >= batchSize) {
+					insertStmt.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				insertStmt.executeBatch();
 			}
-			pstmt.setString(1, primaryKey);
-			pstmt.setLong(2, timestamp);
-			pstmt.setString(3, mapKey);
-			pstmt.setBlob(4, blob);
-			logTrace("[PUT] " + JdbcUtils.resolvePreparedStatement(sql, primaryKey, timestamp, mapKey, value));
-			pstmt.executeUpdate();
-			pstmt.close();
-			blob.free();
 		} catch (SQLException e) {
 			throw new ChronoDBStorageBackendException("Could not perform INSERT into Matrix Table!", e);
 		}
@@ -511,6 +546,89 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		}
 	}
 
+	/**
+	 * Generates the SQL <code>SELECT</code> command for a <i>key range</i> query on this Matrix Table.
+	 *
+	 * <p>
+	 * This operation generates the SQL syntax for a <b>prepared statement</b> with <b>two or three parameters</b>:
+	 * <ol>
+	 * <li>The maximum timestamp to consider (inclusive)
+	 * <li>The lower bound of the key range (inclusive)
+	 * <li>The upper bound of the key range (exclusive), only if <code>bounded</code> is <code>true</code>
+	 * </ol>
+	 *
+	 * @param bounded
+	 *            Whether or not the key range has an upper bound.
+	 *
+	 * @return The SQL <code>SELECT</code> command for a key range query.
+	 */
+	private String generateSQLGetEntriesInKeyRange(final boolean bounded) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT ");
+		sql.append(PROPERTY_TIMESTAMP);
+		sql.append(", ");
+		sql.append(PROPERTY_KEY);
+		sql.append(", ");
+		sql.append(PROPERTY_VALUE);
+		sql.append(" FROM ");
+		sql.append(this.tableName);
+		sql.append(" WHERE ");
+		sql.append(PROPERTY_TIMESTAMP);
+		sql.append(" <= ? AND ");
+		sql.append(PROPERTY_KEY);
+		sql.append(" >= ?");
+		if (bounded) {
+			sql.append(" AND ");
+			sql.append(PROPERTY_KEY);
+			sql.append(" < ?");
+		}
+		sql.append(" ORDER BY ");
+		sql.append(PROPERTY_KEY);
+		sql.append(" ASC, ");
+		sql.append(PROPERTY_TIMESTAMP);
+		sql.append(" ASC");
+		return sql.toString();
+	}
+
+	/**
+	 * Queries this Matrix Table to return all entries in the given key range up to the given timestamp.
+	 *
+	 * <p>
+	 * Note that this will include entries which have the same key, but different timestamps. The entries are ordered
+	 * by key first, and by timestamp second.
+	 *
+	 * @param maxTimestamp
+	 *            The maximum timestamp to consider. Larger timestamps will be ignored. Must be >= 0.
+	 * @param fromKey
+	 *            The lower bound of the key range (inclusive). Must not be <code>null</code>.
+	 * @param toKey
+	 *            The upper bound of the key range (exclusive). May be <code>null</code> to indicate an unbounded range.
+	 *
+	 * @return The entries in the given key range. May be empty, but never <code>null</code>.
+	 */
+	public CloseableIterator<UnqualifiedTemporalEntry> getEntriesInKeyRange(final long maxTimestamp,
+			final String fromKey, final String toKey) {
+		checkArgument(maxTimestamp >= 0,
+				"Precondition violation - argument 'maxTimestamp' must be >= 0 (value: " + maxTimestamp + ")!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		String sql = this.generateSQLGetEntriesInKeyRange(toKey != null);
+		try {
+			PreparedStatement pstmt = this.connection.prepareStatement(sql);
+			pstmt.setLong(1, maxTimestamp);
+			pstmt.setString(2, fromKey);
+			if (toKey != null) {
+				pstmt.setString(3, toKey);
+				logTrace("[SCN] " + JdbcUtils.resolvePreparedStatement(sql, maxTimestamp, fromKey, toKey));
+			} else {
+				logTrace("[SCN] " + JdbcUtils.resolvePreparedStatement(sql, maxTimestamp, fromKey));
+			}
+			return new EntriesBeforeIterator(pstmt);
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException(
+					"Could not perform [SCN] on Matrix Table '" + this.tableName + "'!", e);
+		}
+	}
+
 	/**
 	 * Generates the SQL <code>SELECT</code> command for a <i>all entries</i> query on this Matrix Table.
 	 *
@@ -573,6 +691,35 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		return sql.toString();
 	}
 
+	public void deleteAll(final Collection<UnqualifiedTemporalKey> keys, final int batchSize)
+			throws ChronoDBStorageBackendException {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		if (keys.isEmpty()) {
+			return;
+		}
+		String sql = this.generateSQLDeleteEntry();
+		try (PreparedStatement pstmt = this.connection.prepareStatement(sql)) {
+			int pending = 0;
+			for (UnqualifiedTemporalKey key : keys) {
+				pstmt.setLong(1, key.getTimestamp());
+				pstmt.setString(2, key.getKey());
+				pstmt.addBatch();
+				pending++;
+				if (pending >= batchSize) {
+					pstmt.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				pstmt.executeBatch();
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException(
+					"Could not perform delete on Matrix Table '" + this.tableName + "'!", e);
+		}
+	}
+
 	public void deleteWhereTimestampGreaterThan(final long timestamp) {
 		String sql = this.generateSQLDeleteWhereTimestampsGreaterThan();
 		try (PreparedStatement pstmt = this.connection.prepareStatement(sql)) {
@@ -832,13 +979,7 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 			try {
 				long timestamp = this.resultSet.getLong(PROPERTY_TIMESTAMP);
 				String key = this.resultSet.getString(PROPERTY_KEY);
-				Blob valueBlob = this.resultSet.getBlob(PROPERTY_VALUE);
-				byte[] value = null;
-				try {
-					value = valueBlob.getBytes(1, (int) valueBlob.length());
-				} finally {
-					valueBlob.free();
-				}
+				byte[] value = this.resultSet.getBytes(PROPERTY_VALUE);
 				if (value == null || value.length < 1) {
 					value = null;
 				}
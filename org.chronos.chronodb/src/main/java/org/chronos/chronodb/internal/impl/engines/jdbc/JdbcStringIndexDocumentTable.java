@@ -15,7 +15,6 @@ import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
 import org.chronos.chronodb.internal.impl.engines.jdbc.JdbcIndexManagerBackend.TimeSearchMode;
 import org.chronos.chronodb.internal.impl.index.ChronoIndexDocumentImpl;
-import org.chronos.chronodb.internal.impl.jdbc.table.DefaultJdbcTable;
 import org.chronos.chronodb.internal.impl.jdbc.table.IndexDeclaration;
 import org.chronos.chronodb.internal.impl.jdbc.table.TableColumn;
 import org.chronos.chronodb.internal.impl.jdbc.util.JdbcUtils;
@@ -26,7 +25,7 @@ import org.chronos.common.logging.ChronoLogger;
 
 import com.google.common.collect.Sets;
 
-class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
+class JdbcStringIndexDocumentTable extends AbstractJdbcIndexDocumentTable {
 
 	// =================================================================================================================
 	// FACTORY
@@ -173,6 +172,10 @@ class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
 	private static final String NAMED_SQL_DELETE_WHERE_DOCUMENT_ID_EQUALS = "DELETE FROM " + NAME + " WHERE "
 			+ PROPERTY_ID + " = ${documentId}";
 
+	private static final String NAMED_SQL_GET_DOCUMENTS_TERMINATED_AT_OR_BEFORE = "SELECT * FROM " + NAME
+			+ " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND "
+			+ PROPERTY_VALID_TO + " <= ${timestamp}";
+
 	private static final String NAMED_SQL_GET_MATCHING_BRANCH_LOCAL_DOCUMENTS_FOR_IDENTIFIER = "SELECT * FROM " + NAME
 			+ " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND "
 			+ PROPERTY_KEY + " = ${key} AND " + PROPERTY_VALID_FROM + " <= ${timestamp} AND " + PROPERTY_VALID_TO
@@ -205,6 +208,26 @@ class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
 		return INDICES;
 	}
 
+	@Override
+	protected String getInsertStatement() {
+		return SQL_INSERT;
+	}
+
+	@Override
+	protected String getUpdateValidToStatement() {
+		return SQL_UPDATE_VALID_TO;
+	}
+
+	@Override
+	protected int setIndexedValue(final PreparedStatement statement, final int parameterIndex,
+			final Object indexedValue) throws SQLException {
+		String value = (String) indexedValue;
+		statement.setString(parameterIndex, value);
+		// the second value column holds the lower-case value for case-insensitive searches
+		statement.setString(parameterIndex + 1, value.toLowerCase());
+		return parameterIndex + 2;
+	}
+
 	// =================================================================================================================
 	// PUBLIC API
 	// =================================================================================================================
@@ -439,6 +462,24 @@ class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
 		}
 	}
 
+	public Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		String sql = NAMED_SQL_GET_DOCUMENTS_TERMINATED_AT_OR_BEFORE;
+		try (NamedParameterStatement namedStatement = new NamedParameterStatement(this.connection, sql)) {
+			namedStatement.setParameter("branch", branchName);
+			namedStatement.setParameter("keyspace", keyspace);
+			namedStatement.setParameter("timestamp", timestamp);
+			try (ResultSet resultSet = namedStatement.executeQuery()) {
+				return this.convertResultSetToDocuments(resultSet);
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not query Index Documents Table!", e);
+		}
+	}
+
 	public Collection<ChronoIndexDocument> getMatchingBranchLocalDocuments(final ChronoIdentifier chronoIdentifier) {
 		checkNotNull(chronoIdentifier, "Precondition violation - argument 'chronoIdentifier' must not be NULL!");
 		String sql = NAMED_SQL_GET_MATCHING_BRANCH_LOCAL_DOCUMENTS_FOR_IDENTIFIER;
@@ -76,7 +76,8 @@ public class JdbcTkvs extends AbstractTemporalKeyValueStore implements TemporalK
 			JdbcNavigationTable.get(connection).insert(primaryKey, this.getBranchName(), keyspace, matrixTableName,
 					timestamp);
 			DataSource dataSource = this.getOwningDB().getDataSource();
-			TemporalJdbcMatrix matrix = new TemporalJdbcMatrix(keyspace, timestamp, dataSource, matrixTableName);
+			TemporalJdbcMatrix matrix = new TemporalJdbcMatrix(keyspace, timestamp, dataSource, matrixTableName,
+					this.getOwningDB().getConfiguration().getJdbcBatchSize());
 			this.keyspaceToMatrix.put(keyspace, matrix);
 			connection.commit();
 			return matrix;
@@ -182,7 +183,8 @@ public class JdbcTkvs extends AbstractTemporalKeyValueStore implements TemporalK
 				DataSource dataSource = this.getOwningDB().getDataSource();
 				String matrixTableName = metadata.getMatrixTableName();
 				long timestamp = metadata.getCreationTimestamp();
-				TemporalJdbcMatrix matrix = new TemporalJdbcMatrix(keyspace, timestamp, dataSource, matrixTableName);
+				TemporalJdbcMatrix matrix = new TemporalJdbcMatrix(keyspace, timestamp, dataSource, matrixTableName,
+						this.getOwningDB().getConfiguration().getJdbcBatchSize());
 				this.keyspaceToMatrix.put(keyspace, matrix);
 			}
 		} catch (SQLException e) {
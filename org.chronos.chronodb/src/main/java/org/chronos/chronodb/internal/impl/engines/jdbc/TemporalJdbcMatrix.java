@@ -5,9 +5,11 @@ import static com.google.common.base.Preconditions.*;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
@@ -20,11 +22,13 @@ import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatrix;
 import org.chronos.chronodb.internal.impl.jdbc.util.JdbcUtils;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.KeyRangeScanIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
 public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 
@@ -34,16 +38,19 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 
 	private final String tableName;
 	private final DataSource dataSource;
+	private final int batchSize;
 
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
 
 	public TemporalJdbcMatrix(final String keyspace, final long timestamp, final DataSource dataSource,
-			final String tableName) {
+			final String tableName, final int batchSize) {
 		super(keyspace, timestamp);
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
 		this.dataSource = dataSource;
 		this.tableName = tableName;
+		this.batchSize = batchSize;
 		try (Connection connection = this.dataSource.getConnection()) {
 			connection.setAutoCommit(false);
 			boolean tableExists = JdbcUtils.tableExists(connection, this.tableName);
@@ -81,11 +88,12 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		}
 		try (Connection connection = this.dataSource.getConnection()) {
 			connection.setAutoCommit(false);
+			List<UnqualifiedTemporalEntry> entries = Lists.newArrayListWithCapacity(contents.size());
 			for (Entry<String, byte[]> entry : contents.entrySet()) {
-				String key = entry.getKey();
-				byte[] value = entry.getValue();
-				JdbcMatrixTable.get(connection, this.tableName).insert(timestamp, key, value);
+				UnqualifiedTemporalKey key = new UnqualifiedTemporalKey(entry.getKey(), timestamp);
+				entries.add(new UnqualifiedTemporalEntry(key, entry.getValue()));
 			}
+			JdbcMatrixTable.get(connection, this.tableName).insertAll(entries, this.batchSize);
 			connection.commit();
 		} catch (SQLException e) {
 			throw new ChronoDBStorageBackendException("Failed to execute [PUT] operation on backend", e);
@@ -111,13 +119,8 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 			return;
 		}
 		try (Connection connection = this.dataSource.getConnection()) {
-			for (UnqualifiedTemporalEntry entry : entries) {
-				UnqualifiedTemporalKey tk = entry.getKey();
-				String actualKey = tk.getKey();
-				long timestamp = tk.getTimestamp();
-				byte[] value = entry.getValue();
-				JdbcMatrixTable.get(connection, this.tableName).insert(timestamp, actualKey, value);
-			}
+			connection.setAutoCommit(false);
+			JdbcMatrixTable.get(connection, this.tableName).insertAll(entries, this.batchSize);
 			connection.commit();
 		} catch (SQLException e) {
 			throw new ChronoDBStorageBackendException("Failed to execute [INSERT] operation on backend", e);
@@ -127,7 +130,17 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 	@Override
 	public CloseableIterator<UnqualifiedTemporalEntry> allEntriesIterator(final long timestamp) {
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
-		return new AllEntriesIterator(timestamp);
+		return new AllEntriesIterator(table -> table.getEntriesBefore(timestamp));
+	}
+
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(final long timestamp, final String fromKey,
+			final String toKey) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		AllEntriesIterator entries = new AllEntriesIterator(
+				table -> table.getEntriesInKeyRange(timestamp, fromKey, toKey));
+		return new KeyRangeScanIterator(entries, timestamp, fromKey, toKey);
 	}
 
 	@Override
@@ -152,6 +165,21 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public void purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return;
+		}
+		try (Connection connection = this.dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			JdbcMatrixTable.get(connection, this.tableName).deleteAll(keys, this.batchSize);
+			connection.commit();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to execute [PURGE] operation on backend", e);
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
@@ -200,11 +228,12 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		private Connection connection;
 		private final CloseableIterator<UnqualifiedTemporalEntry> entries;
 
-		public AllEntriesIterator(final long maxTimestamp) {
+		public AllEntriesIterator(
+				final Function<JdbcMatrixTable, CloseableIterator<UnqualifiedTemporalEntry>> entriesQuery) {
 			try {
 				String tableName = TemporalJdbcMatrix.this.getTableName();
 				this.connection = TemporalJdbcMatrix.this.dataSource.getConnection();
-				this.entries = JdbcMatrixTable.get(this.connection, tableName).getEntriesBefore(maxTimestamp);
+				this.entries = entriesQuery.apply(JdbcMatrixTable.get(this.connection, tableName));
 			} catch (SQLException e) {
 				throw new ChronoDBStorageBackendException("Failed to access matrix table!", e);
 			}
@@ -4,9 +4,14 @@ import static com.google.common.base.Preconditions.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Pattern;
@@ -15,7 +20,6 @@ import java.util.stream.Collectors;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -29,9 +33,11 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.NumericRangeQuery;
 import org.apache.lucene.search.PhraseQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.exceptions.ChronoDBQuerySyntaxException;
 import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
@@ -43,34 +49,69 @@ import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
 import org.chronos.chronodb.internal.impl.query.TextMatchMode;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
+import org.chronos.common.logging.ChronoLogger;
 
 import com.google.common.collect.Iterables;
 
+/**
+ * A wrapper around a Lucene index on disk which is used to store the secondary index documents of a {@link ChronoDB}.
+ *
+ * <p>
+ * Index writes become visible to searches immediately via a near-real-time {@link SearcherManager}. Durable Lucene
+ * commits (which involve an fsync) are decoupled from the individual writes: they happen when the number of pending
+ * writes exceeds a given threshold, when the flush interval has elapsed, or when the wrapper is closed. While there are
+ * un-flushed writes, a marker file is present in the index directory. If the marker is found upon opening the index,
+ * the previous process terminated before flushing, and the index may be missing changes (see
+ * {@link #isRecoveryRequired()}).
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
 @SuppressWarnings("deprecation")
 public class LuceneWrapper implements AutoCloseable {
 
 	/** A java.util.Regex preceded with this prefix will be evaluated in case-insensitive mode. */
 	private static final String REGEX_CI_CONSTRUCT = "(?i)";
 
+	/** The name of the marker file which exists while there are un-flushed index writes. */
+	private static final String UNFLUSHED_MARKER_FILE_NAME = "chronodb.unflushed";
+
+	private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000L;
+	private static final int DEFAULT_MAX_PENDING_WRITES = 100;
+
 	private final File ioDirectory;
+	private final File unflushedMarkerFile;
 
 	private final Directory directory;
 	private final Analyzer analyzer;
 
 	private final IndexWriter writer;
 
-	private DirectoryReader reader;
-	private IndexSearcher searcher;
+	private final SearcherManager searcherManager;
 	private final QueryParser queryParser;
 
+	private final int maxPendingWrites;
+	private final ScheduledExecutorService flushExecutor;
+	private final boolean recoveryRequired;
+
 	private boolean closed = false;
 
-	private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+	/** Writes acquire the read lock (they may run concurrently), flushes acquire the write lock. */
+	private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+	private final AtomicInteger pendingWrites = new AtomicInteger(0);
 
 	public LuceneWrapper(final File directory) {
+		this(directory, DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_MAX_PENDING_WRITES);
+	}
+
+	public LuceneWrapper(final File directory, final long flushIntervalMillis, final int maxPendingWrites) {
 		checkNotNull(directory, "Precondition violation - argument 'directory' must not be NULL!");
 		checkArgument(directory.isFile() == false,
 				"Precondition violation - argument 'directory' does not refer to a directory (but a file)!");
+		checkArgument(flushIntervalMillis > 0,
+				"Precondition violation - argument 'flushIntervalMillis' must be greater than zero!");
+		checkArgument(maxPendingWrites > 0,
+				"Precondition violation - argument 'maxPendingWrites' must be greater than zero!");
 		this.ioDirectory = directory;
 		this.ioDirectory.mkdirs();
 		this.ioDirectory.mkdir();
@@ -78,19 +119,28 @@ public class LuceneWrapper implements AutoCloseable {
 			throw new IllegalStateException(
 					"Failed to initialize indexing directory '" + directory.getAbsolutePath() + "'!");
 		}
+		this.unflushedMarkerFile = new File(this.ioDirectory, UNFLUSHED_MARKER_FILE_NAME);
+		this.recoveryRequired = this.unflushedMarkerFile.exists();
+		this.maxPendingWrites = maxPendingWrites;
 		try {
 			this.directory = FSDirectory.open(this.ioDirectory.toPath());
 			this.analyzer = new StandardAnalyzer();
 			IndexWriterConfig writerConfig = new IndexWriterConfig(this.analyzer);
 			writerConfig.setOpenMode(OpenMode.CREATE_OR_APPEND);
 			this.writer = new IndexWriter(this.directory, writerConfig);
-			this.reader = DirectoryReader.open(this.writer, true);
-			this.searcher = new IndexSearcher(this.reader);
+			this.searcherManager = new SearcherManager(this.writer, true, null);
 			this.queryParser = new QueryParser(ChronoDBLuceneUtil.DOCUMENT_FIELD_ID, this.analyzer);
 		} catch (IOException e) {
 			throw new ChronoDBStorageBackendException(
 					"Failed to initialize Lucene on directory '" + this.ioDirectory.getAbsolutePath() + "'!", e);
 		}
+		this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ChronoDB Lucene Flush [" + this.ioDirectory.getName() + "]");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.flushExecutor.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
 	}
 
 	// =================================================================================================================
@@ -102,9 +152,17 @@ public class LuceneWrapper implements AutoCloseable {
 		if (this.closed) {
 			return;
 		}
+		// let a running background flush finish; interrupting it could close the underlying file channels
+		this.flushExecutor.shutdown();
 		try {
+			this.flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			this.flush();
+			this.searcherManager.close();
 			this.writer.close();
-			this.reader.close();
 			this.directory.close();
 			this.analyzer.close();
 			// lucene shutdown successful
@@ -118,6 +176,18 @@ public class LuceneWrapper implements AutoCloseable {
 		return this.closed;
 	}
 
+	/**
+	 * Checks if the previous process which worked on this index terminated while there were un-flushed index writes.
+	 *
+	 * <p>
+	 * In this case, the index may be missing the changes of the most recent commits and should be re-built.
+	 *
+	 * @return <code>true</code> if the index may be missing changes, otherwise <code>false</code>.
+	 */
+	public boolean isRecoveryRequired() {
+		return this.recoveryRequired;
+	}
+
 	// =================================================================================================================
 	// GENERIC SEARCH METHODS
 	// =================================================================================================================
@@ -125,30 +195,33 @@ public class LuceneWrapper implements AutoCloseable {
 	public List<Document> search(final Query query) {
 		checkNotNull(query, "Precondition violation - argument 'query' must not be NULL!");
 		this.assertNotClosed();
-		this.rwLock.readLock().lock();
 		try {
-			AllDocumentsCollector collector = new AllDocumentsCollector();
-			this.searcher.search(query, collector);
-			return collector.getDocuments();
+			IndexSearcher searcher = this.searcherManager.acquire();
+			try {
+				AllDocumentsCollector collector = new AllDocumentsCollector();
+				searcher.search(query, collector);
+				return collector.getDocuments();
+			} finally {
+				this.searcherManager.release(searcher);
+			}
 		} catch (IOException e) {
 			throw new ChronoDBStorageBackendException("Failed to read index!", e);
-		} finally {
-			this.rwLock.readLock().unlock();
 		}
 	}
 
 	public List<Document> search(final String searchString) {
 		checkNotNull(searchString, "Precondition violation - argument 'searchString' must not be NULL!");
 		this.assertNotClosed();
-		this.rwLock.readLock().lock();
-		try {
-			Query query = this.queryParser.parse(searchString);
-			return this.search(query);
-		} catch (ParseException e) {
-			throw new ChronoDBQuerySyntaxException("The syntax for the lucene query is invalid!", e);
-		} finally {
-			this.rwLock.readLock().unlock();
+		Query query;
+		// the query parser is not thread-safe
+		synchronized (this.queryParser) {
+			try {
+				query = this.queryParser.parse(searchString);
+			} catch (ParseException e) {
+				throw new ChronoDBQuerySyntaxException("The syntax for the lucene query is invalid!", e);
+			}
 		}
+		return this.search(query);
 	}
 
 	// =================================================================================================================
@@ -248,31 +321,61 @@ public class LuceneWrapper implements AutoCloseable {
 	// =================================================================================================================
 
 	public void performIndexWrite(final NonReturningIndexWriteJob job) {
+		checkNotNull(job, "Precondition violation - argument 'job' must not be NULL!");
+		this.performIndexWrite(writer -> {
+			job.execute(writer);
+			return null;
+		});
+	}
+
+	public <T> T performIndexWrite(final ReturningIndexWriteJob<T> job) {
 		checkNotNull(job, "Precondition violation - argument 'job' must not be NULL!");
 		this.assertNotClosed();
 		try {
-			job.execute(this.writer);
-			this.writer.commit();
+			T result;
+			this.flushLock.readLock().lock();
+			try {
+				if (this.pendingWrites.getAndIncrement() == 0) {
+					// this is the first write since the last flush; if we crash before the next flush,
+					// the index may be missing changes. Leave a marker behind to detect this on startup.
+					this.createUnflushedMarker();
+				}
+				result = job.execute(this.writer);
+			} finally {
+				this.flushLock.readLock().unlock();
+			}
 			// note: we do this in the "write" method, in order to not burden a read-task with
-			// the performance loss.
-			this.refreshIndexReader();
+			// the performance loss. Reopening a near-real-time reader does not require a commit.
+			this.searcherManager.maybeRefreshBlocking();
+			if (this.pendingWrites.get() >= this.maxPendingWrites) {
+				this.flush();
+			}
+			return result;
 		} catch (IOException e) {
 			throw new ChronoDBStorageBackendException("Failed to perform index modification!", e);
 		}
 	}
 
-	public <T> T performIndexWrite(final ReturningIndexWriteJob<T> job) {
-		checkNotNull(job, "Precondition violation - argument 'job' must not be NULL!");
-		this.assertNotClosed();
+	/**
+	 * Durably commits all pending index writes to disk.
+	 *
+	 * <p>
+	 * This method is called automatically when the number of pending writes exceeds the configured threshold, when
+	 * the flush interval has elapsed, and when this wrapper is closed.
+	 */
+	public void flush() {
+		this.flushLock.writeLock().lock();
 		try {
-			T result = job.execute(this.writer);
+			if (this.pendingWrites.get() <= 0) {
+				return;
+			}
 			this.writer.commit();
-			// note: we do this in the "write" method, in order to not burden a read-task with
-			// the performance loss.
-			this.refreshIndexReader();
-			return result;
+			this.pendingWrites.set(0);
+			this.deleteUnflushedMarker();
 		} catch (IOException e) {
-			throw new ChronoDBStorageBackendException("Failed to perform index modification!", e);
+			throw new ChronoDBStorageBackendException("Failed to flush index to disk!", e);
+		} finally {
+			this.flushLock.writeLock().unlock();
 		}
 	}
 
@@ -310,6 +413,21 @@ public class LuceneWrapper implements AutoCloseable {
 		return docs;
 	}
 
+	public List<Document> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp, final String branchName,
+			final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		// 0 <= validTo <= timestamp
+		Query validToQuery = NumericRangeQuery.newLongRange(ChronoDBLuceneUtil.DOCUMENT_FIELD_VALID_TO, 0L, timestamp,
+				true, true);
+		Builder queryBuilder = new Builder();
+		queryBuilder.add(new TermQuery(new Term(ChronoDBLuceneUtil.DOCUMENT_FIELD_BRANCH, branchName)), Occur.MUST);
+		queryBuilder.add(new TermQuery(new Term(ChronoDBLuceneUtil.DOCUMENT_FIELD_KEYSPACE, keyspace)), Occur.MUST);
+		queryBuilder.add(validToQuery, Occur.MUST);
+		return this.search(queryBuilder.build());
+	}
+
 	// =================================================================================================================
 	// INTERNAL UTILITY METHODS
 	// =================================================================================================================
@@ -320,27 +438,28 @@ public class LuceneWrapper implements AutoCloseable {
 		}
 	}
 
-	private void refreshIndexReader() {
+	private void flushInBackground() {
 		try {
-			DirectoryReader newReader = DirectoryReader.openIfChanged(this.reader);
-			if (newReader != null) {
-				this.rwLock.writeLock().lock();
-				try {
-					// a new reader is created, so the directory has changed.
-					// discard the old reader
-					this.searcher = null;
-					this.reader.close();
-					this.reader = newReader;
-					this.searcher = new IndexSearcher(newReader);
-				} finally {
-					this.rwLock.writeLock().unlock();
-				}
+			if (this.isClosed() == false) {
+				this.flush();
 			}
-		} catch (IOException e) {
-			throw new ChronoDBStorageBackendException("Failed to refresh index reader!", e);
+		} catch (Exception e) {
+			// never let an exception escape, it would cancel the periodic flush task
+			ChronoLogger.logError("Failed to flush Lucene index in directory '" + this.ioDirectory.getAbsolutePath()
+					+ "'. Will retry later.", e);
+		}
+	}
+
+	private void createUnflushedMarker() throws IOException {
+		if (this.unflushedMarkerFile.exists() == false) {
+			this.unflushedMarkerFile.createNewFile();
 		}
 	}
 
+	private void deleteUnflushedMarker() throws IOException {
+		Files.deleteIfExists(this.unflushedMarkerFile.toPath());
+	}
+
 	private String preprocessString(final String comparisonValue, final TextMatchMode mode) {
 		switch (mode) {
 		case STRICT:
@@ -19,6 +19,7 @@ import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.exceptions.UnknownIndexException;
 import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
 import org.chronos.chronodb.internal.api.index.ChronoIndexModifications;
 import org.chronos.chronodb.internal.api.index.DocumentAddition;
@@ -27,6 +28,7 @@ import org.chronos.chronodb.internal.api.index.DocumentValidityTermination;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractDocumentBasedIndexManagerBackend;
 import org.chronos.chronodb.internal.impl.mapdb.MapDBTransaction;
+import org.chronos.common.logging.ChronoLogger;
 import org.mapdb.Atomic.Var;
 
 import com.google.common.collect.HashMultimap;
@@ -54,7 +56,13 @@ public class MapDBIndexManagerBackend extends AbstractDocumentBasedIndexManagerB
 
 	public MapDBIndexManagerBackend(final MapDBChronoDB owningDB) {
 		super(owningDB);
-		this.lucene = new LuceneWrapper(this.getIndexDirectory());
+		this.lucene = this.openLucene(this.getIndexDirectory());
+		if (this.lucene.isRecoveryRequired()) {
+			// the index has not been flushed before the last shutdown, it may be missing changes
+			ChronoLogger.logWarning("The secondary index has not been flushed to disk before the last shutdown."
+					+ " All indices have been marked as dirty and need to be re-indexed.");
+			this.markAllIndicesAsDirty();
+		}
 		this.initializeShutdownHook();
 	}
 
@@ -111,7 +119,7 @@ public class MapDBIndexManagerBackend extends AbstractDocumentBasedIndexManagerB
 			throw new ChronoDBStorageBackendException("Could not delete indexing directory!", e);
 		}
 		// set up a new lucene instance
-		this.lucene = new LuceneWrapper(directory);
+		this.lucene = this.openLucene(directory);
 	}
 
 	@Override
@@ -225,6 +233,17 @@ public class MapDBIndexManagerBackend extends AbstractDocumentBasedIndexManagerB
 		return ChronoDBLuceneUtil.convertLuceneDocumentsToChronoDocuments(luceneDocs);
 	}
 
+	@Override
+	protected Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		List<Document> luceneDocs = this.lucene.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName,
+				keyspace);
+		return ChronoDBLuceneUtil.convertLuceneDocumentsToChronoDocuments(luceneDocs);
+	}
+
 	// =================================================================================================================
 	// INDEX QUERYING
 	// =================================================================================================================
@@ -291,6 +310,12 @@ public class MapDBIndexManagerBackend extends AbstractDocumentBasedIndexManagerB
 		return new File(this.getOwningDB().getDirectory(), this.getIndexDirectoryName());
 	}
 
+	private LuceneWrapper openLucene(final File directory) {
+		ChronoDBConfiguration configuration = this.getOwningDB().getConfiguration();
+		return new LuceneWrapper(directory, configuration.getIndexFlushInterval(),
+				configuration.getIndexFlushMaxPendingWrites());
+	}
+
 	private Var<byte[]> getIndexersMapVariable(final MapDBTransaction tx) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
 		return tx.atomicVar(VARIABLE_NAME_INDEXERS + "_" + ChronoDBConstants.MASTER_BRANCH_IDENTIFIER);
@@ -4,14 +4,15 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
+import org.chronos.chronodb.internal.impl.mapdb.MapDBTransaction;
 
-public class MapDBMaintenanceManager implements MaintenanceManager {
+public class MapDBMaintenanceManager extends AbstractMaintenanceManager {
 
-	@SuppressWarnings("unused")
 	private final MapDBChronoDB owningDB;
 
 	public MapDBMaintenanceManager(final MapDBChronoDB owningDB) {
+		super(owningDB);
 		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
 		this.owningDB = owningDB;
 	}
@@ -40,4 +41,15 @@ public class MapDBMaintenanceManager implements MaintenanceManager {
 		throw new UnsupportedOperationException("The MapDB backend does not support rollover operations.");
 	}
 
+	// =================================================================================================================
+	// HISTORY PRUNING
+	// =================================================================================================================
+
+	@Override
+	protected void reclaimDiskSpace(final String branchName, final long timestamp) {
+		try (MapDBTransaction tx = this.owningDB.openTransaction()) {
+			tx.compact();
+		}
+	}
+
 }
@@ -15,6 +15,7 @@ import org.chronos.chronodb.internal.impl.engines.base.WriteAheadLogToken;
 import org.chronos.chronodb.internal.impl.mapdb.MapDBTransaction;
 import org.chronos.chronodb.internal.impl.mapdb.NavigationMap;
 import org.chronos.chronodb.internal.impl.mapdb.TimeMap;
+import org.chronos.common.autolock.AutoLock;
 import org.mapdb.Atomic.Var;
 
 public class MapDBTkvs extends AbstractTemporalKeyValueStore {
@@ -72,6 +73,12 @@ public class MapDBTkvs extends AbstractTemporalKeyValueStore {
 		}
 	}
 
+	@Override
+	protected AutoLock lockForPruning() {
+		// all readers and writers share the same MapDB transaction, so we cannot permit reads while pruning
+		return this.lockBranchExclusive();
+	}
+
 	@Override
 	protected TemporalMapDBMatrix getMatrix(final String keyspace) {
 		return (TemporalMapDBMatrix) this.keyspaceToMatrix.get(keyspace);
@@ -16,6 +16,7 @@ import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatri
 import org.chronos.chronodb.internal.impl.mapdb.MapDBDataMatrixUtil;
 import org.chronos.chronodb.internal.impl.mapdb.MapDBTransaction;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 import org.mapdb.Serializer;
 
@@ -94,6 +95,16 @@ public class TemporalMapDBMatrix extends AbstractTemporalDataMatrix {
 		return MapDBDataMatrixUtil.allEntriesIterator(tx, this.getMapName(), this.getKeyspace(), maxTimestamp);
 	}
 
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(final long timestamp, final String fromKey,
+			final String toKey) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		MapDBTransaction tx = this.openTransaction();
+		// tx remains open; the iterator.close() method closes the transaction.
+		return MapDBDataMatrixUtil.scan(tx, this.getMapName(), this.getKeyspace(), timestamp, fromKey, toKey);
+	}
+
 	@Override
 	public long lastCommitTimestamp(final String key) {
 		try (MapDBTransaction tx = this.openTransaction()) {
@@ -109,6 +120,18 @@ public class TemporalMapDBMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public void purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return;
+		}
+		try (MapDBTransaction tx = this.openTransaction()) {
+			MapDBDataMatrixUtil.purgeEntries(tx, this.mapName, keys);
+			tx.commit();
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
@@ -12,6 +12,7 @@ import org.chronos.chronodb.internal.api.GetResult;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatrix;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
 public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
@@ -106,6 +107,19 @@ public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
 		return TuplDataMatrixUtil.allEntriesIterator(tx, this.indexName, maxTimestamp);
 	}
 
+	@Override
+	public CloseableIterator<UnqualifiedTemporalEntry> scan(final long timestamp, final String fromKey,
+			final String toKey) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		logTrace("[SCN] Scanning keys in keyspace '" + this.getKeyspace() + "' from '" + fromKey + "' to '" + toKey
+				+ "' at " + timestamp);
+		// this transaction is intentionally left open; it will be closed by the closeable iterator returned by this
+		// method.
+		DefaultTuplTransaction tx = this.db.openBogusTransaction();
+		return TuplDataMatrixUtil.scan(tx, this.indexName, timestamp, fromKey, toKey);
+	}
+
 	@Override
 	public long lastCommitTimestamp(final String key) {
 		try (DefaultTuplTransaction tx = this.db.openBogusTransaction()) {
@@ -121,6 +135,18 @@ public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public void purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return;
+		}
+		try (DefaultTuplTransaction tx = this.db.openTransaction()) {
+			TuplDataMatrixUtil.purgeEntries(tx, this.indexName, keys);
+			tx.commit();
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
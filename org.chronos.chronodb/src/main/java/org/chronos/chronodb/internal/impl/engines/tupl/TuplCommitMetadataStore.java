@@ -99,6 +99,17 @@ public class TuplCommitMetadataStore extends AbstractCommitMetadataStore {
 		}
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		try (DefaultTuplTransaction tx = this.openTransaction()) {
+			for (Long commitTimestamp : commitTimestamps) {
+				tx.delete(this.indexName, TuplUtils.encodeLong(commitTimestamp));
+			}
+			tx.commit();
+		}
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
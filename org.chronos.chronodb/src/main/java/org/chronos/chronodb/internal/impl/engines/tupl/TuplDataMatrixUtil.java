@@ -20,6 +20,7 @@ import org.chronos.chronodb.internal.api.GetResult;
 import org.chronos.chronodb.internal.api.Period;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.KeyRangeScanIterator;
 import org.chronos.chronodb.internal.impl.temporal.InverseUnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
@@ -402,6 +403,19 @@ public class TuplDataMatrixUtil {
 		}
 	}
 
+	public static void purgeEntries(final TuplTransaction tx, final String indexName,
+			final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		String inverseIndexName = indexName + INVERSE_MATRIX_SUFFIX;
+		for (UnqualifiedTemporalKey key : keys) {
+			tx.delete(indexName, key.toSerializableFormat());
+			tx.delete(inverseIndexName,
+					InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey()).toSerializableFormat());
+		}
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final TuplTransaction tx, final String indexName,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
@@ -448,7 +462,15 @@ public class TuplDataMatrixUtil {
 
 	public static CloseableIterator<UnqualifiedTemporalEntry> allEntriesIterator(final TuplTransaction tx,
 			final String indexName, final long maxTimestamp) {
-		return new AllEntriesIterator(tx, indexName, maxTimestamp);
+		return new AllEntriesIterator(tx, indexName, maxTimestamp, null, null);
+	}
+
+	public static CloseableIterator<UnqualifiedTemporalEntry> scan(final TuplTransaction tx, final String indexName,
+			final long timestamp, final String fromKey, final String toKey) {
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		String upperBound = KeyRangeScanIterator.getSerialFormUpperBound(toKey);
+		AllEntriesIterator entries = new AllEntriesIterator(tx, indexName, timestamp, fromKey, upperBound);
+		return new KeyRangeScanIterator(entries, timestamp, fromKey, toKey);
 	}
 
 	// =====================================================================================================================
@@ -612,19 +634,45 @@ public class TuplDataMatrixUtil {
 
 		private final TuplTransaction tx;
 		private final long maxTimestamp;
+		private final byte[] upperBound;
 		private final Cursor cursor;
 
-		private AllEntriesIterator(final TuplTransaction tx, final String indexName, final long maxTimestamp) {
+		/**
+		 * Creates a new iterator.
+		 *
+		 * @param tx
+		 *            The transaction to operate on. Will be closed when the iterator is closed.
+		 * @param indexName
+		 *            The name of the matrix index to iterate over.
+		 * @param maxTimestamp
+		 *            The maximum timestamp of the entries to return (inclusive).
+		 * @param lowerBound
+		 *            The lower bound for the serialized keys (inclusive). May be <code>null</code> to start at the
+		 *            first entry.
+		 * @param upperBound
+		 *            The upper bound for the serialized keys (exclusive). May be <code>null</code> to iterate until
+		 *            the last entry.
+		 */
+		private AllEntriesIterator(final TuplTransaction tx, final String indexName, final long maxTimestamp,
+				final String lowerBound, final String upperBound) {
 			checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
 			checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
 			checkArgument(maxTimestamp >= 0, "Precondition violation - argument 'maxTimestamp' must not be negative!");
 			this.tx = tx;
 			this.maxTimestamp = maxTimestamp;
+			this.upperBound = upperBound == null ? null : TuplUtils.encodeString(upperBound);
 			this.cursor = tx.newCursorOn(indexName);
 			try {
 				this.cursor.autoload(false);
-				// start at the first entry
-				this.cursor.first();
+				if (lowerBound == null) {
+					// start at the first entry
+					this.cursor.first();
+				} else {
+					this.cursor.findGe(TuplUtils.encodeString(lowerBound));
+				}
+				if (this.isBeyondUpperBound()) {
+					this.cursor.reset();
+				}
 				// check if the first entry has already a timestamp larger than the maximum
 				// (note: this index is FIRST ordered by user key and THEN by timestamp)
 				byte[] key = this.cursor.key();
@@ -680,6 +728,11 @@ public class TuplDataMatrixUtil {
 						// end of iteration
 						return;
 					}
+					if (this.isBeyondUpperBound()) {
+						// end of iteration
+						this.cursor.reset();
+						return;
+					}
 					// deserialize the key to check the timestamp on it
 					String keyString = TuplUtils.decodeString(key);
 					UnqualifiedTemporalKey tKey = UnqualifiedTemporalKey.parseSerializableFormat(keyString);
@@ -692,6 +745,11 @@ public class TuplDataMatrixUtil {
 				throw new ChronosIOException("Failed to stream entries! See root cause for details.", ioe);
 			}
 		}
+
+		private boolean isBeyondUpperBound() {
+			return this.upperBound != null && this.cursor.key() != null
+					&& this.cursor.compareKeyTo(this.upperBound) >= 0;
+		}
 	}
 
 }
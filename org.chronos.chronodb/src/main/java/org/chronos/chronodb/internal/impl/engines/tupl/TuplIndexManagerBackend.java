@@ -19,6 +19,7 @@ import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.exceptions.UnknownIndexException;
 import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
 import org.chronos.chronodb.internal.api.index.ChronoIndexModifications;
 import org.chronos.chronodb.internal.api.index.DocumentAddition;
@@ -28,6 +29,7 @@ import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractDocumentBasedIndexManagerBackend;
 import org.chronos.chronodb.internal.impl.engines.mapdb.ChronoDBLuceneUtil;
 import org.chronos.chronodb.internal.impl.engines.mapdb.LuceneWrapper;
+import org.chronos.common.logging.ChronoLogger;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
@@ -58,7 +60,13 @@ public class TuplIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 
 	protected TuplIndexManagerBackend(final TuplChronoDB owningDB) {
 		super(owningDB);
-		this.lucene = new LuceneWrapper(this.getIndexDirectory());
+		this.lucene = this.openLucene(this.getIndexDirectory());
+		if (this.lucene.isRecoveryRequired()) {
+			// the index has not been flushed before the last shutdown, it may be missing changes
+			ChronoLogger.logWarning("The secondary index has not been flushed to disk before the last shutdown."
+					+ " All indices have been marked as dirty and need to be re-indexed.");
+			this.markAllIndicesAsDirty();
+		}
 		this.initializeShutdownHook();
 	}
 
@@ -113,7 +121,7 @@ public class TuplIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 			throw new ChronoDBStorageBackendException("Could not delete indexing directory!", e);
 		}
 		// set up a new lucene instance
-		this.lucene = new LuceneWrapper(directory);
+		this.lucene = this.openLucene(directory);
 	}
 
 	@Override
@@ -196,6 +204,12 @@ public class TuplIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		});
 	}
 
+	@Override
+	public boolean isQueryingDuringModificationSupported() {
+		// the Lucene index provides near-real-time readers, and all other data is written in Tupl transactions
+		return true;
+	}
+
 	// @Override
 	// public IndexerKeyspaceState getLatestIndexDocumentsFor(final String branch, final String keyspace) {
 	// checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -227,6 +241,17 @@ public class TuplIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		return ChronoDBLuceneUtil.convertLuceneDocumentsToChronoDocuments(luceneDocs);
 	}
 
+	@Override
+	protected Set<ChronoIndexDocument> getDocumentsTerminatedAtOrBeforeTimestamp(final long timestamp,
+			final String branchName, final String keyspace) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		List<Document> luceneDocs = this.lucene.getDocumentsTerminatedAtOrBeforeTimestamp(timestamp, branchName,
+				keyspace);
+		return ChronoDBLuceneUtil.convertLuceneDocumentsToChronoDocuments(luceneDocs);
+	}
+
 	// =================================================================================================================
 	// INDEX QUERYING
 	// =================================================================================================================
@@ -297,6 +322,12 @@ public class TuplIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		return new File(this.getOwningDB().getDirectory(), this.getIndexDirectoryName());
 	}
 
+	private LuceneWrapper openLucene(final File directory) {
+		ChronoDBConfiguration configuration = this.getOwningDB().getConfiguration();
+		return new LuceneWrapper(directory, configuration.getIndexFlushInterval(),
+				configuration.getIndexFlushMaxPendingWrites());
+	}
+
 	private byte[] getIndexersSerialForm(final DefaultTuplTransaction tx) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
 		String indexName = TuplChronoDB.MANAGEMENT_INDEX_NAME;
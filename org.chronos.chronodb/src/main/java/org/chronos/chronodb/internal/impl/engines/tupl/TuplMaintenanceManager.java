@@ -2,17 +2,18 @@ package org.chronos.chronodb.internal.impl.engines.tupl;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.io.IOException;
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-public class TuplMaintenanceManager implements MaintenanceManager {
+public class TuplMaintenanceManager extends AbstractMaintenanceManager {
 
 	// =====================================================================================================================
 	// FIELDS
 	// =====================================================================================================================
 
-	@SuppressWarnings("unused")
 	private final TuplChronoDB owningDB;
 
 	// =====================================================================================================================
@@ -20,6 +21,7 @@ public class TuplMaintenanceManager implements MaintenanceManager {
 	// =====================================================================================================================
 
 	public TuplMaintenanceManager(final TuplChronoDB tuplChronoDB) {
+		super(tuplChronoDB);
 		checkNotNull(tuplChronoDB, "Precondition violation - argument 'tuplChronoDB' must not be NULL!");
 		this.owningDB = tuplChronoDB;
 	}
@@ -48,4 +50,17 @@ public class TuplMaintenanceManager implements MaintenanceManager {
 		throw new UnsupportedOperationException("Tupl backend does not support rollover!");
 	}
 
+	// =====================================================================================================================
+	// INTERNAL METHODS
+	// =====================================================================================================================
+
+	@Override
+	protected void reclaimDiskSpace(final String branchName, final long timestamp) {
+		try (DefaultTuplTransaction tx = this.owningDB.openBogusTransaction()) {
+			tx.getDB().compactFile(null, TuplUtils.COMPACTION_TARGET);
+		} catch (IOException e) {
+			throw new ChronoDBStorageBackendException("Failed to compact the Tupl database file!", e);
+		}
+	}
+
 }
@@ -37,6 +37,9 @@ public class TuplUtils {
 	 */
 	public static final int BATCH_INSERT_THRESHOLD = 25_000;
 
+	/** The desired utilization of a database file after compaction, as required by {@link Database#compactFile}. */
+	public static final double COMPACTION_TARGET = 0.9;
+
 	// =====================================================================================================================
 	// PUBLIC API
 	// =====================================================================================================================
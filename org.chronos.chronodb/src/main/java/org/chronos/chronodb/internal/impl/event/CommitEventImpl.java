@@ -0,0 +1,93 @@
+package org.chronos.chronodb.internal.impl.event;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.chronos.chronodb.api.event.CommitEvent;
+
+import com.google.common.collect.Maps;
+
+public class CommitEventImpl implements CommitEvent {
+
+	private final String branchName;
+	private final long timestamp;
+	private final Object commitMetadata;
+	private final Map<String, Map<String, byte[]>> keyspaceToChanges;
+
+	public CommitEventImpl(final String branchName, final long timestamp, final Object commitMetadata,
+			final Map<String, Map<String, byte[]>> keyspaceToChanges) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(keyspaceToChanges, "Precondition violation - argument 'keyspaceToChanges' must not be NULL!");
+		this.branchName = branchName;
+		this.timestamp = timestamp;
+		this.commitMetadata = commitMetadata;
+		this.keyspaceToChanges = Collections.unmodifiableMap(keyspaceToChanges);
+	}
+
+	@Override
+	public String getBranchName() {
+		return this.branchName;
+	}
+
+	@Override
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	@Override
+	public Object getCommitMetadata() {
+		return this.commitMetadata;
+	}
+
+	@Override
+	public Set<String> getKeyspaces() {
+		return this.keyspaceToChanges.keySet();
+	}
+
+	@Override
+	public Map<String, byte[]> getChanges(final String keyspace) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		Map<String, byte[]> changes = this.keyspaceToChanges.get(keyspace);
+		if (changes == null) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(changes);
+	}
+
+	/**
+	 * Creates a copy of this event which only contains the changes in the given keyspaces.
+	 *
+	 * @param keyspaces
+	 *            The keyspaces to retain. Must not be <code>null</code>. If empty, all keyspaces are retained.
+	 *
+	 * @return The restricted event, or <code>null</code> if this event contains no changes in any of the given
+	 *         keyspaces.
+	 */
+	public CommitEventImpl restrictTo(final Set<String> keyspaces) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		if (keyspaces.isEmpty()) {
+			return this.keyspaceToChanges.isEmpty() ? null : this;
+		}
+		Map<String, Map<String, byte[]>> retainedChanges = Maps.newHashMap();
+		for (Entry<String, Map<String, byte[]>> entry : this.keyspaceToChanges.entrySet()) {
+			if (keyspaces.contains(entry.getKey()) && entry.getValue().isEmpty() == false) {
+				retainedChanges.put(entry.getKey(), entry.getValue());
+			}
+		}
+		if (retainedChanges.isEmpty()) {
+			return null;
+		}
+		return new CommitEventImpl(this.branchName, this.timestamp, this.commitMetadata, retainedChanges);
+	}
+
+	@Override
+	public String toString() {
+		return "CommitEvent[" + this.branchName + "@" + this.timestamp + ", keyspaces: " + this.getKeyspaces() + "]";
+	}
+
+}
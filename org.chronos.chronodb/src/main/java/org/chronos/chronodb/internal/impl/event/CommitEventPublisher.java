@@ -0,0 +1,219 @@
+package org.chronos.chronodb.internal.impl.event;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.event.CommitSubscriber;
+import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.common.logging.ChronoLogger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Manages the {@link CommitSubscriptionImpl commit subscriptions} of a single ChronoDB instance.
+ *
+ * <p>
+ * The temporal key value stores {@linkplain #publish(CommitEventImpl) publish} an event for every successful commit.
+ * Subscriptions which are in catch-up mode use this class to load past commits from the commit log.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class CommitEventPublisher {
+
+	/** The maximum time to wait for pending deliveries when the database is closed. */
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	private final ChronoDBInternal owningDB;
+	private final List<CommitSubscriptionImpl> subscriptions = new CopyOnWriteArrayList<>();
+	private final ExecutorService executor;
+
+	public CommitEventPublisher(final ChronoDBInternal owningDB) {
+		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
+		this.owningDB = owningDB;
+		this.executor = Executors.newCachedThreadPool(
+				new ThreadFactoryBuilder().setNameFormat("ChronoDB-CommitEvents-%d").setDaemon(true).build());
+	}
+
+	// =================================================================================================================
+	// SUBSCRIPTION MANAGEMENT
+	// =================================================================================================================
+
+	public void subscribe(final CommitSubscriber subscriber, final String branchName, final Set<String> keyspaces,
+			final long resumeAfterTimestamp, final int bufferSize) {
+		checkNotNull(subscriber, "Precondition violation - argument 'subscriber' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(bufferSize > 0, "Precondition violation - argument 'bufferSize' must be positive!");
+		long lastKnownTimestamp = resumeAfterTimestamp;
+		if (lastKnownTimestamp < 0) {
+			// only commits after "now" are of interest. Note that we determine "now" BEFORE registering the
+			// subscription; any commit which happens in between is picked up from the commit log by the
+			// initial catch-up of the subscription.
+			lastKnownTimestamp = this.getTKVS(branchName).getNow();
+		}
+		CommitSubscriptionImpl subscription = new CommitSubscriptionImpl(this, subscriber, branchName, keyspaces,
+				bufferSize, this.executor, lastKnownTimestamp);
+		this.subscriptions.add(subscription);
+		subscriber.onSubscribe(subscription);
+	}
+
+	public void unsubscribe(final CommitSubscriptionImpl subscription) {
+		checkNotNull(subscription, "Precondition violation - argument 'subscription' must not be NULL!");
+		this.subscriptions.remove(subscription);
+	}
+
+	public boolean hasSubscribers(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		for (CommitSubscriptionImpl subscription : this.subscriptions) {
+			if (subscription.getBranchName().equals(branchName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Completes all subscriptions and waits (for a limited amount of time) until their pending deliveries are done.
+	 *
+	 * <p>
+	 * This method must be called before the backend of the database is closed, and it must not be called while
+	 * holding the database lock, as the pending deliveries may need to access the commit log.
+	 */
+	public void close() {
+		for (CommitSubscriptionImpl subscription : this.subscriptions) {
+			subscription.complete();
+		}
+		this.subscriptions.clear();
+		// let the pending deliveries finish, but do not accept new ones. We need to wait for them, because
+		// a delivery which is catching up accesses the commit log, which becomes unavailable once the
+		// backend is closed.
+		this.executor.shutdown();
+		try {
+			if (this.executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS) == false) {
+				ChronoLogger.logWarning("Commit event deliveries did not terminate within " + SHUTDOWN_TIMEOUT_SECONDS
+						+ " seconds after closing the database.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// =================================================================================================================
+	// EVENT PUBLICATION
+	// =================================================================================================================
+
+	/**
+	 * Publishes the given event to all subscriptions on its branch.
+	 *
+	 * <p>
+	 * This method is intended to be called by the committing thread, while it still holds the commit lock. This
+	 * guarantees that the events of a branch are published in ascending timestamp order.
+	 *
+	 * @param event
+	 *            The event to publish. Must not be <code>null</code>. Must contain the changes in all keyspaces.
+	 */
+	public void publish(final CommitEventImpl event) {
+		checkNotNull(event, "Precondition violation - argument 'event' must not be NULL!");
+		for (CommitSubscriptionImpl subscription : this.subscriptions) {
+			if (subscription.getBranchName().equals(event.getBranchName())) {
+				subscription.offer(event);
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// COMMIT LOG ACCESS
+	// =================================================================================================================
+
+	/**
+	 * Loads the commit event for the given commit from the commit log.
+	 *
+	 * @param branchName
+	 *            The name of the branch on which the commit occurred. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp of the commit. Must not be negative.
+	 * @param commitMetadata
+	 *            The metadata of the commit. May be <code>null</code>.
+	 *
+	 * @return The commit event, containing the changes in all keyspaces. Never <code>null</code>.
+	 */
+	public CommitEventImpl loadCommitEvent(final String branchName, final long timestamp,
+			final Object commitMetadata) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		TemporalKeyValueStore tkvs = this.getTKVS(branchName);
+		Map<String, Map<String, byte[]>> keyspaceToChanges = Maps.newHashMap();
+		for (String keyspace : tkvs.getKeyspaces(timestamp)) {
+			Set<String> changedKeys = tkvs.getModifiedKeys(keyspace, timestamp, timestamp);
+			if (changedKeys.isEmpty()) {
+				continue;
+			}
+			Map<String, byte[]> changes = Maps.newHashMap();
+			for (String key : changedKeys) {
+				changes.put(key, tkvs.getSerialForm(keyspace, key, timestamp));
+			}
+			keyspaceToChanges.put(keyspace, changes);
+		}
+		return new CommitEventImpl(branchName, timestamp, commitMetadata, keyspaceToChanges);
+	}
+
+	/**
+	 * Loads the commit events which happened (strictly) after the given timestamp from the commit log.
+	 *
+	 * @param branchName
+	 *            The name of the branch to load the commits for. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp after which to look for commits (exclusive). Must not be negative.
+	 * @param limit
+	 *            The maximum number of events to load. Must be positive.
+	 *
+	 * @return The list of commit events, in ascending timestamp order. May be empty, but never <code>null</code>.
+	 */
+	public List<CommitEventImpl> loadCommitEventsAfter(final String branchName, final long timestamp,
+			final int limit) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkArgument(limit > 0, "Precondition violation - argument 'limit' must be positive!");
+		TemporalKeyValueStore tkvs = this.getTKVS(branchName);
+		long now = tkvs.getNow();
+		if (timestamp >= now) {
+			return Collections.emptyList();
+		}
+		// note: the commit metadata store returns the commits in descending order
+		List<Entry<Long, Object>> commits = Lists
+				.reverse(tkvs.getCommitMetadataStore().getCommitMetadataAfter(timestamp, limit));
+		List<CommitEventImpl> events = Lists.newArrayList();
+		for (Entry<Long, Object> commit : commits) {
+			if (commit.getKey() > now) {
+				// this commit is still in progress
+				break;
+			}
+			events.add(this.loadCommitEvent(branchName, commit.getKey(), commit.getValue()));
+		}
+		return events;
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private TemporalKeyValueStore getTKVS(final String branchName) {
+		BranchInternal branch = (BranchInternal) this.owningDB.getBranchManager().getBranch(branchName);
+		checkArgument(branch != null, "Precondition violation - there is no branch named '" + branchName + "'!");
+		return branch.getTemporalKeyValueStore();
+	}
+
+}
@@ -0,0 +1,309 @@
+package org.chronos.chronodb.internal.impl.event;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.chronos.chronodb.api.event.CommitEvent;
+import org.chronos.chronodb.api.event.CommitSubscriber;
+import org.chronos.chronodb.api.event.CommitSubscription;
+import org.chronos.common.logging.ChronoLogger;
+
+/**
+ * The default implementation of {@link CommitSubscription}.
+ *
+ * <p>
+ * Each subscription operates in one of two modes:
+ * <ul>
+ * <li><b>Live mode:</b> commit events are {@linkplain #offer(CommitEventImpl) offered} by the committing thread and
+ * placed in the bounded buffer.
+ * <li><b>Catch-up mode:</b> offered events are ignored; instead, the events are loaded from the commit log, in batches
+ * which fit into the free space of the buffer. Every subscription starts in this mode (which replays the commits after
+ * the timestamp to resume from, if any), and re-enters it when the buffer runs full in live mode. It is left as soon as
+ * the commit log contains no more commits after the last buffered one.
+ * </ul>
+ *
+ * <p>
+ * The delivery to the subscriber happens on the given executor. At most one delivery loop is running at any point in
+ * time, which guarantees that the subscriber is never invoked concurrently.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class CommitSubscriptionImpl implements CommitSubscription {
+
+	private final CommitEventPublisher publisher;
+	private final CommitSubscriber subscriber;
+	private final String branchName;
+	private final Set<String> keyspaces;
+	private final int bufferSize;
+	private final Executor executor;
+
+	private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+	// all of the following fields are guarded by 'this'
+	private final Deque<CommitEvent> buffer;
+	private long lastEnqueuedTimestamp;
+	private boolean catchingUp;
+	private boolean offeredDuringCatchUp;
+	private long demand = 0;
+	private boolean completionRequested = false;
+	private Throwable error = null;
+
+	private volatile boolean cancelled = false;
+
+	public CommitSubscriptionImpl(final CommitEventPublisher publisher, final CommitSubscriber subscriber,
+			final String branchName, final Set<String> keyspaces, final int bufferSize, final Executor executor,
+			final long lastKnownTimestamp) {
+		checkNotNull(publisher, "Precondition violation - argument 'publisher' must not be NULL!");
+		checkNotNull(subscriber, "Precondition violation - argument 'subscriber' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(bufferSize > 0, "Precondition violation - argument 'bufferSize' must be positive!");
+		checkNotNull(executor, "Precondition violation - argument 'executor' must not be NULL!");
+		checkArgument(lastKnownTimestamp >= 0,
+				"Precondition violation - argument 'lastKnownTimestamp' must not be negative!");
+		this.publisher = publisher;
+		this.subscriber = subscriber;
+		this.branchName = branchName;
+		this.keyspaces = keyspaces;
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+		this.buffer = new ArrayDeque<>(bufferSize);
+		this.lastEnqueuedTimestamp = lastKnownTimestamp;
+		// we always start by catching up with the commit log, starting at the last known timestamp
+		this.catchingUp = true;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public void request(final long n) {
+		if (n <= 0) {
+			synchronized (this) {
+				this.error = new IllegalArgumentException(
+						"Precondition violation - argument 'n' must be positive (value: " + n + ")!");
+			}
+		} else {
+			synchronized (this) {
+				this.demand += n;
+				if (this.demand < 0) {
+					// overflow; treat as unbounded demand
+					this.demand = Long.MAX_VALUE;
+				}
+			}
+		}
+		this.scheduleDelivery();
+	}
+
+	@Override
+	public void cancel() {
+		if (this.cancelled) {
+			return;
+		}
+		this.cancelled = true;
+		this.publisher.unsubscribe(this);
+		synchronized (this) {
+			this.buffer.clear();
+		}
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	// =================================================================================================================
+	// INTERNAL API
+	// =================================================================================================================
+
+	public String getBranchName() {
+		return this.branchName;
+	}
+
+	/**
+	 * Offers a freshly committed event to this subscription.
+	 *
+	 * <p>
+	 * This method never blocks for a considerable amount of time; it is safe to call it while holding the commit lock.
+	 *
+	 * @param event
+	 *            The event to offer. Must not be <code>null</code>. Contains the changes in all keyspaces.
+	 */
+	public void offer(final CommitEventImpl event) {
+		checkNotNull(event, "Precondition violation - argument 'event' must not be NULL!");
+		synchronized (this) {
+			if (this.cancelled || this.completionRequested) {
+				return;
+			}
+			if (this.catchingUp) {
+				// the event will be loaded from the commit log later on
+				this.offeredDuringCatchUp = true;
+				return;
+			}
+			if (event.getTimestamp() <= this.lastEnqueuedTimestamp) {
+				// we already have this event
+				return;
+			}
+			if (this.buffer.size() >= this.bufferSize) {
+				// buffer overflow; stop buffering and replay the remaining events from the commit log instead
+				this.catchingUp = true;
+				this.offeredDuringCatchUp = true;
+				return;
+			}
+			this.enqueue(event);
+		}
+		this.scheduleDelivery();
+	}
+
+	/**
+	 * Requests the termination of this subscription.
+	 *
+	 * <p>
+	 * Events which are already buffered will still be delivered (as far as they have been requested), then the
+	 * subscriber is {@linkplain CommitSubscriber#onComplete() notified}.
+	 */
+	public void complete() {
+		synchronized (this) {
+			this.completionRequested = true;
+		}
+		this.scheduleDelivery();
+	}
+
+	// =================================================================================================================
+	// DELIVERY
+	// =================================================================================================================
+
+	private void enqueue(final CommitEventImpl event) {
+		// note: this method must only be called while holding the monitor of 'this'
+		this.lastEnqueuedTimestamp = event.getTimestamp();
+		CommitEventImpl restrictedEvent = event.restrictTo(this.keyspaces);
+		if (restrictedEvent != null) {
+			this.buffer.addLast(restrictedEvent);
+		}
+	}
+
+	private void scheduleDelivery() {
+		if (this.workInProgress.getAndIncrement() != 0) {
+			// a delivery loop is already running; it will notice the additional work
+			return;
+		}
+		try {
+			this.executor.execute(this::deliver);
+		} catch (RejectedExecutionException e) {
+			// the executor has been shut down, i.e. the database is closed
+			this.workInProgress.set(0);
+			this.cancelled = true;
+		}
+	}
+
+	private void deliver() {
+		int missed = 1;
+		do {
+			while (this.cancelled == false) {
+				CommitEvent event = null;
+				Throwable failure = null;
+				boolean terminate = false;
+				synchronized (this) {
+					if (this.error != null) {
+						failure = this.error;
+					} else if (this.demand > 0 && this.buffer.isEmpty() == false) {
+						event = this.buffer.pollFirst();
+						this.demand--;
+					} else if (this.completionRequested && (this.buffer.isEmpty() || this.demand <= 0)) {
+						terminate = true;
+					}
+				}
+				if (failure != null) {
+					this.cancel();
+					this.subscriber.onError(failure);
+					break;
+				}
+				if (terminate) {
+					this.cancel();
+					this.subscriber.onComplete();
+					break;
+				}
+				if (event == null) {
+					// nothing to deliver right now; see if we can fill up our buffer from the commit log
+					if (this.catchUp() == false) {
+						break;
+					}
+					continue;
+				}
+				try {
+					this.subscriber.onNext(event);
+				} catch (Throwable t) {
+					ChronoLogger.logError("Commit subscriber threw an exception in 'onNext'. Cancelling subscription.",
+							t);
+					this.cancel();
+					this.subscriber.onError(t);
+					break;
+				}
+			}
+			missed = this.workInProgress.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	/**
+	 * Loads the next batch of events from the commit log, if this subscription is in catch-up mode.
+	 *
+	 * @return <code>true</code> if the state of this subscription changed such that the delivery loop should continue,
+	 *         otherwise <code>false</code>.
+	 */
+	private boolean catchUp() {
+		long fromTimestamp;
+		int freeSpace;
+		synchronized (this) {
+			if (this.catchingUp == false || this.completionRequested) {
+				return false;
+			}
+			freeSpace = this.bufferSize - this.buffer.size();
+			if (freeSpace <= 0) {
+				return false;
+			}
+			fromTimestamp = this.lastEnqueuedTimestamp;
+			this.offeredDuringCatchUp = false;
+		}
+		// note: we must not hold our monitor while accessing the commit log, as committing threads
+		// may want to offer events to us while holding locks that the commit log access requires.
+		List<CommitEventImpl> events;
+		try {
+			events = this.publisher.loadCommitEventsAfter(this.branchName, fromTimestamp, freeSpace);
+		} catch (Throwable t) {
+			synchronized (this) {
+				if (this.completionRequested) {
+					// the database has been closed in the meantime; we complete instead of reporting the failure
+					return true;
+				}
+				this.error = t;
+			}
+			return true;
+		}
+		synchronized (this) {
+			if (events.isEmpty()) {
+				if (this.offeredDuringCatchUp == false) {
+					// we are up-to-date, from now on we can rely on offered events
+					this.catchingUp = false;
+					return false;
+				}
+				// a commit happened while we were loading; try again
+				return true;
+			}
+			for (CommitEventImpl event : events) {
+				if (event.getTimestamp() > this.lastEnqueuedTimestamp) {
+					this.enqueue(event);
+				}
+			}
+			return true;
+		}
+	}
+
+}
@@ -203,6 +203,21 @@ public abstract class AbstractBackendDelegatingIndexManager<C extends ChronoDBIn
 		}
 	}
 
+	// =====================================================================================================================
+	// PRUNING METHODS
+	// =====================================================================================================================
+
+	@Override
+	public void pruneHistory(final Branch branch, final String keyspace, final long timestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		try (AutoLock lock = this.getOwningDB().lockNonExclusive()) {
+			this.backend.pruneHistory(branch, keyspace, timestamp);
+			this.clearQueryCache();
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
@@ -30,6 +30,7 @@ import org.chronos.chronodb.internal.impl.index.diff.IndexValueDiff;
 import org.chronos.chronodb.internal.impl.index.diff.IndexingUtils;
 import org.chronos.common.autolock.AutoLock;
 
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 
@@ -51,9 +52,21 @@ public class DocumentBasedIndexManager
 	@Override
 	public void reindex(final String indexName) {
 		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
-		checkArgument(this.getIndexNames().contains(indexName),
-				"Precondition violation - argument 'indexName' does not refer to a known index!");
-		this.reindexAll();
+		try (AutoLock lock = this.lockForReindexing()) {
+			checkArgument(this.getIndexNames().contains(indexName),
+					"Precondition violation - argument 'indexName' does not refer to a known index!");
+			// rebuild only the contents of the given index; all other indices remain untouched
+			this.getIndexManagerBackend().deleteIndexContents(indexName);
+			SetMultimap<String, Indexer<?>> indexers = HashMultimap.create();
+			indexers.putAll(indexName, this.indexNameToIndexers.get(indexName));
+			Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue = this.loadAllEntriesWithPreviousValues();
+			if (identifierToValue.isEmpty() == false) {
+				new IndexingProcess(indexers).index(identifierToValue);
+			}
+			// clear the query cache
+			this.clearQueryCache();
+			this.setIndexClean(indexName);
+		}
 	}
 
 	@Override
@@ -66,31 +79,7 @@ public class DocumentBasedIndexManager
 			// first, delete whatever is in the index
 			this.getIndexManagerBackend().deleteAllIndexContents();
 			// then, iterate over the contents of the database
-			BranchManager branchManager = this.getOwningDB().getBranchManager();
-			Set<Branch> branches = branchManager.getBranches();
-			Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue = Maps.newHashMap();
-			SerializationManager serializationManager = this.getOwningDB().getSerializationManager();
-			// TODO PERFORMANCE: it's dangerous to simply load all entries; they might not fit into RAM!
-			for (Branch branch : branches) {
-				TemporalKeyValueStore tkvs = ((BranchInternal) branch).getTemporalKeyValueStore();
-				long now = tkvs.getNow();
-				try (CloseableIterator<ChronoDBEntry> entries = tkvs.allEntriesIterator(now)) {
-					while (entries.hasNext()) {
-						ChronoDBEntry entry = entries.next();
-						ChronoIdentifier identifier = entry.getIdentifier();
-						byte[] value = entry.getValue();
-						Object deserializedValue = null;
-						if (value != null && value.length > 0) {
-							// only deserialize if the stored value is non-null
-							deserializedValue = serializationManager.deserialize(value);
-						}
-						ChronoDBTransaction historyTx = tkvs.tx(branch.getName(), identifier.getTimestamp() - 1);
-						Object historyValue = historyTx.get(identifier.getKeyspace(), identifier.getKey());
-						identifierToValue.put(identifier, Pair.of(historyValue, deserializedValue));
-					}
-				}
-			}
-			this.index(identifierToValue);
+			this.index(this.loadAllEntriesWithPreviousValues());
 			// clear the query cache
 			this.clearQueryCache();
 			for (String indexName : this.getIndexNames()) {
@@ -113,7 +102,7 @@ public class DocumentBasedIndexManager
 			return;
 		}
 		try (AutoLock lock = this.getOwningDB().lockNonExclusive()) {
-			new IndexingProcess().index(identifierToOldAndNewValue);
+			new IndexingProcess(this.indexNameToIndexers).index(identifierToOldAndNewValue);
 		}
 	}
 
@@ -121,6 +110,43 @@ public class DocumentBasedIndexManager
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
 
+	private AutoLock lockForReindexing() {
+		if (this.getIndexManagerBackend().isQueryingDuringModificationSupported()) {
+			// the non-exclusive lock keeps commits out (they lock their branch exclusively), but permits reads
+			return this.getOwningDB().lockNonExclusive();
+		} else {
+			return this.getOwningDB().lockExclusive();
+		}
+	}
+
+	private Map<ChronoIdentifier, Pair<Object, Object>> loadAllEntriesWithPreviousValues() {
+		BranchManager branchManager = this.getOwningDB().getBranchManager();
+		Set<Branch> branches = branchManager.getBranches();
+		Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue = Maps.newHashMap();
+		SerializationManager serializationManager = this.getOwningDB().getSerializationManager();
+		// TODO PERFORMANCE: it's dangerous to simply load all entries; they might not fit into RAM!
+		for (Branch branch : branches) {
+			TemporalKeyValueStore tkvs = ((BranchInternal) branch).getTemporalKeyValueStore();
+			long now = tkvs.getNow();
+			try (CloseableIterator<ChronoDBEntry> entries = tkvs.allEntriesIterator(now)) {
+				while (entries.hasNext()) {
+					ChronoDBEntry entry = entries.next();
+					ChronoIdentifier identifier = entry.getIdentifier();
+					byte[] value = entry.getValue();
+					Object deserializedValue = null;
+					if (value != null && value.length > 0) {
+						// only deserialize if the stored value is non-null
+						deserializedValue = serializationManager.deserialize(value);
+					}
+					ChronoDBTransaction historyTx = tkvs.tx(branch.getName(), identifier.getTimestamp() - 1);
+					Object historyValue = historyTx.get(identifier.getKeyspace(), identifier.getKey());
+					identifierToValue.put(identifier, Pair.of(historyValue, deserializedValue));
+				}
+			}
+		}
+		return identifierToValue;
+	}
+
 	@Override
 	protected Set<String> performIndexQuery(final long timestamp, final Branch branch, final String keyspace,
 			final SearchSpecification<?> searchSpec) {
@@ -156,10 +182,18 @@ public class DocumentBasedIndexManager
 
 	private class IndexingProcess {
 
+		private final SetMultimap<String, Indexer<?>> indexNameToIndexers;
+
 		private long currentTimestamp = -1L;
 		private ChronoIndexModifications indexModifications;
 		private Branch branch;
 
+		public IndexingProcess(final SetMultimap<String, Indexer<?>> indexNameToIndexers) {
+			checkNotNull(indexNameToIndexers,
+					"Precondition violation - argument 'indexNameToIndexers' must not be NULL!");
+			this.indexNameToIndexers = indexNameToIndexers;
+		}
+
 		public void index(final Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue) {
 			checkNotNull(identifierToValue, "Precondition violation - argument 'identifierToValue' must not be NULL!");
 			// build the indexer workload. The primary purpose is to sort the entries of the map in an order suitable
@@ -213,9 +247,8 @@ public class DocumentBasedIndexManager
 			// the currently active documents. We load these on-demand, because we don't need them in
 			// the common case of indexing previously unseen (new) elements.
 			Map<String, SetMultimap<Object, ChronoIndexDocument>> oldDocuments = null;
-			SetMultimap<String, Indexer<?>> indexNameToIndexers = DocumentBasedIndexManager.this.indexNameToIndexers;
 			// calculate the diff
-			IndexValueDiff diff = IndexingUtils.calculateDiff(indexNameToIndexers, oldValue, newValue);
+			IndexValueDiff diff = IndexingUtils.calculateDiff(this.indexNameToIndexers, oldValue, newValue);
 			for (String indexName : diff.getChangedIndices()) {
 				Set<Object> addedValues = diff.getAdditions(indexName);
 				Set<Object> removedValues = diff.getRemovals(indexName);
@@ -16,6 +16,7 @@ import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.GetResult;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.KeyRangeScanIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.DataMatrixUtil;
@@ -59,6 +60,21 @@ public class MapDBDataMatrixUtil {
 		return new AllEntriesIterator(tx, getMapReadOnly(tx, mapName), maxTimestamp);
 	}
 
+	public static CloseableIterator<UnqualifiedTemporalEntry> scan(final MapDBTransaction tx, final String mapName,
+			final String keyspace, final long timestamp, final String fromKey, final String toKey) {
+		logTrace("[SCN] Scanning keys in keyspace '" + keyspace + "' from '" + fromKey + "' to '" + toKey + "' at "
+				+ timestamp);
+		NavigableMap<String, byte[]> map = getMapReadOnly(tx, mapName);
+		String upperBound = KeyRangeScanIterator.getSerialFormUpperBound(toKey);
+		NavigableMap<String, byte[]> range;
+		if (upperBound == null) {
+			range = map.tailMap(fromKey, true);
+		} else {
+			range = map.subMap(fromKey, true, upperBound, false);
+		}
+		return new KeyRangeScanIterator(new AllEntriesIterator(tx, range, timestamp), timestamp, fromKey, toKey);
+	}
+
 	public static long lastCommitTimestamp(final MapDBTransaction tx, final String mapName, final String keyspace,
 			final String key) {
 		return DataMatrixUtil.lastCommitTimestamp(getMapReadOnly(tx, mapName), keyspace, key);
@@ -68,6 +84,11 @@ public class MapDBDataMatrixUtil {
 		DataMatrixUtil.rollback(getMapReadWrite(tx, mapName), getMapInverseReadWrite(tx, mapName), timestamp);
 	}
 
+	public static void purgeEntries(final MapDBTransaction tx, final String mapName,
+			final Set<UnqualifiedTemporalKey> keys) {
+		DataMatrixUtil.purgeEntries(getMapReadWrite(tx, mapName), getMapInverseReadWrite(tx, mapName), keys);
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final MapDBTransaction tx, final String mapName,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		return DataMatrixUtil.getModificationsBetween(getMapInverseReadOnly(tx, mapName), keyspace, timestampLowerBound,
@@ -0,0 +1,97 @@
+package org.chronos.chronodb.internal.impl.stream;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.NoSuchElementException;
+
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+
+/**
+ * Merges the key-ordered entries of a branch with the key-ordered entries of its origin branch.
+ *
+ * <p>
+ * Both input iterators must deliver at most one entry per key, in ascending key order (see
+ * {@link KeyRangeScanIterator}). Whenever both iterators contain an entry for the same key, the branch-local entry
+ * takes precedence. Deletions are passed through unchanged, such that this iterator can itself serve as the origin
+ * input for another overlay.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class BranchOverlayIterator extends AbstractCloseableIterator<UnqualifiedTemporalEntry> {
+
+	private final CloseableIterator<UnqualifiedTemporalEntry> branchEntries;
+	private final CloseableIterator<UnqualifiedTemporalEntry> originEntries;
+
+	private UnqualifiedTemporalEntry nextBranchEntry;
+	private UnqualifiedTemporalEntry nextOriginEntry;
+
+	public BranchOverlayIterator(final CloseableIterator<UnqualifiedTemporalEntry> branchEntries,
+			final CloseableIterator<UnqualifiedTemporalEntry> originEntries) {
+		checkNotNull(branchEntries, "Precondition violation - argument 'branchEntries' must not be NULL!");
+		checkNotNull(originEntries, "Precondition violation - argument 'originEntries' must not be NULL!");
+		this.branchEntries = branchEntries;
+		this.originEntries = originEntries;
+	}
+
+	@Override
+	public UnqualifiedTemporalEntry next() {
+		if (this.hasNext() == false) {
+			throw new NoSuchElementException("Iterator is exhausted; there are no more elements!");
+		}
+		if (this.nextOriginEntry == null) {
+			return this.pollBranchEntry();
+		}
+		if (this.nextBranchEntry == null) {
+			return this.pollOriginEntry();
+		}
+		int comparison = this.nextBranchEntry.getKey().getKey().compareTo(this.nextOriginEntry.getKey().getKey());
+		if (comparison < 0) {
+			return this.pollBranchEntry();
+		} else if (comparison > 0) {
+			return this.pollOriginEntry();
+		} else {
+			// the branch-local entry overrides the entry in the origin
+			this.pollOriginEntry();
+			return this.pollBranchEntry();
+		}
+	}
+
+	@Override
+	protected boolean hasNextInternal() {
+		if (this.nextBranchEntry == null && this.branchEntries.hasNext()) {
+			this.nextBranchEntry = this.branchEntries.next();
+		}
+		if (this.nextOriginEntry == null && this.originEntries.hasNext()) {
+			this.nextOriginEntry = this.originEntries.next();
+		}
+		return this.nextBranchEntry != null || this.nextOriginEntry != null;
+	}
+
+	@Override
+	protected void closeInternal() {
+		try {
+			this.branchEntries.close();
+		} finally {
+			this.originEntries.close();
+		}
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private UnqualifiedTemporalEntry pollBranchEntry() {
+		UnqualifiedTemporalEntry entry = this.nextBranchEntry;
+		this.nextBranchEntry = null;
+		return entry;
+	}
+
+	private UnqualifiedTemporalEntry pollOriginEntry() {
+		UnqualifiedTemporalEntry entry = this.nextOriginEntry;
+		this.nextOriginEntry = null;
+		return entry;
+	}
+
+}
@@ -0,0 +1,237 @@
+package org.chronos.chronodb.internal.impl.stream;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+
+/**
+ * Reduces a stream of raw matrix entries to the latest version of every key within a key range.
+ *
+ * <p>
+ * The source iterator has to deliver all versions of a key in one contiguous block, in ascending timestamp order. The
+ * blocks themselves have to be ordered either by key, or by the {@linkplain UnqualifiedTemporalKey#toSerializableFormat()
+ * serial form} of their keys (which is what the string-keyed backends store). The two orders differ only for keys
+ * which are prefixes of other keys; this iterator restores the key order in both cases, buffering only those entries
+ * which may be followed by a smaller key.
+ *
+ * <p>
+ * The resulting entries are ordered ascending by key. Deletions are included (with an empty value), because they are
+ * required for merging branch-local entries with the entries of the origin branch.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class KeyRangeScanIterator extends AbstractCloseableIterator<UnqualifiedTemporalEntry> {
+
+	/** The character which separates the key from the timestamp in the serial form of a temporal key. */
+	private static final char SERIAL_FORM_SEPARATOR = '@';
+
+	// =================================================================================================================
+	// STATIC HELPERS
+	// =================================================================================================================
+
+	/**
+	 * Calculates the (exclusive) upper bound in serial form for a key range with the given (exclusive) upper bound.
+	 *
+	 * <p>
+	 * The serial form of a key <code>k &lt; toKey</code> is not necessarily less than <code>toKey</code>: if
+	 * <code>k</code> is a prefix of <code>toKey</code>, the separator character appended to <code>k</code> is compared
+	 * against the next character in <code>toKey</code>. This method accounts for this effect.
+	 *
+	 * @param toKey
+	 *            The exclusive upper bound of the key range. May be <code>null</code> to indicate an unbounded range.
+	 *
+	 * @return The exclusive upper bound for the serial forms, or <code>null</code> if the range is unbounded.
+	 */
+	public static String getSerialFormUpperBound(final String toKey) {
+		if (toKey == null) {
+			return null;
+		}
+		String upperBound = toKey;
+		for (int i = 0; i < toKey.length(); i++) {
+			if (toKey.charAt(i) > SERIAL_FORM_SEPARATOR) {
+				continue;
+			}
+			// the serial forms of the prefix of length i are all less than "prefix + (separator + 1)"
+			String prefixBound = toKey.substring(0, i) + (char) (SERIAL_FORM_SEPARATOR + 1);
+			if (prefixBound.compareTo(upperBound) > 0) {
+				upperBound = prefixBound;
+			}
+		}
+		return upperBound;
+	}
+
+	/**
+	 * Calculates the exclusive upper bound of the key range which contains exactly the keys with the given prefix.
+	 *
+	 * @param prefix
+	 *            The prefix. Must not be <code>null</code>.
+	 *
+	 * @return The exclusive upper bound, or <code>null</code> if the range is unbounded (which is the case for the
+	 *         empty prefix).
+	 */
+	public static String getPrefixUpperBound(final String prefix) {
+		checkNotNull(prefix, "Precondition violation - argument 'prefix' must not be NULL!");
+		// strip trailing characters which cannot be incremented, then increment the last one
+		int end = prefix.length();
+		while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+			end--;
+		}
+		if (end == 0) {
+			return null;
+		}
+		return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+	}
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final CloseableIterator<UnqualifiedTemporalEntry> source;
+	private final long timestamp;
+	private final String fromKey;
+	private final String toKey;
+
+	/** Entries which are complete, but may still be preceded (in key order) by entries which are yet to come. */
+	private final NavigableMap<String, UnqualifiedTemporalEntry> pending = new TreeMap<>();
+
+	private String currentKey;
+	private UnqualifiedTemporalEntry currentLatestEntry;
+
+	private UnqualifiedTemporalEntry nextEntry;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	/**
+	 * Creates a new key range scan iterator.
+	 *
+	 * @param source
+	 *            The source iterator which delivers the raw matrix entries. Must not be <code>null</code>. Will be
+	 *            closed together with this iterator.
+	 * @param timestamp
+	 *            The timestamp at which to evaluate the entries. Must not be negative.
+	 * @param fromKey
+	 *            The lower bound of the key range (inclusive). Must not be <code>null</code>.
+	 * @param toKey
+	 *            The upper bound of the key range (exclusive). May be <code>null</code> to indicate that the range is
+	 *            unbounded.
+	 */
+	public KeyRangeScanIterator(final CloseableIterator<UnqualifiedTemporalEntry> source, final long timestamp,
+			final String fromKey, final String toKey) {
+		checkNotNull(source, "Precondition violation - argument 'source' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(fromKey, "Precondition violation - argument 'fromKey' must not be NULL!");
+		this.source = source;
+		this.timestamp = timestamp;
+		this.fromKey = fromKey;
+		this.toKey = toKey;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public UnqualifiedTemporalEntry next() {
+		if (this.hasNext() == false) {
+			throw new NoSuchElementException("Iterator is exhausted; there are no more elements!");
+		}
+		UnqualifiedTemporalEntry entry = this.nextEntry;
+		this.nextEntry = null;
+		return entry;
+	}
+
+	@Override
+	protected boolean hasNextInternal() {
+		while (this.nextEntry == null) {
+			if (this.pending.isEmpty() == false && this.isSafeToEmit(this.pending.firstKey())) {
+				this.nextEntry = this.pending.pollFirstEntry().getValue();
+				return true;
+			}
+			if (this.source.hasNext() == false) {
+				// no more input; everything we have is final
+				this.completeCurrentKey();
+				this.currentKey = null;
+				if (this.pending.isEmpty()) {
+					return false;
+				}
+				this.nextEntry = this.pending.pollFirstEntry().getValue();
+				return true;
+			}
+			UnqualifiedTemporalEntry entry = this.source.next();
+			String key = entry.getKey().getKey();
+			if (key.equals(this.currentKey) == false) {
+				this.completeCurrentKey();
+				this.currentKey = key;
+			}
+			if (entry.getKey().getTimestamp() <= this.timestamp && this.isInRange(key)) {
+				// versions arrive in ascending timestamp order, so the last matching one wins
+				this.currentLatestEntry = entry;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void closeInternal() {
+		this.source.close();
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private boolean isInRange(final String key) {
+		if (key.compareTo(this.fromKey) < 0) {
+			return false;
+		}
+		return this.toKey == null || key.compareTo(this.toKey) < 0;
+	}
+
+	private void completeCurrentKey() {
+		if (this.currentLatestEntry != null) {
+			this.pending.put(this.currentLatestEntry.getKey().getKey(), this.currentLatestEntry);
+			this.currentLatestEntry = null;
+		}
+	}
+
+	/**
+	 * Checks if the given pending key can be emitted, i.e. if the source cannot deliver any smaller key anymore.
+	 *
+	 * <p>
+	 * A key which is delivered later than the given key, but is smaller, has to be a prefix of the given key (in the
+	 * serial form order). Therefore, it suffices to check whether any such prefix may still be delivered by the source.
+	 *
+	 * @param key
+	 *            The key to check. Must not be <code>null</code>.
+	 *
+	 * @return <code>true</code> if the key can be emitted, otherwise <code>false</code>.
+	 */
+	private boolean isSafeToEmit(final String key) {
+		if (this.currentKey == null) {
+			return true;
+		}
+		String currentSerialForm = this.currentKey + SERIAL_FORM_SEPARATOR;
+		for (int i = 0; i < key.length(); i++) {
+			if (key.charAt(i) > SERIAL_FORM_SEPARATOR) {
+				// the prefix of length i is sorted before the key in both orders
+				continue;
+			}
+			String prefixSerialForm = key.substring(0, i) + SERIAL_FORM_SEPARATOR;
+			if (prefixSerialForm.compareTo(currentSerialForm) >= 0) {
+				// the prefix has not been delivered yet (or is being delivered right now)
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -214,6 +214,18 @@ public class DataMatrixUtil {
 		}
 	}
 
+	public static void purgeEntries(final NavigableMap<String, byte[]> map,
+			final NavigableMap<String, Boolean> inverseMap, final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(map, "Precondition violation - argument 'map' must not be NULL!");
+		checkNotNull(inverseMap, "Precondition violation - argument 'inverseMap' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		for (UnqualifiedTemporalKey key : keys) {
+			map.remove(key.toSerializableFormat());
+			inverseMap.remove(
+					InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey()).toSerializableFormat());
+		}
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final NavigableMap<String, Boolean> inverseMap,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		checkArgument(timestampLowerBound >= 0,
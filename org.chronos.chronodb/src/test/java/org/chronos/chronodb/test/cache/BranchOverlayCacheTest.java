@@ -0,0 +1,100 @@
+package org.chronos.chronodb.test.cache;
+
+import static org.junit.Assert.*;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class BranchOverlayCacheTest extends AllChronoDBBackendsTest {
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "200000")
+	public void readsInDeepBranchHierarchyAreResolvedCorrectly() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.put("b", "master");
+		tx.put("c", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("b1");
+		ChronoDBTransaction tx1 = db.tx("b1");
+		tx1.put("b", "b1");
+		tx1.remove("c");
+		tx1.commit();
+		db.getBranchManager().createBranch("b1", "b2");
+		db.getBranchManager().createBranch("b2", "b3");
+		// changes in the origin branches after the branching must not be visible
+		tx.put("a", "master2");
+		tx.commit();
+		tx1.put("b", "b1-2");
+		tx1.commit();
+		// read everything twice: once from the matrices, once from the cache
+		for (int i = 0; i < 2; i++) {
+			ChronoDBTransaction tx3 = db.tx("b3");
+			assertEquals("master", tx3.get("a"));
+			assertEquals("b1", tx3.get("b"));
+			assertNull(tx3.get("c"));
+			assertNull(tx3.get("d"));
+			assertEquals("master2", db.tx().get("a"));
+			assertEquals("b1-2", db.tx("b1").get("b"));
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "200000")
+	public void childBranchReadsAreServedFromOriginCacheEntries() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("b1");
+		db.getBranchManager().createBranch("b1", "b2");
+		ChronoDBCache cache = db.getCache();
+		// the first read has to resolve the key by walking up the branch hierarchy
+		assertEquals("master", db.tx("b2").get("a"));
+		cache.resetStatistics();
+		// the second read is answered by the cache entry of the master branch
+		assertEquals("master", db.tx("b2").get("a"));
+		assertEquals(1, cache.getStatistics().getCacheHitCount());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "200000")
+	public void writesOnChildBranchOverrideInheritedValues() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("b1");
+		db.getBranchManager().createBranch("b1", "b2");
+		assertEquals("master", db.tx("b2").get("a"));
+		ChronoDBTransaction tx1 = db.tx("b1");
+		tx1.put("a", "b1");
+		tx1.commit();
+		// b2 branched away before the write on b1
+		assertEquals("master", db.tx("b2").get("a"));
+		assertEquals("b1", db.tx("b1").get("a"));
+		ChronoDBTransaction tx2 = db.tx("b2");
+		// note: commit timestamps are assigned per branch, so we take the timestamp before the write from b2 itself
+		long beforeWriteOnB2 = tx2.getTimestamp();
+		tx2.put("a", "b2");
+		tx2.commit();
+		assertEquals("b2", db.tx("b2").get("a"));
+		assertEquals("master", db.tx("b2", beforeWriteOnB2).get("a"));
+		tx2.remove("a");
+		tx2.commit();
+		assertNull(db.tx("b2").get("a"));
+	}
+
+}
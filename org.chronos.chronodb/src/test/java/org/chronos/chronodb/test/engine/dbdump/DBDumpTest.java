@@ -27,6 +27,7 @@ import org.chronos.common.test.junit.categories.IntegrationTest;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -356,6 +357,146 @@ public class DBDumpTest extends AllChronoDBBackendsTest {
 		}
 	}
 
+	@Test
+	public void canExportAndImportBinaryDump() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("firstname", new FirstNameIndexer());
+		db.getIndexManager().reindexAll();
+
+		long afterFirstCommit = -1L;
+		{ // first transaction
+			ChronoDBTransaction tx = db.tx();
+			tx.put("p1", new Person("John", "Doe", "Johnny", "JD"));
+			tx.put("p2", new Person("Jane", "Doe", "Jenny", "JD"));
+			tx.put("p3", new Person("Jack", "Doe", "Jacky", "JD"));
+			tx.put("MyKeyspace", "first", 123);
+			tx.commit("Initial Commit");
+			afterFirstCommit = tx.getTimestamp();
+		}
+		this.sleep(5);
+		db.getBranchManager().createBranch("MyBranch");
+		this.sleep(5);
+		long afterBranchCommit = -1L;
+		{ // commit on the branch
+			ChronoDBTransaction tx = db.tx("MyBranch");
+			tx.put("Math", "Pi", 31415);
+			tx.commit();
+			afterBranchCommit = tx.getTimestamp();
+		}
+		this.sleep(5);
+		{ // second transaction on master
+			ChronoDBTransaction tx = db.tx();
+			tx.remove("p3");
+			tx.put("p2", new Person("Jane", "Smith", "Jenny", "JS"));
+			tx.commit("Second Commit");
+		}
+
+		File dumpFile = this.createTestFile("Test.chronodump.bin");
+		// use tiny segments to make sure that a keyspace can span several of them
+		db.writeDump(dumpFile, DumpOption.BINARY_FORMAT, DumpOption.batchSize(2), DumpOption.threadCount(3));
+		assertFalse(ChronosFileUtils.isGZipped(dumpFile));
+
+		ChronoDB db2 = this.reinstantiateDB();
+		// the format is detected from the file, no option required
+		db2.readDump(dumpFile);
+
+		{ // check the state after the first commit
+			ChronoDBTransaction tx = db2.tx(afterFirstCommit);
+			assertEquals(Sets.newHashSet("p1", "p2", "p3"), tx.keySet());
+			assertEquals(123, (int) tx.get("MyKeyspace", "first"));
+			assertEquals("Initial Commit", tx.getCommitMetadata(afterFirstCommit));
+			Set<String> jacks = tx.find().inDefaultKeyspace().where("firstname").isEqualToIgnoreCase("jack")
+					.getKeysAsSet().stream().map(qKey -> qKey.getKey()).collect(Collectors.toSet());
+			assertEquals(Sets.newHashSet("p3"), jacks);
+		}
+		{ // check the head revision
+			ChronoDBTransaction tx = db2.tx();
+			assertEquals(Sets.newHashSet("p1", "p2"), tx.keySet());
+			Person jane = tx.get("p2");
+			assertEquals("Smith", jane.getLastName());
+			assertEquals("Second Commit", tx.getCommitMetadata(tx.getTimestamp()));
+		}
+		{ // check the branch
+			assertTrue(db2.getBranchManager().existsBranch("MyBranch"));
+			ChronoDBTransaction tx = db2.tx("MyBranch", afterBranchCommit);
+			assertEquals(31415, (int) tx.get("Math", "Pi"));
+			assertEquals(123, (int) tx.get("MyKeyspace", "first"));
+			// commits without metadata are restored as well
+			assertEquals(1, Iterators.size(tx.getCommitTimestampsBetween(afterBranchCommit, afterBranchCommit)));
+		}
+	}
+
+	@Test
+	public void binaryDumpWithManySegmentsCanBeReadWithDifferentThreadCount() {
+		ChronoDB db = this.getChronoDB();
+		for (int commit = 0; commit < 5; commit++) {
+			ChronoDBTransaction tx = db.tx();
+			for (int i = 0; i < 100; i++) {
+				tx.put("keyspace" + i % 3, "key" + i, commit * 1000 + i);
+			}
+			tx.commit(commit);
+		}
+		File dumpFile = this.createTestFile("Test.chronodump.bin");
+		db.writeDump(dumpFile, DumpOption.BINARY_FORMAT, DumpOption.batchSize(7), DumpOption.threadCount(4));
+
+		ChronoDB db2 = this.reinstantiateDB();
+		db2.readDump(dumpFile, DumpOption.batchSize(50), DumpOption.threadCount(1));
+
+		ChronoDBTransaction tx = db2.tx();
+		for (int i = 0; i < 100; i++) {
+			assertEquals(4000 + i, (int) tx.get("keyspace" + i % 3, "key" + i));
+		}
+		List<Long> commitTimestamps = Lists.newArrayList(tx.getCommitTimestampsBetween(0, tx.getTimestamp()));
+		assertEquals(5, commitTimestamps.size());
+		for (long commitTimestamp : commitTimestamps) {
+			assertNotNull(tx.getCommitMetadata(commitTimestamp));
+		}
+	}
+
+	@Test
+	public void canApplyIncrementalDumpsOnTopOfBaseDump() {
+		this.runIncrementalDumpChain("Test.chronodump");
+	}
+
+	@Test
+	public void canApplyIncrementalBinaryDumpsOnTopOfBaseDump() {
+		this.runIncrementalDumpChain("Test.chronodump.bin", DumpOption.BINARY_FORMAT, DumpOption.batchSize(2));
+	}
+
+	@Test
+	public void incrementalDumpContainsOnlyChangesSinceTimestamp() {
+		ChronoDB db = this.getChronoDB();
+		long afterFirstCommit = -1L;
+		{ // first transaction
+			ChronoDBTransaction tx = db.tx();
+			tx.put("a", "Hello");
+			tx.put("b", "World");
+			tx.commit("First Commit");
+			afterFirstCommit = tx.getTimestamp();
+		}
+		this.sleep(5);
+		long afterSecondCommit = -1L;
+		{ // second transaction
+			ChronoDBTransaction tx = db.tx();
+			tx.put("c", "Foo");
+			tx.remove("a");
+			tx.commit("Second Commit");
+			afterSecondCommit = tx.getTimestamp();
+		}
+		File dumpFile = this.createTestFile("Test.chronodump.bin");
+		db.writeDump(dumpFile, DumpOption.BINARY_FORMAT, DumpOption.incrementalSince(afterFirstCommit));
+
+		ChronoDB db2 = this.reinstantiateDB();
+		db2.readDump(dumpFile);
+		ChronoDBTransaction tx = db2.tx();
+		// "b" was not touched after the first commit, so it is not part of the dump
+		assertEquals(Sets.newHashSet("c"), tx.keySet());
+		assertEquals("Foo", tx.get("c"));
+		assertEquals(Collections.singletonList(afterSecondCommit),
+				Lists.newArrayList(tx.getCommitTimestampsBetween(0, tx.getTimestamp())));
+		assertEquals("Second Commit", tx.getCommitMetadata(afterSecondCommit));
+	}
+
 	@Test
 	public void canExportAndImportWellKnownValues() {
 		ChronoDB db = this.getChronoDB();
@@ -704,6 +845,95 @@ public class DBDumpTest extends AllChronoDBBackendsTest {
 		return testFile;
 	}
 
+	private void runIncrementalDumpChain(final String fileName, final DumpOption... formatOptions) {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("firstname", new FirstNameIndexer());
+		db.getIndexManager().reindexAll();
+
+		long afterFirstCommit = -1L;
+		{ // base state
+			ChronoDBTransaction tx = db.tx();
+			tx.put("p1", new Person("John", "Doe", "Johnny", "JD"));
+			tx.put("p2", new Person("Jane", "Doe", "Jenny", "JD"));
+			tx.put("p3", new Person("Jack", "Doe", "Jacky", "JD"));
+			tx.commit("Initial Commit");
+			afterFirstCommit = tx.getTimestamp();
+		}
+		File baseDump = this.createTestFile("base-" + fileName);
+		db.writeDump(baseDump, formatOptions);
+		this.sleep(5);
+
+		long afterSecondCommit = -1L;
+		{ // first increment: modifications and deletions
+			ChronoDBTransaction tx = db.tx();
+			tx.remove("p3");
+			tx.put("p2", new Person("Jane", "Smith", "Jenny", "JS"));
+			tx.put("p4", new Person("Jack", "Smith", "Jacky", "JS"));
+			tx.commit("Second Commit");
+			afterSecondCommit = tx.getTimestamp();
+		}
+		File firstIncrement = this.createTestFile("inc1-" + fileName);
+		db.writeDump(firstIncrement, withIncrementalSince(afterFirstCommit, formatOptions));
+		this.sleep(5);
+
+		long afterBranchCommit = -1L;
+		{ // second increment: a new branch and another commit on master
+			db.getBranchManager().createBranch("MyBranch");
+			this.sleep(5);
+			ChronoDBTransaction branchTx = db.tx("MyBranch");
+			branchTx.put("Math", "Pi", 31415);
+			branchTx.commit("Branch Commit");
+			afterBranchCommit = branchTx.getTimestamp();
+			this.sleep(5);
+			ChronoDBTransaction tx = db.tx();
+			tx.put("p5", new Person("Jill", "Smith", "Jilly", "JS"));
+			tx.commit("Third Commit");
+		}
+		File secondIncrement = this.createTestFile("inc2-" + fileName);
+		db.writeDump(secondIncrement, withIncrementalSince(afterSecondCommit, formatOptions));
+
+		ChronoDB db2 = this.reinstantiateDB();
+		db2.readDump(baseDump);
+		db2.readDump(firstIncrement);
+		db2.readDump(secondIncrement);
+
+		{ // the base state is still intact
+			ChronoDBTransaction tx = db2.tx(afterFirstCommit);
+			assertEquals(Sets.newHashSet("p1", "p2", "p3"), tx.keySet());
+			assertEquals("Initial Commit", tx.getCommitMetadata(afterFirstCommit));
+			Set<String> jacks = tx.find().inDefaultKeyspace().where("firstname").isEqualToIgnoreCase("jack")
+					.getKeysAsSet().stream().map(qKey -> qKey.getKey()).collect(Collectors.toSet());
+			assertEquals(Sets.newHashSet("p3"), jacks);
+		}
+		{ // the first increment has been applied
+			ChronoDBTransaction tx = db2.tx(afterSecondCommit);
+			assertEquals(Sets.newHashSet("p1", "p2", "p4"), tx.keySet());
+			assertEquals("Smith", ((Person) tx.get("p2")).getLastName());
+			assertEquals("Second Commit", tx.getCommitMetadata(afterSecondCommit));
+		}
+		{ // the second increment has been applied
+			ChronoDBTransaction tx = db2.tx();
+			assertEquals(Sets.newHashSet("p1", "p2", "p4", "p5"), tx.keySet());
+			assertEquals("Third Commit", tx.getCommitMetadata(tx.getTimestamp()));
+			assertEquals(3, Iterators.size(tx.getCommitTimestampsBetween(0, tx.getTimestamp())));
+			Set<String> jacks = tx.find().inDefaultKeyspace().where("firstname").isEqualToIgnoreCase("jack")
+					.getKeysAsSet().stream().map(qKey -> qKey.getKey()).collect(Collectors.toSet());
+			assertEquals(Sets.newHashSet("p4"), jacks);
+		}
+		{ // the branch has been created
+			assertTrue(db2.getBranchManager().existsBranch("MyBranch"));
+			ChronoDBTransaction tx = db2.tx("MyBranch", afterBranchCommit);
+			assertEquals(31415, (int) tx.get("Math", "Pi"));
+			assertEquals("Branch Commit", tx.getCommitMetadata(afterBranchCommit));
+		}
+	}
+
+	private static DumpOption[] withIncrementalSince(final long timestamp, final DumpOption... options) {
+		List<DumpOption> result = Lists.newArrayList(options);
+		result.add(DumpOption.incrementalSince(timestamp));
+		return result.toArray(new DumpOption[result.size()]);
+	}
+
 	private boolean containsBinaryEntries(final String dumpContents) {
 		return dumpContents.contains("<" + ChronoDBDumpFormat.ALIAS_NAME__CHRONODB_BINARY_ENTRY + ">");
 	}
@@ -0,0 +1,172 @@
+package org.chronos.chronodb.test.engine.diff;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.diff.ChangeKind;
+import org.chronos.chronodb.api.diff.DiffEntry;
+import org.chronos.chronodb.api.exceptions.InvalidTransactionBranchException;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class TemporalDiffTest extends AllChronoDBBackendsTest {
+
+	private static final String DEFAULT_KEYSPACE = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+
+	@Test
+	public void canComputeDiffBetweenTimestamps() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("b", "1");
+		tx.put("c", "1");
+		tx.put("d", "1");
+		tx.commit();
+		long t1 = tx.getTimestamp();
+		tx.put("a", "2");
+		tx.remove("b");
+		tx.put("e", "2");
+		// 'c' is changed and changed back, so it must not show up in the diff
+		tx.put("c", "2");
+		tx.commit();
+		tx.put("c", "1");
+		tx.commit();
+		long t2 = tx.getTimestamp();
+		List<DiffEntry> diff = diff(db.diff(DEFAULT_KEYSPACE, t1, t2));
+		assertEquals(3, diff.size());
+		assertEntry(diff.get(0), "a", ChangeKind.MODIFIED, "1", "2");
+		assertEntry(diff.get(1), "b", ChangeKind.REMOVED, "1", null);
+		assertEntry(diff.get(2), "e", ChangeKind.ADDED, null, "2");
+		assertNotNull(diff.get(0).getOldValueBytes());
+		assertNotNull(diff.get(0).getNewValueBytes());
+		assertNull(diff.get(1).getNewValueBytes());
+		// the diff in the reverse direction yields the inverse changes
+		List<DiffEntry> reverseDiff = diff(db.diff(DEFAULT_KEYSPACE, t2, t1));
+		assertEquals(3, reverseDiff.size());
+		assertEntry(reverseDiff.get(0), "a", ChangeKind.MODIFIED, "2", "1");
+		assertEntry(reverseDiff.get(1), "b", ChangeKind.ADDED, null, "1");
+		assertEntry(reverseDiff.get(2), "e", ChangeKind.REMOVED, "2", null);
+		// a diff of a version with itself is empty
+		assertTrue(diff(db.diff(DEFAULT_KEYSPACE, t2, t2)).isEmpty());
+	}
+
+	@Test
+	public void diffIsRestrictedToKeyspace() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("other", "a", "1");
+		tx.commit();
+		long t1 = tx.getTimestamp();
+		tx.put("other", "a", "2");
+		tx.put("other", "b", "2");
+		tx.commit();
+		long t2 = tx.getTimestamp();
+		assertTrue(diff(db.diff(DEFAULT_KEYSPACE, t1, t2)).isEmpty());
+		List<DiffEntry> diff = diff(db.diff("other", t1, t2));
+		assertEquals(2, diff.size());
+		assertEquals("other", diff.get(0).getKeyspace());
+		assertEntry(diff.get(0), "a", ChangeKind.MODIFIED, "1", "2");
+		assertEntry(diff.get(1), "b", ChangeKind.ADDED, null, "2");
+		assertTrue(diff(db.diff("unknown", t1, t2)).isEmpty());
+	}
+
+	@Test
+	public void canComputeDiffBetweenBranches() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("b", "1");
+		tx.put("c", "1");
+		tx.commit();
+		db.getBranchManager().createBranch("child");
+		long branchingTimestamp = db.getBranchManager().getBranch("child").getBranchingTimestamp();
+		tx.put("a", "master");
+		tx.put("d", "master");
+		tx.commit();
+		long masterNow = tx.getTimestamp();
+		ChronoDBTransaction childTx = db.tx("child");
+		childTx.put("b", "child");
+		childTx.remove("c");
+		childTx.commit();
+		long childNow = childTx.getTimestamp();
+		// master (old) vs. child (new)
+		List<DiffEntry> diff = diff(db.diff(DEFAULT_KEYSPACE, "master", masterNow, "child", childNow));
+		assertEquals(4, diff.size());
+		assertEntry(diff.get(0), "a", ChangeKind.MODIFIED, "master", "1");
+		assertEntry(diff.get(1), "b", ChangeKind.MODIFIED, "1", "child");
+		assertEntry(diff.get(2), "c", ChangeKind.REMOVED, "1", null);
+		assertEntry(diff.get(3), "d", ChangeKind.REMOVED, "master", null);
+		// the child at its branching timestamp is identical to master at the same timestamp
+		List<DiffEntry> branchingDiff = diff(
+				db.diff(DEFAULT_KEYSPACE, "master", branchingTimestamp, "child", branchingTimestamp));
+		assertTrue(branchingDiff.isEmpty());
+		// changes within the child branch only
+		List<DiffEntry> childDiff = diff(db.diff(DEFAULT_KEYSPACE, "child", branchingTimestamp, "child", childNow));
+		assertEquals(2, childDiff.size());
+		assertEntry(childDiff.get(0), "b", ChangeKind.MODIFIED, "1", "child");
+		assertEntry(childDiff.get(1), "c", ChangeKind.REMOVED, "1", null);
+	}
+
+	@Test
+	public void canComputeDiffBetweenSiblingBranches() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("b", "1");
+		tx.commit();
+		db.getBranchManager().createBranch("left");
+		tx.put("a", "2");
+		tx.commit();
+		db.getBranchManager().createBranch("right");
+		ChronoDBTransaction leftTx = db.tx("left");
+		leftTx.put("c", "left");
+		leftTx.commit();
+		ChronoDBTransaction rightTx = db.tx("right");
+		rightTx.put("b", "right");
+		rightTx.commit();
+		List<DiffEntry> diff = diff(
+				db.diff(DEFAULT_KEYSPACE, "left", leftTx.getTimestamp(), "right", rightTx.getTimestamp()));
+		assertEquals(3, diff.size());
+		assertEntry(diff.get(0), "a", ChangeKind.MODIFIED, "1", "2");
+		assertEntry(diff.get(1), "b", ChangeKind.MODIFIED, "1", "right");
+		assertEntry(diff.get(2), "c", ChangeKind.REMOVED, "left", null);
+	}
+
+	@Test(expected = InvalidTransactionBranchException.class)
+	public void diffOnUnknownBranchFails() {
+		ChronoDB db = this.getChronoDB();
+		db.diff(DEFAULT_KEYSPACE, "master", 0, "unknown", 0);
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static List<DiffEntry> diff(final CloseableIterator<DiffEntry> iterator) {
+		List<DiffEntry> entries = Lists.newArrayList();
+		try (CloseableIterator<DiffEntry> diff = iterator) {
+			diff.forEachRemaining(entries::add);
+		}
+		return entries;
+	}
+
+	private static void assertEntry(final DiffEntry entry, final String key, final ChangeKind changeKind,
+			final Object oldValue, final Object newValue) {
+		assertEquals(key, entry.getKey());
+		assertEquals(changeKind, entry.getChangeKind());
+		assertEquals(oldValue, entry.getOldValue());
+		assertEquals(newValue, entry.getNewValue());
+	}
+
+}
@@ -0,0 +1,259 @@
+package org.chronos.chronodb.test.engine.event;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.event.CommitEvent;
+import org.chronos.chronodb.api.event.CommitSubscriber;
+import org.chronos.chronodb.api.event.CommitSubscription;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class CommitSubscriptionTest extends AllChronoDBBackendsTest {
+
+	private static final String DEFAULT_KEYSPACE = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+
+	@Test
+	public void subscriberReceivesCommits() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "0");
+		tx.commit();
+		// commits before the subscription are not delivered
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().subscribe(subscriber);
+		tx.put("a", "1");
+		tx.put("b", "1");
+		tx.commit("first");
+		long firstCommit = tx.getTimestamp();
+		tx.remove("a");
+		tx.commit("second");
+		long secondCommit = tx.getTimestamp();
+		CommitEvent first = subscriber.take();
+		assertEquals(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, first.getBranchName());
+		assertEquals(firstCommit, first.getTimestamp());
+		assertEquals("first", first.getCommitMetadata());
+		assertEquals(Sets.newHashSet(DEFAULT_KEYSPACE), first.getKeyspaces());
+		assertEquals(Sets.newHashSet("a", "b"), first.getChanges(DEFAULT_KEYSPACE).keySet());
+		assertEquals("1", this.deserialize(db, first.getChanges(DEFAULT_KEYSPACE).get("a")));
+		CommitEvent second = subscriber.take();
+		assertEquals(secondCommit, second.getTimestamp());
+		assertEquals("second", second.getCommitMetadata());
+		assertTrue(second.getChanges(DEFAULT_KEYSPACE).containsKey("a"));
+		assertNull(second.getChanges(DEFAULT_KEYSPACE).get("a"));
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void subscriptionCanBeRestrictedToKeyspaceAndBranch() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		db.getBranchManager().createBranch("child");
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().onBranch("child").inKeyspace("people").subscribe(subscriber);
+		// commits on other branches are ignored
+		ChronoDBTransaction masterTx = db.tx();
+		masterTx.put("people", "john", "master");
+		masterTx.commit();
+		ChronoDBTransaction childTx = db.tx("child");
+		// commits which do not touch the keyspace are ignored
+		childTx.put("things", "chair", "1");
+		childTx.commit();
+		childTx.put("things", "table", "1");
+		childTx.put("people", "john", "child");
+		childTx.commit();
+		CommitEvent event = subscriber.take();
+		assertEquals("child", event.getBranchName());
+		assertEquals(childTx.getTimestamp(), event.getTimestamp());
+		assertEquals(Sets.newHashSet("people"), event.getKeyspaces());
+		assertTrue(event.getChanges("things").isEmpty());
+		assertEquals("child", this.deserialize(db, event.getChanges("people").get("john")));
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void subscriberCanResumeFromTimestamp() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		List<Long> commits = Lists.newArrayList();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", String.valueOf(i));
+			tx.commit("commit" + i);
+			commits.add(tx.getTimestamp());
+		}
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().resumeAfter(commits.get(0)).subscribe(subscriber);
+		// the remaining commits are replayed from the commit log...
+		CommitEvent event = subscriber.take();
+		assertEquals(commits.get(1).longValue(), event.getTimestamp());
+		assertEquals("commit1", event.getCommitMetadata());
+		assertEquals("1", this.deserialize(db, event.getChanges(DEFAULT_KEYSPACE).get("a")));
+		assertEquals(commits.get(2).longValue(), subscriber.take().getTimestamp());
+		// ... and afterwards, new commits are delivered
+		tx.put("a", "3");
+		tx.commit();
+		assertEquals(tx.getTimestamp(), subscriber.take().getTimestamp());
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void eventsAreOnlyDeliveredUponDemand() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		TestSubscriber subscriber = new TestSubscriber(0);
+		// the buffer is smaller than the number of commits; the rest has to be replayed from the commit log
+		db.commitSubscriptionBuilder().withBufferSize(2).subscribe(subscriber);
+		ChronoDBTransaction tx = db.tx();
+		List<Long> commits = Lists.newArrayList();
+		for (int i = 0; i < 5; i++) {
+			tx.put("a", String.valueOf(i));
+			tx.commit();
+			commits.add(tx.getTimestamp());
+		}
+		subscriber.assertNoMoreEvents();
+		subscriber.getSubscription().request(1);
+		assertEquals(commits.get(0).longValue(), subscriber.take().getTimestamp());
+		subscriber.assertNoMoreEvents();
+		subscriber.getSubscription().request(Long.MAX_VALUE);
+		for (int i = 1; i < 5; i++) {
+			CommitEvent event = subscriber.take();
+			assertEquals(commits.get(i).longValue(), event.getTimestamp());
+			assertEquals(String.valueOf(i), this.deserialize(db, event.getChanges(DEFAULT_KEYSPACE).get("a")));
+		}
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void incrementalCommitProducesSingleEvent() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().subscribe(subscriber);
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.commitIncremental();
+		tx.put("b", "1");
+		tx.commitIncremental();
+		tx.put("c", "1");
+		tx.commit("incremental");
+		CommitEvent event = subscriber.take();
+		assertEquals(tx.getTimestamp(), event.getTimestamp());
+		assertEquals("incremental", event.getCommitMetadata());
+		assertEquals(Sets.newHashSet("a", "b", "c"), event.getChanges(DEFAULT_KEYSPACE).keySet());
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void cancelledSubscriptionReceivesNoMoreEvents() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().subscribe(subscriber);
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.commit();
+		subscriber.take();
+		subscriber.getSubscription().cancel();
+		assertTrue(subscriber.getSubscription().isCancelled());
+		tx.put("a", "2");
+		tx.commit();
+		subscriber.assertNoMoreEvents();
+	}
+
+	@Test
+	public void closingTheDatabaseCompletesTheSubscription() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		db.commitSubscriptionBuilder().subscribe(subscriber);
+		db.close();
+		assertTrue(subscriber.awaitCompletion());
+		subscriber.assertNoError();
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private Object deserialize(final ChronoDB db, final byte[] serialForm) {
+		return db.getSerializationManager().deserialize(serialForm);
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class TestSubscriber implements CommitSubscriber {
+
+		private final long initialRequest;
+		private final BlockingQueue<CommitEvent> events = new LinkedBlockingQueue<>();
+		private final CountDownLatch completion = new CountDownLatch(1);
+		private CommitSubscription subscription;
+		private volatile Throwable error;
+
+		public TestSubscriber(final long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(final CommitSubscription subscription) {
+			this.subscription = subscription;
+			if (this.initialRequest > 0) {
+				subscription.request(this.initialRequest);
+			}
+		}
+
+		@Override
+		public void onNext(final CommitEvent event) {
+			this.events.add(event);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			// this is called on the delivery thread, so we report it when the test thread checks in next time
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completion.countDown();
+		}
+
+		public CommitSubscription getSubscription() {
+			return this.subscription;
+		}
+
+		public CommitEvent take() throws InterruptedException {
+			CommitEvent event = this.events.poll(10, TimeUnit.SECONDS);
+			this.assertNoError();
+			assertNotNull("Expected a commit event, but none arrived!", event);
+			return event;
+		}
+
+		public void assertNoMoreEvents() throws InterruptedException {
+			assertNull(this.events.poll(200, TimeUnit.MILLISECONDS));
+			this.assertNoError();
+		}
+
+		public void assertNoError() {
+			if (this.error != null) {
+				throw new AssertionError("The subscription reported an error!", this.error);
+			}
+		}
+
+		public boolean awaitCompletion() throws InterruptedException {
+			return this.completion.await(10, TimeUnit.SECONDS);
+		}
+
+	}
+
+}
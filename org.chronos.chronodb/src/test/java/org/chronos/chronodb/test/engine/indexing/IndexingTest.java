@@ -158,6 +158,33 @@ public class IndexingTest extends AllChronoDBBackendsTest {
 		this.assertAddingSecondIndexerFails(db, new DummyDoubleIndexer(), new DummyLongIndexer());
 	}
 
+	@Test
+	public void canReindexSingleIndex() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("np1", NamedPayload.create1KB("Hello World"));
+		tx.put("np2", NamedPayload.create1KB("Foo Bar"));
+		tx.commit();
+		ChronoDBTransaction tx2 = db.tx();
+		tx2.put("np1", NamedPayload.create1KB("Renamed"));
+		tx2.commit();
+
+		// the new index does not contain the existing entries yet
+		db.getIndexManager().addIndexer("title", new NamedPayloadNameIndexer());
+		assertEquals(Collections.singleton("title"), db.getIndexManager().getDirtyIndices());
+		db.getIndexManager().reindex("title");
+		assertTrue(db.getIndexManager().getDirtyIndices().isEmpty());
+		// the rebuilt index must cover the entire history, the other index must not be affected
+		for (String indexName : new String[] { "title", "name" }) {
+			assertEquals(1, db.tx().find().inDefaultKeyspace().where(indexName).isEqualTo("Renamed").count());
+			assertEquals(0, db.tx().find().inDefaultKeyspace().where(indexName).isEqualTo("Hello World").count());
+			assertEquals(1, db.tx().find().inDefaultKeyspace().where(indexName).isEqualTo("Foo Bar").count());
+			assertEquals(1, tx.find().inDefaultKeyspace().where(indexName).isEqualTo("Hello World").count());
+		}
+	}
+
 	@Test
 	public void canDropAllIndices() {
 		ChronoDB db = this.getChronoDB();
@@ -0,0 +1,116 @@
+package org.chronos.chronodb.test.engine.indexing;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.chronos.chronodb.internal.impl.engines.mapdb.ChronoDBLuceneUtil;
+import org.chronos.chronodb.internal.impl.engines.mapdb.LuceneWrapper;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class LuceneWrapperTest extends ChronoDBUnitTest {
+
+	private static final String UNFLUSHED_MARKER_FILE_NAME = "chronodb.unflushed";
+
+	private static final long ONE_HOUR = 1000L * 60 * 60;
+
+	@Test
+	public void writesAreVisibleBeforeFlush() {
+		File directory = new File(this.getTestDirectory(), "lucene");
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 100)) {
+			lucene.performIndexWrite(writer -> {
+				writer.addDocument(createDocument("a"));
+			});
+			// the document is visible to searches right away...
+			assertEquals(1, lucene.search(idQuery("a")).size());
+			// ... but it has not been flushed to disk yet
+			assertTrue(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+			lucene.flush();
+			assertFalse(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+			assertEquals(1, lucene.search(idQuery("a")).size());
+		}
+	}
+
+	@Test
+	public void flushHappensWhenPendingWriteLimitIsReached() {
+		File directory = new File(this.getTestDirectory(), "lucene");
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 2)) {
+			lucene.performIndexWrite(writer -> {
+				writer.addDocument(createDocument("a"));
+			});
+			assertTrue(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+			lucene.performIndexWrite(writer -> {
+				writer.addDocument(createDocument("b"));
+			});
+			assertFalse(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+		}
+	}
+
+	@Test
+	public void flushHappensAfterFlushInterval() {
+		File directory = new File(this.getTestDirectory(), "lucene");
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, 50, 100)) {
+			lucene.performIndexWrite(writer -> {
+				writer.addDocument(createDocument("a"));
+			});
+			long timeout = System.currentTimeMillis() + 10000;
+			while (new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists() && System.currentTimeMillis() < timeout) {
+				this.sleep(20);
+			}
+			assertFalse(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+		}
+	}
+
+	@Test
+	public void closingFlushesPendingWrites() {
+		File directory = new File(this.getTestDirectory(), "lucene");
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 100)) {
+			lucene.performIndexWrite(writer -> {
+				writer.addDocument(createDocument("a"));
+			});
+		}
+		assertFalse(new File(directory, UNFLUSHED_MARKER_FILE_NAME).exists());
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 100)) {
+			assertFalse(lucene.isRecoveryRequired());
+			assertEquals(1, lucene.search(idQuery("a")).size());
+		}
+	}
+
+	@Test
+	public void unflushedIndexIsDetectedOnStartup() throws IOException {
+		File directory = new File(this.getTestDirectory(), "lucene");
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 100)) {
+			assertFalse(lucene.isRecoveryRequired());
+		}
+		// simulate a crash: the marker file is left behind
+		assertTrue(new File(directory, UNFLUSHED_MARKER_FILE_NAME).createNewFile());
+		try (LuceneWrapper lucene = new LuceneWrapper(directory, ONE_HOUR, 100)) {
+			assertTrue(lucene.isRecoveryRequired());
+		}
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private static Document createDocument(final String id) {
+		Document document = new Document();
+		document.add(new StringField(ChronoDBLuceneUtil.DOCUMENT_FIELD_ID, id, Store.YES));
+		return document;
+	}
+
+	private static TermQuery idQuery(final String id) {
+		return new TermQuery(new Term(ChronoDBLuceneUtil.DOCUMENT_FIELD_ID, id));
+	}
+
+}
@@ -0,0 +1,226 @@
+package org.chronos.chronodb.test.engine.maintenance.pruning;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.util.ChronosBackend;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronodb.test.util.model.payload.NamedPayload;
+import org.chronos.chronodb.test.util.model.payload.NamedPayloadNameIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class HistoryPruningTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void pruningRetainsStateAtCutoff() {
+		ChronoDB db = this.getChronoDB();
+		long commitCountBefore = db.tx().countCommitTimestamps();
+		long c1 = this.commit(db, "a", "1", "b", "1");
+		long c2 = this.commit(db, "a", "2");
+		long c3 = this.commit(db, "a", "3");
+		long purged = db.getMaintenanceManager().pruneHistoryOnMaster(c2);
+		assertEquals(1, purged);
+		// the state at the cut-off and afterwards is unchanged
+		assertEquals("2", db.tx(c2).get("a"));
+		assertEquals("1", db.tx(c2).get("b"));
+		assertEquals("3", db.tx(c3).get("a"));
+		assertEquals("1", db.tx(c3).get("b"));
+		assertEquals(Sets.newHashSet("a", "b"), db.tx(c2).keySet());
+		// the superseded version is gone
+		assertEquals(Sets.newHashSet(c3, c2), Sets.newHashSet(db.tx().history("a")));
+		assertEquals(Sets.newHashSet(c1), Sets.newHashSet(db.tx().history("b")));
+		// the first commit is still referenced by 'b', so its metadata has to survive
+		assertEquals(commitCountBefore + 3, db.tx().countCommitTimestamps());
+	}
+
+	@Test
+	public void pruningRemovesUnreferencedCommitMetadata() {
+		ChronoDB db = this.getChronoDB();
+		long commitCountBefore = db.tx().countCommitTimestamps();
+		long c1 = this.commit(db, "a", "1");
+		long c2 = this.commit(db, "a", "2");
+		long c3 = this.commit(db, "a", "3");
+		db.getMaintenanceManager().pruneHistoryOnMaster(c2);
+		assertEquals(commitCountBefore + 2, db.tx().countCommitTimestamps());
+		List<Long> commitTimestamps = Lists.newArrayList(db.tx().getCommitTimestampsBetween(c1, c3));
+		assertFalse(commitTimestamps.contains(c1));
+		assertTrue(commitTimestamps.contains(c2));
+		assertTrue(commitTimestamps.contains(c3));
+	}
+
+	@Test
+	public void pruningRemovesDeletedKeysOnMaster() {
+		ChronoDB db = this.getChronoDB();
+		this.commit(db, "a", "1", "b", "1");
+		ChronoDBTransaction tx = db.tx();
+		tx.remove("a");
+		tx.commit();
+		long afterDelete = tx.getTimestamp();
+		long purged = db.getMaintenanceManager().pruneHistoryOnMaster(afterDelete);
+		assertEquals(2, purged);
+		assertFalse(db.tx().history("a").hasNext());
+		assertNull(db.tx().get("a"));
+		assertEquals("1", db.tx().get("b"));
+		assertEquals(Sets.newHashSet("b"), db.tx().keySet());
+	}
+
+	@Test
+	public void pruningCanBeRestrictedToKeyspace() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("other", "a", "1");
+		tx.commit();
+		tx.put("a", "2");
+		tx.put("other", "a", "2");
+		tx.commit();
+		long cutoff = tx.getTimestamp();
+		db.getMaintenanceManager().pruneHistory(db.getBranchManager().getMasterBranch().getName(), "other", cutoff);
+		assertEquals(2, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(1, Lists.newArrayList(db.tx().history("other", "a")).size());
+		assertEquals("2", db.tx().get("other", "a"));
+	}
+
+	@Test
+	public void pruningRespectsChildBranches() {
+		ChronoDB db = this.getChronoDB();
+		this.commit(db, "a", "1");
+		long c2 = this.commit(db, "a", "2");
+		db.getBranchManager().createBranch("child", c2);
+		long c3 = this.commit(db, "a", "3");
+		// the cut-off is limited to the branching timestamp of the child branch
+		db.getMaintenanceManager().pruneHistoryOnMaster(c3);
+		assertEquals("2", db.tx("child").get("a"));
+		assertEquals(Sets.newHashSet(c3, c2), Sets.newHashSet(db.tx().history("a")));
+	}
+
+	@Test
+	public void pruningKeepsDeletionsInChildBranches() {
+		ChronoDB db = this.getChronoDB();
+		this.commit(db, "a", "1");
+		db.getBranchManager().createBranch("child");
+		ChronoDBTransaction tx = db.tx("child");
+		tx.remove("a");
+		tx.commit();
+		long afterDelete = tx.getTimestamp();
+		db.getMaintenanceManager().pruneHistory("child", afterDelete);
+		// the deletion hides the value in the master branch, so it must not be pruned
+		assertNull(db.tx("child").get("a"));
+		assertEquals("1", db.tx().get("a"));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "20")
+	public void pruningUpdatesSecondaryIndex() {
+		ChronoDB db = this.getChronoDB();
+		StringIndexer nameIndexer = new NamedPayloadNameIndexer();
+		db.getIndexManager().addIndexer("name", nameIndexer);
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("np1", NamedPayload.create1KB("Hello World"));
+		tx.put("np2", NamedPayload.create1KB("Foo Bar"));
+		tx.commit();
+		long afterFirstWrite = tx.getTimestamp();
+		tx.put("np2", NamedPayload.create1KB("Foo Baz"));
+		tx.commit();
+		long afterSecondWrite = tx.getTimestamp();
+		assertEquals(1, db.tx(afterFirstWrite).find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+		db.getMaintenanceManager().pruneHistoryOnMaster(afterSecondWrite);
+		// queries at the cut-off are unaffected
+		ChronoDBTransaction txAfter = db.tx(afterSecondWrite);
+		assertEquals(0, txAfter.find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+		assertEquals(1, txAfter.find().inDefaultKeyspace().where("name").isEqualTo("Foo Baz").count());
+		assertEquals(1, txAfter.find().inDefaultKeyspace().where("name").isEqualTo("Hello World").count());
+		// the index entry of the pruned version is gone
+		assertEquals(0, db.tx(afterFirstWrite).find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+		// the database remains writable after pruning
+		tx = db.tx();
+		tx.put("np3", NamedPayload.create1KB("Foo Bar"));
+		tx.commit();
+		assertEquals(1, db.tx().find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.JDBC_CONNECTION_URL, value = "jdbc:h2:file:${testdir}/h2")
+	public void prunedDatabaseCanBeReopened() {
+		ChronoDB db = this.getChronoDB();
+		for (int i = 0; i < 10; i++) {
+			if (i == 5 && db.getMaintenanceManager().isRolloverSupported()) {
+				// this way, the first chunk is emptied by pruning
+				db.getMaintenanceManager().performRolloverOnMaster();
+			}
+			ChronoDBTransaction tx = db.tx();
+			tx.put("np", NamedPayload.create1KB("v" + i));
+			tx.commit();
+		}
+		long now = db.getBranchManager().getMasterBranch().getNow();
+		assertTrue(db.getMaintenanceManager().pruneHistoryOnMaster(now) > 0);
+		// reclaiming the freed disk space must not damage the remaining data
+		db = this.closeAndReopenDB();
+		assertEquals("v9", ((NamedPayload) db.tx().get("np")).getName());
+		assertEquals(now, (long) db.tx().history("np").next());
+	}
+
+	@Test
+	public void readsCanProceedWhilePruning() throws Exception {
+		// the in-memory and the MapDB backends block all readers while pruning
+		Assume.assumeFalse(this.backend == ChronosBackend.INMEMORY || this.backend == ChronosBackend.MAPDB);
+		ChronoDB db = this.getChronoDB();
+		this.commit(db, "a", "1");
+		long c2 = this.commit(db, "a", "2");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		AtomicReference<Object> valueReadWhilePruning = new AtomicReference<>();
+		this.getMasterTkvs(db).setDebugCallbackBeforeCommitMetadataPurge(cutoff -> {
+			// the pruning thread waits for the read; if the read was blocked by the pruning, it would time out
+			Future<Object> read = executor.submit(() -> db.tx(c2).get("a"));
+			try {
+				valueReadWhilePruning.set(read.get(10, TimeUnit.SECONDS));
+			} catch (InterruptedException | ExecutionException | TimeoutException e) {
+				throw new RuntimeException("Read did not complete while pruning!", e);
+			}
+		});
+		try {
+			db.getMaintenanceManager().pruneHistoryOnMaster(c2);
+		} finally {
+			this.getMasterTkvs(db).setDebugCallbackBeforeCommitMetadataPurge(null);
+			executor.shutdownNow();
+		}
+		assertEquals("2", valueReadWhilePruning.get());
+		assertEquals(Sets.newHashSet(c2), Sets.newHashSet(db.tx().history("a")));
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private long commit(final ChronoDB db, final String... keysAndValues) {
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			tx.put(keysAndValues[i], keysAndValues[i + 1]);
+		}
+		tx.commit();
+		return tx.getTimestamp();
+	}
+
+}
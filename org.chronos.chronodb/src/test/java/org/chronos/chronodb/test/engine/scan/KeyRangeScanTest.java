@@ -0,0 +1,155 @@
+package org.chronos.chronodb.test.engine.scan;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class KeyRangeScanTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void canScanKeyRange() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("d", "4");
+		tx.put("a", "1");
+		tx.put("c", "3");
+		tx.put("b", "2");
+		tx.put("e", "5");
+		tx.commit();
+		assertEquals(Lists.newArrayList("b", "c", "d"), keys(db.tx().scan("b", "e")));
+		assertEquals(Lists.newArrayList("c", "d", "e"), keys(db.tx().scan("bb", null)));
+		assertEquals(Lists.newArrayList("a", "b", "c", "d", "e"), keys(db.tx().scan("", null)));
+		assertEquals(Lists.newArrayList(), keys(db.tx().scan("x", "z")));
+		try (CloseableIterator<Entry<String, Object>> entries = db.tx().scan("a", "c")) {
+			Entry<String, Object> first = entries.next();
+			assertEquals("a", first.getKey());
+			assertEquals("1", first.getValue());
+			Entry<String, Object> second = entries.next();
+			assertEquals("b", second.getKey());
+			assertEquals("2", second.getValue());
+			assertFalse(entries.hasNext());
+		}
+	}
+
+	@Test
+	public void canScanPrefix() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("tenants", "tenant/2/name", "Two");
+		tx.put("tenants", "tenant/1/name", "One");
+		tx.put("tenants", "tenant/1", "1");
+		tx.put("tenants", "tenant/1/address", "Somewhere");
+		tx.put("tenants", "tenant/10/name", "Ten");
+		tx.put("tenants", "tenant", "root");
+		tx.put("tenants", "tenants", "other");
+		tx.commit();
+		assertEquals(Lists.newArrayList("tenant/1", "tenant/1/address", "tenant/1/name", "tenant/10/name"),
+				keys(db.tx().prefix("tenants", "tenant/1")));
+		assertEquals(Lists.newArrayList("tenant/1/address", "tenant/1/name"),
+				keys(db.tx().prefix("tenants", "tenant/1/")));
+		assertEquals(Lists.newArrayList("tenant", "tenant/1", "tenant/1/address", "tenant/1/name", "tenant/10/name",
+				"tenant/2/name", "tenants"), keys(db.tx().prefix("tenants", "")));
+		assertEquals(Lists.newArrayList(), keys(db.tx().prefix("tenants", "x")));
+		assertEquals(Lists.newArrayList(), keys(db.tx().prefix("unknown", "tenant")));
+	}
+
+	@Test
+	public void scanReflectsTransactionTimestamp() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("b", "1");
+		tx.put("c", "1");
+		tx.commit();
+		long afterFirstCommit = tx.getTimestamp();
+		tx.put("a", "2");
+		tx.remove("b");
+		tx.put("d", "2");
+		tx.commit();
+		assertEquals(Lists.newArrayList("a", "b", "c"), keys(db.tx(afterFirstCommit).scan("", null)));
+		assertEquals(Lists.newArrayList("a", "c", "d"), keys(db.tx().scan("", null)));
+		assertEquals(Lists.newArrayList("1", "1", "1"), values(db.tx(afterFirstCommit).scan("", null)));
+		assertEquals(Lists.newArrayList("2", "1", "2"), values(db.tx().scan("", null)));
+	}
+
+	@Test
+	public void scanMergesOriginBranchEntries() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.put("b", "master");
+		tx.put("c", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("child");
+		// changes on master after the branching are invisible in the child
+		tx.put("d", "master");
+		tx.commit();
+		ChronoDBTransaction childTx = db.tx("child");
+		childTx.put("b", "child");
+		childTx.remove("c");
+		childTx.put("e", "child");
+		childTx.commit();
+		db.getBranchManager().createBranch("child", "grandchild");
+		ChronoDBTransaction grandchildTx = db.tx("grandchild");
+		grandchildTx.put("a", "grandchild");
+		grandchildTx.put("c", "grandchild");
+		grandchildTx.commit();
+		assertEquals(Lists.newArrayList("a", "b", "c", "d"), keys(db.tx().scan("", null)));
+		assertEquals(Lists.newArrayList("a", "b", "e"), keys(db.tx("child").scan("", null)));
+		assertEquals(Lists.newArrayList("master", "child", "child"), values(db.tx("child").scan("", null)));
+		assertEquals(Lists.newArrayList("a", "b", "c", "e"), keys(db.tx("grandchild").scan("", null)));
+		assertEquals(Lists.newArrayList("grandchild", "child", "grandchild", "child"),
+				values(db.tx("grandchild").scan("", null)));
+		assertEquals(Lists.newArrayList("b", "c"), keys(db.tx("grandchild").scan("b", "d")));
+	}
+
+	@Test
+	public void scanOrdersKeysWhichArePrefixesOfOtherKeys() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "1");
+		tx.put("a!", "2");
+		tx.put("a 1", "3");
+		tx.put("a!b", "4");
+		tx.put("ab", "5");
+		tx.put("a0", "6");
+		tx.commit();
+		List<String> expected = Lists.newArrayList("a", "a 1", "a!", "a!b", "a0", "ab");
+		assertEquals(expected, keys(db.tx().scan("", null)));
+		assertEquals(expected, keys(db.tx().prefix("a")));
+		assertEquals(Lists.newArrayList("a", "a 1", "a!"), keys(db.tx().scan("a", "a!b")));
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static List<String> keys(final CloseableIterator<Entry<String, Object>> iterator) {
+		List<String> keys = Lists.newArrayList();
+		try (CloseableIterator<Entry<String, Object>> entries = iterator) {
+			entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+		}
+		return keys;
+	}
+
+	private static List<Object> values(final CloseableIterator<Entry<String, Object>> iterator) {
+		List<Object> values = Lists.newArrayList();
+		try (CloseableIterator<Entry<String, Object>> entries = iterator) {
+			entries.forEachRemaining(entry -> values.add(entry.getValue()));
+		}
+		return values;
+	}
+
+}
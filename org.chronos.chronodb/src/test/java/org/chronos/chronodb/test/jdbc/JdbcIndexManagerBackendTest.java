@@ -0,0 +1,140 @@
+package org.chronos.chronodb.test.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
+import org.chronos.chronodb.internal.api.index.ChronoIndexModifications;
+import org.chronos.chronodb.internal.impl.engines.jdbc.JdbcChronoDB;
+import org.chronos.chronodb.internal.impl.engines.jdbc.JdbcIndexManagerBackend;
+import org.chronos.chronodb.internal.impl.index.ChronoIndexDocumentImpl;
+import org.chronos.chronodb.internal.util.ChronosBackend;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class JdbcIndexManagerBackendTest extends ChronoDBUnitTest {
+
+	private static final String BRANCH = ChronoDBConstants.MASTER_BRANCH_IDENTIFIER;
+	private static final String KEYSPACE = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+
+	private ChronoDB db;
+	private JdbcIndexManagerBackend backend;
+
+	@Before
+	public void openDatabase() {
+		Configuration configuration = new BaseConfiguration();
+		configuration.addProperty(ChronoDBConfiguration.STORAGE_BACKEND, ChronosBackend.JDBC.toString());
+		configuration.addProperty(ChronoDBConfiguration.JDBC_CONNECTION_URL,
+				"jdbc:h2:mem:" + UUID.randomUUID().toString().replace("-", ""));
+		// use a tiny batch size, such that every write in these tests spans several batches
+		configuration.addProperty(ChronoDBConfiguration.JDBC_BATCH_SIZE, "2");
+		this.db = ChronoDB.FACTORY.create().fromConfiguration(configuration).build();
+		this.backend = new JdbcIndexManagerBackend((JdbcChronoDB) this.db);
+	}
+
+	@After
+	public void closeDatabase() {
+		this.db.close();
+	}
+
+	@Test
+	public void canInsertDocumentsInMultipleBatches() {
+		this.backend.applyModifications(this.createFiveDocumentsOfEachType("a", 100));
+
+		Map<String, SetMultimap<Object, ChronoIndexDocument>> documents = this.getDocuments("a", 100);
+		assertEquals(5, documents.get("name").size());
+		assertEquals(5, documents.get("age").size());
+		assertEquals(5, documents.get("weight").size());
+		for (int i = 0; i < 5; i++) {
+			assertTrue(documents.get("name").containsKey("Name" + i));
+			assertTrue(documents.get("age").containsKey((long) i));
+			assertTrue(documents.get("weight").containsKey(i + 0.5));
+		}
+		// the documents of another key must not be affected
+		assertTrue(this.getDocuments("b", 100).isEmpty());
+	}
+
+	@Test
+	public void canTerminateDocumentsInMultipleBatches() {
+		this.backend.applyModifications(this.createFiveDocumentsOfEachType("a", 100));
+
+		ChronoIndexModifications terminations = ChronoIndexModifications.create();
+		for (SetMultimap<Object, ChronoIndexDocument> documents : this.getDocuments("a", 100).values()) {
+			terminations.addDocumentValidityTermination(Sets.newHashSet(documents.values()), 200);
+		}
+		this.backend.applyModifications(terminations);
+
+		Map<String, SetMultimap<Object, ChronoIndexDocument>> documentsBefore = this.getDocuments("a", 150);
+		assertEquals(5, documentsBefore.get("name").size());
+		assertEquals(5, documentsBefore.get("age").size());
+		assertEquals(5, documentsBefore.get("weight").size());
+		assertTrue(this.getDocuments("a", 200).isEmpty());
+		// the beans must reflect the new validity range as well
+		for (ChronoIndexDocument document : documentsBefore.get("name").values()) {
+			assertEquals(200, document.getValidToTimestamp());
+		}
+	}
+
+	@Test
+	public void failedModificationsAreRolledBack() {
+		this.backend.applyModifications(this.createFiveDocumentsOfEachType("a", 100));
+		ChronoIndexDocument storedDocument = this.getDocuments("a", 100).get("name").get("Name0").iterator().next();
+
+		ChronoIndexModifications modifications = ChronoIndexModifications.create();
+		// this termination is valid and is written in the first batch...
+		modifications.addDocumentValidityTermination(storedDocument, 200);
+		// ... but this document has never been stored, so its termination must fail
+		ChronoIndexDocument unknownDocument = new ChronoIndexDocumentImpl("weight", BRANCH, KEYSPACE, "a", 42.0, 100);
+		modifications.addDocumentValidityTermination(unknownDocument, 200);
+		modifications.addDocumentAddition(new ChronoIndexDocumentImpl("name", BRANCH, KEYSPACE, "b", "Name", 200));
+		try {
+			this.backend.applyModifications(modifications);
+			fail("Managed to terminate the validity of a document which does not exist!");
+		} catch (ChronoDBStorageBackendException expected) {
+			// pass
+		}
+
+		// none of the modifications must have been applied
+		assertEquals(5, this.getDocuments("a", 250).get("name").size());
+		assertEquals(Long.MAX_VALUE, storedDocument.getValidToTimestamp());
+		assertTrue(this.getDocuments("b", 250).isEmpty());
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private ChronoIndexModifications createFiveDocumentsOfEachType(final String key, final long timestamp) {
+		ChronoIndexModifications modifications = ChronoIndexModifications.create();
+		ChronoIdentifier identifier = ChronoIdentifier.create(BRANCH, timestamp, KEYSPACE, key);
+		for (int i = 0; i < 5; i++) {
+			modifications.addDocumentAddition(identifier, "name", "Name" + i);
+			modifications.addDocumentAddition(identifier, "age", (long) i);
+			modifications.addDocumentAddition(identifier, "weight", i + 0.5);
+		}
+		return modifications;
+	}
+
+	private Map<String, SetMultimap<Object, ChronoIndexDocument>> getDocuments(final String key,
+			final long timestamp) {
+		return this.backend.getMatchingBranchLocalDocuments(ChronoIdentifier.create(BRANCH, timestamp, KEYSPACE, key));
+	}
+
+}
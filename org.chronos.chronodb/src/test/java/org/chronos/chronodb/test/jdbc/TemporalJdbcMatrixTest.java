@@ -0,0 +1,105 @@
+package org.chronos.chronodb.test.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.internal.api.GetResult;
+import org.chronos.chronodb.internal.api.Period;
+import org.chronos.chronodb.internal.impl.engines.jdbc.TemporalJdbcMatrix;
+import org.chronos.chronodb.internal.impl.jdbc.util.JdbcDataSourceUtil;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Maps;
+
+@Category(UnitTest.class)
+public class TemporalJdbcMatrixTest {
+
+	private TemporalJdbcMatrix matrix;
+
+	@Before
+	public void createMatrix() {
+		String name = UUID.randomUUID().toString().replace("-", "");
+		DataSource dataSource = JdbcDataSourceUtil.getH2InMemoryDataSource(name);
+		this.matrix = new TemporalJdbcMatrix(ChronoDBConstants.DEFAULT_KEYSPACE_NAME, 0L, dataSource, "MATRIX_" + name,
+				2);
+		// "a" has versions at 100 and 200, "b" has a version in between which must not affect the ranges of "a"
+		this.put(100, "a", "a1");
+		this.put(150, "b", "b1");
+		this.put(200, "a", "a2");
+	}
+
+	@Test
+	public void rangedGetOnUnknownKeyReturnsEternalMiss() {
+		GetResult<byte[]> result = this.matrix.get(150, "c");
+		assertFalse(result.isHit());
+		assertNull(result.getValue());
+		assertEquals(Period.createRange(0, Long.MAX_VALUE), result.getPeriod());
+	}
+
+	@Test
+	public void rangedGetBeforeFirstVersionReturnsMiss() {
+		GetResult<byte[]> result = this.matrix.get(50, "a");
+		assertFalse(result.isHit());
+		assertNull(result.getValue());
+		assertEquals(Period.createRange(0, 100), result.getPeriod());
+	}
+
+	@Test
+	public void rangedGetExactlyAtVersionTimestampReturnsThatVersion() {
+		GetResult<byte[]> result = this.matrix.get(100, "a");
+		assertTrue(result.isHit());
+		assertEquals("a1", new String(result.getValue()));
+		assertEquals(Period.createRange(100, 200), result.getPeriod());
+		// the timestamp right before the next version still belongs to the first one
+		result = this.matrix.get(199, "a");
+		assertEquals("a1", new String(result.getValue()));
+		assertEquals(Period.createRange(100, 200), result.getPeriod());
+		result = this.matrix.get(200, "a");
+		assertEquals("a2", new String(result.getValue()));
+		assertEquals(Period.createRange(200, Long.MAX_VALUE), result.getPeriod());
+	}
+
+	@Test
+	public void rangedGetAfterLastVersionIsOpenEnded() {
+		GetResult<byte[]> result = this.matrix.get(1000, "a");
+		assertTrue(result.isHit());
+		assertEquals("a2", new String(result.getValue()));
+		assertEquals(Period.createRange(200, Long.MAX_VALUE), result.getPeriod());
+		result = this.matrix.get(1000, "b");
+		assertEquals("b1", new String(result.getValue()));
+		assertEquals(Period.createRange(150, Long.MAX_VALUE), result.getPeriod());
+	}
+
+	@Test
+	public void rangedGetOnDeletionReturnsHitWithEmptyValue() {
+		this.put(300, "a", null);
+		GetResult<byte[]> result = this.matrix.get(300, "a");
+		assertTrue(result.isHit());
+		// deletions are stored as empty byte arrays
+		assertEquals(0, result.getValue().length);
+		assertEquals(Period.createRange(300, Long.MAX_VALUE), result.getPeriod());
+		// the range of the previous version now ends at the deletion
+		result = this.matrix.get(250, "a");
+		assertEquals("a2", new String(result.getValue()));
+		assertEquals(Period.createRange(200, 300), result.getPeriod());
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private void put(final long timestamp, final String key, final String value) {
+		Map<String, byte[]> contents = Maps.newHashMap();
+		contents.put(key, value == null ? null : value.getBytes());
+		this.matrix.put(timestamp, contents);
+	}
+
+}
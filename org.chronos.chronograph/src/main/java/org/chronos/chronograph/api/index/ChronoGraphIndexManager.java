@@ -250,14 +250,14 @@ public interface ChronoGraphIndexManager {
 	public void reindexAll();
 
 	/**
-	 * Recreates the index with the given name.
+	 * Recreates the given index, leaving all other indices untouched.
+	 *
+	 * <p>
+	 * Other than {@link #reindexAll()}, this operation permits concurrent reads while the index is being rebuilt; commits are blocked until it is done. Queries on the given index which run concurrently to this operation may deliver incomplete results.
 	 *
 	 * @param index
 	 *            The index to recreate. Must not be <code>null</code>. Must refer to an existing index.
-	 *
-	 * @deprecated As of Chronos 0.6.8 or later, please use {@link #reindexAll()} instead.
 	 */
-	@Deprecated
 	public void reindex(ChronoGraphIndex index);
 
 	/**
@@ -0,0 +1,137 @@
+package org.chronos.chronograph.api.transaction;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+
+/**
+ * A {@link ChronoGraphBulkLoader} allows to insert large amounts of vertices and edges into a {@link ChronoGraph}.
+ *
+ * <p>
+ * In contrast to a regular graph transaction, the bulk loader does not create any {@link org.apache.tinkerpop.gremlin.structure.Element Element}
+ * objects and does not track the loaded elements in a transaction context. Edges are written to the store in batches
+ * as they are added (using incremental commits). Vertices are buffered until a full batch of them is pending, and are
+ * then written (sorted by their IDs); the remaining vertices are written when {@link #commit()} is called. All
+ * elements receive the same commit timestamp, and the loaded data becomes visible to other transactions only after
+ * {@link #commit()} has finished.
+ *
+ * <p>
+ * Adding an element with a user-supplied ID which has already been used in the same bulk load is rejected with an
+ * exception.
+ *
+ * <p>
+ * The bulk loader is intended for <b>inserting new elements</b>. Edges may connect vertices which have been added in
+ * the same bulk load, as well as vertices which already exist in the graph. Element properties are limited to plain
+ * key-value pairs (vertex properties without meta-properties).
+ *
+ * <p>
+ * Usage example:
+ *
+ * <pre>
+ * try (ChronoGraphBulkLoader loader = graph.bulkLoader()) {
+ * 	String v1 = loader.addVertex(T.label, "person", "name", "John");
+ * 	String v2 = loader.addVertex(T.label, "person", "name", "Jane");
+ * 	loader.addEdge(v1, "knows", v2, "since", 2010);
+ * 	loader.commit();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Instances of this interface are thread-safe; {@link #addVertex(Object...)} and
+ * {@link #addEdge(String, String, String, Object...)} may be called concurrently from several threads. Clients can
+ * retrieve an instance via {@link ChronoGraph#bulkLoader()}. Classes that implement this interface must not be
+ * manually instantiated by clients.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface ChronoGraphBulkLoader extends AutoCloseable {
+
+	/**
+	 * Sets the number of entries to write per batch.
+	 *
+	 * <p>
+	 * Whenever this number of pending entries (or pending vertices) is reached, they are written to the store with an
+	 * incremental commit. Larger batches consume more memory, smaller batches cause more overhead. Must be called before any element is
+	 * added.
+	 *
+	 * @param batchSize
+	 *            The batch size to use. Must be greater than zero.
+	 *
+	 * @return <code>this</code>, for method chaining.
+	 */
+	public ChronoGraphBulkLoader withBatchSize(int batchSize);
+
+	/**
+	 * Enables or disables the parallel mode.
+	 *
+	 * <p>
+	 * In parallel mode, the vertex records of each batch are assembled by multiple threads. This mode pays
+	 * off for very large graphs with high vertex degrees. By default, the parallel mode is disabled.
+	 *
+	 * @param parallel
+	 *            Use <code>true</code> to enable the parallel mode, or <code>false</code> to disable it.
+	 *
+	 * @return <code>this</code>, for method chaining.
+	 */
+	public ChronoGraphBulkLoader parallel(boolean parallel);
+
+	/**
+	 * Adds a new vertex.
+	 *
+	 * @param keyValues
+	 *            The key-value pairs which describe the vertex. May contain {@link T#id} (must be a string) and
+	 *            {@link T#label}. All other keys are treated as property keys.
+	 *
+	 * @return The ID of the new vertex. Never <code>null</code>.
+	 */
+	public String addVertex(Object... keyValues);
+
+	/**
+	 * Adds a new edge.
+	 *
+	 * @param outVertexId
+	 *            The ID of the vertex where the edge starts. Must not be <code>null</code>. Must refer to a vertex which
+	 *            has been added to this bulk loader, or which exists in the graph.
+	 * @param label
+	 *            The label of the edge. Must not be <code>null</code>.
+	 * @param inVertexId
+	 *            The ID of the vertex where the edge ends. Must not be <code>null</code>. Must refer to a vertex which
+	 *            has been added to this bulk loader, or which exists in the graph.
+	 * @param keyValues
+	 *            The key-value pairs which describe the edge. May contain {@link T#id} (must be a string). All other
+	 *            keys are treated as property keys.
+	 *
+	 * @return The ID of the new edge. Never <code>null</code>.
+	 */
+	public String addEdge(String outVertexId, String label, String inVertexId, Object... keyValues);
+
+	/**
+	 * Writes all pending elements to the store and performs the commit.
+	 *
+	 * @return The timestamp of the commit.
+	 */
+	public default long commit() {
+		return this.commit(null);
+	}
+
+	/**
+	 * Writes all pending elements to the store and performs the commit.
+	 *
+	 * @param commitMetadata
+	 *            The metadata object to store alongside the commit. May be <code>null</code>.
+	 *
+	 * @return The timestamp of the commit.
+	 */
+	public long commit(Object commitMetadata);
+
+	/**
+	 * Closes this bulk loader.
+	 *
+	 * <p>
+	 * If {@link #commit()} has not been called before, all elements which have been written so far will be rolled
+	 * back.
+	 */
+	@Override
+	public void close();
+
+}
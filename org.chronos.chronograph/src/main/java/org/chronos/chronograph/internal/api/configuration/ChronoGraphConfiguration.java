@@ -20,6 +20,9 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
 
     public static final String TRANSACTION_CHECK_ID_EXISTENCE_ON_ADD = NS_DOT + "transaction.checkIdExistenceOnAdd";
     public static final String TRANSACTION_AUTO_OPEN = NS_DOT + "transaction.autoOpen";
+    public static final String VERTEX_RECORD_SNAPSHOT_INTERVAL = NS_DOT + "storage.vertexRecordSnapshotInterval";
+    public static final String VERTEX_RECORD_CACHE_MAX_SIZE = NS_DOT + "storage.vertexRecordCacheMaxSize";
+    public static final String LAZY_ADJACENCY_LOADING = NS_DOT + "structure.lazyAdjacencyLoading";
 
     // =================================================================================================================
     // GENERAL CONFIGURATION
@@ -58,5 +61,47 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
      */
     public boolean isTransactionAutoOpenEnabled();
 
+    /**
+     * Returns the number of vertex versions after which a full vertex record snapshot is written.
+     * <p>
+     * <p>
+     * Every change to a vertex (including the addition or removal of an adjacent edge) produces a new version of the
+     * vertex in the store. With a snapshot interval of <code>n > 1</code>, only every <code>n</code>th version of a
+     * vertex contains the full adjacency information; the versions in between only store the edges which were added
+     * or removed since the previous version. The properties of the vertex are always stored in full, such that
+     * secondary indices remain unaffected.
+     * <p>
+     * <p>
+     * A value of <code>1</code> (the default) disables delta encoding, i.e. every version is a full snapshot.
+     *
+     * @return The snapshot interval. Always greater than zero.
+     */
+    public int getVertexRecordSnapshotInterval();
+
+    /**
+     * Returns the maximum number of reconstructed vertex records to keep in the delta resolution cache.
+     * <p>
+     * <p>
+     * This cache is only used if {@linkplain #getVertexRecordSnapshotInterval() delta encoding} is enabled. It holds
+     * the fully reconstructed vertex record versions which serve as the base for delta records.
+     *
+     * @return The maximum number of cached vertex records. Never negative.
+     */
+    public int getVertexRecordCacheMaxSize();
+
+    /**
+     * Checks if the adjacent edges of a vertex should be loaded lazily.
+     * <p>
+     * <p>
+     * When a vertex is loaded from the store, its properties are always decoded immediately. If lazy adjacency loading
+     * is enabled (the default), the edges of the vertex are only materialized when they are requested, and only for
+     * the requested direction and labels. Traversals which only access vertex properties therefore never create any
+     * edge objects. If lazy adjacency loading is disabled, all adjacent edges are materialized together with the
+     * properties.
+     *
+     * @return <code>true</code> if adjacent edges are loaded on demand, or <code>false</code> if they are loaded
+     * eagerly.
+     */
+    public boolean isLazyAdjacencyLoadingEnabled();
 
 }
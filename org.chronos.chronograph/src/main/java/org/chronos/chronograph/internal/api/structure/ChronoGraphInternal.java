@@ -2,6 +2,7 @@ package org.chronos.chronograph.internal.api.structure;
 
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.impl.transaction.VertexRecordResolver;
 import org.chronos.common.autolock.AutoLock;
 
 public interface ChronoGraphInternal extends ChronoGraph {
@@ -23,4 +24,12 @@ public interface ChronoGraphInternal extends ChronoGraph {
 	 */
 	public AutoLock commitLock();
 
+	/**
+	 * Returns the resolver which translates between full vertex records and their (potentially delta-encoded)
+	 * persistent form.
+	 *
+	 * @return The vertex record resolver. Never <code>null</code>.
+	 */
+	public VertexRecordResolver getVertexRecordResolver();
+
 }
@@ -0,0 +1,530 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
+import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
+import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * A {@link GraphComputer} which executes {@link VertexProgram}s and {@link MapReduce} jobs on a snapshot of a
+ * {@link ChronoGraphInternal ChronoGraph} at a fixed branch and timestamp.
+ *
+ * <p>
+ * Upon {@link #submit()}, the computer loads the requested version of the graph into an in-memory
+ * {@link SnapshotGraph} in parallel, and then executes the vertex program on the snapshot with the configured number
+ * of {@linkplain #workers(int) workers}. Since all reads happen on the snapshot, the computation neither holds a
+ * transaction open nor interferes with concurrent commits, and its results always refer to the same version of the
+ * graph.
+ *
+ * <p>
+ * The values computed by the vertex program are never written back into the store. If the vertex program produces a
+ * result graph, a {@link GraphComputer.ResultGraph#NEW new} graph is returned, which is backed by the snapshot.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphComputer implements GraphComputer {
+
+	/** The number of vertex partitions to create per worker, allows for some load balancing between the workers. */
+	static final int PARTITIONS_PER_WORKER = 4;
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final ChronoGraphInternal graph;
+	private final SnapshotGraph sourceSnapshot;
+	private final String branchName;
+	private final long timestamp;
+
+	private Optional<ResultGraph> resultGraph = Optional.empty();
+	private Optional<Persist> persist = Optional.empty();
+	private VertexProgram<?> vertexProgram;
+	private final Set<MapReduce> mapReducers = Sets.newHashSet();
+	private int workers = Runtime.getRuntime().availableProcessors();
+	private final GraphFilter graphFilter = new GraphFilter();
+
+	private boolean executed = false;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	public ChronoGraphComputer(final ChronoGraphInternal graph, final String branchName, final long timestamp) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		this.graph = graph;
+		this.sourceSnapshot = null;
+		this.branchName = branchName;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Creates a new computer which operates on a copy of the given snapshot.
+	 *
+	 * <p>
+	 * This is used for chaining computations, i.e. for running a vertex program on the result graph of a previous
+	 * computation. The given snapshot itself is never modified.
+	 *
+	 * @param sourceSnapshot
+	 *            The snapshot to operate on. Must not be <code>null</code>.
+	 */
+	protected ChronoGraphComputer(final SnapshotGraph sourceSnapshot) {
+		checkNotNull(sourceSnapshot, "Precondition violation - argument 'sourceSnapshot' must not be NULL!");
+		this.graph = null;
+		this.sourceSnapshot = sourceSnapshot;
+		this.branchName = sourceSnapshot.getBranchName();
+		this.timestamp = sourceSnapshot.getTimestamp();
+	}
+
+	// =====================================================================================================================
+	// CONFIGURATION
+	// =====================================================================================================================
+
+	@Override
+	public GraphComputer result(final ResultGraph resultGraph) {
+		this.resultGraph = Optional.ofNullable(resultGraph);
+		return this;
+	}
+
+	@Override
+	public GraphComputer persist(final Persist persist) {
+		this.persist = Optional.ofNullable(persist);
+		return this;
+	}
+
+	@Override
+	public GraphComputer program(final VertexProgram vertexProgram) {
+		this.vertexProgram = vertexProgram;
+		return this;
+	}
+
+	@Override
+	public GraphComputer mapReduce(final MapReduce mapReduce) {
+		this.mapReducers.add(mapReduce);
+		return this;
+	}
+
+	@Override
+	public GraphComputer workers(final int workers) {
+		this.workers = workers;
+		return this;
+	}
+
+	@Override
+	public GraphComputer vertices(final Traversal<Vertex, Vertex> vertexFilter) throws IllegalArgumentException {
+		this.graphFilter.setVertexFilter(vertexFilter);
+		return this;
+	}
+
+	@Override
+	public GraphComputer edges(final Traversal<Vertex, Edge> edgeFilter) throws IllegalArgumentException {
+		this.graphFilter.setEdgeFilter(edgeFilter);
+		return this;
+	}
+
+	/**
+	 * Returns the name of the branch on which this computer operates.
+	 *
+	 * @return The branch name. Never <code>null</code>.
+	 */
+	public String getBranchName() {
+		return this.branchName;
+	}
+
+	/**
+	 * Returns the timestamp of the graph version on which this computer operates.
+	 *
+	 * @return The timestamp. Never negative.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	// =====================================================================================================================
+	// EXECUTION
+	// =====================================================================================================================
+
+	@Override
+	public Future<ComputerResult> submit() {
+		// a graph computer may only be executed once
+		if (this.executed) {
+			throw Exceptions.computerHasAlreadyBeenSubmittedAVertexProgram();
+		}
+		this.executed = true;
+		// it is not possible to do nothing at all
+		if (this.vertexProgram == null && this.mapReducers.isEmpty()) {
+			throw GraphComputer.Exceptions.computerHasNoVertexProgramNorMapReducers();
+		}
+		if (this.workers > this.features().getMaxWorkers()) {
+			throw GraphComputer.Exceptions.computerRequiresMoreWorkersThanSupported(this.workers,
+					this.features().getMaxWorkers());
+		}
+		if (this.vertexProgram != null) {
+			GraphComputerHelper.validateProgramOnComputer(this, this.vertexProgram);
+			this.mapReducers.addAll(this.vertexProgram.getMapReducers());
+		}
+		ResultGraph resultGraphState = GraphComputerHelper.getResultGraphState(Optional.ofNullable(this.vertexProgram),
+				this.resultGraph);
+		Persist persistState = GraphComputerHelper.getPersistState(Optional.ofNullable(this.vertexProgram),
+				this.persist);
+		if (this.features().supportsResultGraphPersistCombination(resultGraphState, persistState) == false) {
+			throw GraphComputer.Exceptions.resultGraphPersistCombinationNotSupported(resultGraphState, persistState);
+		}
+		ExecutorService submitExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ChronoGraphComputer-" + this.branchName + "@" + this.timestamp);
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			return submitExecutor.submit(() -> this.execute(resultGraphState, persistState));
+		} finally {
+			submitExecutor.shutdown();
+		}
+	}
+
+	@Override
+	public Features features() {
+		return new Features() {
+
+			@Override
+			public int getMaxWorkers() {
+				return Runtime.getRuntime().availableProcessors();
+			}
+
+			@Override
+			public boolean supportsVertexAddition() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsVertexRemoval() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsEdgeAddition() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsEdgeRemoval() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsEdgePropertyAddition() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsEdgePropertyRemoval() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsResultGraphPersistCombination(final ResultGraph resultGraph,
+					final Persist persist) {
+				if (resultGraph == ResultGraph.ORIGINAL) {
+					// the snapshot is never written back into the store
+					return persist == Persist.NOTHING;
+				}
+				return true;
+			}
+
+			@Override
+			public boolean supportsGraphFilter() {
+				return true;
+			}
+
+		};
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.graphComputerString(this);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private ComputerResult execute(final ResultGraph resultGraphState, final Persist persistState) {
+		long startTime = System.currentTimeMillis();
+		ExecutorService workerPool = Executors.newFixedThreadPool(this.workers, runnable -> {
+			Thread thread = new Thread(runnable, "ChronoGraphComputer-Worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			SnapshotGraph snapshot = this.loadSnapshot(workerPool);
+			if (this.graphFilter.hasFilter()) {
+				this.applyGraphFilter(snapshot, workerPool);
+			}
+			ChronoGraphComputerMemory memory = new ChronoGraphComputerMemory(this.vertexProgram, this.mapReducers);
+			List<List<SnapshotVertex>> partitions = this.partition(snapshot);
+			if (this.vertexProgram != null) {
+				this.executeVertexProgram(memory, partitions, workerPool);
+				// the transient compute keys are not part of the result
+				Set<String> transientKeys = this.vertexProgram.getVertexComputeKeys().stream()
+						.filter(VertexComputeKey::isTransient).map(VertexComputeKey::getKey)
+						.collect(Collectors.toSet());
+				if (transientKeys.isEmpty() == false) {
+					for (SnapshotVertex vertex : snapshot.getVertices()) {
+						vertex.dropComputeProperties(transientKeys);
+					}
+				}
+			}
+			for (MapReduce mapReduce : this.mapReducers) {
+				this.executeMapReduce(mapReduce, memory, partitions, workerPool);
+			}
+			memory.setRuntime(System.currentTimeMillis() - startTime);
+			memory.complete();
+			Graph resultGraph = this.createResultGraph(snapshot, resultGraphState, persistState);
+			return new DefaultComputerResult(resultGraph, memory.asImmutable());
+		} finally {
+			workerPool.shutdownNow();
+		}
+	}
+
+	private SnapshotGraph loadSnapshot(final ExecutorService workerPool) {
+		if (this.sourceSnapshot != null) {
+			// the vertex program must not modify the result of the previous computation
+			return this.sourceSnapshot.copy();
+		}
+		return new SnapshotGraphLoader(this.graph, this.branchName, this.timestamp).load(workerPool, this.workers);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void executeVertexProgram(final ChronoGraphComputerMemory memory,
+			final List<List<SnapshotVertex>> partitions, final ExecutorService workerPool) {
+		ChronoGraphMessageBoard messageBoard = new ChronoGraphMessageBoard();
+		Optional<MessageCombiner> combiner = (Optional) this.vertexProgram.getMessageCombiner();
+		this.vertexProgram.setup(memory);
+		VertexProgramPool programPool = new VertexProgramPool(this.vertexProgram, this.workers);
+		while (true) {
+			if (Thread.interrupted()) {
+				throw new IllegalStateException("The graph computer has been interrupted!");
+			}
+			memory.completeSubRound();
+			Queue<List<SnapshotVertex>> pendingPartitions = new ConcurrentLinkedQueue<>(partitions);
+			List<Callable<Void>> tasks = Lists.newArrayList();
+			for (int i = 0; i < this.workers; i++) {
+				tasks.add(() -> {
+					VertexProgram program = programPool.take();
+					try {
+						program.workerIterationStart(memory.asImmutable());
+						List<SnapshotVertex> partition = pendingPartitions.poll();
+						while (partition != null) {
+							for (SnapshotVertex vertex : partition) {
+								ChronoGraphMessenger messenger = new ChronoGraphMessenger(vertex, messageBoard,
+										combiner);
+								program.execute(ComputerGraph.vertexProgram(vertex, program), messenger, memory);
+							}
+							partition = pendingPartitions.poll();
+						}
+						program.workerIterationEnd(memory.asImmutable());
+					} finally {
+						programPool.offer(program);
+					}
+					return null;
+				});
+			}
+			SnapshotGraphLoader.runAll(workerPool, tasks);
+			messageBoard.completeIteration();
+			memory.completeSubRound();
+			boolean terminate = this.vertexProgram.terminate(memory);
+			memory.incrIteration();
+			if (terminate) {
+				break;
+			}
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void executeMapReduce(final MapReduce mapReduce, final ChronoGraphComputerMemory memory,
+			final List<List<SnapshotVertex>> partitions, final ExecutorService workerPool) {
+		boolean doReduce = mapReduce.doStage(MapReduce.Stage.REDUCE);
+		MapReducePool mapReducePool = new MapReducePool(mapReduce, this.workers);
+		// map stage
+		ChronoGraphMapEmitter mapEmitter = new ChronoGraphMapEmitter(doReduce);
+		Queue<List<SnapshotVertex>> pendingPartitions = new ConcurrentLinkedQueue<>(partitions);
+		List<Callable<Void>> mapTasks = Lists.newArrayList();
+		for (int i = 0; i < this.workers; i++) {
+			mapTasks.add(() -> {
+				MapReduce worker = mapReducePool.take();
+				try {
+					worker.workerStart(MapReduce.Stage.MAP);
+					List<SnapshotVertex> partition = pendingPartitions.poll();
+					while (partition != null) {
+						for (SnapshotVertex vertex : partition) {
+							worker.map(ComputerGraph.mapReduce(vertex), mapEmitter);
+						}
+						partition = pendingPartitions.poll();
+					}
+					worker.workerEnd(MapReduce.Stage.MAP);
+				} finally {
+					mapReducePool.offer(worker);
+				}
+				return null;
+			});
+		}
+		SnapshotGraphLoader.runAll(workerPool, mapTasks);
+		if (doReduce == false) {
+			mapReduce.addResultToMemory(memory, mapEmitter.getMapResult(mapReduce).iterator());
+			return;
+		}
+		// reduce stage
+		ChronoGraphReduceEmitter reduceEmitter = new ChronoGraphReduceEmitter();
+		Queue<Entry<Object, Queue<Object>>> pendingKeys = new ConcurrentLinkedQueue<>(
+				((Map<Object, Queue<Object>>) mapEmitter.getReduceMap()).entrySet());
+		List<Callable<Void>> reduceTasks = Lists.newArrayList();
+		for (int i = 0; i < this.workers; i++) {
+			reduceTasks.add(() -> {
+				MapReduce worker = mapReducePool.take();
+				try {
+					worker.workerStart(MapReduce.Stage.REDUCE);
+					Entry<Object, Queue<Object>> entry = pendingKeys.poll();
+					while (entry != null) {
+						worker.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter);
+						entry = pendingKeys.poll();
+					}
+					worker.workerEnd(MapReduce.Stage.REDUCE);
+				} finally {
+					mapReducePool.offer(worker);
+				}
+				return null;
+			});
+		}
+		SnapshotGraphLoader.runAll(workerPool, reduceTasks);
+		List<KeyValue> result = reduceEmitter.getReduceResult(mapReduce);
+		mapReduce.addResultToMemory(memory, result.iterator());
+	}
+
+	private void applyGraphFilter(final SnapshotGraph snapshot, final ExecutorService workerPool) {
+		if (this.graphFilter.hasVertexFilter()) {
+			for (SnapshotVertex vertex : Lists.newArrayList(snapshot.getVertices())) {
+				if (this.graphFilter.legalVertex(vertex) == false) {
+					snapshot.removeVertex(vertex.id());
+				}
+			}
+		}
+		// determine the legal edges of every vertex first, then replace the adjacency of the vertices
+		Map<SnapshotVertex, Set<Edge>> legalEdges = new ConcurrentHashMap<>();
+		List<Callable<Void>> tasks = Lists.newArrayList();
+		for (List<SnapshotVertex> partition : this.partition(snapshot)) {
+			tasks.add(() -> {
+				for (SnapshotVertex vertex : partition) {
+					Set<Edge> edges = Sets.newHashSet();
+					Iterator<Edge> iterator = this.graphFilter.hasEdgeFilter() ? this.graphFilter.legalEdges(vertex)
+							: vertex.edges(Direction.BOTH);
+					iterator.forEachRemaining(edges::add);
+					legalEdges.put(vertex, edges);
+				}
+				return null;
+			});
+		}
+		SnapshotGraphLoader.runAll(workerPool, tasks);
+		Set<String> retainedEdgeIds = Sets.newHashSet();
+		for (Entry<SnapshotVertex, Set<Edge>> entry : legalEdges.entrySet()) {
+			SnapshotVertex vertex = entry.getKey();
+			Set<Edge> edges = entry.getValue();
+			List<SnapshotEdge> inEdges = this.filterEdges(vertex.getInEdges(), edges);
+			List<SnapshotEdge> outEdges = this.filterEdges(vertex.getOutEdges(), edges);
+			vertex.setEdges(inEdges, outEdges);
+			inEdges.forEach(edge -> retainedEdgeIds.add(edge.id()));
+			outEdges.forEach(edge -> retainedEdgeIds.add(edge.id()));
+		}
+		for (Edge edge : Lists.newArrayList(snapshot.edges())) {
+			if (retainedEdgeIds.contains(edge.id()) == false) {
+				snapshot.removeEdge((String) edge.id());
+			}
+		}
+	}
+
+	private List<SnapshotEdge> filterEdges(final List<SnapshotEdge> edges, final Set<Edge> legalEdges) {
+		List<SnapshotEdge> result = Lists.newArrayList();
+		for (SnapshotEdge edge : edges) {
+			// like in any other graph computer, the vertex filter does not affect the edges of the legal vertices
+			if (legalEdges.contains(edge)) {
+				result.add(edge);
+			}
+		}
+		if (result.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return result;
+	}
+
+	private List<List<SnapshotVertex>> partition(final SnapshotGraph snapshot) {
+		List<SnapshotVertex> vertices = Lists.newArrayList(snapshot.getVertices());
+		if (vertices.isEmpty()) {
+			return Collections.emptyList();
+		}
+		int partitionSize = Math.max(1,
+				(int) Math.ceil((double) vertices.size() / (this.workers * PARTITIONS_PER_WORKER)));
+		return Lists.partition(vertices, partitionSize);
+	}
+
+	private Graph createResultGraph(final SnapshotGraph snapshot, final ResultGraph resultGraphState,
+			final Persist persistState) {
+		if (resultGraphState == ResultGraph.ORIGINAL) {
+			// only Persist.NOTHING is supported for the original graph
+			if (this.sourceSnapshot != null) {
+				return this.sourceSnapshot;
+			}
+			return this.graph;
+		}
+		switch (persistState) {
+		case NOTHING:
+			return EmptyGraph.instance();
+		case VERTEX_PROPERTIES:
+			snapshot.clearEdges();
+			return snapshot;
+		case EDGES:
+			return snapshot;
+		default:
+			throw new IllegalArgumentException("Unknown Persist state: " + persistState);
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.MemoryHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import com.google.common.collect.Maps;
+
+/**
+ * The {@link Memory} of a {@link ChronoGraphComputer}.
+ *
+ * <p>
+ * During the execution of a vertex program, values added by the workers are reduced into the "current" map, while
+ * reads are served from the "previous" map (i.e. the state at the end of the last iteration). Both maps are
+ * concurrent, so the workers can share a single memory instance.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphComputerMemory implements Memory.Admin {
+
+	private final Map<String, MemoryComputeKey<?>> memoryKeys = Maps.newHashMap();
+	private Map<String, Object> previousMap = new ConcurrentHashMap<>();
+	private Map<String, Object> currentMap = new ConcurrentHashMap<>();
+	private final AtomicInteger iteration = new AtomicInteger(0);
+	private final AtomicLong runtime = new AtomicLong(0L);
+	private volatile boolean inExecute = false;
+
+	public ChronoGraphComputerMemory(final VertexProgram<?> vertexProgram, final Set<MapReduce> mapReducers) {
+		if (vertexProgram != null) {
+			for (MemoryComputeKey<?> key : vertexProgram.getMemoryComputeKeys()) {
+				this.memoryKeys.put(key.getKey(), key);
+			}
+		}
+		for (MapReduce<?, ?, ?, ?, ?> mapReduce : mapReducers) {
+			this.memoryKeys.put(mapReduce.getMemoryKey(),
+					MemoryComputeKey.of(mapReduce.getMemoryKey(), Operator.assign, false, false));
+		}
+	}
+
+	// =====================================================================================================================
+	// MEMORY API
+	// =====================================================================================================================
+
+	@Override
+	public Set<String> keys() {
+		return this.previousMap.keySet().stream()
+				.filter(key -> this.inExecute == false || this.memoryKeys.get(key).isBroadcast())
+				.collect(Collectors.toSet());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R> R get(final String key) throws IllegalArgumentException {
+		R value = (R) this.previousMap.get(key);
+		if (value == null) {
+			throw Memory.Exceptions.memoryDoesNotExist(key);
+		}
+		if (this.inExecute && this.memoryKeys.get(key).isBroadcast() == false) {
+			throw Memory.Exceptions.memoryDoesNotExist(key);
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void add(final String key, final Object value) {
+		this.checkKeyValue(key, value);
+		if (this.inExecute == false) {
+			throw Memory.Exceptions.memoryAddOnlyDuringVertexProgramExecute(key);
+		}
+		MemoryComputeKey memoryKey = this.memoryKeys.get(key);
+		this.currentMap.compute(key, (k, v) -> v == null ? value : memoryKey.getReducer().apply(v, value));
+	}
+
+	@Override
+	public void set(final String key, final Object value) {
+		this.checkKeyValue(key, value);
+		if (this.inExecute) {
+			throw Memory.Exceptions.memorySetOnlyDuringVertexProgramSetUpAndTerminate(key);
+		}
+		this.currentMap.put(key, value);
+	}
+
+	@Override
+	public void incrIteration() {
+		this.iteration.getAndIncrement();
+	}
+
+	@Override
+	public void setIteration(final int iteration) {
+		this.iteration.set(iteration);
+	}
+
+	@Override
+	public int getIteration() {
+		return this.iteration.get();
+	}
+
+	@Override
+	public void setRuntime(final long runtime) {
+		this.runtime.set(runtime);
+	}
+
+	@Override
+	public long getRuntime() {
+		return this.runtime.get();
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.memoryString(this);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL API
+	// =====================================================================================================================
+
+	/**
+	 * Switches between the "setup/terminate" and the "execute" phase of an iteration.
+	 */
+	protected void completeSubRound() {
+		this.previousMap = new ConcurrentHashMap<>(this.currentMap);
+		this.inExecute = !this.inExecute;
+	}
+
+	/**
+	 * Completes the computation, dropping all transient memory keys.
+	 */
+	protected void complete() {
+		this.iteration.decrementAndGet();
+		this.previousMap = this.currentMap;
+		this.memoryKeys.values().stream().filter(MemoryComputeKey::isTransient)
+				.forEach(key -> this.previousMap.remove(key.getKey()));
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private void checkKeyValue(final String key, final Object value) {
+		if (this.memoryKeys.containsKey(key) == false) {
+			throw GraphComputer.Exceptions.providedKeyIsNotAMemoryComputeKey(key);
+		}
+		MemoryHelper.validateValue(value);
+	}
+
+}
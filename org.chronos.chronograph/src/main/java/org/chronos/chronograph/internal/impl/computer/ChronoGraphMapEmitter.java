@@ -0,0 +1,75 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The {@link MapReduce.MapEmitter} used by the {@link ChronoGraphComputer}. Instances are shared among all workers.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphMapEmitter<K, V> implements MapReduce.MapEmitter<K, V> {
+
+	private final boolean doReduce;
+	private final Map<K, Queue<V>> reduceMap;
+	private final Queue<KeyValue<K, V>> mapQueue;
+
+	public ChronoGraphMapEmitter(final boolean doReduce) {
+		this.doReduce = doReduce;
+		if (doReduce) {
+			this.reduceMap = new ConcurrentHashMap<>();
+			this.mapQueue = null;
+		} else {
+			this.reduceMap = null;
+			this.mapQueue = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+	@Override
+	public void emit(final K key, final V value) {
+		if (this.doReduce) {
+			this.reduceMap.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(value);
+		} else {
+			this.mapQueue.add(new KeyValue<>(key, value));
+		}
+	}
+
+	/**
+	 * Returns the emitted values, grouped by key. Only available if the map reduce job has a reduce stage.
+	 *
+	 * @return The grouped values. Never <code>null</code>.
+	 */
+	public Map<K, Queue<V>> getReduceMap() {
+		return this.reduceMap;
+	}
+
+	/**
+	 * Returns the emitted key-value pairs, sorted by the map key sort of the given job (if any). Only available if the
+	 * map reduce job has no reduce stage.
+	 *
+	 * @param mapReduce
+	 *            The job which emitted the values. Must not be <code>null</code>.
+	 * @return The key-value pairs. Never <code>null</code>.
+	 */
+	public List<KeyValue<K, V>> getMapResult(final MapReduce<K, V, ?, ?, ?> mapReduce) {
+		List<KeyValue<K, V>> result = Lists.newArrayList(this.mapQueue);
+		Optional<Comparator<K>> sort = mapReduce.getMapKeySort();
+		if (sort.isPresent()) {
+			Comparator<K> comparator = sort.get();
+			result.sort((kv1, kv2) -> comparator.compare(kv1.getKey(), kv2.getKey()));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,36 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+/**
+ * Holds the messages exchanged between the vertices during the execution of a vertex program.
+ *
+ * <p>
+ * Messages sent in iteration <code>n</code> are received in iteration <code>n+1</code>. Messages sent via a
+ * {@link MessageScope.Local local message scope} are stored at the sending vertex and pulled by the receivers along
+ * the reversed incident traversal; messages sent via a {@link MessageScope.Global global message scope} are stored at
+ * the receiving vertex. The messages of different message scopes are kept apart from each other.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphMessageBoard<M> {
+
+	protected Map<MessageScope, Map<Vertex, Queue<M>>> sendMessages = new ConcurrentHashMap<>();
+	protected Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
+
+	/**
+	 * Completes the current iteration: the messages sent in this iteration become the messages to receive in the next
+	 * iteration.
+	 */
+	public void completeIteration() {
+		this.receiveMessages = this.sendMessages;
+		this.sendMessages = new ConcurrentHashMap<>();
+	}
+
+}
@@ -0,0 +1,135 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+/**
+ * The {@link Messenger} which is handed to a vertex program when it is executed on a single vertex.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphMessenger<M> implements Messenger<M> {
+
+	private final Vertex vertex;
+	private final ChronoGraphMessageBoard<M> messageBoard;
+	private final MessageCombiner<M> combiner;
+
+	public ChronoGraphMessenger(final Vertex vertex, final ChronoGraphMessageBoard<M> messageBoard,
+			final Optional<MessageCombiner<M>> combiner) {
+		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+		checkNotNull(messageBoard, "Precondition violation - argument 'messageBoard' must not be NULL!");
+		checkNotNull(combiner, "Precondition violation - argument 'combiner' must not be NULL!");
+		this.vertex = vertex;
+		this.messageBoard = messageBoard;
+		this.combiner = combiner.orElse(null);
+	}
+
+	@Override
+	public Iterator<M> receiveMessages() {
+		List<Iterator<M>> iterators = Lists.newArrayList();
+		for (Entry<MessageScope, Map<Vertex, Queue<M>>> entry : this.messageBoard.receiveMessages.entrySet()) {
+			MessageScope messageScope = entry.getKey();
+			if (messageScope instanceof MessageScope.Local) {
+				iterators.add(this.receiveLocalMessages((MessageScope.Local<M>) messageScope, entry.getValue()));
+			} else {
+				Queue<M> queue = entry.getValue().get(this.vertex);
+				if (queue != null) {
+					iterators.add(queue.iterator());
+				}
+			}
+		}
+		return Iterators.concat(iterators.iterator());
+	}
+
+	@Override
+	public void sendMessage(final MessageScope messageScope, final M message) {
+		Map<Vertex, Queue<M>> messages = this.messageBoard.sendMessages.computeIfAbsent(messageScope,
+				scope -> new ConcurrentHashMap<>());
+		if (messageScope instanceof MessageScope.Local) {
+			// local messages are stored at the sender and pulled by the receivers
+			this.addMessage(messages, this.vertex, message);
+		} else {
+			for (Vertex receiver : ((MessageScope.Global) messageScope).vertices()) {
+				this.addMessage(messages, receiver, message);
+			}
+		}
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private Iterator<M> receiveLocalMessages(final MessageScope.Local<M> localMessageScope,
+			final Map<Vertex, Queue<M>> messages) {
+		Traversal.Admin<Vertex, Edge> incidentTraversal = localMessageScope.getIncidentTraversal().get().asAdmin();
+		incidentTraversal.addStep(0, new StartStep<>(incidentTraversal, this.vertex));
+		Direction direction = getDirection(incidentTraversal);
+		// the messages have been sent along the incident traversal; we have to walk it backwards to find the senders
+		incidentTraversal = VertexProgramHelper.reverse(incidentTraversal);
+		List<Iterator<M>> iterators = Lists.newArrayList();
+		while (incidentTraversal.hasNext()) {
+			Edge edge = incidentTraversal.next();
+			Vertex sender;
+			if (direction == Direction.IN || direction == Direction.OUT) {
+				sender = edge.vertices(direction).next();
+			} else {
+				sender = edge.outVertex().equals(this.vertex) ? edge.inVertex() : edge.outVertex();
+			}
+			Queue<M> queue = messages.get(sender);
+			if (queue == null) {
+				continue;
+			}
+			iterators.add(Iterators.transform(queue.iterator(),
+					message -> localMessageScope.getEdgeFunction().apply(message, edge)));
+		}
+		if (iterators.isEmpty()) {
+			return Collections.emptyIterator();
+		}
+		return Iterators.concat(iterators.iterator());
+	}
+
+	private void addMessage(final Map<Vertex, Queue<M>> messages, final Vertex receiver, final M message) {
+		messages.compute(receiver, (v, queue) -> {
+			if (queue == null) {
+				queue = new ConcurrentLinkedQueue<>();
+			}
+			if (this.combiner != null && queue.isEmpty() == false) {
+				queue.add(this.combiner.combine(queue.remove(), message));
+			} else {
+				queue.add(message);
+			}
+			return queue;
+		});
+	}
+
+	private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
+		VertexStep<?> step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
+		return step.getDirection();
+	}
+
+}
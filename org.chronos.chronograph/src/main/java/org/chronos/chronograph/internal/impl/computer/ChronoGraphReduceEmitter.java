@@ -0,0 +1,46 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The {@link MapReduce.ReduceEmitter} used by the {@link ChronoGraphComputer}. Instances are shared among all workers.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphReduceEmitter<OK, OV> implements MapReduce.ReduceEmitter<OK, OV> {
+
+	private final Queue<KeyValue<OK, OV>> reduceQueue = new ConcurrentLinkedQueue<>();
+
+	@Override
+	public void emit(final OK key, final OV value) {
+		this.reduceQueue.add(new KeyValue<>(key, value));
+	}
+
+	/**
+	 * Returns the emitted key-value pairs, sorted by the reduce key sort of the given job (if any).
+	 *
+	 * @param mapReduce
+	 *            The job which emitted the values. Must not be <code>null</code>.
+	 * @return The key-value pairs. Never <code>null</code>.
+	 */
+	public List<KeyValue<OK, OV>> getReduceResult(final MapReduce<?, ?, OK, OV, ?> mapReduce) {
+		List<KeyValue<OK, OV>> result = Lists.newArrayList(this.reduceQueue);
+		Optional<Comparator<OK>> sort = mapReduce.getReduceKeySort();
+		if (sort.isPresent()) {
+			Comparator<OK> comparator = sort.get();
+			result.sort((kv1, kv2) -> comparator.compare(kv1.getKey(), kv2.getKey()));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,116 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * An {@link Edge} in a {@link SnapshotGraph}. Snapshot edges are immutable.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotEdge extends SnapshotElement implements Edge {
+
+	private final String outVertexId;
+	private final String inVertexId;
+	private Map<String, SnapshotProperty<?>> properties;
+
+	protected SnapshotEdge(final SnapshotGraph graph, final String id, final String outVertexId, final String label,
+			final String inVertexId) {
+		super(graph, id, label);
+		checkNotNull(outVertexId, "Precondition violation - argument 'outVertexId' must not be NULL!");
+		checkNotNull(inVertexId, "Precondition violation - argument 'inVertexId' must not be NULL!");
+		this.outVertexId = outVertexId;
+		this.inVertexId = inVertexId;
+	}
+
+	@Override
+	public SnapshotVertex outVertex() {
+		return this.graph.getVertex(this.outVertexId);
+	}
+
+	@Override
+	public SnapshotVertex inVertex() {
+		return this.graph.getVertex(this.inVertexId);
+	}
+
+	@Override
+	public Iterator<Vertex> vertices(final Direction direction) {
+		switch (direction) {
+		case OUT:
+			return Iterators.singletonIterator(this.outVertex());
+		case IN:
+			return Iterators.singletonIterator(this.inVertex());
+		case BOTH:
+			return Iterators.forArray(this.outVertex(), this.inVertex());
+		default:
+			throw new IllegalArgumentException("Unknown Direction: " + direction);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> Iterator<Property<V>> properties(final String... propertyKeys) {
+		if (this.properties == null) {
+			return Collections.emptyIterator();
+		}
+		if (propertyKeys == null || propertyKeys.length <= 0) {
+			return (Iterator<Property<V>>) (Iterator<?>) Collections.unmodifiableCollection(this.properties.values())
+					.iterator();
+		}
+		List<Property<V>> result = Lists.newArrayList();
+		for (String propertyKey : propertyKeys) {
+			SnapshotProperty<?> property = this.properties.get(propertyKey);
+			if (property != null) {
+				result.add((Property<V>) property);
+			}
+		}
+		return result.iterator();
+	}
+
+	@Override
+	public <V> Property<V> property(final String key, final V value) {
+		throw Element.Exceptions.propertyAdditionNotSupported();
+	}
+
+	@Override
+	public void remove() {
+		throw Edge.Exceptions.edgeRemovalNotSupported();
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.edgeString(this);
+	}
+
+	protected String getOutVertexId() {
+		return this.outVertexId;
+	}
+
+	protected String getInVertexId() {
+		return this.inVertexId;
+	}
+
+	protected void putProperty(final String key, final Object value) {
+		if (this.properties == null) {
+			this.properties = Maps.newHashMap();
+		}
+		this.properties.put(key, new SnapshotProperty<>(this, key, value));
+	}
+
+}
@@ -0,0 +1,54 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+
+/**
+ * Common base class for the elements of a {@link SnapshotGraph}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public abstract class SnapshotElement implements Element {
+
+	protected final SnapshotGraph graph;
+	protected final String id;
+	protected final String label;
+
+	protected SnapshotElement(final SnapshotGraph graph, final String id, final String label) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		checkNotNull(id, "Precondition violation - argument 'id' must not be NULL!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		this.graph = graph;
+		this.id = id;
+		this.label = label;
+	}
+
+	@Override
+	public String id() {
+		return this.id;
+	}
+
+	@Override
+	public String label() {
+		return this.label;
+	}
+
+	@Override
+	public SnapshotGraph graph() {
+		return this.graph;
+	}
+
+	@Override
+	public int hashCode() {
+		return ElementHelper.hashCode(this);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return ElementHelper.areEqual(this, obj);
+	}
+
+}
@@ -0,0 +1,332 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A {@link SnapshotGraph} is an in-memory, read-only copy of a {@link org.chronos.chronograph.api.structure.ChronoGraph
+ * ChronoGraph} at a fixed branch and timestamp.
+ *
+ * <p>
+ * Snapshot graphs are created by the {@link ChronoGraphComputer} for the execution of vertex programs. As the snapshot
+ * is immutable (except for the compute keys of the vertex programs), it can be accessed by many threads without any
+ * locking. The only modification a snapshot graph permits is the addition and removal of vertex properties, which is
+ * used by vertex programs to store their vertex compute keys.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotGraph implements Graph {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final String branchName;
+	private final long timestamp;
+
+	private final Map<String, SnapshotVertex> vertices;
+	private final Map<String, SnapshotEdge> edges;
+	/** Vertices which have been removed by a vertex filter, but may still be adjacent to the remaining vertices. */
+	private final Map<String, SnapshotVertex> filteredVertices = new ConcurrentHashMap<>();
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	protected SnapshotGraph(final String branchName, final long timestamp, final Map<String, SnapshotVertex> vertices,
+			final Map<String, SnapshotEdge> edges) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(vertices, "Precondition violation - argument 'vertices' must not be NULL!");
+		checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+		this.branchName = branchName;
+		this.timestamp = timestamp;
+		this.vertices = vertices;
+		this.edges = edges;
+	}
+
+	// =====================================================================================================================
+	// METADATA
+	// =====================================================================================================================
+
+	/**
+	 * Returns the name of the branch this snapshot has been taken from.
+	 *
+	 * @return The branch name. Never <code>null</code>.
+	 */
+	public String getBranchName() {
+		return this.branchName;
+	}
+
+	/**
+	 * Returns the timestamp at which this snapshot has been taken.
+	 *
+	 * @return The timestamp. Never negative.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	public Iterator<Vertex> vertices(final Object... vertexIds) {
+		return this.getElements(this.vertices, vertexIds);
+	}
+
+	@Override
+	public Iterator<Edge> edges(final Object... edgeIds) {
+		return this.getElements(this.edges, edgeIds);
+	}
+
+	@Override
+	public Vertex addVertex(final Object... keyValues) {
+		throw Graph.Exceptions.vertexAdditionsNotSupported();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C extends GraphComputer> C compute(final Class<C> graphComputerClass) throws IllegalArgumentException {
+		if (ChronoGraphComputer.class.equals(graphComputerClass) == false) {
+			throw Graph.Exceptions.graphDoesNotSupportProvidedGraphComputer(graphComputerClass);
+		}
+		return (C) this.compute();
+	}
+
+	@Override
+	public GraphComputer compute() throws IllegalArgumentException {
+		// computations on a snapshot operate on a copy, the snapshot itself remains unchanged
+		return new ChronoGraphComputer(this);
+	}
+
+	@Override
+	public Transaction tx() {
+		throw Graph.Exceptions.transactionsNotSupported();
+	}
+
+	@Override
+	public Variables variables() {
+		throw Graph.Exceptions.variablesNotSupported();
+	}
+
+	@Override
+	public Configuration configuration() {
+		return new BaseConfiguration();
+	}
+
+	@Override
+	public Features features() {
+		return SnapshotGraphFeatures.INSTANCE;
+	}
+
+	@Override
+	public void close() {
+		// nothing to do
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.graphString(this, "vertices:" + this.vertices.size() + " edges:" + this.edges.size()
+				+ " branch:" + this.branchName + " timestamp:" + this.timestamp);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL API
+	// =====================================================================================================================
+
+	protected SnapshotVertex getVertex(final String vertexId) {
+		SnapshotVertex vertex = this.vertices.get(vertexId);
+		if (vertex == null) {
+			vertex = this.filteredVertices.get(vertexId);
+		}
+		return vertex;
+	}
+
+	protected Collection<SnapshotVertex> getVertices() {
+		return Collections.unmodifiableCollection(this.vertices.values());
+	}
+
+	/**
+	 * Removes the vertex with the given ID from this snapshot.
+	 *
+	 * <p>
+	 * The vertex is no longer part of the {@linkplain #vertices(Object...) vertices} of this snapshot, but it can still
+	 * be reached via the edges of the remaining vertices.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex to remove. Must not be <code>null</code>.
+	 */
+	protected void removeVertex(final String vertexId) {
+		SnapshotVertex vertex = this.vertices.remove(vertexId);
+		if (vertex != null) {
+			this.filteredVertices.put(vertexId, vertex);
+		}
+	}
+
+	protected void removeEdge(final String edgeId) {
+		this.edges.remove(edgeId);
+	}
+
+	/**
+	 * Creates a deep copy of this snapshot.
+	 *
+	 * <p>
+	 * The properties which have been added by vertex programs are copied as well, and remain modifiable in the copy.
+	 *
+	 * @return The copy. Never <code>null</code>.
+	 */
+	protected SnapshotGraph copy() {
+		Map<String, SnapshotVertex> vertexCopies = new ConcurrentHashMap<>(this.vertices.size());
+		Map<String, SnapshotEdge> edgeCopies = new ConcurrentHashMap<>(this.edges.size());
+		SnapshotGraph copy = new SnapshotGraph(this.branchName, this.timestamp, vertexCopies, edgeCopies);
+		for (SnapshotVertex vertex : this.vertices.values()) {
+			vertexCopies.put(vertex.id(), vertex.copyTo(copy));
+		}
+		for (SnapshotVertex vertex : this.filteredVertices.values()) {
+			copy.filteredVertices.put(vertex.id(), vertex.copyTo(copy));
+		}
+		for (SnapshotEdge edge : this.edges.values()) {
+			SnapshotEdge edgeCopy = new SnapshotEdge(copy, edge.id(), edge.getOutVertexId(), edge.label(),
+					edge.getInVertexId());
+			edge.properties().forEachRemaining(property -> edgeCopy.putProperty(property.key(), property.value()));
+			edgeCopies.put(edgeCopy.id(), edgeCopy);
+		}
+		for (SnapshotVertex vertex : this.vertices.values()) {
+			vertexCopies.get(vertex.id()).setEdges(copyEdges(vertex.getInEdges(), edgeCopies),
+					copyEdges(vertex.getOutEdges(), edgeCopies));
+		}
+		return copy;
+	}
+
+	/**
+	 * Drops all edges from this snapshot.
+	 */
+	protected void clearEdges() {
+		this.edges.clear();
+		for (SnapshotVertex vertex : this.vertices.values()) {
+			vertex.setEdges(Collections.emptyList(), Collections.emptyList());
+		}
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private static List<SnapshotEdge> copyEdges(final List<SnapshotEdge> edges,
+			final Map<String, SnapshotEdge> edgeCopies) {
+		if (edges.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<SnapshotEdge> result = Lists.newArrayListWithExpectedSize(edges.size());
+		for (SnapshotEdge edge : edges) {
+			result.add(edgeCopies.get(edge.id()));
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E extends Element> Iterator<E> getElements(final Map<String, ? extends E> elementsById,
+			final Object... ids) {
+		if (ids == null || ids.length <= 0) {
+			return (Iterator<E>) Collections.unmodifiableCollection(elementsById.values()).iterator();
+		}
+		List<E> result = Lists.newArrayListWithExpectedSize(ids.length);
+		for (Object id : ids) {
+			Object elementId = id;
+			if (id instanceof Element) {
+				elementId = ((Element) id).id();
+			}
+			if (elementId instanceof String == false) {
+				throw Graph.Exceptions.idArgsMustBeEitherIdOrElement();
+			}
+			E element = elementsById.get(elementId);
+			if (element != null) {
+				result.add(element);
+			}
+		}
+		return result.iterator();
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	private static class SnapshotGraphFeatures implements Features {
+
+		private static final SnapshotGraphFeatures INSTANCE = new SnapshotGraphFeatures();
+
+		private final GraphFeatures graphFeatures = new GraphFeatures() {
+
+			@Override
+			public boolean supportsComputer() {
+				return true;
+			}
+
+			@Override
+			public boolean supportsPersistence() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsTransactions() {
+				return false;
+			}
+
+			@Override
+			public boolean supportsThreadedTransactions() {
+				return false;
+			}
+
+		};
+
+		private final VertexFeatures vertexFeatures = new VertexFeatures() {
+
+			@Override
+			public VertexProperty.Cardinality getCardinality(final String key) {
+				// vertex programs store their compute keys with single cardinality by default
+				return VertexProperty.Cardinality.single;
+			}
+
+			@Override
+			public boolean supportsMultiProperties() {
+				// only applies to the compute keys of vertex programs
+				return true;
+			}
+
+		};
+
+		@Override
+		public GraphFeatures graph() {
+			return this.graphFeatures;
+		}
+
+		@Override
+		public VertexFeatures vertex() {
+			return this.vertexFeatures;
+		}
+
+	}
+
+}
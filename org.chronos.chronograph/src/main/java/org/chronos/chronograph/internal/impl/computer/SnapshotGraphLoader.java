@@ -0,0 +1,200 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.VertexRecordResolver;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Loads a {@link SnapshotGraph} from the records of a {@link ChronoGraphInternal graph}.
+ *
+ * <p>
+ * The vertex key set at the requested branch and timestamp is sorted and split into partitions, which are loaded in
+ * parallel. Every partition is read with its own store transaction. Edge records are read once, from the partition
+ * which contains their out-vertex. After all partitions have been loaded, the adjacency of the vertices is linked to
+ * the loaded edges (again in parallel).
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotGraphLoader {
+
+	private final ChronoGraphInternal graph;
+	private final String branchName;
+	private final long timestamp;
+
+	public SnapshotGraphLoader(final ChronoGraphInternal graph, final String branchName, final long timestamp) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		this.graph = graph;
+		this.branchName = branchName;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Loads the snapshot.
+	 *
+	 * @param executor
+	 *            The executor to run the partition loaders on. Must not be <code>null</code>.
+	 * @param workers
+	 *            The number of workers available in the executor. Must be greater than zero.
+	 *
+	 * @return The loaded snapshot graph. Never <code>null</code>.
+	 */
+	public SnapshotGraph load(final ExecutorService executor, final int workers) {
+		checkNotNull(executor, "Precondition violation - argument 'executor' must not be NULL!");
+		checkArgument(workers > 0, "Precondition violation - argument 'workers' must be greater than zero!");
+		ChronoDB db = this.graph.getBackingDB();
+		List<String> vertexIds = Lists
+				.newArrayList(db.tx(this.branchName, this.timestamp).keySet(ChronoGraphConstants.KEYSPACE_VERTEX));
+		// sorted partitions allow the backend to read the records of a partition in key order
+		Collections.sort(vertexIds);
+		Map<String, SnapshotVertex> vertices = new ConcurrentHashMap<>(vertexIds.size());
+		Map<String, SnapshotEdge> edges = new ConcurrentHashMap<>(vertexIds.size());
+		Map<String, VertexRecord> vertexRecords = new ConcurrentHashMap<>(vertexIds.size());
+		SnapshotGraph snapshot = new SnapshotGraph(this.branchName, this.timestamp, vertices, edges);
+		if (vertexIds.isEmpty()) {
+			return snapshot;
+		}
+		int partitionSize = Math.max(1, (int) Math
+				.ceil((double) vertexIds.size() / (workers * ChronoGraphComputer.PARTITIONS_PER_WORKER)));
+		List<List<String>> partitions = Lists.partition(vertexIds, partitionSize);
+		// phase 1: load the vertices and their outgoing edges
+		List<Callable<Void>> loadTasks = Lists.newArrayList();
+		for (List<String> partition : partitions) {
+			loadTasks.add(() -> {
+				this.loadPartition(snapshot, partition, vertices, edges, vertexRecords);
+				return null;
+			});
+		}
+		runAll(executor, loadTasks);
+		// phase 2: link the vertices to their edges
+		List<Callable<Void>> linkTasks = Lists.newArrayList();
+		for (List<String> partition : partitions) {
+			linkTasks.add(() -> {
+				this.linkPartition(partition, vertices, edges, vertexRecords);
+				return null;
+			});
+		}
+		runAll(executor, linkTasks);
+		return snapshot;
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private void loadPartition(final SnapshotGraph snapshot, final List<String> vertexIds,
+			final Map<String, SnapshotVertex> vertices, final Map<String, SnapshotEdge> edges,
+			final Map<String, VertexRecord> vertexRecords) {
+		ChronoDBTransaction tx = this.graph.getBackingDB().tx(this.branchName, this.timestamp);
+		VertexRecordResolver recordResolver = this.graph.getVertexRecordResolver();
+		for (String vertexId : vertexIds) {
+			VertexRecord record = recordResolver.loadVertexRecord(tx, vertexId);
+			if (record == null) {
+				continue;
+			}
+			SnapshotVertex vertex = new SnapshotVertex(snapshot, vertexId, record.getLabel());
+			for (VertexPropertyRecord propertyRecord : record.getProperties()) {
+				SnapshotVertexProperty<?> property = new SnapshotVertexProperty<>(vertex, propertyRecord.getId(),
+						propertyRecord.getKey(), propertyRecord.getValue());
+				for (PropertyRecord metaProperty : propertyRecord.getProperties().values()) {
+					property.putMetaProperty(metaProperty.getKey(), metaProperty.getValue());
+				}
+				vertex.putProperty(property);
+			}
+			vertices.put(vertexId, vertex);
+			vertexRecords.put(vertexId, record);
+			for (Entry<String, EdgeTargetRecord> entry : record.getOutgoingEdgesByLabel().entries()) {
+				EdgeTargetRecord edgeTarget = entry.getValue();
+				SnapshotEdge edge = new SnapshotEdge(snapshot, edgeTarget.getEdgeId(), vertexId, entry.getKey(),
+						edgeTarget.getOtherEndVertexId());
+				EdgeRecord edgeRecord = tx.get(ChronoGraphConstants.KEYSPACE_EDGE, edgeTarget.getEdgeId());
+				if (edgeRecord != null) {
+					for (PropertyRecord property : edgeRecord.getProperties()) {
+						edge.putProperty(property.getKey(), property.getValue());
+					}
+				}
+				edges.put(edge.id(), edge);
+			}
+		}
+	}
+
+	private void linkPartition(final List<String> vertexIds, final Map<String, SnapshotVertex> vertices,
+			final Map<String, SnapshotEdge> edges, final Map<String, VertexRecord> vertexRecords) {
+		for (String vertexId : vertexIds) {
+			VertexRecord record = vertexRecords.get(vertexId);
+			if (record == null) {
+				continue;
+			}
+			List<SnapshotEdge> inEdges = this.resolveEdges(record.getIncomingEdges(), edges);
+			List<SnapshotEdge> outEdges = this.resolveEdges(record.getOutgoingEdges(), edges);
+			vertices.get(vertexId).setEdges(inEdges, outEdges);
+		}
+	}
+
+	private List<SnapshotEdge> resolveEdges(final Iterable<EdgeTargetRecord> edgeTargets,
+			final Map<String, SnapshotEdge> edges) {
+		List<SnapshotEdge> result = Lists.newArrayList();
+		for (EdgeTargetRecord edgeTarget : edgeTargets) {
+			SnapshotEdge edge = edges.get(edgeTarget.getEdgeId());
+			if (edge != null) {
+				result.add(edge);
+			}
+		}
+		if (result.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return result;
+	}
+
+	/**
+	 * Runs the given tasks on the given executor and waits for their completion.
+	 *
+	 * @param executor
+	 *            The executor to use. Must not be <code>null</code>.
+	 * @param tasks
+	 *            The tasks to run. Must not be <code>null</code>.
+	 */
+	protected static void runAll(final ExecutorService executor, final List<? extends Callable<Void>> tasks) {
+		try {
+			List<Future<Void>> futures = executor.invokeAll(tasks);
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the graph computer workers!", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException("A graph computer worker failed!", cause);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+/**
+ * A {@link Property} of a {@link SnapshotEdge}, or a meta-property of a {@link SnapshotVertexProperty}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotProperty<V> implements Property<V> {
+
+	private final Element owner;
+	private final String key;
+	private final V value;
+
+	protected SnapshotProperty(final Element owner, final String key, final V value) {
+		checkNotNull(owner, "Precondition violation - argument 'owner' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+		this.owner = owner;
+		this.key = key;
+		this.value = value;
+	}
+
+	@Override
+	public String key() {
+		return this.key;
+	}
+
+	@Override
+	public V value() {
+		return this.value;
+	}
+
+	@Override
+	public boolean isPresent() {
+		return true;
+	}
+
+	@Override
+	public Element element() {
+		return this.owner;
+	}
+
+	@Override
+	public void remove() {
+		throw Property.Exceptions.propertyRemovalNotSupported();
+	}
+
+	@Override
+	public int hashCode() {
+		return ElementHelper.hashCode(this);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return ElementHelper.areEqual(this, obj);
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.propertyString(this);
+	}
+
+}
@@ -0,0 +1,254 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A {@link Vertex} in a {@link SnapshotGraph}.
+ *
+ * <p>
+ * The properties and edges of a snapshot vertex are immutable. Vertex programs may add and remove additional
+ * properties (their vertex compute keys, with any cardinality); those are kept separately and shadow the snapshot
+ * properties with the same key.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotVertex extends SnapshotElement implements Vertex {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final Map<String, SnapshotVertexProperty<?>> properties;
+	private final Map<String, List<SnapshotVertexProperty<?>>> computeProperties = new ConcurrentHashMap<>();
+
+	private List<SnapshotEdge> inEdges = Collections.emptyList();
+	private List<SnapshotEdge> outEdges = Collections.emptyList();
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	protected SnapshotVertex(final SnapshotGraph graph, final String id, final String label) {
+		super(graph, id, label);
+		this.properties = Maps.newHashMap();
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	public Iterator<Edge> edges(final Direction direction, final String... edgeLabels) {
+		switch (direction) {
+		case IN:
+			return this.filterByLabel(this.inEdges, edgeLabels);
+		case OUT:
+			return this.filterByLabel(this.outEdges, edgeLabels);
+		case BOTH:
+			return Iterators.concat(this.filterByLabel(this.outEdges, edgeLabels),
+					this.filterByLabel(this.inEdges, edgeLabels));
+		default:
+			throw new IllegalArgumentException("Unknown Direction: " + direction);
+		}
+	}
+
+	@Override
+	public Iterator<Vertex> vertices(final Direction direction, final String... edgeLabels) {
+		switch (direction) {
+		case IN:
+			return Iterators.transform(this.edges(Direction.IN, edgeLabels), edge -> edge.outVertex());
+		case OUT:
+			return Iterators.transform(this.edges(Direction.OUT, edgeLabels), edge -> edge.inVertex());
+		case BOTH:
+			return Iterators.concat(this.vertices(Direction.OUT, edgeLabels), this.vertices(Direction.IN, edgeLabels));
+		default:
+			throw new IllegalArgumentException("Unknown Direction: " + direction);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> Iterator<VertexProperty<V>> properties(final String... propertyKeys) {
+		if (propertyKeys == null || propertyKeys.length <= 0) {
+			if (this.computeProperties.isEmpty()) {
+				return (Iterator<VertexProperty<V>>) (Iterator<?>) Collections
+						.unmodifiableCollection(this.properties.values()).iterator();
+			}
+			List<VertexProperty<V>> result = Lists.newArrayList();
+			for (SnapshotVertexProperty<?> property : this.properties.values()) {
+				if (this.computeProperties.containsKey(property.key()) == false) {
+					result.add((VertexProperty<V>) property);
+				}
+			}
+			for (List<SnapshotVertexProperty<?>> properties : this.computeProperties.values()) {
+				properties.forEach(property -> result.add((VertexProperty<V>) property));
+			}
+			return result.iterator();
+		}
+		List<VertexProperty<V>> result = Lists.newArrayListWithExpectedSize(propertyKeys.length);
+		for (String propertyKey : propertyKeys) {
+			List<SnapshotVertexProperty<?>> computeProperties = this.computeProperties.get(propertyKey);
+			if (computeProperties != null) {
+				computeProperties.forEach(property -> result.add((VertexProperty<V>) property));
+				continue;
+			}
+			SnapshotVertexProperty<?> property = this.properties.get(propertyKey);
+			if (property != null) {
+				result.add((VertexProperty<V>) property);
+			}
+		}
+		return result.iterator();
+	}
+
+	@Override
+	public <V> VertexProperty<V> property(final VertexProperty.Cardinality cardinality, final String key,
+			final V value, final Object... keyValues) {
+		ElementHelper.validateProperty(key, value);
+		ElementHelper.legalPropertyKeyValueArray(keyValues);
+		SnapshotVertexProperty<V> property = new SnapshotVertexProperty<>(this, null, key, value);
+		for (int i = 0; i < keyValues.length; i += 2) {
+			property.putMetaProperty((String) keyValues[i], keyValues[i + 1]);
+		}
+		List<SnapshotVertexProperty<?>> values = this.computeProperties.get(key);
+		if (values == null || cardinality == VertexProperty.Cardinality.single) {
+			values = Lists.newArrayListWithExpectedSize(1);
+			this.computeProperties.put(key, values);
+		} else if (cardinality == VertexProperty.Cardinality.set) {
+			for (SnapshotVertexProperty<?> existingProperty : values) {
+				if (value.equals(existingProperty.value())) {
+					return VertexProperty.empty();
+				}
+			}
+		}
+		values.add(property);
+		return property;
+	}
+
+	@Override
+	public Edge addEdge(final String label, final Vertex inVertex, final Object... keyValues) {
+		throw Vertex.Exceptions.edgeAdditionsNotSupported();
+	}
+
+	@Override
+	public void remove() {
+		throw Vertex.Exceptions.vertexRemovalNotSupported();
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.vertexString(this);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL API
+	// =====================================================================================================================
+
+	protected void putProperty(final SnapshotVertexProperty<?> property) {
+		checkNotNull(property, "Precondition violation - argument 'property' must not be NULL!");
+		this.properties.put(property.key(), property);
+	}
+
+	protected void removeProperty(final SnapshotVertexProperty<?> property) {
+		List<SnapshotVertexProperty<?>> values = this.computeProperties.get(property.key());
+		if (values == null || values.remove(property) == false) {
+			throw Property.Exceptions.propertyRemovalNotSupported();
+		}
+		if (values.isEmpty()) {
+			this.computeProperties.remove(property.key());
+		}
+	}
+
+	protected void setEdges(final List<SnapshotEdge> inEdges, final List<SnapshotEdge> outEdges) {
+		checkNotNull(inEdges, "Precondition violation - argument 'inEdges' must not be NULL!");
+		checkNotNull(outEdges, "Precondition violation - argument 'outEdges' must not be NULL!");
+		this.inEdges = inEdges;
+		this.outEdges = outEdges;
+	}
+
+	protected List<SnapshotEdge> getInEdges() {
+		return this.inEdges;
+	}
+
+	protected List<SnapshotEdge> getOutEdges() {
+		return this.outEdges;
+	}
+
+	/**
+	 * Creates a copy of this vertex (including the properties which have been added by vertex programs) in the given
+	 * graph. The edges of the vertex are not copied.
+	 *
+	 * @param graph
+	 *            The graph which will contain the copy. Must not be <code>null</code>.
+	 *
+	 * @return The copy. Never <code>null</code>.
+	 */
+	protected SnapshotVertex copyTo(final SnapshotGraph graph) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		SnapshotVertex copy = new SnapshotVertex(graph, this.id, this.label);
+		for (SnapshotVertexProperty<?> property : this.properties.values()) {
+			copy.properties.put(property.key(), property.copyTo(copy));
+		}
+		for (Entry<String, List<SnapshotVertexProperty<?>>> entry : this.computeProperties.entrySet()) {
+			List<SnapshotVertexProperty<?>> values = Lists.newArrayListWithExpectedSize(entry.getValue().size());
+			entry.getValue().forEach(property -> values.add(property.copyTo(copy)));
+			copy.computeProperties.put(entry.getKey(), values);
+		}
+		return copy;
+	}
+
+	/**
+	 * Drops the properties with the given keys which have been added by vertex programs.
+	 *
+	 * @param computeKeys
+	 *            The compute keys to drop. Must not be <code>null</code>.
+	 */
+	protected void dropComputeProperties(final Collection<String> computeKeys) {
+		checkNotNull(computeKeys, "Precondition violation - argument 'computeKeys' must not be NULL!");
+		this.computeProperties.keySet().removeAll(computeKeys);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private Iterator<Edge> filterByLabel(final List<SnapshotEdge> edges, final String... edgeLabels) {
+		Iterator<Edge> iterator = Collections.<Edge> unmodifiableList(edges).iterator();
+		if (edgeLabels == null || edgeLabels.length <= 0) {
+			return iterator;
+		}
+		if (edgeLabels.length == 1) {
+			String edgeLabel = edgeLabels[0];
+			return Iterators.filter(iterator, edge -> edge.label().equals(edgeLabel));
+		}
+		return Iterators.filter(iterator, edge -> {
+			for (String edgeLabel : edgeLabels) {
+				if (edge.label().equals(edgeLabel)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+}
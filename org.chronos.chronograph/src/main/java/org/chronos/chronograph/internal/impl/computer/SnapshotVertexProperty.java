@@ -0,0 +1,133 @@
+package org.chronos.chronograph.internal.impl.computer;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.chronos.chronograph.internal.impl.util.ChronoId;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A {@link VertexProperty} of a {@link SnapshotVertex}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotVertexProperty<V> implements VertexProperty<V> {
+
+	private final SnapshotVertex vertex;
+	private final String id;
+	private final String key;
+	private final V value;
+	private Map<String, SnapshotProperty<?>> metaProperties;
+
+	protected SnapshotVertexProperty(final SnapshotVertex vertex, final String id, final String key, final V value) {
+		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+		this.vertex = vertex;
+		if (id == null) {
+			this.id = ChronoId.random();
+		} else {
+			this.id = id;
+		}
+		this.key = key;
+		this.value = value;
+	}
+
+	@Override
+	public String key() {
+		return this.key;
+	}
+
+	@Override
+	public V value() {
+		return this.value;
+	}
+
+	@Override
+	public boolean isPresent() {
+		return true;
+	}
+
+	@Override
+	public SnapshotVertex element() {
+		return this.vertex;
+	}
+
+	@Override
+	public String id() {
+		return this.id;
+	}
+
+	@Override
+	public <U> Property<U> property(final String key, final U value) {
+		throw Element.Exceptions.propertyAdditionNotSupported();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <U> Iterator<Property<U>> properties(final String... propertyKeys) {
+		if (this.metaProperties == null) {
+			return Collections.emptyIterator();
+		}
+		if (propertyKeys == null || propertyKeys.length <= 0) {
+			return (Iterator<Property<U>>) (Iterator<?>) Collections.unmodifiableCollection(this.metaProperties.values())
+					.iterator();
+		}
+		List<Property<U>> result = Lists.newArrayList();
+		for (String propertyKey : propertyKeys) {
+			SnapshotProperty<?> property = this.metaProperties.get(propertyKey);
+			if (property != null) {
+				result.add((Property<U>) property);
+			}
+		}
+		return result.iterator();
+	}
+
+	@Override
+	public void remove() {
+		this.vertex.removeProperty(this);
+	}
+
+	@Override
+	public int hashCode() {
+		return ElementHelper.hashCode((Element) this);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return ElementHelper.areEqual(this, obj);
+	}
+
+	@Override
+	public String toString() {
+		return StringFactory.propertyString(this);
+	}
+
+	protected SnapshotVertexProperty<V> copyTo(final SnapshotVertex vertex) {
+		SnapshotVertexProperty<V> copy = new SnapshotVertexProperty<>(vertex, this.id, this.key, this.value);
+		if (this.metaProperties != null) {
+			this.metaProperties.values().forEach(property -> copy.putMetaProperty(property.key(), property.value()));
+		}
+		return copy;
+	}
+
+	protected void putMetaProperty(final String key, final Object value) {
+		if (this.metaProperties == null) {
+			this.metaProperties = Maps.newHashMap();
+		}
+		this.metaProperties.put(key, new SnapshotProperty<>(this, key, value));
+	}
+
+}
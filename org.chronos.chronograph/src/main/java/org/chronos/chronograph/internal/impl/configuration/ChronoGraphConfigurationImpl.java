@@ -18,6 +18,15 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
     @Parameter(key = ChronoGraphConfiguration.TRANSACTION_AUTO_OPEN)
     private boolean txAutoOpenEnabled = true;
 
+    @Parameter(key = ChronoGraphConfiguration.VERTEX_RECORD_SNAPSHOT_INTERVAL)
+    private int vertexRecordSnapshotInterval = 1;
+
+    @Parameter(key = ChronoGraphConfiguration.VERTEX_RECORD_CACHE_MAX_SIZE)
+    private int vertexRecordCacheMaxSize = 10000;
+
+    @Parameter(key = ChronoGraphConfiguration.LAZY_ADJACENCY_LOADING)
+    private boolean lazyAdjacencyLoading = true;
+
 
     // =================================================================================================================
     // GETTERS
@@ -33,4 +42,19 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
         return this.txAutoOpenEnabled;
     }
 
+    @Override
+    public int getVertexRecordSnapshotInterval() {
+        return Math.max(1, this.vertexRecordSnapshotInterval);
+    }
+
+    @Override
+    public int getVertexRecordCacheMaxSize() {
+        return Math.max(0, this.vertexRecordCacheMaxSize);
+    }
+
+    @Override
+    public boolean isLazyAdjacencyLoadingEnabled() {
+        return this.lazyAdjacencyLoading;
+    }
+
 }
@@ -8,6 +8,7 @@ import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
 import org.chronos.chronodb.internal.impl.dump.DumpOptions;
 import org.chronos.chronograph.internal.impl.dumpformat.converter.EdgeRecordConverter;
 import org.chronos.chronograph.internal.impl.dumpformat.converter.VertexRecordConverter;
+import org.chronos.chronograph.internal.impl.dumpformat.converter.VertexRecordDeltaConverter;
 import org.chronos.chronograph.internal.impl.dumpformat.property.AbstractPropertyDump;
 import org.chronos.chronograph.internal.impl.dumpformat.property.BinaryPropertyDump;
 import org.chronos.chronograph.internal.impl.dumpformat.property.PlainPropertyDump;
@@ -18,6 +19,7 @@ import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
 import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecordDelta;
 
 public class GraphDumpFormat {
 
@@ -64,17 +66,20 @@ public class GraphDumpFormat {
 		options.enable(DumpOption.aliasHint(VertexPlainPropertyDump.class, "cVertexPropertyPlain"));
 		options.enable(DumpOption.aliasHint(VertexBinaryPropertyDump.class, "cVertexPropertyBinary"));
 		options.enable(DumpOption.aliasHint(EdgeTargetDump.class, "cEdgeTarget"));
+		options.enable(DumpOption.aliasHint(VertexRecordDeltaDump.class, "cVertexDelta"));
 	}
 
 	public static void registerDefaultConvertersForReading(final DumpOptions options) {
 		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
 		options.enable(DumpOption.defaultConverter(VertexDump.class, new VertexRecordConverter()));
+		options.enable(DumpOption.defaultConverter(VertexRecordDeltaDump.class, new VertexRecordDeltaConverter()));
 		options.enable(DumpOption.defaultConverter(EdgeDump.class, new EdgeRecordConverter()));
 	}
 
 	public static void registerDefaultConvertersForWriting(final DumpOptions options) {
 		checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
 		options.enable(DumpOption.defaultConverter(VertexRecord.class, new VertexRecordConverter()));
+		options.enable(DumpOption.defaultConverter(VertexRecordDelta.class, new VertexRecordDeltaConverter()));
 		options.enable(DumpOption.defaultConverter(EdgeRecord.class, new EdgeRecordConverter()));
 	}
 }
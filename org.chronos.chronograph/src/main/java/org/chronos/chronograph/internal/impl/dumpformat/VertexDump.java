@@ -51,29 +51,9 @@ public class VertexDump {
 		// load the basic properties
 		this.recordId = record.getId();
 		this.label = record.getLabel();
-		// load incoming edges
-		this.incomingEdges = Maps.newHashMap();
-		for (Entry<String, Collection<EdgeTargetRecord>> entry : record.getIncomingEdgesByLabel().asMap().entrySet()) {
-			String label = entry.getKey();
-			Collection<EdgeTargetRecord> edgeTargets = entry.getValue();
-			Set<EdgeTargetDump> targetSet = edgeTargets.stream().map(etr -> new EdgeTargetDump(etr))
-					.collect(Collectors.toSet());
-			this.incomingEdges.put(label, targetSet);
-		}
-		// load outgoing edges
-		this.outgoingEdges = Maps.newHashMap();
-		for (Entry<String, Collection<EdgeTargetRecord>> entry : record.getOutgoingEdgesByLabel().asMap().entrySet()) {
-			String label = entry.getKey();
-			Collection<EdgeTargetRecord> edgeTargets = entry.getValue();
-			Set<EdgeTargetDump> targetSet = edgeTargets.stream().map(etr -> new EdgeTargetDump(etr))
-					.collect(Collectors.toSet());
-			this.outgoingEdges.put(label, targetSet);
-		}
-		// load the vertex properties
-		Set<VertexPropertyDump> props = record.getProperties().stream()
-				.map(vpr -> GraphDumpFormat.convertVertexPropertyRecordToDumpFormat(vpr)).collect(Collectors.toSet());
-		this.properties = Sets.newHashSet();
-		this.properties.addAll(props);
+		this.incomingEdges = toEdgeTargetDumps(record.getIncomingEdgesByLabel().asMap());
+		this.outgoingEdges = toEdgeTargetDumps(record.getOutgoingEdgesByLabel().asMap());
+		this.properties = toVertexPropertyDumps(record.getProperties());
 	}
 
 	// =====================================================================================================================
@@ -101,29 +81,53 @@ public class VertexDump {
 	}
 
 	public VertexRecord toRecord() {
-		// convert incoming edges
 		SetMultimap<String, EdgeTargetRecord> inE = HashMultimap.create();
-		for (Entry<String, Set<EdgeTargetDump>> entry : this.incomingEdges.entrySet()) {
+		toEdgeTargetRecords(this.incomingEdges).forEach(inE::putAll);
+		SetMultimap<String, EdgeTargetRecord> outE = HashMultimap.create();
+		toEdgeTargetRecords(this.outgoingEdges).forEach(outE::putAll);
+		Set<VertexPropertyRecord> props = toVertexPropertyRecords(this.properties);
+		return new VertexRecord(this.recordId, this.label, inE, outE, props);
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	static Map<String, Set<EdgeTargetDump>> toEdgeTargetDumps(
+			final Map<String, ? extends Collection<EdgeTargetRecord>> edgeTargetsByLabel) {
+		Map<String, Set<EdgeTargetDump>> result = Maps.newHashMap();
+		for (Entry<String, ? extends Collection<EdgeTargetRecord>> entry : edgeTargetsByLabel.entrySet()) {
 			String label = entry.getKey();
-			for (EdgeTargetDump edgeDump : entry.getValue()) {
-				EdgeTargetRecord edgeRecord = new EdgeTargetRecord(edgeDump.getEdgeId(),
-						edgeDump.getOtherEndVertexId());
-				inE.put(label, edgeRecord);
-			}
+			Collection<EdgeTargetRecord> edgeTargets = entry.getValue();
+			Set<EdgeTargetDump> targetSet = edgeTargets.stream().map(etr -> new EdgeTargetDump(etr))
+					.collect(Collectors.toSet());
+			result.put(label, targetSet);
 		}
-		// convert outgoing edges
-		SetMultimap<String, EdgeTargetRecord> outE = HashMultimap.create();
-		for (Entry<String, Set<EdgeTargetDump>> entry : this.outgoingEdges.entrySet()) {
+		return result;
+	}
+
+	static Map<String, Set<EdgeTargetRecord>> toEdgeTargetRecords(
+			final Map<String, Set<EdgeTargetDump>> edgeTargetsByLabel) {
+		Map<String, Set<EdgeTargetRecord>> result = Maps.newHashMap();
+		for (Entry<String, Set<EdgeTargetDump>> entry : edgeTargetsByLabel.entrySet()) {
 			String label = entry.getKey();
+			Set<EdgeTargetRecord> targetSet = Sets.newHashSet();
 			for (EdgeTargetDump edgeDump : entry.getValue()) {
-				EdgeTargetRecord edgeRecord = new EdgeTargetRecord(edgeDump.getEdgeId(),
-						edgeDump.getOtherEndVertexId());
-				outE.put(label, edgeRecord);
+				targetSet.add(new EdgeTargetRecord(edgeDump.getEdgeId(), edgeDump.getOtherEndVertexId()));
 			}
+			result.put(label, targetSet);
 		}
-		// convert properties
+		return result;
+	}
+
+	static Set<VertexPropertyDump> toVertexPropertyDumps(final Set<VertexPropertyRecord> properties) {
+		return properties.stream().map(vpr -> GraphDumpFormat.convertVertexPropertyRecordToDumpFormat(vpr))
+				.collect(Collectors.toCollection(Sets::newHashSet));
+	}
+
+	static Set<VertexPropertyRecord> toVertexPropertyRecords(final Set<VertexPropertyDump> properties) {
 		Set<VertexPropertyRecord> props = Sets.newHashSet();
-		for (VertexPropertyDump property : this.properties) {
+		for (VertexPropertyDump property : properties) {
 			Map<String, AbstractPropertyDump> metaPropsDump = property.getProperties();
 			Map<String, PropertyRecord> metaProps = Maps.newHashMap();
 			for (Entry<String, AbstractPropertyDump> entry : metaPropsDump.entrySet()) {
@@ -135,6 +139,7 @@ public class VertexDump {
 			props.add(new VertexPropertyRecord(property.getRecordId(), property.getKey(), property.getValue(),
 					metaProps));
 		}
-		return new VertexRecord(this.recordId, this.label, inE, outE, props);
+		return props;
 	}
+
 }
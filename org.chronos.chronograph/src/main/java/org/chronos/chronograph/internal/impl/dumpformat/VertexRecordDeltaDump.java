@@ -0,0 +1,91 @@
+package org.chronos.chronograph.internal.impl.dumpformat;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.chronos.chronograph.internal.impl.dumpformat.vertexproperty.VertexPropertyDump;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecordDelta;
+
+public class VertexRecordDeltaDump {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	/** The id of this record. */
+	private String recordId;
+	/** The label of the vertex stored in this record. */
+	private String label;
+	/** A timestamp at which the version this delta has been computed against is visible. */
+	private long predecessorTimestamp;
+	/** The number of delta records (including this one) since the last full snapshot. */
+	private int depth;
+	/** The set of vertex properties known on this vertex. */
+	private Set<VertexPropertyDump> properties;
+	/** Incoming edges (by label) which have been added since the predecessor version. */
+	private Map<String, Set<EdgeTargetDump>> addedIncomingEdges;
+	/** Incoming edges (by label) which have been removed since the predecessor version. */
+	private Map<String, Set<EdgeTargetDump>> removedIncomingEdges;
+	/** Outgoing edges (by label) which have been added since the predecessor version. */
+	private Map<String, Set<EdgeTargetDump>> addedOutgoingEdges;
+	/** Outgoing edges (by label) which have been removed since the predecessor version. */
+	private Map<String, Set<EdgeTargetDump>> removedOutgoingEdges;
+
+	// =====================================================================================================================
+	// CONSTRUCTORS
+	// =====================================================================================================================
+
+	protected VertexRecordDeltaDump() {
+		// serialization constructor
+	}
+
+	public VertexRecordDeltaDump(final VertexRecordDelta record) {
+		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
+		this.recordId = record.getId();
+		this.label = record.getLabel();
+		this.predecessorTimestamp = record.getPredecessorTimestamp();
+		this.depth = record.getDepth();
+		this.properties = VertexDump.toVertexPropertyDumps(record.getProperties());
+		this.addedIncomingEdges = VertexDump.toEdgeTargetDumps(record.getAddedIncomingEdges());
+		this.removedIncomingEdges = VertexDump.toEdgeTargetDumps(record.getRemovedIncomingEdges());
+		this.addedOutgoingEdges = VertexDump.toEdgeTargetDumps(record.getAddedOutgoingEdges());
+		this.removedOutgoingEdges = VertexDump.toEdgeTargetDumps(record.getRemovedOutgoingEdges());
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	public String getRecordId() {
+		return this.recordId;
+	}
+
+	public String getLabel() {
+		return this.label;
+	}
+
+	public long getPredecessorTimestamp() {
+		return this.predecessorTimestamp;
+	}
+
+	public int getDepth() {
+		return this.depth;
+	}
+
+	public Set<VertexPropertyDump> getProperties() {
+		return Collections.unmodifiableSet(this.properties);
+	}
+
+	public VertexRecordDelta toRecord() {
+		return new VertexRecordDelta(this.recordId, this.label, this.predecessorTimestamp, this.depth,
+				VertexDump.toVertexPropertyRecords(this.properties),
+				VertexDump.toEdgeTargetRecords(this.addedIncomingEdges),
+				VertexDump.toEdgeTargetRecords(this.removedIncomingEdges),
+				VertexDump.toEdgeTargetRecords(this.addedOutgoingEdges),
+				VertexDump.toEdgeTargetRecords(this.removedOutgoingEdges));
+	}
+
+}
@@ -0,0 +1,25 @@
+package org.chronos.chronograph.internal.impl.dumpformat.converter;
+
+import org.chronos.chronodb.api.dump.ChronoConverter;
+import org.chronos.chronograph.internal.impl.dumpformat.VertexRecordDeltaDump;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecordDelta;
+
+public class VertexRecordDeltaConverter implements ChronoConverter<VertexRecordDelta, VertexRecordDeltaDump> {
+
+	@Override
+	public VertexRecordDeltaDump writeToOutput(final VertexRecordDelta record) {
+		if (record == null) {
+			return null;
+		}
+		return new VertexRecordDeltaDump(record);
+	}
+
+	@Override
+	public VertexRecordDelta readFromInput(final VertexRecordDeltaDump dump) {
+		if (dump == null) {
+			return null;
+		}
+		return dump.toRecord();
+	}
+
+}
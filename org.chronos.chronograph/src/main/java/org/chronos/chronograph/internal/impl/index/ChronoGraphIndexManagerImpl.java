@@ -26,6 +26,7 @@ import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.query.NumberCondition;
 import org.chronos.chronodb.api.query.StringCondition;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
 import org.chronos.chronodb.internal.api.query.searchspec.DoubleSearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.LongSearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
@@ -41,6 +42,7 @@ import org.chronos.chronograph.internal.api.index.IChronoGraphEdgeIndex;
 import org.chronos.chronograph.internal.api.index.IChronoGraphVertexIndex;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.impl.builder.index.ChronoGraphIndexBuilder;
+import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
 
 import com.google.common.collect.HashMultimap;
@@ -134,7 +136,9 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 	@Override
 	public void reindex(final ChronoGraphIndex index) {
 		checkNotNull(index, "Precondition violation - argument 'index' must not be NULL!");
-		this.reindexAll();
+		ChronoGraphIndexInternal indexInternal = (ChronoGraphIndexInternal) index;
+		// other than reindexAll(), this does not require exclusive access; the backend acquires the locks it needs
+		this.getChronoDBIndexManager().reindex(indexInternal.getBackendIndexKey());
 	}
 
 	@Override
@@ -334,6 +338,10 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 		return this.graph.getBackingDB();
 	}
 
+	private ChronoDBInternal getDBInternal() {
+		return (ChronoDBInternal) this.getDB();
+	}
+
 	private IndexManager getChronoDBIndexManager() {
 		return this.getDB().getIndexManager();
 	}
@@ -377,45 +385,56 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 		}
 	}
 
+	// note: the database lock is always acquired before our own lock. Index operations call into the database, so
+	// acquiring the locks in the opposite order could deadlock with callers that hold the database lock already.
+
 	private void performExclusive(final Runnable r) {
-		this.lock.writeLock().lock();
-		try {
-			r.run();
-		} finally {
-			this.lock.writeLock().unlock();
+		try (AutoLock dbLock = this.getDBInternal().lockExclusive()) {
+			this.lock.writeLock().lock();
+			try {
+				r.run();
+			} finally {
+				this.lock.writeLock().unlock();
+			}
 		}
 	}
 
 	@SuppressWarnings("unused")
 	private <T> T performExclusive(final Callable<T> c) {
-		this.lock.writeLock().lock();
-		try {
-			return c.call();
-		} catch (Exception e) {
-			throw new RuntimeException("Exception occurred while performing exclusive task: " + e.toString(), e);
-		} finally {
-			this.lock.writeLock().unlock();
+		try (AutoLock dbLock = this.getDBInternal().lockExclusive()) {
+			this.lock.writeLock().lock();
+			try {
+				return c.call();
+			} catch (Exception e) {
+				throw new RuntimeException("Exception occurred while performing exclusive task: " + e.toString(), e);
+			} finally {
+				this.lock.writeLock().unlock();
+			}
 		}
 	}
 
 	@SuppressWarnings("unused")
 	private void performNonExclusive(final Runnable r) {
-		this.lock.readLock().lock();
-		try {
-			r.run();
-		} finally {
-			this.lock.readLock().unlock();
+		try (AutoLock dbLock = this.getDBInternal().lockNonExclusive()) {
+			this.lock.readLock().lock();
+			try {
+				r.run();
+			} finally {
+				this.lock.readLock().unlock();
+			}
 		}
 	}
 
 	private <T> T performNonExclusive(final Callable<T> c) {
-		this.lock.readLock().lock();
-		try {
-			return c.call();
-		} catch (Exception e) {
-			throw new RuntimeException("Exception occurred while performing exclusive task: " + e.toString(), e);
-		} finally {
-			this.lock.readLock().unlock();
+		try (AutoLock dbLock = this.getDBInternal().lockNonExclusive()) {
+			this.lock.readLock().lock();
+			try {
+				return c.call();
+			} catch (Exception e) {
+				throw new RuntimeException("Exception occurred while performing exclusive task: " + e.toString(), e);
+			} finally {
+				this.lock.readLock().unlock();
+			}
 		}
 	}
 
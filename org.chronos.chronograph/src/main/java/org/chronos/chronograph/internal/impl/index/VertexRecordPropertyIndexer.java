@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronograph.internal.impl.structure.record.IVertexRecord;
 import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
 import org.chronos.common.annotation.PersistentClass;
@@ -29,12 +30,12 @@ public class VertexRecordPropertyIndexer extends AbstractRecordPropertyIndexer i
 
 	@Override
 	public boolean canIndex(final Object object) {
-		return object instanceof VertexRecord;
+		return object instanceof IVertexRecord;
 	}
 
 	@Override
 	public Set<String> getIndexValues(final Object object) {
-		VertexRecord vertexRecord = (VertexRecord) object;
+		IVertexRecord vertexRecord = (IVertexRecord) object;
 		Optional<? extends PropertyRecord> maybePropertyRecord = vertexRecord.getProperties().stream()
 				.filter(pRecord -> pRecord.getKey().equals(this.propertyName)).findAny();
 		return this.getIndexValue(maybePropertyRecord);
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
+import org.chronos.chronograph.internal.impl.structure.record.IVertexRecord;
 import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
 import org.chronos.common.annotation.PersistentClass;
@@ -28,12 +29,12 @@ public abstract class VertexRecordPropertyIndexer2<T> extends AbstractRecordProp
 
 	@Override
 	public boolean canIndex(final Object object) {
-		return object instanceof VertexRecord;
+		return object instanceof IVertexRecord;
 	}
 
 	@Override
 	public Set<T> getIndexValues(final Object object) {
-		VertexRecord vertexRecord = (VertexRecord) object;
+		IVertexRecord vertexRecord = (IVertexRecord) object;
 		Optional<? extends PropertyRecord> maybePropertyRecord = vertexRecord.getProperties().stream()
 				.filter(pRecord -> pRecord.getKey().equals(this.propertyName)).findAny();
 		return maybePropertyRecord.map(this::getIndexValuesInternal).orElse(Collections.emptySet());
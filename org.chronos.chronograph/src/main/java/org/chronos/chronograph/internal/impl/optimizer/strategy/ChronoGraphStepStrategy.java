@@ -46,6 +46,10 @@ public class ChronoGraphStepStrategy extends AbstractTraversalStrategy<Traversal
 	@Override
 	@SuppressWarnings("unchecked")
 	public void apply(final Traversal.Admin<?, ?> traversal) {
+		if (TraversalHelper.onGraphComputer(traversal)) {
+			// the graph computer evaluates the original graph step (and the subsequent 'has' steps) by itself
+			return;
+		}
 		// first of all, get all graph steps in our traversal
 		TraversalHelper.getStepsOfClass(GraphStep.class, traversal).forEach(originalGraphStep -> {
 			// create a ChronoGraphStep for each original step (it wraps the original step)
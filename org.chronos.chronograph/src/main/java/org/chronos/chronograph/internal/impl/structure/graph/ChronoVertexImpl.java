@@ -19,7 +19,6 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoVertex;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
-import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
@@ -51,6 +50,13 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	private final SetMultimap<String, ChronoEdge> labelToOutgoingEdges = HashMultimap.create();
 	private final Map<String, ChronoVertexProperty<?>> properties = Maps.newHashMap();
 
+	/** The record which contains the adjacent edges that have not been materialized yet. */
+	private VertexRecord adjacencyRecord;
+	/** The labels of the incoming edges in {@link #adjacencyRecord} which have not been materialized yet. */
+	private Set<String> unloadedIncomingEdgeLabels;
+	/** The labels of the outgoing edges in {@link #adjacencyRecord} which have not been materialized yet. */
+	private Set<String> unloadedOutgoingEdgeLabels;
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -189,6 +195,13 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Iterator<Edge> edges(final Direction direction, final String... edgeLabels) {
 		this.checkAccess();
+		// make sure that the requested edges have been materialized
+		if (direction != Direction.OUT) {
+			this.loadIncomingEdges(edgeLabels);
+		}
+		if (direction != Direction.IN) {
+			this.loadOutgoingEdges(edgeLabels);
+		}
 		switch (direction) {
 		case BOTH:
 			if (edgeLabels == null || edgeLabels.length <= 0) {
@@ -326,6 +339,9 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.labelToIncomingEdges.clear();
 		this.labelToOutgoingEdges.clear();
 		this.properties.clear();
+		this.adjacencyRecord = null;
+		this.unloadedIncomingEdgeLabels = null;
+		this.unloadedOutgoingEdgeLabels = null;
 		if (record == null) {
 			this.updateLifecycleStatus(ElementLifecycleStatus.REMOVED);
 			return;
@@ -346,17 +362,22 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 			}
 			this.properties.put(property.key(), property);
 		}
-		for (Entry<String, EdgeTargetRecord> entry : record.getIncomingEdgesByLabel().entries()) {
-			String label = entry.getKey();
-			EdgeTargetRecord eRecord = entry.getValue();
-			ChronoEdge edge = this.owningTransaction.loadIncomingEdgeFromEdgeTargetRecord(this, label, eRecord);
-			this.labelToIncomingEdges.put(edge.label(), edge);
+		// remember which edges still need to be materialized
+		if (record.getIncomingEdgeLabels().isEmpty() == false) {
+			this.unloadedIncomingEdgeLabels = Sets.newHashSet(record.getIncomingEdgeLabels());
+		}
+		if (record.getOutgoingEdgeLabels().isEmpty() == false) {
+			this.unloadedOutgoingEdgeLabels = Sets.newHashSet(record.getOutgoingEdgeLabels());
 		}
-		for (Entry<String, EdgeTargetRecord> entry : record.getOutgoingEdgesByLabel().entries()) {
-			String label = entry.getKey();
-			EdgeTargetRecord eRecord = entry.getValue();
-			ChronoEdge edge = this.owningTransaction.loadOutgoingEdgeFromEdgeTargetRecord(this, label, eRecord);
-			this.labelToOutgoingEdges.put(edge.label(), edge);
+		if (this.unloadedIncomingEdgeLabels == null && this.unloadedOutgoingEdgeLabels == null) {
+			// this vertex has no edges at all
+			return;
+		}
+		this.adjacencyRecord = record;
+		if (this.graph.getChronoGraphConfiguration().isLazyAdjacencyLoadingEnabled() == false) {
+			// materialize all edges right away
+			this.loadIncomingEdges();
+			this.loadOutgoingEdges();
 		}
 	}
 
@@ -371,6 +392,8 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 
 	public VertexRecord toRecord() {
 		this.checkAccess();
+		this.loadIncomingEdges();
+		this.loadOutgoingEdges();
 		String id = this.id();
 		String label = this.label();
 		return new VertexRecord(
@@ -395,6 +418,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		boolean changed = false;
 		if (chronoEdge.inVertex().equals(this)) {
 			// incoming edge
+			this.loadIncomingEdges(chronoEdge.label());
 			// remove whatever edge representation has been there with this edge-id
 			boolean removed = this.labelToIncomingEdges.remove(chronoEdge.label(), chronoEdge);
 			if (removed == false) {
@@ -405,6 +429,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		// note: this vertex can be in AND out vertex (self-edge!)
 		if (chronoEdge.outVertex().equals(this)) {
 			// outgoing edge
+			this.loadOutgoingEdges(chronoEdge.label());
 			// remove whatever edge representation has been there with this edge-id
 			boolean removed = this.labelToOutgoingEdges.remove(chronoEdge.label(), chronoEdge);
 			if (removed == false) {
@@ -421,7 +446,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	protected void reloadFromDatabase() {
 		String id = this.id();
 		ChronoGraphTransaction tx = this.getOwningTransaction();
-		VertexRecord vRecord = tx.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_VERTEX, id.toString());
+		VertexRecord vRecord = this.graph.getVertexRecordResolver().loadVertexRecord(tx.getBackingDBTransaction(), id);
 		this.withoutModificationCheck(() -> {
 			this.loadRecordContents(vRecord);
 		});
@@ -429,6 +454,84 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.getTransactionContext().registerLoadedVertex(this);
 	}
 
+	/**
+	 * Materializes the incoming edges with the given labels from the {@linkplain #adjacencyRecord adjacency record}.
+	 *
+	 * <p>
+	 * Labels which have already been materialized are ignored.
+	 *
+	 * @param edgeLabels
+	 *            The labels of the edges to materialize. If empty or <code>null</code>, all incoming edges will be
+	 *            materialized.
+	 */
+	private void loadIncomingEdges(final String... edgeLabels) {
+		if (this.unloadedIncomingEdgeLabels == null) {
+			// all incoming edges have been materialized already
+			return;
+		}
+		for (String label : this.selectUnloadedLabels(this.unloadedIncomingEdgeLabels, edgeLabels)) {
+			for (EdgeTargetRecord eRecord : this.adjacencyRecord.getIncomingEdges(label)) {
+				ChronoEdge edge = this.owningTransaction.loadIncomingEdgeFromEdgeTargetRecord(this, label, eRecord);
+				this.labelToIncomingEdges.put(edge.label(), edge);
+			}
+		}
+		if (this.unloadedIncomingEdgeLabels.isEmpty()) {
+			this.unloadedIncomingEdgeLabels = null;
+			this.releaseAdjacencyRecordIfFullyLoaded();
+		}
+	}
+
+	/**
+	 * Materializes the outgoing edges with the given labels from the {@linkplain #adjacencyRecord adjacency record}.
+	 *
+	 * <p>
+	 * Labels which have already been materialized are ignored.
+	 *
+	 * @param edgeLabels
+	 *            The labels of the edges to materialize. If empty or <code>null</code>, all outgoing edges will be
+	 *            materialized.
+	 */
+	private void loadOutgoingEdges(final String... edgeLabels) {
+		if (this.unloadedOutgoingEdgeLabels == null) {
+			// all outgoing edges have been materialized already
+			return;
+		}
+		for (String label : this.selectUnloadedLabels(this.unloadedOutgoingEdgeLabels, edgeLabels)) {
+			for (EdgeTargetRecord eRecord : this.adjacencyRecord.getOutgoingEdges(label)) {
+				ChronoEdge edge = this.owningTransaction.loadOutgoingEdgeFromEdgeTargetRecord(this, label, eRecord);
+				this.labelToOutgoingEdges.put(edge.label(), edge);
+			}
+		}
+		if (this.unloadedOutgoingEdgeLabels.isEmpty()) {
+			this.unloadedOutgoingEdgeLabels = null;
+			this.releaseAdjacencyRecordIfFullyLoaded();
+		}
+	}
+
+	private Set<String> selectUnloadedLabels(final Set<String> unloadedLabels, final String... requestedLabels) {
+		Set<String> labelsToLoad;
+		if (requestedLabels == null || requestedLabels.length <= 0) {
+			labelsToLoad = Sets.newHashSet(unloadedLabels);
+		} else {
+			labelsToLoad = Sets.newHashSet();
+			for (String label : requestedLabels) {
+				if (unloadedLabels.contains(label)) {
+					labelsToLoad.add(label);
+				}
+			}
+		}
+		// mark the labels as loaded before actually loading them, to be safe against re-entrant calls
+		unloadedLabels.removeAll(labelsToLoad);
+		return labelsToLoad;
+	}
+
+	private void releaseAdjacencyRecordIfFullyLoaded() {
+		if (this.unloadedIncomingEdgeLabels == null && this.unloadedOutgoingEdgeLabels == null) {
+			// we don't need the record anymore; let it be garbage collected
+			this.adjacencyRecord = null;
+		}
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private <V> VertexProperty<V> getSingleProperty(final String propertyKey) {
 		PredefinedVertexProperty<V> predefinedProperty = ChronoGraphElementUtil.asPredefinedVertexProperty(this,
@@ -26,18 +26,23 @@ import org.chronos.chronodb.internal.impl.dump.DumpOptions;
 import org.chronos.chronograph.api.branch.ChronoGraphBranchManager;
 import org.chronos.chronograph.api.builder.query.GraphQueryBuilderStarter;
 import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
+import org.chronos.chronograph.api.transaction.ChronoGraphBulkLoader;
+import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager;
 import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.impl.branch.ChronoGraphBranchManagerImpl;
 import org.chronos.chronograph.internal.impl.builder.query.GraphQueryBuilderStarterImpl;
+import org.chronos.chronograph.internal.impl.computer.ChronoGraphComputer;
 import org.chronos.chronograph.internal.impl.configuration.ChronoGraphConfigurationImpl;
 import org.chronos.chronograph.internal.impl.dumpformat.GraphDumpFormat;
 import org.chronos.chronograph.internal.impl.index.ChronoGraphIndexManagerImpl;
 import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoGraphStepStrategy;
 import org.chronos.chronograph.internal.impl.structure.graph.features.ChronoGraphFeatures;
+import org.chronos.chronograph.internal.impl.transaction.ChronoGraphBulkLoaderImpl;
 import org.chronos.chronograph.internal.impl.transaction.ChronoGraphTransactionManagerImpl;
+import org.chronos.chronograph.internal.impl.transaction.VertexRecordResolver;
 import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
 import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.configuration.ChronosConfigurationUtil;
@@ -74,6 +79,8 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 	private final ChronoGraphFeatures features;
 	private final ChronoGraphVariables variables;
 
+	private final VertexRecordResolver vertexRecordResolver;
+
 	private final Lock commitLock = new ReentrantLock(true);
 	private final ThreadLocal<AutoLock> commitLockHolder = new ThreadLocal<>();
 
@@ -89,6 +96,7 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		this.branchNameToIndexManager = Maps.newHashMap();
 		this.features = new ChronoGraphFeatures(this);
 		this.variables = new ChronoGraphVariables(this);
+		this.vertexRecordResolver = new VertexRecordResolver(database, this.graphConfiguration);
 	}
 
 	// =================================================================================================================
@@ -136,15 +144,20 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 	// =====================================================================================================================
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <C extends GraphComputer> C compute(final Class<C> graphComputerClass) throws IllegalArgumentException {
-		// TODO Auto-generated method stub
-		return null;
+		if (ChronoGraphComputer.class.equals(graphComputerClass) == false) {
+			throw Graph.Exceptions.graphDoesNotSupportProvidedGraphComputer(graphComputerClass);
+		}
+		return (C) this.compute();
 	}
 
 	@Override
 	public GraphComputer compute() throws IllegalArgumentException {
-		// TODO Auto-generated method stub
-		return null;
+		// the computer operates on the branch and timestamp of the current transaction
+		this.tx().readWrite();
+		ChronoGraphTransaction tx = this.tx().getCurrentTransaction();
+		return new ChronoGraphComputer(this, tx.getBranchName(), tx.getTimestamp());
 	}
 
 	// =====================================================================================================================
@@ -215,6 +228,19 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		return new GraphQueryBuilderStarterImpl(this);
 	}
 
+	// =====================================================================================================================
+	// BULK LOADING
+	// =====================================================================================================================
+
+	@Override
+	public ChronoGraphBulkLoader bulkLoader(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		if (this.getBackingDB().getBranchManager().existsBranch(branchName) == false) {
+			throw new IllegalArgumentException("There is no branch named '" + branchName + "'!");
+		}
+		return new ChronoGraphBulkLoaderImpl(this, branchName);
+	}
+
 	// =====================================================================================================================
 	// VARIABLES & CONFIGURATION
 	// =====================================================================================================================
@@ -463,6 +489,8 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		GraphDumpFormat.registerGraphAliases(options);
 		GraphDumpFormat.registerDefaultConvertersForReading(options);
 		this.getBackingDB().readDump(dumpFile, options.toArray());
+		// the dump has replaced the contents of the database; cached vertex versions are stale now
+		this.vertexRecordResolver.clearCache();
 	}
 
 	// =====================================================================================================================
@@ -495,6 +523,11 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		return autoLock;
 	}
 
+	@Override
+	public VertexRecordResolver getVertexRecordResolver() {
+		return this.vertexRecordResolver;
+	}
+
 	// =====================================================================================================================
 	// FEATURES DECLARATION
 	// =====================================================================================================================
@@ -13,8 +13,8 @@ class ChronoGraphGraphFeatures extends AbstractChronoGraphFeature implements Gra
 
 	@Override
 	public boolean supportsComputer() {
-		// TODO Graph feature decision PENDING
-		return Graph.Features.GraphFeatures.super.supportsComputer();
+		// vertex programs are executed on an in-memory snapshot, see ChronoGraphComputer
+		return true;
 	}
 
 	@Override
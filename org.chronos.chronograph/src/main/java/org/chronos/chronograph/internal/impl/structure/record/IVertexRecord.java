@@ -0,0 +1,39 @@
+package org.chronos.chronograph.internal.impl.structure.record;
+
+import java.util.Set;
+
+/**
+ * Common interface for all persistent representations of a vertex in the vertex keyspace.
+ *
+ * <p>
+ * A vertex version is either stored as a full {@link VertexRecord} snapshot, or as a {@link VertexRecordDelta} which
+ * only contains the adjacency changes since the previous version. Both forms always carry the complete set of
+ * properties, which allows secondary indexers to work on every version in isolation.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface IVertexRecord extends ElementRecord {
+
+	/**
+	 * Returns the ID of the vertex.
+	 *
+	 * @return The vertex ID. Never <code>null</code>.
+	 */
+	public String getId();
+
+	/**
+	 * Returns the label of the vertex.
+	 *
+	 * @return The vertex label. Never <code>null</code>.
+	 */
+	public String getLabel();
+
+	/**
+	 * Returns the (complete) set of vertex properties in this version of the vertex.
+	 *
+	 * @return An unmodifiable view on the vertex properties. Never <code>null</code>, may be empty.
+	 */
+	public Set<VertexPropertyRecord> getProperties();
+
+}
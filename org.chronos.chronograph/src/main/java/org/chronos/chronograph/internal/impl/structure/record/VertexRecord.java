@@ -44,7 +44,7 @@ import com.google.common.collect.Sets;
  */
 @PersistentClass("kryo")
 @ChronosExternalizable(converterClass = VertexRecordConverter.class)
-public final class VertexRecord implements ElementRecord {
+public final class VertexRecord implements IVertexRecord {
 
 	// =====================================================================================================================
 	// FIELDS
@@ -182,10 +182,12 @@ public final class VertexRecord implements ElementRecord {
 		}
 	}
 
+	@Override
 	public String getId() {
 		return this.recordId;
 	}
 
+	@Override
 	public String getLabel() {
 		return this.label;
 	}
@@ -242,6 +244,69 @@ public final class VertexRecord implements ElementRecord {
 		return Multimaps.unmodifiableSetMultimap(multimap);
 	}
 
+	/**
+	 * Returns the labels of all incoming edges stored in this record.
+	 *
+	 * @return An unmodifiable view on the incoming edge labels. Never <code>null</code>, may be empty.
+	 */
+	public Set<String> getIncomingEdgeLabels() {
+		if (this.incomingEdges == null || this.incomingEdges.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(this.incomingEdges.keySet());
+	}
+
+	/**
+	 * Returns the incoming edges with the given label.
+	 *
+	 * @param label
+	 *            The edge label to get the incoming edges for. Must not be <code>null</code>.
+	 * @return An unmodifiable view on the incoming edges with the given label. Never <code>null</code>, may be empty.
+	 */
+	public Set<EdgeTargetRecord> getIncomingEdges(final String label) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		if (this.incomingEdges == null) {
+			return Collections.emptySet();
+		}
+		Set<EdgeTargetRecord> edges = this.incomingEdges.get(label);
+		if (edges == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(edges);
+	}
+
+	/**
+	 * Returns the labels of all outgoing edges stored in this record.
+	 *
+	 * @return An unmodifiable view on the outgoing edge labels. Never <code>null</code>, may be empty.
+	 */
+	public Set<String> getOutgoingEdgeLabels() {
+		if (this.outgoingEdges == null || this.outgoingEdges.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(this.outgoingEdges.keySet());
+	}
+
+	/**
+	 * Returns the outgoing edges with the given label.
+	 *
+	 * @param label
+	 *            The edge label to get the outgoing edges for. Must not be <code>null</code>.
+	 * @return An unmodifiable view on the outgoing edges with the given label. Never <code>null</code>, may be empty.
+	 */
+	public Set<EdgeTargetRecord> getOutgoingEdges(final String label) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		if (this.outgoingEdges == null) {
+			return Collections.emptySet();
+		}
+		Set<EdgeTargetRecord> edges = this.outgoingEdges.get(label);
+		if (edges == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(edges);
+	}
+
+	@Override
 	public Set<VertexPropertyRecord> getProperties() {
 		if (this.properties == null || this.properties.isEmpty()) {
 			return Collections.emptySet();
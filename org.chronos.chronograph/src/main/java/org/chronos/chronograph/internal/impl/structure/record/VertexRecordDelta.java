@@ -0,0 +1,292 @@
+package org.chronos.chronograph.internal.impl.structure.record;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.chronos.chronodb.api.DeltaEncodedValue;
+import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.impl.dumpformat.converter.VertexRecordDeltaConverter;
+import org.chronos.common.annotation.PersistentClass;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * A {@link VertexRecordDelta} is a compact, persistent representation of a vertex version which only stores the
+ * adjacency changes relative to the previous version of the same vertex.
+ *
+ * <p>
+ * Delta records are written instead of full {@link VertexRecord}s if the
+ * {@linkplain ChronoGraphConfiguration#getVertexRecordSnapshotInterval() snapshot interval} is greater than one. In
+ * order to reconstruct the full state of a vertex, the chain of predecessors has to be walked back to the nearest
+ * {@link VertexRecord} snapshot, applying each delta in turn. The length of this chain is limited by the snapshot
+ * interval.
+ *
+ * <p>
+ * The vertex properties are always stored in full. Only the adjacency lists are delta-encoded, as they are the part
+ * of the record which grows with the number of edges and which is rewritten on every edge addition or removal.
+ *
+ * <p>
+ * As with {@link VertexRecord}, instances of this class must be treated as immutable after their creation.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+@PersistentClass("kryo")
+@ChronosExternalizable(converterClass = VertexRecordDeltaConverter.class)
+public final class VertexRecordDelta implements IVertexRecord, DeltaEncodedValue {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	// note: the only reason why the fields in this class are not declared as "final" is because
+	// serialization mechanisms struggle with final fields. All fields are effectively final, and
+	// all of their contents are effectively immutable.
+
+	/** The id of this record. */
+	private String recordId;
+	/** The label of the vertex stored in this record. */
+	private String label;
+	/** A timestamp at which the version this delta has been computed against is visible. */
+	private long predecessorTimestamp;
+	/** The number of delta records (including this one) since the last full snapshot. */
+	private int depth;
+	/** The set of vertex properties known on this vertex. */
+	private Set<VertexPropertyRecord> properties;
+	/** Incoming edges (by label) which have been added since the predecessor version. */
+	private Map<String, Set<EdgeTargetRecord>> addedIncomingEdges;
+	/** Incoming edges (by label) which have been removed since the predecessor version. */
+	private Map<String, Set<EdgeTargetRecord>> removedIncomingEdges;
+	/** Outgoing edges (by label) which have been added since the predecessor version. */
+	private Map<String, Set<EdgeTargetRecord>> addedOutgoingEdges;
+	/** Outgoing edges (by label) which have been removed since the predecessor version. */
+	private Map<String, Set<EdgeTargetRecord>> removedOutgoingEdges;
+
+	// =====================================================================================================================
+	// CONSTRUCTORS
+	// =====================================================================================================================
+
+	protected VertexRecordDelta() {
+		// default constructor for serialization mechanism
+	}
+
+	public VertexRecordDelta(final VertexRecord predecessor, final long predecessorTimestamp, final int depth,
+			final VertexRecord successor) {
+		checkNotNull(predecessor, "Precondition violation - argument 'predecessor' must not be NULL!");
+		checkArgument(predecessorTimestamp >= 0,
+				"Precondition violation - argument 'predecessorTimestamp' must not be negative!");
+		checkArgument(depth > 0, "Precondition violation - argument 'depth' must be greater than zero!");
+		checkNotNull(successor, "Precondition violation - argument 'successor' must not be NULL!");
+		checkArgument(predecessor.getId().equals(successor.getId()),
+				"Precondition violation - arguments 'predecessor' and 'successor' must refer to the same vertex!");
+		this.recordId = successor.getId();
+		this.label = successor.getLabel();
+		this.predecessorTimestamp = predecessorTimestamp;
+		this.depth = depth;
+		Set<VertexPropertyRecord> props = successor.getProperties();
+		if (props.isEmpty() == false) {
+			this.properties = Sets.newHashSet(props);
+		}
+		SetMultimap<String, EdgeTargetRecord> oldInE = predecessor.getIncomingEdgesByLabel();
+		SetMultimap<String, EdgeTargetRecord> newInE = successor.getIncomingEdgesByLabel();
+		SetMultimap<String, EdgeTargetRecord> oldOutE = predecessor.getOutgoingEdgesByLabel();
+		SetMultimap<String, EdgeTargetRecord> newOutE = successor.getOutgoingEdgesByLabel();
+		this.addedIncomingEdges = difference(newInE, oldInE);
+		this.removedIncomingEdges = difference(oldInE, newInE);
+		this.addedOutgoingEdges = difference(newOutE, oldOutE);
+		this.removedOutgoingEdges = difference(oldOutE, newOutE);
+	}
+
+	public VertexRecordDelta(final String recordId, final String label, final long predecessorTimestamp,
+			final int depth, final Set<VertexPropertyRecord> properties,
+			final Map<String, Set<EdgeTargetRecord>> addedIncomingEdges,
+			final Map<String, Set<EdgeTargetRecord>> removedIncomingEdges,
+			final Map<String, Set<EdgeTargetRecord>> addedOutgoingEdges,
+			final Map<String, Set<EdgeTargetRecord>> removedOutgoingEdges) {
+		checkNotNull(recordId, "Precondition violation - argument 'recordId' must not be NULL!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		checkArgument(predecessorTimestamp >= 0,
+				"Precondition violation - argument 'predecessorTimestamp' must not be negative!");
+		checkArgument(depth > 0, "Precondition violation - argument 'depth' must be greater than zero!");
+		checkNotNull(properties, "Precondition violation - argument 'properties' must not be NULL!");
+		this.recordId = recordId;
+		this.label = label;
+		this.predecessorTimestamp = predecessorTimestamp;
+		this.depth = depth;
+		if (properties.isEmpty() == false) {
+			this.properties = Sets.newHashSet(properties);
+		}
+		this.addedIncomingEdges = copy(addedIncomingEdges);
+		this.removedIncomingEdges = copy(removedIncomingEdges);
+		this.addedOutgoingEdges = copy(addedOutgoingEdges);
+		this.removedOutgoingEdges = copy(removedOutgoingEdges);
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	@Override
+	public String getId() {
+		return this.recordId;
+	}
+
+	@Override
+	public String getLabel() {
+		return this.label;
+	}
+
+	@Override
+	public Set<VertexPropertyRecord> getProperties() {
+		if (this.properties == null || this.properties.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(this.properties);
+	}
+
+	/**
+	 * Returns a timestamp at which the vertex version which acts as the base for this delta is visible.
+	 *
+	 * <p>
+	 * This is the timestamp of the transaction which has written this delta. Reading the vertex at this timestamp
+	 * (on the same branch) yields the predecessor version.
+	 *
+	 * @return The predecessor timestamp. Never negative.
+	 */
+	@Override
+	public long getPredecessorTimestamp() {
+		return this.predecessorTimestamp;
+	}
+
+	/**
+	 * Returns the number of delta records between the nearest full snapshot and this record (inclusive).
+	 *
+	 * @return The depth of this delta record. Always greater than zero.
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * Returns the incoming edges (by label) which have been added since the predecessor version.
+	 *
+	 * @return An unmodifiable view on the added incoming edges. May be empty, but never <code>null</code>.
+	 */
+	public Map<String, Set<EdgeTargetRecord>> getAddedIncomingEdges() {
+		return unmodifiable(this.addedIncomingEdges);
+	}
+
+	/**
+	 * Returns the incoming edges (by label) which have been removed since the predecessor version.
+	 *
+	 * @return An unmodifiable view on the removed incoming edges. May be empty, but never <code>null</code>.
+	 */
+	public Map<String, Set<EdgeTargetRecord>> getRemovedIncomingEdges() {
+		return unmodifiable(this.removedIncomingEdges);
+	}
+
+	/**
+	 * Returns the outgoing edges (by label) which have been added since the predecessor version.
+	 *
+	 * @return An unmodifiable view on the added outgoing edges. May be empty, but never <code>null</code>.
+	 */
+	public Map<String, Set<EdgeTargetRecord>> getAddedOutgoingEdges() {
+		return unmodifiable(this.addedOutgoingEdges);
+	}
+
+	/**
+	 * Returns the outgoing edges (by label) which have been removed since the predecessor version.
+	 *
+	 * @return An unmodifiable view on the removed outgoing edges. May be empty, but never <code>null</code>.
+	 */
+	public Map<String, Set<EdgeTargetRecord>> getRemovedOutgoingEdges() {
+		return unmodifiable(this.removedOutgoingEdges);
+	}
+
+	/**
+	 * Applies this delta to the given predecessor, producing the full {@link VertexRecord} of this version.
+	 *
+	 * @param predecessor
+	 *            The fully resolved predecessor record (i.e. the version visible at {@link #getPredecessorTimestamp()}). Must
+	 *            not be <code>null</code>.
+	 * @return The full vertex record. Never <code>null</code>.
+	 */
+	public VertexRecord applyTo(final VertexRecord predecessor) {
+		checkNotNull(predecessor, "Precondition violation - argument 'predecessor' must not be NULL!");
+		checkArgument(predecessor.getId().equals(this.recordId),
+				"Precondition violation - argument 'predecessor' refers to a different vertex!");
+		SetMultimap<String, EdgeTargetRecord> inE = HashMultimap.create(predecessor.getIncomingEdgesByLabel());
+		SetMultimap<String, EdgeTargetRecord> outE = HashMultimap.create(predecessor.getOutgoingEdgesByLabel());
+		apply(inE, this.removedIncomingEdges, this.addedIncomingEdges);
+		apply(outE, this.removedOutgoingEdges, this.addedOutgoingEdges);
+		return new VertexRecord(this.recordId, this.label, inE, outE, this.getProperties());
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private static Map<String, Set<EdgeTargetRecord>> difference(final SetMultimap<String, EdgeTargetRecord> left,
+			final SetMultimap<String, EdgeTargetRecord> right) {
+		Map<String, Set<EdgeTargetRecord>> result = null;
+		for (Entry<String, Collection<EdgeTargetRecord>> entry : left.asMap().entrySet()) {
+			String label = entry.getKey();
+			Set<EdgeTargetRecord> edges = Sets.newHashSet(entry.getValue());
+			edges.removeAll(right.get(label));
+			if (edges.isEmpty()) {
+				continue;
+			}
+			if (result == null) {
+				result = Maps.newHashMap();
+			}
+			result.put(label, edges);
+		}
+		return result;
+	}
+
+	private static Map<String, Set<EdgeTargetRecord>> copy(final Map<String, Set<EdgeTargetRecord>> edges) {
+		if (edges == null || edges.isEmpty()) {
+			return null;
+		}
+		Map<String, Set<EdgeTargetRecord>> result = Maps.newHashMap();
+		for (Entry<String, Set<EdgeTargetRecord>> entry : edges.entrySet()) {
+			if (entry.getValue().isEmpty() == false) {
+				result.put(entry.getKey(), Sets.newHashSet(entry.getValue()));
+			}
+		}
+		return result.isEmpty() ? null : result;
+	}
+
+	private static Map<String, Set<EdgeTargetRecord>> unmodifiable(final Map<String, Set<EdgeTargetRecord>> edges) {
+		if (edges == null) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(Maps.transformValues(edges, Collections::unmodifiableSet));
+	}
+
+	private static void apply(final SetMultimap<String, EdgeTargetRecord> edges,
+			final Map<String, Set<EdgeTargetRecord>> removals, final Map<String, Set<EdgeTargetRecord>> additions) {
+		if (removals != null) {
+			for (Entry<String, Set<EdgeTargetRecord>> entry : removals.entrySet()) {
+				for (EdgeTargetRecord edge : entry.getValue()) {
+					edges.remove(entry.getKey(), edge);
+				}
+			}
+		}
+		if (additions != null) {
+			for (Entry<String, Set<EdgeTargetRecord>> entry : additions.entrySet()) {
+				edges.putAll(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,356 @@
+package org.chronos.chronograph.internal.impl.transaction;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronograph.api.transaction.ChronoGraphBulkLoader;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.util.ChronoId;
+import org.chronos.common.autolock.AutoLock;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * Standard implementation of {@link ChronoGraphBulkLoader}.
+ *
+ * <p>
+ * Edge records are written to the backing transaction as soon as they are added. Vertex records require the full
+ * adjacency information of the vertex, therefore each vertex is kept in a compact in-memory form (its properties and
+ * {@link EdgeTargetRecord}s) until the number of pending vertices reaches the batch size. At this point, the pending
+ * vertices are written out; vertices which have already been written before (in an earlier batch, or before the
+ * bulk load) are merged with their stored adjacency. Whenever the number of pending entries in the backing
+ * transaction reaches the batch size, they are flushed with an incremental commit. This way, all loaded elements
+ * share the same commit timestamp, the secondary indices are updated batch by batch, and the memory consumption is
+ * bounded by the batch size. The only exception are the user-supplied element IDs, which are retained in order to
+ * detect duplicates.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class ChronoGraphBulkLoaderImpl implements ChronoGraphBulkLoader {
+
+	// =====================================================================================================================
+	// CONSTANTS
+	// =====================================================================================================================
+
+	private static final int DEFAULT_BATCH_SIZE = 10000;
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final ChronoGraphInternal graph;
+	private final String branchName;
+	private final ChronoDBTransaction tx;
+	private final boolean checkIdExistence;
+
+	/** The vertices which have not been written yet, as well as written vertices which receive new edges. */
+	private final Map<String, BulkVertex> pendingVertices = Maps.newHashMap();
+	/** The user-supplied IDs of the vertices which have been added to this loader. */
+	private final Set<String> userVertexIds = Sets.newHashSet();
+	/** The user-supplied IDs of the edges which have been added to this loader. */
+	private final Set<String> userEdgeIds = Sets.newHashSet();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private boolean parallel = false;
+
+	private int pendingEntries = 0;
+	private boolean elementsAdded = false;
+	private boolean closed = false;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	public ChronoGraphBulkLoaderImpl(final ChronoGraphInternal graph, final String branchName) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		this.graph = graph;
+		this.branchName = branchName;
+		this.tx = graph.getBackingDB().tx(branchName);
+		this.checkIdExistence = graph.getChronoGraphConfiguration().isCheckIdExistenceOnAddEnabled();
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	@Override
+	public synchronized ChronoGraphBulkLoader withBatchSize(final int batchSize) {
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		this.assertNotClosed();
+		if (this.elementsAdded) {
+			throw new IllegalStateException("The batch size must be set before adding elements to the bulk loader!");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	@Override
+	public synchronized ChronoGraphBulkLoader parallel(final boolean parallel) {
+		this.assertNotClosed();
+		this.parallel = parallel;
+		return this;
+	}
+
+	@Override
+	public String addVertex(final Object... keyValues) {
+		ElementHelper.legalPropertyKeyValueArray(keyValues);
+		Object id = ElementHelper.getIdValue(keyValues).orElse(null);
+		if (id != null && id instanceof String == false) {
+			throw Vertex.Exceptions.userSuppliedIdsOfThisTypeNotSupported();
+		}
+		boolean userProvidedId = id != null;
+		String vertexId = userProvidedId ? (String) id : ChronoId.random();
+		String label = ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL);
+		Set<VertexPropertyRecord> properties = Sets.newHashSet();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			if (keyValues[i] instanceof T) {
+				continue;
+			}
+			String key = (String) keyValues[i];
+			Object value = keyValues[i + 1];
+			ElementHelper.validateProperty(key, value);
+			properties.add(new VertexPropertyRecord(ChronoId.random(), key, value,
+					Collections.<String, PropertyRecord> emptyMap()));
+		}
+		synchronized (this) {
+			this.assertNotClosed();
+			if (userProvidedId) {
+				if (this.userVertexIds.contains(vertexId)) {
+					throw Graph.Exceptions.vertexWithIdAlreadyExists(vertexId);
+				}
+				if (this.checkIdExistence && this.tx.exists(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId)) {
+					throw Graph.Exceptions.vertexWithIdAlreadyExists(vertexId);
+				}
+				this.userVertexIds.add(vertexId);
+			}
+			this.pendingVertices.put(vertexId, new BulkVertex(label, properties));
+			this.elementsAdded = true;
+			this.writePendingVerticesIfNecessary();
+		}
+		return vertexId;
+	}
+
+	@Override
+	public String addEdge(final String outVertexId, final String label, final String inVertexId,
+			final Object... keyValues) {
+		checkNotNull(outVertexId, "Precondition violation - argument 'outVertexId' must not be NULL!");
+		ElementHelper.validateLabel(label);
+		checkNotNull(inVertexId, "Precondition violation - argument 'inVertexId' must not be NULL!");
+		ElementHelper.legalPropertyKeyValueArray(keyValues);
+		Object id = ElementHelper.getIdValue(keyValues).orElse(null);
+		if (id != null && id instanceof String == false) {
+			throw Edge.Exceptions.userSuppliedIdsOfThisTypeNotSupported();
+		}
+		boolean userProvidedId = id != null;
+		String edgeId = userProvidedId ? (String) id : ChronoId.random();
+		Set<PropertyRecord> properties = Sets.newHashSet();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			if (keyValues[i] instanceof T) {
+				continue;
+			}
+			String key = (String) keyValues[i];
+			Object value = keyValues[i + 1];
+			ElementHelper.validateProperty(key, value);
+			properties.add(new PropertyRecord(key, value));
+		}
+		EdgeRecord record = new EdgeRecord(edgeId, outVertexId, label, inVertexId, properties);
+		synchronized (this) {
+			this.assertNotClosed();
+			if (userProvidedId) {
+				if (this.userEdgeIds.contains(edgeId)) {
+					throw Graph.Exceptions.edgeWithIdAlreadyExists(edgeId);
+				}
+				if (this.checkIdExistence && this.tx.exists(ChronoGraphConstants.KEYSPACE_EDGE, edgeId)) {
+					throw Graph.Exceptions.edgeWithIdAlreadyExists(edgeId);
+				}
+			}
+			BulkVertex outV = this.getBulkVertex(outVertexId);
+			BulkVertex inV = this.getBulkVertex(inVertexId);
+			if (userProvidedId) {
+				this.userEdgeIds.add(edgeId);
+			}
+			outV.outgoingEdges.put(label, new EdgeTargetRecord(edgeId, inVertexId));
+			inV.incomingEdges.put(label, new EdgeTargetRecord(edgeId, outVertexId));
+			this.put(ChronoGraphConstants.KEYSPACE_EDGE, edgeId, record);
+			this.elementsAdded = true;
+			this.writePendingVerticesIfNecessary();
+		}
+		return edgeId;
+	}
+
+	@Override
+	public synchronized long commit(final Object commitMetadata) {
+		this.assertNotClosed();
+		boolean committed = false;
+		try {
+			this.writePendingVertices();
+			try (AutoLock lock = this.graph.commitLock()) {
+				this.tx.commit(commitMetadata);
+				committed = true;
+				return this.graph.getBackingDB().getBranchManager().getBranch(this.branchName).getNow();
+			}
+		} finally {
+			if (committed == false) {
+				// make sure that we do not leave a half-finished incremental commit behind
+				this.tx.rollback();
+			}
+			this.closed = true;
+			this.clearBuffers();
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		this.clearBuffers();
+		// discard everything that has been written so far
+		this.tx.rollback();
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private void assertNotClosed() {
+		if (this.closed) {
+			throw new IllegalStateException("This bulk loader has already been closed!");
+		}
+	}
+
+	private void clearBuffers() {
+		this.pendingVertices.clear();
+		this.userVertexIds.clear();
+		this.userEdgeIds.clear();
+	}
+
+	private BulkVertex getBulkVertex(final String vertexId) {
+		BulkVertex vertex = this.pendingVertices.get(vertexId);
+		if (vertex != null) {
+			return vertex;
+		}
+		// note: this also finds the vertices which have been written in an earlier batch of this bulk load
+		if (this.tx.exists(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId) == false) {
+			throw new IllegalArgumentException("There is no vertex with ID '" + vertexId + "'! Vertices must be added "
+					+ "to the bulk loader before they can be connected by edges.");
+		}
+		vertex = new BulkVertex(null, null);
+		this.pendingVertices.put(vertexId, vertex);
+		return vertex;
+	}
+
+	private void writePendingVerticesIfNecessary() {
+		if (this.pendingVertices.size() >= this.batchSize) {
+			this.writePendingVertices();
+		}
+	}
+
+	private void writePendingVertices() {
+		if (this.pendingVertices.isEmpty()) {
+			return;
+		}
+		// write the vertices in sorted order
+		List<String> vertexIds = Lists.newArrayList(new TreeSet<>(this.pendingVertices.keySet()));
+		Stream<String> stream = this.parallel ? vertexIds.parallelStream() : vertexIds.stream();
+		List<VertexRecord> records = stream.map(this::createVertexRecord).collect(Collectors.toList());
+		this.pendingVertices.clear();
+		for (VertexRecord record : records) {
+			this.put(ChronoGraphConstants.KEYSPACE_VERTEX, record.getId(), record);
+		}
+		if (this.pendingEntries > 0) {
+			// the written vertices have to be readable, in case that they receive more edges later on
+			this.flush();
+		}
+	}
+
+	private VertexRecord createVertexRecord(final String vertexId) {
+		BulkVertex vertex = this.pendingVertices.get(vertexId);
+		if (vertex.label != null) {
+			return new VertexRecord(vertexId, vertex.label, vertex.incomingEdges, vertex.outgoingEdges,
+					vertex.properties);
+		}
+		// we are adding edges to a vertex which has been written before; merge them with the stored adjacency
+		VertexRecord storedRecord = this.graph.getVertexRecordResolver().loadVertexRecord(this.tx, vertexId);
+		SetMultimap<String, EdgeTargetRecord> inE = HashMultimap.create(storedRecord.getIncomingEdgesByLabel());
+		inE.putAll(vertex.incomingEdges);
+		SetMultimap<String, EdgeTargetRecord> outE = HashMultimap.create(storedRecord.getOutgoingEdgesByLabel());
+		outE.putAll(vertex.outgoingEdges);
+		return new VertexRecord(vertexId, storedRecord.getLabel(), inE, outE, storedRecord.getProperties());
+	}
+
+	private void put(final String keyspace, final String key, final Object value) {
+		this.tx.put(keyspace, key, value);
+		this.pendingEntries++;
+		if (this.pendingEntries >= this.batchSize) {
+			this.flush();
+		}
+	}
+
+	private void flush() {
+		try (AutoLock lock = this.graph.commitLock()) {
+			if (this.tx.isInIncrementalCommitMode() == false) {
+				// this is the first batch; make sure that nobody has committed since we started loading
+				long now = this.graph.getBackingDB().getBranchManager().getBranch(this.branchName).getNow();
+				if (now != this.tx.getTimestamp()) {
+					throw new IllegalStateException("Cannot perform bulk load: a concurrent transaction has "
+							+ "performed a commit since the bulk loader was opened!");
+				}
+			}
+			this.tx.commitIncremental();
+			this.pendingEntries = 0;
+		}
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	/**
+	 * The compact in-memory representation of a vertex during a bulk load.
+	 *
+	 * <p>
+	 * For vertices which have already been written (in an earlier batch, or before the bulk load), only the new edges
+	 * are recorded; label and properties are <code>null</code>.
+	 */
+	private static class BulkVertex {
+
+		private final String label;
+		private final Set<VertexPropertyRecord> properties;
+		private final SetMultimap<String, EdgeTargetRecord> incomingEdges = HashMultimap.create();
+		private final SetMultimap<String, EdgeTargetRecord> outgoingEdges = HashMultimap.create();
+
+		public BulkVertex(final String label, final Set<VertexPropertyRecord> properties) {
+			this.label = label;
+			this.properties = properties;
+		}
+
+	}
+
+}
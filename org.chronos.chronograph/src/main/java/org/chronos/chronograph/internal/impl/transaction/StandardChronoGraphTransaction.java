@@ -1,6 +1,5 @@
 package org.chronos.chronograph.internal.impl.transaction;
 
-import com.google.common.base.Objects;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -12,7 +11,6 @@ import org.chronos.chronodb.api.PutOption;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
-import org.chronos.chronograph.api.exceptions.ChronoGraphCommitConflictException;
 import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.structure.ChronoVertex;
@@ -23,10 +21,10 @@ import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionIn
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ElementLifecycleStatus;
-import org.chronos.chronograph.internal.impl.structure.graph.PropertyStatus;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.merge.GraphChangeSetRebase;
 import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
 import org.chronos.chronograph.internal.impl.util.ChronoId;
 import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
@@ -37,6 +35,7 @@ import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.logging.LogLevel;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.*;
@@ -125,7 +124,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             boolean merged = false;
             // only try to merge if not in incremental commit mode
             if (this.getBackingDBTransaction().isInIncrementalCommitMode() == false) {
-                merged = this.performGraphLevelMergeWithStoreState(metadata);
+                merged = this.rebaseOntoStoreState(metadata);
             }
             if (merged == false) {
                 // merge not required, commit this transaction
@@ -515,7 +514,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
                 // we are not sure if there is a vertex in the database for the given id. We need
                 // to make a load attempt to make sure it exists.
                 ChronoDBTransaction tx = this.getBackingDBTransaction();
-                VertexRecord record = tx.get(ChronoGraphConstants.KEYSPACE_VERTEX, id.toString());
+                VertexRecord record = this.graph.getVertexRecordResolver().loadVertexRecord(tx, id);
                 // load the vertex from the database
                 if (record == null) {
                     return null;
@@ -639,226 +638,41 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         return tx.history(ChronoGraphConstants.KEYSPACE_EDGE, edgeId);
     }
 
-    private boolean performGraphLevelMergeWithStoreState(final Object metadata) {
+    private boolean rebaseOntoStoreState(final Object metadata) {
         // check if another transaction has been committed since this transaction was opened
-        ChronoGraph g = this.graph;
-        if (g instanceof ChronoThreadedTransactionGraph) {
-            g = ((ChronoThreadedTransactionGraph) g).getOriginalGraph();
-        }
-        ChronoGraph currentStateGraph = g.tx().createThreadedTx(this.getBranchName());
-        long now = currentStateGraph.getNow(this.getBranchName());
-        if (now == this.getTimestamp()) {
+        ChronoDBTransaction storeTx = this.graph.getBackingDB().tx(this.getBranchName());
+        if (storeTx.getTimestamp() == this.getTimestamp()) {
             // nothing has happened in the backing store since this transaction was
             // opened, therefore no conflict resolution is needed.
             return false;
         }
-        this.mergeVertexChangesInto(currentStateGraph);
-        this.mergeEdgeChangesInto(currentStateGraph);
-        this.mergeGraphVariableChangesInto(currentStateGraph);
-        currentStateGraph.tx().commit(metadata);
+        GraphChangeSetRebase rebase = new GraphChangeSetRebase(this.context, storeTx,
+                this.graph.getVertexRecordResolver(), this.getTimestamp());
+        // elements which have not been touched by the concurrent commits can be written as they are
+        this.mapModifiedVerticesToChronoDB(storeTx, vertexId -> rebase.isVertexModifiedConcurrently(vertexId) == false);
+        this.mapModifiedEdgesToChronoDB(storeTx, edgeId -> rebase.isEdgeModifiedConcurrently(edgeId) == false);
+        // all other elements are merged with their current state in the store
+        rebase.mergeConcurrentModifications();
+        this.mapModifiedGraphVariablesToChronoDB(storeTx);
+        storeTx.commit(metadata);
         return true;
     }
 
-
-    private void mergeVertexChangesInto(final ChronoGraph currentStateGraph) {
-        Set<ChronoVertexImpl> verticesToSynchronize = Sets.newHashSet(this.getContext().getModifiedVertices());
-        for (ChronoVertexImpl vertex : verticesToSynchronize) {
-            ElementLifecycleStatus status = vertex.getStatus();
-            switch (status) {
-                case REMOVED: {
-                    Vertex storeVertex = Iterators.getOnlyElement(currentStateGraph.vertices(vertex.id()), null);
-                    if (storeVertex != null) {
-                        // delete the vertex in the store
-                        storeVertex.remove();
-                    }
-                    break;
-                }
-                case OBSOLETE: {
-                    // ignore
-                    break;
-                }
-                case NEW: {
-                    // the vertex is new in the current transaction
-                    Vertex storeVertex = Iterators.getOnlyElement(currentStateGraph.vertices(vertex.id()), null);
-                    if (storeVertex == null) {
-                        // create the vertex
-                        storeVertex = currentStateGraph.addVertex(T.id, vertex.id());
-                    }
-                    // copy the properties from the new vertex to the store vertex
-                    this.copyProperties(vertex, storeVertex);
-                    break;
-                }
-                case EDGE_CHANGED: {
-                    // ignore, edges are synchronized in another step
-                    break;
-                }
-                case PROPERTY_CHANGED: {
-                    // synchronize the properties
-                    Vertex storeVertex = Iterators.getOnlyElement(currentStateGraph.vertices(vertex.id()), null);
-                    if (storeVertex != null) {
-                        Set<String> propertyKeys = Sets.newHashSet();
-                        propertyKeys.addAll(vertex.keys());
-                        propertyKeys.addAll(storeVertex.keys());
-                        for (String propertyKey : propertyKeys) {
-                            PropertyStatus propertyStatus = vertex.getPropertyStatus(propertyKey);
-                            switch (propertyStatus) {
-                                case NEW:
-                                    // FALL THROUGH
-                                case MODIFIED:
-                                    VertexProperty<?> property = vertex.property(propertyKey);
-                                    VertexProperty<?> storeProperty = storeVertex.property(propertyKey, property.value());
-                                    this.copyMetaProperties(property, storeProperty);
-                                    break;
-                                case PERSISTED:
-                                    // ignore, property is untouched in transaction
-                                    break;
-                                case REMOVED:
-                                    // remove in store as well
-                                    storeVertex.property(propertyKey).remove();
-                                    break;
-                                case UNKNOWN:
-                                    // ignore, property is unknown in transaction
-                                    break;
-                                default:
-                                    throw new UnknownEnumLiteralException(propertyStatus);
-                            }
-                        }
-                    }
-                    break;
-                }
-                case PERSISTED: {
-                    break;
-                }
-                default:
-                    throw new UnknownEnumLiteralException(status);
-            }
-
-        }
-    }
-
-    private void mergeEdgeChangesInto(final ChronoGraph currentStateGraph) {
-        Set<ChronoEdgeImpl> edgesToSynchronize = Sets.newHashSet(this.getContext().getModifiedEdges());
-        for (ChronoEdgeImpl edge : edgesToSynchronize) {
-            ElementLifecycleStatus status = edge.getStatus();
-            switch (status) {
-                case NEW: {
-                    // try to get the edge from the store
-                    Edge storeEdge = Iterators.getOnlyElement(currentStateGraph.edges(edge.id()), null);
-                    if (storeEdge == null) {
-                        Vertex outV = Iterators.getOnlyElement(currentStateGraph.vertices(edge.outVertex().id()), null);
-                        Vertex inV = Iterators.getOnlyElement(currentStateGraph.vertices(edge.inVertex().id()), null);
-                        if (outV == null || inV == null) {
-                            throw new IllegalArgumentException("This should never happen: an edge outV or inV has not been copied over to the current state graph!");
-                        }
-                        storeEdge = outV.addEdge(edge.label(), inV, T.id, edge.id());
-                    } else {
-                        // store edge already exists, check that the neighboring vertices are the same
-                        if (Objects.equal(edge.inVertex().id(), storeEdge.inVertex().id()) == false || Objects.equal(edge.outVertex().id(), storeEdge.outVertex().id()) == false) {
-                            throw new ChronoGraphCommitConflictException("There is an Edge with ID " + edge.id() + " that has been created in this transaction, but the store contains another edge with the same ID that has different neighboring vertices!");
-                        }
-                    }
-                    this.copyProperties(edge, storeEdge);
-                    break;
-                }
-                case REMOVED: {
-                    Edge storeEdge = Iterators.getOnlyElement(currentStateGraph.edges(edge.id()), null);
-                    if (storeEdge != null) {
-                        storeEdge.remove();
-                    }
-                    break;
-                }
-                case OBSOLETE: {
-                    // ignore
-                    break;
-                }
-                case EDGE_CHANGED: {
-                    // can't happen for edges
-                    throw new IllegalStateException("Detected Edge in lifecycle status EDGE_CHANGED!");
-                }
-                case PERSISTED: {
-                    // ignore, edge is already in sync with store
-                    break;
-                }
-                case PROPERTY_CHANGED: {
-                    Edge storeEdge = Iterators.getOnlyElement(currentStateGraph.edges(edge.id()), null);
-                    if (storeEdge != null) {
-                        Set<String> propertyKeys = Sets.newHashSet();
-                        propertyKeys.addAll(edge.keys());
-                        propertyKeys.addAll(storeEdge.keys());
-                        for (String propertyKey : propertyKeys) {
-                            PropertyStatus propertyStatus = edge.getPropertyStatus(propertyKey);
-                            switch (propertyStatus) {
-                                case NEW:
-                                    // FALL THROUGH
-                                case MODIFIED:
-                                    Property<?> property = edge.property(propertyKey);
-                                    storeEdge.property(propertyKey, property.value());
-                                    break;
-                                case PERSISTED:
-                                    // ignore, property is untouched in transaction
-                                    break;
-                                case REMOVED:
-                                    // remove in store as well
-                                    storeEdge.property(propertyKey).remove();
-                                    break;
-                                case UNKNOWN:
-                                    // ignore, property is unknown in transaction
-                                    break;
-                                default:
-                                    throw new UnknownEnumLiteralException(propertyStatus);
-                            }
-                        }
-                    }
-                    break;
-                }
-                default:
-                    throw new UnknownEnumLiteralException(status);
-            }
-        }
-    }
-
-
-    private void mergeGraphVariableChangesInto(final ChronoGraph currentStateGraph) {
-        Set<String> modifiedVariables = this.getContext().getModifiedVariables();
-        Graph.Variables variables = currentStateGraph.variables();
-        for (String variable : modifiedVariables) {
-            Object value = this.getContext().getModifiedVariableValue(variable);
-            if (value == null) {
-                variables.remove(variable);
-            } else {
-                variables.set(variable, value);
-            }
-        }
-    }
-
-    private <E extends Element> void copyProperties(final E sourceElement, final E targetElement) {
-        Iterator<? extends Property<Object>> propertyIterator = sourceElement.properties();
-        while (propertyIterator.hasNext()) {
-            Property<?> prop = propertyIterator.next();
-            Property<?> storeProp = targetElement.property(prop.key(), prop.value());
-            if (prop instanceof VertexProperty) {
-                VertexProperty<?> vProp = (VertexProperty<?>) prop;
-                this.copyMetaProperties(vProp, (VertexProperty<?>) storeProp);
-            }
-        }
-    }
-
-    private void copyMetaProperties(final VertexProperty<?> source, final VertexProperty<?> target) {
-        Iterator<Property<Object>> metaPropertyIterator = source.properties();
-        while (metaPropertyIterator.hasNext()) {
-            Property<?> metaProp = metaPropertyIterator.next();
-            target.property(metaProp.key(), metaProp.value());
-        }
+    private void mapModifiedVerticesToChronoDB() {
+        this.mapModifiedVerticesToChronoDB(this.getBackingDBTransaction(), vertexId -> true);
     }
 
-    private void mapModifiedVerticesToChronoDB() {
-        // get the backing transaction
-        ChronoDBTransaction tx = this.getBackingDBTransaction();
+    private void mapModifiedVerticesToChronoDB(final ChronoDBTransaction tx, final Predicate<String> vertexIdFilter) {
+        // the resolver decides whether a full snapshot or a delta against the previous version is written
+        VertexRecordResolver recordResolver = this.graph.getVertexRecordResolver();
         // read the set of modified vertices
         Set<ChronoVertexImpl> modifiedVertices = this.context.getModifiedVertices();
         // write each vertex into a key-value pair in the transaction
         for (ChronoVertexImpl vertex : modifiedVertices) {
             String vertexId = vertex.id();
+            if (vertexIdFilter.test(vertexId) == false) {
+                continue;
+            }
             ElementLifecycleStatus vertexStatus = vertex.getStatus();
             switch (vertexStatus) {
                 case NEW:
@@ -869,14 +683,15 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
                     // they have been created AND removed in the same transaction
                     break;
                 case EDGE_CHANGED:
-                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord(), PutOption.NO_INDEX);
+                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, recordResolver.encode(tx, vertex.toRecord()),
+                            PutOption.NO_INDEX);
                     break;
                 case PERSISTED:
                     // this case should actually be unreachable because persisted elements are clean and not dirty
                     throw new IllegalStateException(
                             "Unreachable code reached: PERSISTED vertex '" + vertexId + "' is listed as dirty!");
                 case PROPERTY_CHANGED:
-                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord());
+                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, recordResolver.encode(tx, vertex.toRecord()));
                     break;
                 case REMOVED:
                     tx.remove(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
@@ -888,13 +703,18 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
     }
 
     private void mapModifiedEdgesToChronoDB() {
-        // get the backing transaction
-        ChronoDBTransaction tx = this.getBackingDBTransaction();
+        this.mapModifiedEdgesToChronoDB(this.getBackingDBTransaction(), edgeId -> true);
+    }
+
+    private void mapModifiedEdgesToChronoDB(final ChronoDBTransaction tx, final Predicate<String> edgeIdFilter) {
         // read the set of modified edges
         Set<ChronoEdgeImpl> modifiedEdges = this.context.getModifiedEdges();
         // write each edge into a key-value pair in the transaction
         for (ChronoEdgeImpl edge : modifiedEdges) {
             String edgeId = edge.id();
+            if (edgeIdFilter.test(edgeId) == false) {
+                continue;
+            }
             ElementLifecycleStatus edgeStatus = edge.getStatus();
             switch (edgeStatus) {
                 case NEW:
@@ -935,8 +755,10 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
     }
 
     private void mapModifiedGraphVariablesToChronoDB() {
-        // get the backing transaction
-        ChronoDBTransaction tx = this.getBackingDBTransaction();
+        this.mapModifiedGraphVariablesToChronoDB(this.getBackingDBTransaction());
+    }
+
+    private void mapModifiedGraphVariablesToChronoDB(final ChronoDBTransaction tx) {
         // write the modifications of graph variables into the transaction context
         for (String variableName : this.context.getModifiedVariables()) {
             if (this.context.isVariableRemoved(variableName)) {
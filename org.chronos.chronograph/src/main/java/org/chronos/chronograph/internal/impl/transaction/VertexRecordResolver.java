@@ -0,0 +1,236 @@
+package org.chronos.chronograph.internal.impl.transaction;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.DeltaEncodedValue;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.impl.structure.record.IVertexRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecordDelta;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * The {@link VertexRecordResolver} translates between the full {@link VertexRecord} representation of a vertex and
+ * its persistent form in the vertex keyspace, which may either be a full snapshot or a {@link VertexRecordDelta}.
+ *
+ * <p>
+ * When reading, delta records are resolved by walking back the chain of predecessor versions until the nearest full
+ * snapshot is found. Fully resolved predecessor versions are kept in a bounded cache, keyed by the predecessor
+ * timestamp of the delta which requires them. A cache entry remains valid as long as the vertex version which is
+ * visible at that timestamp does not change. Commits never change it, and history pruning retains it for every
+ * remaining delta (see {@link DeltaEncodedValue}); the entries of pruned versions can only be requested by pruned
+ * deltas. Operations which replace the contents of the database (e.g. reading a dump) have to
+ * {@linkplain #clearCache() clear} the cache.
+ *
+ * <p>
+ * When writing, a delta is produced instead of a full snapshot if delta encoding is enabled (see
+ * {@link ChronoGraphConfiguration#getVertexRecordSnapshotInterval()}), the vertex already has a persisted
+ * predecessor version, and the current delta chain has not yet reached the snapshot interval.
+ *
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class VertexRecordResolver {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final ChronoDB database;
+	private final int snapshotInterval;
+	private final Cache<VersionKey, VertexRecord> resolvedVersions;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	public VertexRecordResolver(final ChronoDB database, final ChronoGraphConfiguration configuration) {
+		checkNotNull(database, "Precondition violation - argument 'database' must not be NULL!");
+		checkNotNull(configuration, "Precondition violation - argument 'configuration' must not be NULL!");
+		this.database = database;
+		this.snapshotInterval = configuration.getVertexRecordSnapshotInterval();
+		this.resolvedVersions = CacheBuilder.newBuilder().maximumSize(configuration.getVertexRecordCacheMaxSize())
+				.build();
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	/**
+	 * Checks if delta encoding of vertex records is enabled.
+	 *
+	 * @return <code>true</code> if delta records may be written, otherwise <code>false</code>.
+	 */
+	public boolean isDeltaEncodingEnabled() {
+		return this.snapshotInterval > 1;
+	}
+
+	/**
+	 * Loads the vertex with the given ID from the given transaction and resolves it into a full {@link VertexRecord}.
+	 *
+	 * @param tx
+	 *            The transaction to read from. Must not be <code>null</code>.
+	 * @param vertexId
+	 *            The ID of the vertex to load. Must not be <code>null</code>.
+	 * @return The full vertex record, or <code>null</code> if there is no vertex with the given ID.
+	 */
+	public VertexRecord loadVertexRecord(final ChronoDBTransaction tx, final String vertexId) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		IVertexRecord storedRecord = tx.get(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+		return this.resolve(tx.getBranchName(), storedRecord);
+	}
+
+	/**
+	 * Resolves the given stored vertex record into a full {@link VertexRecord}.
+	 *
+	 * @param branchName
+	 *            The name of the branch in which the record has been read. Must not be <code>null</code>.
+	 * @param storedRecord
+	 *            The record as stored in the vertex keyspace. May be <code>null</code>.
+	 * @return The full vertex record, or <code>null</code> if the stored record was <code>null</code>.
+	 */
+	public VertexRecord resolve(final String branchName, final IVertexRecord storedRecord) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		if (storedRecord == null) {
+			return null;
+		}
+		if (storedRecord instanceof VertexRecord) {
+			return (VertexRecord) storedRecord;
+		}
+		VertexRecordDelta delta = (VertexRecordDelta) storedRecord;
+		VertexRecord predecessor = this.resolveVersion(branchName, delta.getId(), delta.getPredecessorTimestamp());
+		return delta.applyTo(predecessor);
+	}
+
+	/**
+	 * Converts the given full vertex record into the form in which it should be written to the given transaction.
+	 *
+	 * <p>
+	 * Note that this method must be invoked <b>before</b> the new record is put into the transaction, as it inspects
+	 * the currently persisted version of the vertex.
+	 *
+	 * @param tx
+	 *            The transaction which will receive the record. Must not be <code>null</code>.
+	 * @param record
+	 *            The full vertex record to write. Must not be <code>null</code>.
+	 * @return Either the given record itself (full snapshot), or a {@link VertexRecordDelta} against the currently
+	 *         persisted version of the vertex. Never <code>null</code>.
+	 */
+	public IVertexRecord encode(final ChronoDBTransaction tx, final VertexRecord record) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
+		if (this.isDeltaEncodingEnabled() == false) {
+			return record;
+		}
+		if (tx.isInIncrementalCommitMode()) {
+			// incremental commits may overwrite versions which are referenced as predecessors,
+			// so we always write snapshots in this mode.
+			return record;
+		}
+		IVertexRecord storedRecord = tx.get(ChronoGraphConstants.KEYSPACE_VERTEX, record.getId());
+		if (storedRecord == null) {
+			// there is no predecessor to compute a delta against
+			return record;
+		}
+		int depth = 0;
+		if (storedRecord instanceof VertexRecordDelta) {
+			depth = ((VertexRecordDelta) storedRecord).getDepth();
+		}
+		if (depth + 1 >= this.snapshotInterval) {
+			// the delta chain is long enough, write a new snapshot
+			return record;
+		}
+		// the stored record is the version which is visible at the transaction timestamp; this
+		// is the version our delta will be based upon.
+		long predecessorTimestamp = tx.getTimestamp();
+		VertexRecord predecessor = this.resolve(tx.getBranchName(), storedRecord);
+		// the predecessor will be needed to resolve the delta we are about to write, so we cache it right away
+		this.resolvedVersions.put(new VersionKey(tx.getBranchName(), record.getId(), predecessorTimestamp),
+				predecessor);
+		return new VertexRecordDelta(predecessor, predecessorTimestamp, depth + 1, record);
+	}
+
+	/**
+	 * Discards all cached vertex record versions.
+	 */
+	public void clearCache() {
+		this.resolvedVersions.invalidateAll();
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private VertexRecord resolveVersion(final String branchName, final String vertexId, final long timestamp) {
+		VersionKey key = new VersionKey(branchName, vertexId, timestamp);
+		VertexRecord cached = this.resolvedVersions.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		IVertexRecord storedRecord = this.database.tx(branchName, timestamp)
+				.get(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+		if (storedRecord == null) {
+			throw new IllegalStateException("Failed to resolve delta record of vertex '" + vertexId
+					+ "': there is no predecessor version at timestamp " + timestamp + " in branch '" + branchName
+					+ "'!");
+		}
+		VertexRecord resolved = this.resolve(branchName, storedRecord);
+		this.resolvedVersions.put(key, resolved);
+		return resolved;
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	private static class VersionKey {
+
+		private final String branchName;
+		private final String vertexId;
+		private final long timestamp;
+
+		public VersionKey(final String branchName, final String vertexId, final long timestamp) {
+			this.branchName = branchName;
+			this.vertexId = vertexId;
+			this.timestamp = timestamp;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + this.branchName.hashCode();
+			result = prime * result + this.vertexId.hashCode();
+			result = prime * result + (int) (this.timestamp ^ this.timestamp >>> 32);
+			return result;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null) {
+				return false;
+			}
+			if (this.getClass() != obj.getClass()) {
+				return false;
+			}
+			VersionKey other = (VersionKey) obj;
+			return this.timestamp == other.timestamp && this.branchName.equals(other.branchName)
+					&& this.vertexId.equals(other.vertexId);
+		}
+
+	}
+
+}
@@ -0,0 +1,485 @@
+package org.chronos.chronograph.internal.impl.transaction.merge;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.PutOption;
+import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronograph.api.exceptions.ChronoGraphCommitConflictException;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexProperty;
+import org.chronos.chronograph.internal.impl.structure.graph.ElementLifecycleStatus;
+import org.chronos.chronograph.internal.impl.structure.graph.PropertyStatus;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.GraphTransactionContext;
+import org.chronos.chronograph.internal.impl.transaction.VertexRecordResolver;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * Rebases the change set of a graph transaction onto the current state of the store, on the level of element records.
+ *
+ * <p>
+ * When a graph transaction commits after other transactions have committed on the same branch, its changes have to
+ * be merged with the changes of the concurrent commits. This class determines the vertices and edges which have been
+ * modified in the store since the transaction timestamp. Only those elements are merged: their record in the store is
+ * loaded and the changes of the transaction (property updates as well as added and removed edges) are applied to it.
+ * All other elements of the change set can be written as they are, because their store state is still the state the
+ * transaction has been working on.
+ *
+ * <p>
+ * Property conflicts are resolved in favor of the transaction. Changes on elements which have been removed concurrently
+ * are discarded, but a new edge which refers to a concurrently removed vertex is rejected with a
+ * {@link ChronoGraphCommitConflictException}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class GraphChangeSetRebase {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final GraphTransactionContext context;
+	private final ChronoDBTransaction storeTx;
+	private final VertexRecordResolver recordResolver;
+
+	/** The IDs of all vertices which have been modified in the store since the transaction timestamp. */
+	private final Set<String> concurrentlyModifiedVertexIds;
+	/** The IDs of all edges which have been modified in the store since the transaction timestamp. */
+	private final Set<String> concurrentlyModifiedEdgeIds;
+
+	/** The merged state of all concurrently modified vertices which need to be written. */
+	private final Map<String, RebasedVertex> rebasedVertices = Maps.newHashMap();
+	/** The IDs of concurrently modified vertices which do not exist (anymore) in the store. */
+	private final Set<String> verticesMissingInStore = Sets.newHashSet();
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	public GraphChangeSetRebase(final GraphTransactionContext context, final ChronoDBTransaction storeTx,
+			final VertexRecordResolver recordResolver, final long transactionTimestamp) {
+		checkNotNull(context, "Precondition violation - argument 'context' must not be NULL!");
+		checkNotNull(storeTx, "Precondition violation - argument 'storeTx' must not be NULL!");
+		checkNotNull(recordResolver, "Precondition violation - argument 'recordResolver' must not be NULL!");
+		checkArgument(transactionTimestamp >= 0,
+				"Precondition violation - argument 'transactionTimestamp' must not be negative!");
+		checkArgument(transactionTimestamp < storeTx.getTimestamp(),
+				"Precondition violation - argument 'transactionTimestamp' must be less than the store timestamp!");
+		this.context = context;
+		this.storeTx = storeTx;
+		this.recordResolver = recordResolver;
+		this.concurrentlyModifiedVertexIds = this.getModifiedKeysSince(ChronoGraphConstants.KEYSPACE_VERTEX,
+				transactionTimestamp);
+		this.concurrentlyModifiedEdgeIds = this.getModifiedKeysSince(ChronoGraphConstants.KEYSPACE_EDGE,
+				transactionTimestamp);
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	/**
+	 * Checks if the vertex with the given ID has been modified in the store since the transaction timestamp.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex to check. Must not be <code>null</code>.
+	 * @return <code>true</code> if the vertex has been modified concurrently, otherwise <code>false</code>.
+	 */
+	public boolean isVertexModifiedConcurrently(final String vertexId) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		return this.concurrentlyModifiedVertexIds.contains(vertexId);
+	}
+
+	/**
+	 * Checks if the edge with the given ID has been modified in the store since the transaction timestamp.
+	 *
+	 * @param edgeId
+	 *            The ID of the edge to check. Must not be <code>null</code>.
+	 * @return <code>true</code> if the edge has been modified concurrently, otherwise <code>false</code>.
+	 */
+	public boolean isEdgeModifiedConcurrently(final String edgeId) {
+		checkNotNull(edgeId, "Precondition violation - argument 'edgeId' must not be NULL!");
+		return this.concurrentlyModifiedEdgeIds.contains(edgeId);
+	}
+
+	/**
+	 * Merges the changes of the transaction on all concurrently modified elements into the store state, and writes the
+	 * result into the store transaction.
+	 *
+	 * <p>
+	 * Elements which have not been modified concurrently are <b>not</b> written by this method.
+	 *
+	 * @throws ChronoGraphCommitConflictException
+	 *             Thrown if the changes of the transaction cannot be merged with the store state.
+	 */
+	public void mergeConcurrentModifications() {
+		if (this.concurrentlyModifiedVertexIds.isEmpty() && this.concurrentlyModifiedEdgeIds.isEmpty()) {
+			// nothing to merge
+			return;
+		}
+		List<String> removedVertexIds = Lists.newArrayList();
+		for (ChronoVertexImpl vertex : this.context.getModifiedVertices()) {
+			if (this.isVertexModifiedConcurrently(vertex.id()) == false) {
+				continue;
+			}
+			ElementLifecycleStatus status = vertex.getStatus();
+			switch (status) {
+			case NEW:
+				this.mergeNewVertex(vertex);
+				break;
+			case PROPERTY_CHANGED:
+				this.mergeVertexProperties(vertex);
+				break;
+			case EDGE_CHANGED:
+				// the adjacency is merged when processing the edges; just make sure
+				// that the store state is loaded, such that removed edges are applied
+				this.getRebasedVertex(vertex.id());
+				break;
+			case REMOVED:
+				removedVertexIds.add(vertex.id());
+				break;
+			case OBSOLETE:
+				// ignore, the vertex was created AND removed in this transaction
+				break;
+			case PERSISTED:
+				// ignore, the vertex is in sync with the store
+				break;
+			default:
+				throw new UnknownEnumLiteralException(status);
+			}
+		}
+		Set<String> removedEdgeIds = Sets.newHashSet();
+		for (ChronoEdgeImpl edge : this.context.getModifiedEdges()) {
+			ElementLifecycleStatus status = edge.getStatus();
+			switch (status) {
+			case NEW:
+				this.mergeNewEdge(edge);
+				break;
+			case PROPERTY_CHANGED:
+				this.mergeEdgeProperties(edge);
+				break;
+			case REMOVED:
+				removedEdgeIds.add(edge.id());
+				if (this.isEdgeModifiedConcurrently(edge.id())
+						&& this.storeTx.get(ChronoGraphConstants.KEYSPACE_EDGE, edge.id()) != null) {
+					this.storeTx.remove(ChronoGraphConstants.KEYSPACE_EDGE, edge.id());
+				}
+				break;
+			case OBSOLETE:
+				// ignore, the edge was created AND removed in this transaction
+				break;
+			case EDGE_CHANGED:
+				throw new IllegalStateException("Detected Edge in lifecycle status EDGE_CHANGED!");
+			case PERSISTED:
+				// ignore, the edge is in sync with the store
+				break;
+			default:
+				throw new UnknownEnumLiteralException(status);
+			}
+		}
+		// the edges removed in this transaction must not occur in the merged adjacency
+		for (RebasedVertex rebasedVertex : this.rebasedVertices.values()) {
+			rebasedVertex.removeEdges(removedEdgeIds);
+		}
+		for (String vertexId : removedVertexIds) {
+			this.mergeRemovedVertex(vertexId);
+		}
+		// write the merged vertex records
+		for (RebasedVertex rebasedVertex : this.rebasedVertices.values()) {
+			VertexRecord record = rebasedVertex.toRecord();
+			if (rebasedVertex.propertiesChanged) {
+				this.storeTx.put(ChronoGraphConstants.KEYSPACE_VERTEX, record.getId(),
+						this.recordResolver.encode(this.storeTx, record));
+			} else {
+				// only the adjacency has changed, the secondary index is still up to date
+				this.storeTx.put(ChronoGraphConstants.KEYSPACE_VERTEX, record.getId(),
+						this.recordResolver.encode(this.storeTx, record), PutOption.NO_INDEX);
+			}
+		}
+	}
+
+	// =====================================================================================================================
+	// VERTEX MERGING
+	// =====================================================================================================================
+
+	private void mergeNewVertex(final ChronoVertexImpl vertex) {
+		RebasedVertex rebasedVertex = this.getRebasedVertex(vertex.id());
+		if (rebasedVertex == null) {
+			// the vertex does not exist in the store, use the one from the transaction
+			rebasedVertex = new RebasedVertex(vertex.id(), vertex.label());
+			this.rebasedVertices.put(vertex.id(), rebasedVertex);
+			this.verticesMissingInStore.remove(vertex.id());
+		}
+		// a vertex with the same ID has been created concurrently; our properties take precedence
+		rebasedVertex.properties.putAll(this.getPropertyRecords(vertex));
+		rebasedVertex.propertiesChanged = true;
+	}
+
+	private void mergeVertexProperties(final ChronoVertexImpl vertex) {
+		RebasedVertex rebasedVertex = this.getRebasedVertex(vertex.id());
+		if (rebasedVertex == null) {
+			// the vertex has been removed concurrently, discard the property changes
+			return;
+		}
+		Map<String, VertexPropertyRecord> properties = this.getPropertyRecords(vertex);
+		Set<String> propertyKeys = Sets.union(properties.keySet(), Sets.newHashSet(rebasedVertex.properties.keySet()));
+		for (String propertyKey : propertyKeys) {
+			PropertyStatus propertyStatus = vertex.getPropertyStatus(propertyKey);
+			switch (propertyStatus) {
+			case NEW:
+				// FALL THROUGH
+			case MODIFIED:
+				rebasedVertex.properties.put(propertyKey, properties.get(propertyKey));
+				break;
+			case REMOVED:
+				rebasedVertex.properties.remove(propertyKey);
+				break;
+			case PERSISTED:
+				// ignore, property is untouched in transaction
+				break;
+			case UNKNOWN:
+				// ignore, property is unknown in transaction
+				break;
+			default:
+				throw new UnknownEnumLiteralException(propertyStatus);
+			}
+		}
+		rebasedVertex.propertiesChanged = true;
+	}
+
+	private void mergeRemovedVertex(final String vertexId) {
+		RebasedVertex rebasedVertex = this.getRebasedVertex(vertexId);
+		if (rebasedVertex == null) {
+			// the vertex has been removed concurrently as well
+			return;
+		}
+		// any edge which is still attached to the vertex has been added concurrently, remove it too
+		for (Entry<String, EdgeTargetRecord> entry : rebasedVertex.inE.entries()) {
+			this.removeConcurrentlyAddedEdge(vertexId, entry.getValue());
+		}
+		for (Entry<String, EdgeTargetRecord> entry : rebasedVertex.outE.entries()) {
+			this.removeConcurrentlyAddedEdge(vertexId, entry.getValue());
+		}
+		this.rebasedVertices.remove(vertexId);
+		this.verticesMissingInStore.add(vertexId);
+		this.storeTx.remove(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+	}
+
+	private void removeConcurrentlyAddedEdge(final String removedVertexId, final EdgeTargetRecord edgeTarget) {
+		String edgeId = edgeTarget.getEdgeId();
+		this.storeTx.remove(ChronoGraphConstants.KEYSPACE_EDGE, edgeId);
+		String neighborId = edgeTarget.getOtherEndVertexId();
+		if (neighborId.equals(removedVertexId)) {
+			// self-loop, nothing else to update
+			return;
+		}
+		RebasedVertex neighbor = this.getRebasedVertex(neighborId);
+		if (neighbor != null) {
+			neighbor.removeEdges(Sets.newHashSet(edgeId));
+		}
+	}
+
+	// =====================================================================================================================
+	// EDGE MERGING
+	// =====================================================================================================================
+
+	private void mergeNewEdge(final ChronoEdgeImpl edge) {
+		EdgeRecord record = edge.toRecord();
+		if (this.isEdgeModifiedConcurrently(edge.id())) {
+			EdgeRecord storeRecord = this.storeTx.get(ChronoGraphConstants.KEYSPACE_EDGE, edge.id());
+			if (storeRecord != null) {
+				if (Objects.equals(record.getInVertexId(), storeRecord.getInVertexId()) == false
+						|| Objects.equals(record.getOutVertexId(), storeRecord.getOutVertexId()) == false) {
+					throw new ChronoGraphCommitConflictException("There is an Edge with ID " + edge.id()
+							+ " that has been created in this transaction, but the store contains another edge with the same ID that has different neighboring vertices!");
+				}
+				// our properties take precedence
+				Map<String, PropertyRecord> properties = this.getPropertyRecords(storeRecord);
+				for (PropertyRecord property : record.getProperties()) {
+					properties.put(property.getKey(), property);
+				}
+				record = new EdgeRecord(record.getId(), record.getOutVertexId(), storeRecord.getLabel(),
+						record.getInVertexId(), Sets.newHashSet(properties.values()));
+			}
+			this.storeTx.put(ChronoGraphConstants.KEYSPACE_EDGE, edge.id(), record);
+		}
+		// add the edge to the adjacency of the concurrently modified neighbors
+		String outVertexId = record.getOutVertexId();
+		String inVertexId = record.getInVertexId();
+		if (this.isVertexModifiedConcurrently(outVertexId)) {
+			this.getRebasedVertexForNewEdge(outVertexId, record).outE.put(record.getLabel(),
+					new EdgeTargetRecord(record.getId(), inVertexId));
+		}
+		if (this.isVertexModifiedConcurrently(inVertexId)) {
+			this.getRebasedVertexForNewEdge(inVertexId, record).inE.put(record.getLabel(),
+					new EdgeTargetRecord(record.getId(), outVertexId));
+		}
+	}
+
+	private void mergeEdgeProperties(final ChronoEdgeImpl edge) {
+		if (this.isEdgeModifiedConcurrently(edge.id()) == false) {
+			return;
+		}
+		EdgeRecord storeRecord = this.storeTx.get(ChronoGraphConstants.KEYSPACE_EDGE, edge.id());
+		if (storeRecord == null) {
+			// the edge has been removed concurrently, discard the property changes
+			return;
+		}
+		Map<String, PropertyRecord> storeProperties = this.getPropertyRecords(storeRecord);
+		Map<String, PropertyRecord> properties = this.getPropertyRecords(edge.toRecord());
+		Set<String> propertyKeys = Sets.union(properties.keySet(), Sets.newHashSet(storeProperties.keySet()));
+		for (String propertyKey : propertyKeys) {
+			PropertyStatus propertyStatus = edge.getPropertyStatus(propertyKey);
+			switch (propertyStatus) {
+			case NEW:
+				// FALL THROUGH
+			case MODIFIED:
+				storeProperties.put(propertyKey, properties.get(propertyKey));
+				break;
+			case REMOVED:
+				storeProperties.remove(propertyKey);
+				break;
+			case PERSISTED:
+				// ignore, property is untouched in transaction
+				break;
+			case UNKNOWN:
+				// ignore, property is unknown in transaction
+				break;
+			default:
+				throw new UnknownEnumLiteralException(propertyStatus);
+			}
+		}
+		EdgeRecord mergedRecord = new EdgeRecord(storeRecord.getId(), storeRecord.getOutVertexId(),
+				storeRecord.getLabel(), storeRecord.getInVertexId(), Sets.newHashSet(storeProperties.values()));
+		this.storeTx.put(ChronoGraphConstants.KEYSPACE_EDGE, edge.id(), mergedRecord);
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private Set<String> getModifiedKeysSince(final String keyspace, final long timestamp) {
+		Set<String> keys = Sets.newHashSet();
+		Iterator<TemporalKey> iterator = this.storeTx.getModificationsInKeyspaceBetween(keyspace, timestamp + 1,
+				this.storeTx.getTimestamp());
+		while (iterator.hasNext()) {
+			keys.add(iterator.next().getKey());
+		}
+		return keys;
+	}
+
+	private RebasedVertex getRebasedVertex(final String vertexId) {
+		RebasedVertex rebasedVertex = this.rebasedVertices.get(vertexId);
+		if (rebasedVertex != null || this.verticesMissingInStore.contains(vertexId)) {
+			return rebasedVertex;
+		}
+		VertexRecord storeRecord = this.recordResolver.loadVertexRecord(this.storeTx, vertexId);
+		if (storeRecord == null) {
+			this.verticesMissingInStore.add(vertexId);
+			return null;
+		}
+		rebasedVertex = new RebasedVertex(storeRecord);
+		this.rebasedVertices.put(vertexId, rebasedVertex);
+		return rebasedVertex;
+	}
+
+	private RebasedVertex getRebasedVertexForNewEdge(final String vertexId, final EdgeRecord edge) {
+		RebasedVertex rebasedVertex = this.getRebasedVertex(vertexId);
+		if (rebasedVertex == null) {
+			throw new ChronoGraphCommitConflictException("The Edge with ID " + edge.getId()
+					+ " has been created in this transaction, but its adjacent Vertex with ID " + vertexId
+					+ " has been removed concurrently!");
+		}
+		return rebasedVertex;
+	}
+
+	private Map<String, VertexPropertyRecord> getPropertyRecords(final ChronoVertexImpl vertex) {
+		Map<String, VertexPropertyRecord> properties = Maps.newHashMap();
+		Iterator<VertexProperty<Object>> iterator = vertex.properties();
+		while (iterator.hasNext()) {
+			ChronoVertexProperty<?> property = (ChronoVertexProperty<?>) iterator.next();
+			properties.put(property.key(), property.toRecord());
+		}
+		return properties;
+	}
+
+	private Map<String, PropertyRecord> getPropertyRecords(final EdgeRecord edge) {
+		Map<String, PropertyRecord> properties = Maps.newHashMap();
+		for (PropertyRecord property : edge.getProperties()) {
+			properties.put(property.getKey(), property);
+		}
+		return properties;
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	/**
+	 * The mutable, merged state of a vertex which will be written as a new {@link VertexRecord}.
+	 */
+	private static class RebasedVertex {
+
+		private final String id;
+		private final String label;
+		private final SetMultimap<String, EdgeTargetRecord> inE;
+		private final SetMultimap<String, EdgeTargetRecord> outE;
+		private final Map<String, VertexPropertyRecord> properties;
+		private boolean propertiesChanged;
+
+		public RebasedVertex(final String id, final String label) {
+			this.id = id;
+			this.label = label;
+			this.inE = HashMultimap.create();
+			this.outE = HashMultimap.create();
+			this.properties = Maps.newHashMap();
+		}
+
+		public RebasedVertex(final VertexRecord storeRecord) {
+			this.id = storeRecord.getId();
+			this.label = storeRecord.getLabel();
+			this.inE = HashMultimap.create(storeRecord.getIncomingEdgesByLabel());
+			this.outE = HashMultimap.create(storeRecord.getOutgoingEdgesByLabel());
+			this.properties = Maps.newHashMap();
+			for (VertexPropertyRecord property : storeRecord.getProperties()) {
+				this.properties.put(property.getKey(), property);
+			}
+		}
+
+		public void removeEdges(final Set<String> edgeIds) {
+			if (edgeIds.isEmpty()) {
+				return;
+			}
+			this.inE.values().removeIf(edgeTarget -> edgeIds.contains(edgeTarget.getEdgeId()));
+			this.outE.values().removeIf(edgeTarget -> edgeIds.contains(edgeTarget.getEdgeId()));
+		}
+
+		public VertexRecord toRecord() {
+			return new VertexRecord(this.id, this.label, this.inE, this.outE, Sets.newHashSet(this.properties.values()));
+		}
+
+	}
+
+}
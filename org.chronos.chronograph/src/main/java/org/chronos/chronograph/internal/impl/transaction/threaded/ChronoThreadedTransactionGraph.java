@@ -5,6 +5,7 @@ import org.apache.commons.configuration.Configuration;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.Io.Builder;
@@ -14,12 +15,15 @@ import org.chronos.chronograph.api.branch.ChronoGraphBranchManager;
 import org.chronos.chronograph.api.builder.query.GraphQueryBuilderStarter;
 import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphBulkLoader;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager;
 import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.impl.builder.query.GraphQueryBuilderStarterImpl;
+import org.chronos.chronograph.internal.impl.computer.ChronoGraphComputer;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoGraphVariables;
+import org.chronos.chronograph.internal.impl.transaction.VertexRecordResolver;
 import org.chronos.common.autolock.AutoLock;
 
 import java.io.File;
@@ -131,15 +135,21 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
     // =====================================================================================================================
 
     @Override
+    @SuppressWarnings("unchecked")
     public <C extends GraphComputer> C compute(final Class<C> graphComputerClass) throws IllegalArgumentException {
-        // TODO Auto-generated method stub
-        return null;
+        if (ChronoGraphComputer.class.equals(graphComputerClass) == false) {
+            throw Graph.Exceptions.graphDoesNotSupportProvidedGraphComputer(graphComputerClass);
+        }
+        return (C) this.compute();
     }
 
     @Override
     public GraphComputer compute() throws IllegalArgumentException {
-        // TODO Auto-generated method stub
-        return null;
+        ChronoGraphTransaction transaction = this.tx().getCurrentTransaction();
+        if (transaction.isOpen() == false) {
+            throw new IllegalStateException("This threaded transaction was already closed!");
+        }
+        return new ChronoGraphComputer(this, transaction.getBranchName(), transaction.getTimestamp());
     }
 
     // =====================================================================================================================
@@ -212,6 +222,16 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
         return new GraphQueryBuilderStarterImpl(this);
     }
 
+    // =====================================================================================================================
+    // BULK LOADING
+    // =====================================================================================================================
+
+    @Override
+    public ChronoGraphBulkLoader bulkLoader(final String branchName) {
+        throw new UnsupportedOperationException("bulkLoader(...) is not permitted on threaded transaction graphs. "
+                + "Call it on the original graph instance.");
+    }
+
     // =====================================================================================================================
     // VARIABLES & CONFIGURATION
     // =====================================================================================================================
@@ -484,6 +504,11 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
         return this.originalGraph.commitLock();
     }
 
+    @Override
+    public VertexRecordResolver getVertexRecordResolver() {
+        return this.originalGraph.getVertexRecordResolver();
+    }
+
     public ChronoGraph getOriginalGraph() {
         return this.originalGraph;
     }
@@ -72,7 +72,7 @@ public class ThreadedChronoGraphIndexManager implements ChronoGraphIndexManager,
 	@Override
 	public void reindex(final ChronoGraphIndex index) {
 		this.wrappedManager.executeOnGraph(this.graph, () -> {
-			this.wrappedManager.reindexAll();
+			this.wrappedManager.reindex(index);
 		});
 	}
 
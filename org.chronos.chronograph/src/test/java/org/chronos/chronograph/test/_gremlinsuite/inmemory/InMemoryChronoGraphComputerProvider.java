@@ -0,0 +1,22 @@
+package org.chronos.chronograph.test._gremlinsuite.inmemory;
+
+import org.apache.tinkerpop.gremlin.GraphProvider;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.chronos.chronograph.internal.impl.computer.ChronoGraphComputer;
+
+@GraphProvider.Descriptor(computer = ChronoGraphComputer.class)
+public class InMemoryChronoGraphComputerProvider extends InMemoryChronoGraphProvider {
+
+	@Override
+	public GraphTraversalSource traversal(final Graph graph) {
+		return graph.traversal().withComputer();
+	}
+
+	@Override
+	public GraphComputer getGraphComputer(final Graph graph) {
+		return graph.compute();
+	}
+
+}
@@ -0,0 +1,12 @@
+package org.chronos.chronograph.test._gremlinsuite.inmemory;
+
+import org.apache.tinkerpop.gremlin.GraphProviderClass;
+import org.apache.tinkerpop.gremlin.process.ProcessComputerSuite;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.junit.runner.RunWith;
+
+@RunWith(ProcessComputerSuite.class)
+@GraphProviderClass(provider = InMemoryChronoGraphComputerProvider.class, graph = ChronoGraph.class)
+public class InMemoryChronoGraphProcessComputerTestSuite {
+
+}
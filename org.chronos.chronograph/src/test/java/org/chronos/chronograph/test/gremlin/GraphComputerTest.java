@@ -0,0 +1,176 @@
+package org.chronos.chronograph.test.gremlin;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.ClusterCountMapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure.PeerPressureVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.impl.computer.ChronoGraphComputer;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class GraphComputerTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void canObtainGraphComputer() {
+		ChronoGraph g = this.getGraph();
+		assertTrue(g.features().graph().supportsComputer());
+		assertTrue(g.compute() instanceof ChronoGraphComputer);
+		assertTrue(g.compute(ChronoGraphComputer.class) instanceof ChronoGraphComputer);
+		g.tx().rollback();
+	}
+
+	@Test
+	public void canRunPageRank() throws Exception {
+		ChronoGraph g = this.getGraph();
+		// a directed cycle: every vertex must end up with the same rank
+		Vertex vA = g.addVertex(T.id, "a");
+		Vertex vB = g.addVertex(T.id, "b");
+		Vertex vC = g.addVertex(T.id, "c");
+		Vertex vD = g.addVertex(T.id, "d");
+		vA.addEdge("link", vB);
+		vB.addEdge("link", vC);
+		vC.addEdge("link", vD);
+		vD.addEdge("link", vA);
+		g.tx().commit();
+
+		ComputerResult result = g.compute().program(PageRankVertexProgram.build().iterations(10).create(g)).submit()
+				.get();
+		Graph resultGraph = result.graph();
+		List<Vertex> vertices = Lists.newArrayList(resultGraph.vertices());
+		assertEquals(4, vertices.size());
+		double firstRank = vertices.get(0).value(PageRankVertexProgram.PAGE_RANK);
+		assertTrue(firstRank > 0);
+		for (Vertex vertex : vertices) {
+			double rank = vertex.value(PageRankVertexProgram.PAGE_RANK);
+			assertEquals(firstRank, rank, 0.0001);
+		}
+		// the computed ranks must not be written into the store
+		assertFalse(g.vertices("a").next().property(PageRankVertexProgram.PAGE_RANK).isPresent());
+		g.tx().rollback();
+	}
+
+	@Test
+	public void canRunPeerPressureWithClusterCount() throws Exception {
+		ChronoGraph g = this.getGraph();
+		this.createTriangle(g, "x");
+		this.createTriangle(g, "y");
+		g.tx().commit();
+
+		ComputerResult result = g.compute().program(PeerPressureVertexProgram.build().create(g))
+				.mapReduce(ClusterCountMapReduce.build().create()).submit().get();
+		int clusterCount = result.memory().get(ClusterCountMapReduce.DEFAULT_MEMORY_KEY);
+		assertEquals(2, clusterCount);
+		g.tx().rollback();
+	}
+
+	@Test
+	public void computerOperatesOnTransactionTimestamp() throws Exception {
+		ChronoGraph g = this.getGraph();
+		this.createTriangle(g, "x");
+		this.createTriangle(g, "y");
+		g.tx().commit();
+		long afterFirstCommit = g.getNow();
+
+		// connect the two triangles in both directions
+		g.vertices("x0").next().addEdge("link", g.vertices("y0").next());
+		g.vertices("y0").next().addEdge("link", g.vertices("x0").next());
+		g.tx().commit();
+
+		assertEquals(1, this.countClusters(g));
+		g.tx().rollback();
+
+		g.tx().open(afterFirstCommit);
+		try {
+			assertEquals(2, this.countClusters(g));
+		} finally {
+			g.tx().rollback();
+		}
+
+		ChronoGraph txGraph = g.tx().createThreadedTx(afterFirstCommit);
+		try {
+			assertEquals(2, this.countClusters(txGraph));
+		} finally {
+			txGraph.tx().rollback();
+		}
+	}
+
+	@Test
+	public void canApplyGraphFilter() throws Exception {
+		ChronoGraph g = this.getGraph();
+		this.createTriangle(g, "x");
+		this.createTriangle(g, "y");
+		g.vertices("x0").next().addEdge("bridge", g.vertices("y0").next());
+		g.vertices("y0").next().addEdge("bridge", g.vertices("x0").next());
+		g.tx().commit();
+
+		// without the bridge edges, the triangles are separate clusters again
+		ComputerResult result = g.compute().edges(__.bothE("link"))
+				.program(PeerPressureVertexProgram.build().create(g)).mapReduce(ClusterCountMapReduce.build().create())
+				.submit().get();
+		assertEquals(2, (int) result.memory().get(ClusterCountMapReduce.DEFAULT_MEMORY_KEY));
+
+		// only the vertices of the first triangle remain, but they keep their bridge edges
+		result = g.compute().vertices(__.hasId("x0", "x1", "x2")).program(PeerPressureVertexProgram.build().create(g))
+				.result(GraphComputer.ResultGraph.NEW).persist(GraphComputer.Persist.EDGES).submit().get();
+		assertEquals(3, Iterators.size(result.graph().vertices()));
+		assertEquals(5, Iterators.size(result.graph().edges()));
+
+		// with an additional edge filter, only the first triangle remains
+		result = g.compute().vertices(__.hasId("x0", "x1", "x2")).edges(__.bothE("link"))
+				.program(PeerPressureVertexProgram.build().create(g)).result(GraphComputer.ResultGraph.NEW)
+				.persist(GraphComputer.Persist.EDGES).submit().get();
+		assertEquals(3, Iterators.size(result.graph().vertices()));
+		assertEquals(3, Iterators.size(result.graph().edges()));
+		g.tx().rollback();
+	}
+
+	@Test
+	public void canRunGremlinTraversalOnComputer() {
+		ChronoGraph g = this.getGraph();
+		this.createTriangle(g, "x");
+		this.createTriangle(g, "y");
+		g.tx().commit();
+
+		long vertexCount = g.traversal().withComputer(ChronoGraphComputer.class).V().count().next();
+		assertEquals(6, vertexCount);
+		long edgeCount = g.traversal().withComputer(ChronoGraphComputer.class).V().outE("link").count().next();
+		assertEquals(6, edgeCount);
+		g.tx().rollback();
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private void createTriangle(final ChronoGraph g, final String prefix) {
+		Vertex v0 = g.addVertex(T.id, prefix + "0");
+		Vertex v1 = g.addVertex(T.id, prefix + "1");
+		Vertex v2 = g.addVertex(T.id, prefix + "2");
+		v0.addEdge("link", v1);
+		v1.addEdge("link", v2);
+		v2.addEdge("link", v0);
+	}
+
+	private int countClusters(final ChronoGraph g) throws Exception {
+		ComputerResult result = g.compute().program(PeerPressureVertexProgram.build().create(g))
+				.mapReduce(ClusterCountMapReduce.build().create()).submit().get();
+		return result.memory().get(ClusterCountMapReduce.DEFAULT_MEMORY_KEY);
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.chronos.chronograph.test.structure;
+
+import static org.junit.Assert.*;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class LazyAdjacencyLoadingTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void readingPropertiesDoesNotMaterializeEdges() {
+		ChronoGraph g = this.getGraph();
+		Vertex vMartin = g.addVertex("name", "Martin");
+		Vertex vJohn = g.addVertex("name", "John");
+		Edge eKnows = vMartin.addEdge("knows", vJohn);
+		Edge eLikes = vMartin.addEdge("likes", vJohn);
+		String knowsId = (String) eKnows.id();
+		String likesId = (String) eLikes.id();
+		g.tx().commit();
+
+		Vertex martin = g.vertices(vMartin.id()).next();
+		assertEquals("Martin", martin.value("name"));
+		assertNull(g.tx().getCurrentTransaction().getContext().getLoadedEdgeForId(knowsId));
+		assertNull(g.tx().getCurrentTransaction().getContext().getLoadedEdgeForId(likesId));
+		// requesting a single label only materializes the edges with that label
+		assertEquals(1, Iterators.size(martin.edges(Direction.OUT, "knows")));
+		assertNotNull(g.tx().getCurrentTransaction().getContext().getLoadedEdgeForId(knowsId));
+		assertNull(g.tx().getCurrentTransaction().getContext().getLoadedEdgeForId(likesId));
+		assertEquals(2, Iterators.size(martin.edges(Direction.BOTH)));
+	}
+
+	@Test
+	public void canModifyAdjacencyOfLazilyLoadedVertex() {
+		ChronoGraph g = this.getGraph();
+		Vertex vMartin = g.addVertex("name", "Martin");
+		Vertex vJohn = g.addVertex("name", "John");
+		Vertex vJane = g.addVertex("name", "Jane");
+		vMartin.addEdge("knows", vJohn);
+		vMartin.addEdge("knows", vJane);
+		vJane.addEdge("likes", vMartin);
+		g.tx().commit();
+
+		// add an edge to a label that has not been materialized yet
+		Vertex martin = g.vertices(vMartin.id()).next();
+		Vertex john = g.vertices(vJohn.id()).next();
+		martin.addEdge("knows", john, "since", 2010);
+		// remove an edge which has been reached from the other end
+		Vertex jane = g.vertices(vJane.id()).next();
+		jane.edges(Direction.OUT, "likes").next().remove();
+		g.tx().commit();
+
+		martin = g.vertices(vMartin.id()).next();
+		assertEquals(3, Iterators.size(martin.edges(Direction.OUT, "knows")));
+		assertEquals(0, Iterators.size(martin.edges(Direction.IN, "likes")));
+		assertEquals(Sets.newHashSet("John", "Jane"), Sets.newHashSet(
+				Iterators.transform(martin.vertices(Direction.OUT, "knows"), v -> (String) v.value("name"))));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.LAZY_ADJACENCY_LOADING, value = "false")
+	public void canDisableLazyAdjacencyLoading() {
+		ChronoGraph g = this.getGraph();
+		Vertex vMartin = g.addVertex("name", "Martin");
+		Vertex vJohn = g.addVertex("name", "John");
+		Edge eKnows = vMartin.addEdge("knows", vJohn);
+		String knowsId = (String) eKnows.id();
+		g.tx().commit();
+
+		Vertex martin = g.vertices(vMartin.id()).next();
+		assertEquals("Martin", martin.value("name"));
+		assertNotNull(g.tx().getCurrentTransaction().getContext().getLoadedEdgeForId(knowsId));
+		assertEquals(1, Iterators.size(martin.edges(Direction.OUT, "knows")));
+	}
+
+}
@@ -0,0 +1,167 @@
+package org.chronos.chronograph.test.structure;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecordDelta;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class VertexRecordDeltaEncodingTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.VERTEX_RECORD_SNAPSHOT_INTERVAL, value = "3")
+	public void adjacencyIsCorrectInEveryVersion() throws Exception {
+		ChronoGraph g = this.getGraph();
+		Vertex hub = g.addVertex("name", "hub");
+		String hubId = (String) hub.id();
+		g.tx().commit();
+		List<Long> timestamps = Lists.newArrayList();
+		List<Set<String>> expectedTargets = Lists.newArrayList();
+		Set<String> targets = Sets.newHashSet();
+		for (int i = 0; i < 10; i++) {
+			hub = g.vertices(hubId).next();
+			Vertex target = g.addVertex("name", "target" + i);
+			hub.addEdge("link", target);
+			targets.add("target" + i);
+			if (i % 3 == 2) {
+				// remove one of the older edges again
+				Edge edge = hub.edges(Direction.OUT, "link").next();
+				targets.remove(edge.inVertex().value("name"));
+				edge.remove();
+			}
+			g.tx().commit();
+			timestamps.add(g.getNow());
+			expectedTargets.add(Sets.newHashSet(targets));
+		}
+		// the latest version of the hub should have been persisted as a delta
+		Object storedRecord = ((ChronoGraphInternal) g).getBackingDB().tx().get(ChronoGraphConstants.KEYSPACE_VERTEX,
+				hubId);
+		assertTrue(storedRecord instanceof VertexRecordDelta);
+		// check the head revision
+		assertEquals(targets, this.getLinkTargetNames(g, hubId));
+		g.tx().rollback();
+		// check each historic revision
+		for (int i = 0; i < timestamps.size(); i++) {
+			g.tx().open(timestamps.get(i));
+			try {
+				assertEquals(expectedTargets.get(i), this.getLinkTargetNames(g, hubId));
+			} finally {
+				g.tx().rollback();
+			}
+		}
+		// the delta chain must survive a dump round-trip
+		File dumpFile = new File(this.getTestDirectory(), "Test.chronodump");
+		g.writeDump(dumpFile);
+		// the delta records are written in plain text format
+		String dumpContent = new String(Files.readAllBytes(dumpFile.toPath()), StandardCharsets.UTF_8);
+		assertTrue(dumpContent.contains("cVertexDelta"));
+		g = this.reinstantiateGraph();
+		g.readDump(dumpFile);
+		storedRecord = ((ChronoGraphInternal) g).getBackingDB().tx().get(ChronoGraphConstants.KEYSPACE_VERTEX, hubId);
+		assertTrue(storedRecord instanceof VertexRecordDelta);
+		assertEquals(targets, this.getLinkTargetNames(g, hubId));
+		g.tx().rollback();
+		g.tx().open(timestamps.get(4));
+		try {
+			assertEquals(expectedTargets.get(4), this.getLinkTargetNames(g, hubId));
+		} finally {
+			g.tx().rollback();
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.VERTEX_RECORD_SNAPSHOT_INTERVAL, value = "3")
+	public void propertiesOfDeltaRecordsAreIndexed() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("name").build();
+		g.tx().commit();
+		Vertex v = g.addVertex("name", "Martin");
+		String vId = (String) v.id();
+		g.tx().commit();
+		for (int i = 0; i < 5; i++) {
+			v = g.vertices(vId).next();
+			v.addEdge("self", v);
+			v.property("name", "Martin" + i);
+			g.tx().commit();
+		}
+		assertEquals(1, g.find().vertices().where("name").isEqualTo("Martin4").count());
+		assertEquals(0, g.find().vertices().where("name").isEqualTo("Martin3").count());
+		g.getIndexManager().reindexAll();
+		assertEquals(1, g.find().vertices().where("name").isEqualTo("Martin4").count());
+		v = g.vertices(vId).next();
+		assertEquals(5, Iterators.size(v.edges(Direction.OUT, "self")));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.VERTEX_RECORD_SNAPSHOT_INTERVAL, value = "3")
+	public void pruningRetainsThePredecessorsOfDeltaRecords() {
+		ChronoGraph g = this.getGraph();
+		Vertex hub = g.addVertex("name", "hub");
+		String hubId = (String) hub.id();
+		g.tx().commit();
+		List<Long> timestamps = Lists.newArrayList();
+		List<Set<String>> expectedTargets = Lists.newArrayList();
+		Set<String> targets = Sets.newHashSet();
+		for (int i = 0; i < 8; i++) {
+			hub = g.vertices(hubId).next();
+			Vertex target = g.addVertex("name", "target" + i);
+			hub.addEdge("link", target);
+			targets.add("target" + i);
+			g.tx().commit();
+			timestamps.add(g.getNow());
+			expectedTargets.add(Sets.newHashSet(targets));
+		}
+		// the version of the hub at the cut-off is a delta with depth 2
+		long cutoff = timestamps.get(4);
+		ChronoDB db = ((ChronoGraphInternal) g).getBackingDB();
+		Object recordAtCutoff = db.tx(cutoff).get(ChronoGraphConstants.KEYSPACE_VERTEX, hubId);
+		assertTrue(recordAtCutoff instanceof VertexRecordDelta);
+		assertEquals(2, ((VertexRecordDelta) recordAtCutoff).getDepth());
+		long purgedEntries = db.getMaintenanceManager().pruneHistoryOnMaster(cutoff);
+		assertTrue(purgedEntries > 0);
+		// make sure that the vertex records are resolved from the pruned database
+		((ChronoGraphInternal) g).getVertexRecordResolver().clearCache();
+		assertEquals(targets, this.getLinkTargetNames(g, hubId));
+		g.tx().rollback();
+		for (int i = 4; i < timestamps.size(); i++) {
+			g.tx().open(timestamps.get(i));
+			try {
+				assertEquals(expectedTargets.get(i), this.getLinkTargetNames(g, hubId));
+			} finally {
+				g.tx().rollback();
+			}
+		}
+		// only the versions before the snapshot which starts the delta chain of the cut-off version are gone
+		assertEquals(6, Iterators.size(db.tx().history(ChronoGraphConstants.KEYSPACE_VERTEX, hubId)));
+	}
+
+	private Set<String> getLinkTargetNames(final ChronoGraph g, final String vertexId) {
+		Set<String> names = Sets.newHashSet();
+		g.vertices(vertexId).next().vertices(Direction.OUT, "link")
+				.forEachRemaining(target -> names.add(target.value("name")));
+		return names;
+	}
+
+}
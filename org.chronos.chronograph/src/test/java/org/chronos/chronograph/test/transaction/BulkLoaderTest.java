@@ -0,0 +1,161 @@
+package org.chronos.chronograph.test.transaction;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphBulkLoader;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class BulkLoaderTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void canBulkLoadGraph() {
+		this.runBulkLoad(false);
+	}
+
+	@Test
+	public void canBulkLoadGraphInParallelMode() {
+		this.runBulkLoad(true);
+	}
+
+	@Test
+	public void canConnectBulkLoadedVerticesToExistingVertices() {
+		ChronoGraph g = this.getGraph();
+		Vertex vExisting = g.addVertex(T.id, "existing", "name", "Existing");
+		g.tx().commit();
+
+		try (ChronoGraphBulkLoader loader = g.bulkLoader()) {
+			String v1 = loader.addVertex("name", "New");
+			loader.addEdge(v1, "refersTo", "existing");
+			loader.addEdge("existing", "refersTo", v1);
+			loader.commit();
+		}
+
+		vExisting = g.vertices("existing").next();
+		assertEquals("Existing", vExisting.value("name"));
+		assertEquals("New", vExisting.vertices(Direction.IN, "refersTo").next().value("name"));
+		assertEquals("New", vExisting.vertices(Direction.OUT, "refersTo").next().value("name"));
+	}
+
+	@Test
+	public void closingWithoutCommitDiscardsData() {
+		ChronoGraph g = this.getGraph();
+		long nowBefore = g.getNow();
+		try (ChronoGraphBulkLoader loader = g.bulkLoader().withBatchSize(2)) {
+			String v1 = loader.addVertex("name", "A");
+			String v2 = loader.addVertex("name", "B");
+			for (int i = 0; i < 5; i++) {
+				loader.addEdge(v1, "link", v2);
+			}
+		}
+		assertEquals(nowBefore, g.getNow());
+		assertEquals(0, Iterators.size(g.vertices()));
+		assertEquals(0, Iterators.size(g.edges()));
+	}
+
+	@Test
+	public void cannotAddEdgeToUnknownVertex() {
+		ChronoGraph g = this.getGraph();
+		try (ChronoGraphBulkLoader loader = g.bulkLoader()) {
+			String v1 = loader.addVertex("name", "A");
+			try {
+				loader.addEdge(v1, "link", "doesNotExist");
+				fail("Managed to add an edge to a non-existing vertex!");
+			} catch (IllegalArgumentException expected) {
+				// pass
+			}
+		}
+	}
+
+	@Test
+	public void verticesCanReceiveEdgesAfterTheyHaveBeenWritten() {
+		ChronoGraph g = this.getGraph();
+		try (ChronoGraphBulkLoader loader = g.bulkLoader().withBatchSize(3)) {
+			String hub = loader.addVertex(T.id, "hub", "name", "Hub");
+			// every few vertices, the pending vertices (including the hub) are written out
+			for (int i = 0; i < 20; i++) {
+				String spoke = loader.addVertex("name", "spoke" + i);
+				loader.addEdge(hub, "spoke", spoke);
+			}
+			loader.commit();
+		}
+		Vertex hub = g.vertices("hub").next();
+		assertEquals("Hub", hub.value("name"));
+		assertEquals(20, Iterators.size(hub.vertices(Direction.OUT, "spoke")));
+		assertEquals(21, Iterators.size(g.vertices()));
+	}
+
+	@Test
+	public void cannotUseTheSameIdTwice() {
+		ChronoGraph g = this.getGraph();
+		try (ChronoGraphBulkLoader loader = g.bulkLoader().withBatchSize(2)) {
+			loader.addVertex(T.id, "v1");
+			loader.addVertex(T.id, "v2");
+			loader.addVertex("name", "A");
+			try {
+				// "v1" has already been written in the first batch
+				loader.addVertex(T.id, "v1");
+				fail("Managed to add two vertices with the same ID!");
+			} catch (IllegalArgumentException expected) {
+				// pass
+			}
+			loader.addEdge("v1", "link", "v2", T.id, "e1");
+			try {
+				loader.addEdge("v2", "link", "v1", T.id, "e1");
+				fail("Managed to add two edges with the same ID!");
+			} catch (IllegalArgumentException expected) {
+				// pass
+			}
+			loader.commit();
+		}
+		assertEquals(1, Iterators.size(g.edges()));
+		assertEquals("v1", g.edges("e1").next().outVertex().id());
+	}
+
+	private void runBulkLoad(final boolean parallel) {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("name").build();
+		g.getIndexManager().reindexAll();
+		int commitsBefore = g.countCommitTimestamps();
+		long commitTimestamp;
+		// load a simple chain graph with a small batch size, to make sure that we need several batches
+		try (ChronoGraphBulkLoader loader = g.bulkLoader().withBatchSize(7).parallel(parallel)) {
+			List<String> vertexIds = Lists.newArrayList();
+			for (int i = 0; i < 50; i++) {
+				vertexIds.add(loader.addVertex(T.label, "node", "name", "v" + i));
+			}
+			for (int i = 1; i < vertexIds.size(); i++) {
+				loader.addEdge(vertexIds.get(i - 1), "next", vertexIds.get(i), "index", i);
+			}
+			commitTimestamp = loader.commit("bulk");
+		}
+		// the entire bulk load is a single commit
+		assertEquals(commitsBefore + 1, g.countCommitTimestamps());
+		assertEquals(commitTimestamp, g.getNow());
+		assertEquals("bulk", g.getCommitMetadata(commitTimestamp));
+		// check the graph structure
+		assertEquals(50, Iterators.size(g.vertices()));
+		assertEquals(49, Iterators.size(g.edges()));
+		Vertex v0 = g.traversal().V().has("name", "v0").next();
+		assertEquals("node", v0.label());
+		assertEquals(49, g.traversal().V(v0).repeat(__.out("next")).emit().count().next().longValue());
+		assertEquals(1, g.find().vertices().where("name").isEqualTo("v17").count());
+		Vertex v17 = g.find().vertices().where("name").isEqualTo("v17").toSet().iterator().next();
+		assertEquals(17, (int) v17.edges(Direction.IN, "next").next().value("index"));
+		assertEquals(commitTimestamp, (long) g.getVertexHistory(v17).next());
+	}
+
+}
@@ -5,6 +5,7 @@ import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.exceptions.ChronoGraphCommitConflictException;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
 import org.chronos.common.test.junit.categories.IntegrationTest;
@@ -242,6 +243,75 @@ public class GraphTransactionConflictTest extends AllChronoGraphBackendsTest {
         assertThat(iterator.hasNext(), is(false));
     }
 
+    @Test
+    public void removingVertexAlsoRemovesConcurrentlyAddedEdges() {
+        ChronoGraph g = this.getGraph();
+        { // initial commit
+            g.addVertex("name", "John");
+            g.addVertex("name", "Jane");
+            g.tx().commit();
+        }
+
+        ChronoGraph g1 = g.tx().createThreadedTx();
+        ChronoGraph g2 = g.tx().createThreadedTx();
+
+        { // transaction 1
+            Vertex vJohn = g1.traversal().V().has("name", "John").next();
+            Vertex vJane = g1.traversal().V().has("name", "Jane").next();
+            vJohn.addEdge("marriedTo", vJane);
+            g1.tx().commit();
+        }
+
+        { // transaction 2
+            Vertex vJohn = g2.traversal().V().has("name", "John").next();
+            vJohn.remove();
+            g2.tx().commit();
+        }
+
+        // John is gone, and so is the edge which was added concurrently
+        assertThat(g.traversal().V().has("name", "John").hasNext(), is(false));
+        assertThat(g.traversal().E().hasNext(), is(false));
+        Vertex vJane = g.traversal().V().has("name", "Jane").next();
+        assertThat(vJane.edges(Direction.IN).hasNext(), is(false));
+    }
+
+    @Test
+    public void cannotAddEdgeToConcurrentlyRemovedVertex() {
+        ChronoGraph g = this.getGraph();
+        { // initial commit
+            g.addVertex("name", "John");
+            g.addVertex("name", "Jane");
+            g.tx().commit();
+        }
+
+        ChronoGraph g1 = g.tx().createThreadedTx();
+        ChronoGraph g2 = g.tx().createThreadedTx();
+
+        { // transaction 1
+            Vertex vJane = g1.traversal().V().has("name", "Jane").next();
+            vJane.remove();
+            g1.tx().commit();
+        }
+
+        { // transaction 2
+            Vertex vJohn = g2.traversal().V().has("name", "John").next();
+            Vertex vJane = g2.traversal().V().has("name", "Jane").next();
+            vJohn.addEdge("marriedTo", vJane);
+            try {
+                g2.tx().commit();
+                fail("Managed to commit an edge to a vertex which has been removed concurrently!");
+            } catch (ChronoGraphCommitConflictException expected) {
+                // pass
+            }
+        }
+
+        // the store state must not have been altered by the failed commit
+        assertThat(g.traversal().V().has("name", "Jane").hasNext(), is(false));
+        assertThat(g.traversal().E().hasNext(), is(false));
+        Vertex vJohn = g.traversal().V().has("name", "John").next();
+        assertThat(vJohn.edges(Direction.OUT).hasNext(), is(false));
+    }
+
     @Test
     public void canMergeConflictingGraphVariables() {
         ChronoGraph g = this.getGraph();
@@ -442,6 +442,11 @@ public interface ChronoSphere extends AutoCloseable {
 	 * Only one batch insert process can be active at any point in time. Any other write transactions will be denied
 	 * while this process is running.
 	 *
+	 * <p>
+	 * The model is written to the repository in batches, bypassing the regular transaction machinery. The given
+	 * EObjects are not modified by this method; in particular, they do not become attached to any transaction. To work
+	 * with the inserted model, open a new transaction and retrieve the EObjects by their IDs.
+	 *
 	 * @param branch
 	 *            The branch to load the model elements into. Must not be <code>null</code>, must refer to an existing
 	 *            branch.
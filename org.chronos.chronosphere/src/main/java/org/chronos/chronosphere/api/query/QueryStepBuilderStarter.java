@@ -14,6 +14,36 @@ public interface QueryStepBuilderStarter {
 
 	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(EClass eClass);
 
+	/**
+	 * Starts the query from all instances of the given {@link EClass}.
+	 *
+	 * <p>
+	 * Both variants are answered by a secondary index lookup.
+	 *
+	 * @param eClassName
+	 *            The qualified or simple name of the EClass. Must not be <code>null</code>.
+	 * @param allowSubclasses
+	 *            Whether or not to include the instances of (direct or transitive) subclasses. If <code>false</code>,
+	 *            only direct instances of the given EClass are included.
+	 * @return The query builder, for method chaining. Never <code>null</code>.
+	 */
+	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(String eClassName, boolean allowSubclasses);
+
+	/**
+	 * Starts the query from all instances of the given {@link EClass}.
+	 *
+	 * <p>
+	 * Both variants are answered by a secondary index lookup.
+	 *
+	 * @param eClass
+	 *            The EClass to get the instances for. Must not be <code>null</code>.
+	 * @param allowSubclasses
+	 *            Whether or not to include the instances of (direct or transitive) subclasses. If <code>false</code>,
+	 *            only direct instances of the given EClass are included.
+	 * @return The query builder, for method chaining. Never <code>null</code>.
+	 */
+	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(EClass eClass, boolean allowSubclasses);
+
 	public EObjectQueryStepBuilder<EObject> startingFromEObjectsWith(EAttribute attribute, Object value);
 
 	public EObjectQueryStepBuilder<EObject> startingFromEObject(EObject eObject);
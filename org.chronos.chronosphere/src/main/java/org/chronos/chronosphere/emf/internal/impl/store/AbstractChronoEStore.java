@@ -72,9 +72,10 @@ public abstract class AbstractChronoEStore implements ChronoEStore {
 			if (eReference.isContainment()) {
 				// we are removing a child from our containment reference
 				if (eReference.isMany()) {
-					List<Object> values = Lists.newArrayList((EList<Object>) this.get(object, eReference, NO_INDEX));
 					if (index == NO_INDEX) {
 						// clear all children
+						EList<Object> children = (EList<Object>) this.get(object, eReference, NO_INDEX);
+						List<Object> values = Lists.newArrayList(children);
 						for (Object value : values) {
 							ChronoEObjectInternal childEObject = (ChronoEObjectInternal) value;
 							childEObject.unsetEContainerSilent();
@@ -82,7 +83,8 @@ public abstract class AbstractChronoEStore implements ChronoEStore {
 						return;
 					} else {
 						// clear a single child
-						ChronoEObjectInternal childEObject = (ChronoEObjectInternal) values.get(index);
+						Object child = this.get(object, eReference, index);
+						ChronoEObjectInternal childEObject = (ChronoEObjectInternal) child;
 						childEObject.unsetEContainerSilent();
 						return;
 					}
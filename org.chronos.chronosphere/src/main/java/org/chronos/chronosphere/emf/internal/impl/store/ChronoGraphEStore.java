@@ -5,13 +5,18 @@ import static com.google.common.base.Preconditions.*;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.structure.ChronoVertex;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.emf.impl.ChronoEObjectImpl;
@@ -31,8 +36,11 @@ import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public class ChronoGraphEStore extends AbstractChronoEStore {
@@ -43,6 +51,15 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 
 	private final ChronoSphereTransactionInternal owningTransaction;
 
+	/**
+	 * Caches the vertex and the decoded feature values per EObject ID, for the lifetime of the owning transaction.
+	 *
+	 * <p>
+	 * Modifications are written through to the graph, and applied to the cached state in place. Values are softly
+	 * referenced, so the cache never prevents the garbage collector from reclaiming memory.
+	 */
+	private final Cache<String, EObjectState> eObjectStateCache;
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -50,6 +67,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	public ChronoGraphEStore(final ChronoSphereTransactionInternal owningTransaction) {
 		checkNotNull(owningTransaction, "Precondition violation - argument 'owningTransaction' must not be NULL!");
 		this.owningTransaction = owningTransaction;
+		this.eObjectStateCache = CacheBuilder.newBuilder().softValues().build();
 	}
 
 	// =====================================================================================================================
@@ -60,17 +78,17 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	public Object get(final InternalEObject object, final EStructuralFeature feature, final int index) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		if (feature.isMany()) {
-			EList<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
+			EList<Object> list = this.getListOfValuesFor(ePackage, eObject, feature);
 			if (index == NO_INDEX) {
-				return list;
+				// the list is part of our cached state; never hand it out to the caller
+				return new BasicEList<>(list);
 			} else {
 				return list.get(index);
 			}
 		} else {
-			return this.getSingleValueFor(ePackage, vertex, feature);
+			return this.getSingleValueFor(ePackage, eObject, feature);
 		}
 	}
 
@@ -139,12 +157,28 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 					}
 				}
 			}
-
+			// the value may have been converted while writing it to the graph; we re-read it on demand
+			this.invalidateCachedFeatureValue(eObject, feature);
 		} else {
 			// we are always dealing with a multiplicity-many feature here.
-			List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
-			result = list.set(index, value);
-			this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
+			if (feature instanceof EReference) {
+				// only replace the single edge in question
+				EReference eReference = (EReference) feature;
+				Vertex targetVertex = this.getEObjectVertex((ChronoEObject) value);
+				EObjectState state = this.getEObjectState(eObject);
+				this.modifyEReferenceEdges(ePackage, state, eReference,
+						edges -> ChronoSphereGraphFormat.replaceEReferenceTarget(ePackage, vertex, eReference, edges,
+								index, targetVertex));
+				result = this.getListOfValuesFor(ePackage, state, feature).set(index, value);
+			} else {
+				EList<Object> list = this.getListOfValuesFor(ePackage, eObject, feature);
+				result = list.set(index, value);
+				this.writeListOfValuesToGraph(ePackage, eObject, feature, list);
+			}
+			// note: we must not set the eContainer of the new value here. Just like for 'add', the containment list
+			// performs the inverse add by itself; if the eContainer was already set at that point, EMF would remove
+			// the value from its "previous" container, which is the very list we just inserted it into.
+			return result;
 		}
 		// if we are dealing with a containment reference, set the eContainer of the value to the owner of this store
 		this.setEContainerReferenceIfNecessary(object, feature, value);
@@ -156,7 +190,6 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		// special case for container features
 		if (feature instanceof EReference && ((EReference)feature).isContainer()) {
@@ -174,17 +207,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		}
 		if (feature.isMany()) {
 			// for many-valued features, "being set" is defined as "not being empty"
-			return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty() == false;
-		}
-		if (feature instanceof EAttribute) {
-			EAttribute eAttribute = (EAttribute) feature;
-			return ChronoSphereGraphFormat.getEAttributeValue(ePackage, vertex, eAttribute) != null;
-		} else if (feature instanceof EReference) {
-			EReference eReference = (EReference) feature;
-			return ChronoSphereGraphFormat.getEReferenceTarget(ePackage, vertex, eReference) != null;
-		} else {
-			throw unknownFeatureTypeException(feature);
+			return this.getListOfValuesFor(ePackage, eObject, feature).isEmpty() == false;
 		}
+		return this.getSingleValueFor(ePackage, eObject, feature) != null;
 	}
 
 	@Override
@@ -211,8 +236,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			} else {
 				throw unknownFeatureTypeException(feature);
 			}
+			this.invalidateCachedFeatureValue(eObject, feature);
 		} else {
-			this.writeListOfValuesToGraph(ePackage, vertex, feature, null);
+			this.writeListOfValuesToGraph(ePackage, eObject, feature, null);
 		}
 	}
 
@@ -220,9 +246,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	public boolean isEmpty(final InternalEObject object, final EStructuralFeature feature) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty();
+		return this.getListOfValuesFor(ePackage, eObject, feature).isEmpty();
 	}
 
 	@Override
@@ -230,9 +255,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).size();
+		return this.getListOfValuesFor(ePackage, eObject, feature).size();
 	}
 
 	@Override
@@ -240,9 +264,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).contains(value);
+		return this.getListOfValuesFor(ePackage, eObject, feature).contains(value);
 	}
 
 	@Override
@@ -250,9 +273,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).indexOf(value);
+		return this.getListOfValuesFor(ePackage, eObject, feature).indexOf(value);
 	}
 
 	@Override
@@ -260,9 +282,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).lastIndexOf(value);
+		return this.getListOfValuesFor(ePackage, eObject, feature).lastIndexOf(value);
 	}
 
 	@Override
@@ -270,32 +291,48 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			final Object value) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			// only create the single new edge, instead of rewriting all edges of the reference
+			EReference eReference = (EReference) feature;
+			EObjectState state = this.getEObjectState(eObject);
+			checkNotNull(state, "Precondition violation - argument 'vertex' must not be NULL!");
+			Vertex vertex = state.getVertex();
+			Vertex targetVertex = this.getEObjectVertex((ChronoEObject) value);
+			this.modifyEReferenceEdges(ePackage, state, eReference,
+					edges -> ChronoSphereGraphFormat.insertEReferenceTarget(ePackage, vertex, eReference, edges, index,
+							targetVertex));
+			this.getListOfValuesFor(ePackage, state, feature).add(index, value);
+			return;
+		}
+		EList<Object> list = this.getListOfValuesFor(ePackage, eObject, feature);
 		list.add(index, value);
 		// write to graph
-		this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
+		this.writeListOfValuesToGraph(ePackage, eObject, feature, list);
 	}
 
 	@Override
 	public Object remove(final InternalEObject object, final EStructuralFeature feature, final int index) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		// special case: if we are removing a contained EObject, we need to unset it's eContainer
-		if (feature instanceof EReference && ((EReference) feature).isContainment()) {
-			Object child = this.get(object, feature, index);
-			this.unsetEContainerReferenceIfNecessary(eObject, feature, index);
-			List<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
-			values.remove(child);
-			this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
-			return child;
-		}
-		List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			EReference eReference = (EReference) feature;
+			Object result = this.get(object, feature, index);
+			// special case: if we are removing a contained EObject, we need to unset it's eContainer
+			if (eReference.isContainment()) {
+				this.unsetEContainerReferenceIfNecessary(eObject, feature, index);
+			}
+			// only remove the single edge in question
+			EObjectState state = this.getEObjectState(eObject);
+			this.modifyEReferenceEdges(ePackage, state, eReference,
+					edges -> ChronoSphereGraphFormat.removeEReferenceTarget(edges, index));
+			this.getListOfValuesFor(ePackage, state, feature).remove(index);
+			return result;
+		}
+		EList<Object> list = this.getListOfValuesFor(ePackage, eObject, feature);
 		Object result = list.remove(index);
-		this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
+		this.writeListOfValuesToGraph(ePackage, eObject, feature, list);
 		return result;
 	}
 
@@ -305,11 +342,18 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		EList<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			// only the order of the moved edge needs to change
+			EReference eReference = (EReference) feature;
+			EObjectState state = this.getEObjectState(eObject);
+			this.modifyEReferenceEdges(ePackage, state, eReference,
+					edges -> ChronoSphereGraphFormat.moveEReferenceTarget(eReference, edges, targetIndex, sourceIndex));
+			return this.getListOfValuesFor(ePackage, state, feature).move(targetIndex, sourceIndex);
+		}
+		EList<Object> values = this.getListOfValuesFor(ePackage, eObject, feature);
 		Object result = values.move(targetIndex, sourceIndex);
-		this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
+		this.writeListOfValuesToGraph(ePackage, eObject, feature, values);
 		return result;
 	}
 
@@ -322,11 +366,10 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			return;
 		}
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		// if the feature is a containment reference, clear the eContainer of all children
 		this.unsetEContainerReferenceIfNecessary(eObject, feature, NO_INDEX);
-		this.writeListOfValuesToGraph(ePackage, vertex, feature, null);
+		this.writeListOfValuesToGraph(ePackage, eObject, feature, null);
 	}
 
 	@Override
@@ -334,9 +377,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).toArray();
+		return this.getListOfValuesFor(ePackage, eObject, feature).toArray();
 	}
 
 	@Override
@@ -345,9 +387,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).toArray(array);
+		return this.getListOfValuesFor(ePackage, eObject, feature).toArray(array);
 	}
 
 	@Override
@@ -358,12 +399,11 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			return 0;
 		} else {
 			ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-			Vertex vertex = this.getEObjectVertex(eObject);
 			ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 			if (feature.isMany()) {
-				return this.getListOfValuesFor(ePackage, vertex, feature).hashCode();
+				return this.getListOfValuesFor(ePackage, eObject, feature).hashCode();
 			} else {
-				return this.getSingleValueFor(ePackage, vertex, feature).hashCode();
+				return this.getSingleValueFor(ePackage, eObject, feature).hashCode();
 			}
 		}
 	}
@@ -501,6 +541,16 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.deepDelete(eObjectsToDelete, tx, true, batchSize, cascadeDeletionToEContents);
 	}
 
+	/**
+	 * Clears the cached EObject states (vertices and feature values) of this store.
+	 *
+	 * <p>
+	 * This method needs to be called whenever the graph is modified by other means than this store.
+	 */
+	public void clearEObjectStateCache() {
+		this.eObjectStateCache.invalidateAll();
+	}
+
 	// =================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =================================================================================================================
@@ -543,6 +593,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				currentBatchSize = 0;
 			}
 		}
+		// the merged EObjects may have changed the values of EObjects we already know
+		this.clearEObjectStateCache();
 	}
 
 	private void mergeObjectAndAttributes(final ChronoEObjectInternal eObject) {
@@ -583,17 +635,11 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		if (eContainer != null) {
 			Vertex eContainerVertex = this.getEObjectVertex(eContainer);
 			ChronoSphereGraphFormat.setEContainer(vertex, eContainerVertex);
-			EStructuralFeature eContainingFeature = eObject.eContainingFeature();
-			if (eContainingFeature != null) {
-				int containingFeatureID = -1;
-				if (eObject.eClass().getFeatureID(eContainingFeature) >= 0) {
-					// containing feature belongs to our class, use the ID
-					containingFeatureID = eObject.eClass().getFeatureID(eContainingFeature);
-				} else {
-					// containing feature belongs to eContainer class
-					containingFeatureID = -1 - eContainingFeature.getFeatureID();
-				}
-				ChronoSphereGraphFormat.setEContainingFeatureId(vertex, containingFeatureID);
+			if (eObject.eContainingFeature() != null) {
+				// note: we have to use the Ecore encoding of the ID here (negative if the containment has no
+				// opposite); checking if the feature belongs to our own class is ambiguous if the EClass of the
+				// container is the same as ours.
+				ChronoSphereGraphFormat.setEContainingFeatureId(vertex, eObject.eContainerFeatureID());
 			}
 		}
 		// map the EReferences
@@ -647,9 +693,35 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	}
 
 	private Vertex getEObjectVertex(final ChronoEObject object) {
+		EObjectState state = this.getEObjectState(object);
+		if (state == null) {
+			return null;
+		}
+		return state.getVertex();
+	}
+
+	private EObjectState getEObjectState(final ChronoEObject object) {
 		String id = object.getId();
+		EObjectState state = this.eObjectStateCache.getIfPresent(id);
+		if (state != null) {
+			return state;
+		}
 		Iterator<Vertex> iterator = this.getGraph().vertices(id);
-		return Iterators.getOnlyElement(iterator, null);
+		Vertex vertex = Iterators.getOnlyElement(iterator, null);
+		if (vertex == null) {
+			// the EObject is not attached to the graph (yet)
+			return null;
+		}
+		state = new EObjectState(vertex);
+		this.eObjectStateCache.put(id, state);
+		return state;
+	}
+
+	private void invalidateCachedFeatureValue(final ChronoEObject object, final EStructuralFeature feature) {
+		EObjectState state = this.eObjectStateCache.getIfPresent(object.getId());
+		if (state != null) {
+			state.invalidate(feature);
+		}
 	}
 
 	private ChronoEPackageRegistry getEPackageRegistry() {
@@ -666,30 +738,86 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		return (ChronoEObjectInternal)this.owningTransaction.getEObjectById((String)vertex.id());
 	}
 
-	private EList<Object> getListOfValuesFor(final ChronoEPackageRegistry cep, final Vertex vertex,
+	private EList<Object> getListOfValuesFor(final ChronoEPackageRegistry cep, final ChronoEObject object,
+			final EStructuralFeature feature) {
+		return this.getListOfValuesFor(cep, this.getEObjectState(object), feature);
+	}
+
+	private EList<Object> getListOfValuesFor(final ChronoEPackageRegistry cep, final EObjectState state,
 			final EStructuralFeature feature) {
 		checkNotNull(cep, "Precondition violation - argument 'cep' must not be NULL!");
-		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+		checkNotNull(state, "Precondition violation - argument 'vertex' must not be NULL!");
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
+		EList<Object> eList = state.getValues(feature);
+		if (eList == null) {
+			eList = this.loadListOfValuesFor(cep, state, feature);
+			state.setValues(feature, eList);
+		}
+		return eList;
+	}
+
+	private EList<Object> loadListOfValuesFor(final ChronoEPackageRegistry cep, final EObjectState state,
+			final EStructuralFeature feature) {
 		EList<Object> eList = new BasicEList<>();
 		if (feature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) feature;
-			eList.addAll(ChronoSphereGraphFormat.getEAttributeValues(cep, vertex, eAttribute));
+			eList.addAll(ChronoSphereGraphFormat.getEAttributeValues(cep, state.getVertex(), eAttribute));
 			return eList;
 		} else if (feature instanceof EReference) {
 			EReference eReference = (EReference) feature;
-			List<Vertex> vertices = ChronoSphereGraphFormat.getEReferenceTargets(cep, vertex, eReference);
-			for (Vertex eObjectVertex : vertices) {
-				ChronoEObjectInternal eObjectForVertex = this.createEObjectForVertex(cep, eObjectVertex);
+			// remember the edges, they allow to modify single entries of the list later on
+			List<Edge> edges = ChronoSphereGraphFormat.getEReferenceEdges(cep, state.getVertex(), eReference);
+			for (Edge edge : edges) {
+				ChronoEObjectInternal eObjectForVertex = this.createEObjectForVertex(cep, edge.inVertex());
 				eList.add(eObjectForVertex);
 			}
+			state.setEdges(eReference, edges);
 			return eList;
 		} else {
 			throw unknownFeatureTypeException(feature);
 		}
 	}
 
-	private Object getSingleValueFor(final ChronoEPackageRegistry ePackage, final Vertex vertex,
+	private List<Edge> getEReferenceEdgesFor(final ChronoEPackageRegistry cep, final EObjectState state,
+			final EReference eReference) {
+		checkNotNull(state, "Precondition violation - argument 'vertex' must not be NULL!");
+		List<Edge> edges = state.getEdges(eReference);
+		if (edges == null) {
+			// (re-)load the values together with the edges
+			state.invalidate(eReference);
+			this.getListOfValuesFor(cep, state, eReference);
+			edges = state.getEdges(eReference);
+		}
+		return edges;
+	}
+
+	// note: the caller has to apply the corresponding change to the values of the very same state afterwards.
+	// The states are only softly referenced by the cache, so fetching the state again may yield a fresh one.
+	private <R> R modifyEReferenceEdges(final ChronoEPackageRegistry cep, final EObjectState state,
+			final EReference eReference, final Function<List<Edge>, R> modification) {
+		List<Edge> edges = this.getEReferenceEdgesFor(cep, state, eReference);
+		try {
+			return modification.apply(edges);
+		} catch (RuntimeException e) {
+			// we don't know which parts have been written; re-read the values on the next access
+			state.invalidate(eReference);
+			throw e;
+		}
+	}
+
+	private Object getSingleValueFor(final ChronoEPackageRegistry ePackage, final ChronoEObject object,
+			final EStructuralFeature feature) {
+		EObjectState state = this.getEObjectState(object);
+		checkNotNull(state, "Precondition violation - argument 'vertex' must not be NULL!");
+		if (state.hasValue(feature)) {
+			return state.getValue(feature);
+		}
+		Object value = this.loadSingleValueFor(ePackage, state.getVertex(), feature);
+		state.setValue(feature, value);
+		return value;
+	}
+
+	private Object loadSingleValueFor(final ChronoEPackageRegistry ePackage, final Vertex vertex,
 			final EStructuralFeature feature) {
 		if (feature instanceof EAttribute) {
 			EAttribute attribute = (EAttribute) feature;
@@ -712,16 +840,40 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		return new RuntimeException("Encountered unknown subclass of EStructuralFeature: '" + className + "'!");
 	}
 
-	private void writeListOfValuesToGraph(final ChronoEPackageRegistry ePackage, final Vertex vertex,
+	private void writeListOfValuesToGraph(final ChronoEPackageRegistry ePackage, final ChronoEObject object,
+			final EStructuralFeature feature, final EList<Object> list) {
+		EObjectState state = this.getEObjectState(object);
+		checkNotNull(state, "Precondition violation - argument 'vertex' must not be NULL!");
+		List<Edge> edges;
+		try {
+			edges = this.writeListOfValuesToVertex(ePackage, state.getVertex(), feature, list);
+		} catch (RuntimeException e) {
+			// we don't know which parts have been written; re-read the values on the next access
+			state.invalidate(feature);
+			throw e;
+		}
+		if (list == null) {
+			state.setValues(feature, new BasicEList<>());
+		} else {
+			state.setValues(feature, list);
+		}
+		if (edges != null) {
+			state.setEdges(feature, edges);
+		}
+	}
+
+	private List<Edge> writeListOfValuesToVertex(final ChronoEPackageRegistry ePackage, final Vertex vertex,
 			final EStructuralFeature feature, final List<Object> list) {
 		if (feature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) feature;
-			ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, Lists.newArrayList(list));
+			List<Object> values = list == null ? null : Lists.newArrayList(list);
+			ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, values);
+			return null;
 		} else if (feature instanceof EReference) {
 			EReference eReference = (EReference) feature;
 			if (list == null || list.isEmpty()) {
 				// "unset" the reference, clear it in the graph
-				ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, null);
+				return ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, null);
 			} else {
 				// for each target EObject, identify the corresponding vertex
 				List<Vertex> targetVertices = Lists.newArrayList();
@@ -730,7 +882,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 					EObject targetEObject = (EObject) target;
 					targetVertices.add(this.getEObjectVertex((ChronoEObject) targetEObject));
 				}
-				ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, targetVertices);
+				return ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, targetVertices);
 			}
 		} else {
 			throw unknownFeatureTypeException(feature);
@@ -752,6 +904,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			allEObjectsToDelete.addAll(eObjectsToDelete);
 		}
 		int currentBatchSize = 0;
+		Set<Vertex> orphanedContents = Sets.newHashSet();
 		// in the first iteration, create the EObject vertices in the graph and merge the EAttributes
 		for (ChronoEObjectInternal currentEObject : allEObjectsToDelete) {
 			Vertex vertex = ChronoSphereGraphFormat.getVertexForEObject(this.getGraph(), currentEObject);
@@ -759,6 +912,10 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				// already deleted
 				continue;
 			}
+			if (cascadeDeletionToEContents == false) {
+				vertex.vertices(Direction.IN, ChronoSphereGraphFormat.E_LABEL__ECONTAINER)
+						.forEachRemaining(orphanedContents::add);
+			}
 			vertex.remove();
 			currentBatchSize++;
 			if (useIncrementalCommits && currentBatchSize >= batchSize) {
@@ -766,6 +923,80 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				currentBatchSize = 0;
 			}
 		}
+		// the contents which outlive their eContainer are no longer part of its containment tree
+		for (Vertex orphan : orphanedContents) {
+			if (((ChronoVertex) orphan).isRemoved() == false) {
+				ChronoSphereGraphFormat.updateEContainerAncestors(orphan);
+			}
+		}
+		// removing the vertices also removed all references pointing to them
+		this.clearEObjectStateCache();
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	/**
+	 * The cached state of a single EObject, consisting of its vertex and its decoded feature values.
+	 *
+	 * <p>
+	 * For multiplicity-many {@link EReference}s, the edges which represent the values are kept as well (in the same
+	 * order as the values), which allows to modify single entries without rewriting all edges.
+	 *
+	 * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+	 */
+	private static class EObjectState {
+
+		private final Vertex vertex;
+		private final Map<EStructuralFeature, EList<Object>> featureToValues = Maps.newHashMap();
+		private final Map<EStructuralFeature, Object> featureToValue = Maps.newHashMap();
+		private final Map<EStructuralFeature, List<Edge>> featureToEdges = Maps.newHashMap();
+
+		public EObjectState(final Vertex vertex) {
+			checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+			this.vertex = vertex;
+		}
+
+		public Vertex getVertex() {
+			return this.vertex;
+		}
+
+		public EList<Object> getValues(final EStructuralFeature feature) {
+			return this.featureToValues.get(feature);
+		}
+
+		public void setValues(final EStructuralFeature feature, final EList<Object> values) {
+			this.featureToValues.put(feature, values);
+		}
+
+		public List<Edge> getEdges(final EStructuralFeature feature) {
+			return this.featureToEdges.get(feature);
+		}
+
+		public void setEdges(final EStructuralFeature feature, final List<Edge> edges) {
+			this.featureToEdges.put(feature, edges);
+		}
+
+		public boolean hasValue(final EStructuralFeature feature) {
+			// note: the value itself may be NULL, so we need to check the key
+			return this.featureToValue.containsKey(feature);
+		}
+
+		public Object getValue(final EStructuralFeature feature) {
+			return this.featureToValue.get(feature);
+		}
+
+		public void setValue(final EStructuralFeature feature, final Object value) {
+			this.featureToValue.put(feature, value);
+		}
+
+		public void invalidate(final EStructuralFeature feature) {
+			this.featureToValues.remove(feature);
+			this.featureToValue.remove(feature);
+			this.featureToEdges.remove(feature);
+		}
+
 	}
 
 }
@@ -533,6 +533,29 @@ public class EMFUtils {
 				.orElse(null);
 	}
 
+	/**
+	 * Computes the derived feature lists (e.g. {@link EClass#getEAllStructuralFeatures()}) of the given
+	 * {@link EClass EClasses}.
+	 *
+	 * <p>
+	 * EMF computes these lists lazily upon first access, which is not thread-safe. EClasses which are accessed by
+	 * several threads concurrently need to be prepared with this method first.
+	 *
+	 * @param eClasses
+	 *            The EClasses to compute the derived feature lists for. Must not be <code>null</code>.
+	 */
+	public static void computeDerivedFeatureLists(final Iterable<? extends EClass> eClasses) {
+		checkNotNull(eClasses, "Precondition violation - argument 'eClasses' must not be NULL!");
+		for (EClass eClass : eClasses) {
+			eClass.getEAllSuperTypes();
+			eClass.getEAllStructuralFeatures();
+			eClass.getEAllAttributes();
+			eClass.getEAllReferences();
+			eClass.getEAllContainments();
+			eClass.getEIDAttribute();
+		}
+	}
+
 	/**
 	 * Returns the fully qualified name for the given {@link EStructuralFeature feature}.
 	 *
@@ -0,0 +1,304 @@
+package org.chronos.chronosphere.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.builder.index.ElementTypeChoiceIndexBuilder;
+import org.chronos.chronograph.api.index.ChronoGraphIndex;
+import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.api.EAttributeAutoIndexer;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.common.logging.ChronoLogger;
+import org.chronos.common.util.ReflectionUtils;
+import org.eclipse.emf.ecore.EAttribute;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Primitives;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+public class EAttributeAutoIndexerImpl implements EAttributeAutoIndexer {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final ChronoSphereInternal owningSphere;
+	private final boolean enabled;
+	private final int minFilterCount;
+	private final double maxSelectivity;
+	private final long dropAfterUnusedFilters;
+
+	private final AtomicLong filterCount = new AtomicLong();
+	private final Map<String, FilterStatistics> propertyKeyToStatistics = new ConcurrentHashMap<>();
+	private final Set<String> autoIndexedPropertyKeys = ConcurrentHashMap.newKeySet();
+	private final Set<String> pendingPropertyKeys = ConcurrentHashMap.newKeySet();
+	private final ThreadPoolExecutor executor;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	public EAttributeAutoIndexerImpl(final ChronoSphereInternal owningSphere,
+			final ChronoSphereConfiguration configuration) {
+		checkNotNull(owningSphere, "Precondition violation - argument 'owningSphere' must not be NULL!");
+		checkNotNull(configuration, "Precondition violation - argument 'configuration' must not be NULL!");
+		this.owningSphere = owningSphere;
+		this.enabled = configuration.isAutoIndexingEnabled();
+		this.minFilterCount = configuration.getAutoIndexingMinFilterCount();
+		this.maxSelectivity = configuration.getAutoIndexingMaxSelectivity();
+		this.dropAfterUnusedFilters = configuration.getAutoIndexingDropAfterUnusedFilters();
+		if (this.enabled) {
+			// a single worker is enough; building an index blocks all commits anyways
+			this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+					new ThreadFactoryBuilder().setNameFormat("ChronoSphere-AutoIndexer-%d").setDaemon(true).build());
+		} else {
+			this.executor = null;
+		}
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	@Override
+	public <S> GraphTraversal<S, Vertex> has(final GraphTraversal<S, Vertex> traversal, final EAttribute eAttribute,
+			final String propertyKey, final Object value) {
+		checkNotNull(traversal, "Precondition violation - argument 'traversal' must not be NULL!");
+		checkNotNull(eAttribute, "Precondition violation - argument 'eAttribute' must not be NULL!");
+		checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+		if (this.enabled == false || this.isIndexable(eAttribute, value) == false) {
+			return traversal.has(propertyKey, value);
+		}
+		long filterNumber = this.filterCount.incrementAndGet();
+		FilterStatistics statistics = this.propertyKeyToStatistics.computeIfAbsent(propertyKey,
+				key -> new FilterStatistics());
+		statistics.recordExecution(filterNumber);
+		this.scheduleDropOfUnusedIndices(filterNumber);
+		if (this.getGraphIndexManager().isVertexPropertyIndexed(propertyKey)
+				&& this.pendingPropertyKeys.contains(propertyKey) == false) {
+			// counting the incoming vertices would prevent the index from being used
+			return traversal.has(propertyKey, value);
+		}
+		if (statistics.qualifiesForIndex(this.minFilterCount, this.maxSelectivity)) {
+			this.scheduleIndexCreation(eAttribute, propertyKey);
+		}
+		return traversal
+				// count the vertices which are subject to the filter...
+				.sideEffect(t -> statistics.inputs.increment())
+				// ... apply the filter...
+				.has(propertyKey, value)
+				// ... and count the vertices which passed it
+				.sideEffect(t -> statistics.matches.increment());
+	}
+
+	@Override
+	public Set<String> getAutoIndexedPropertyKeys() {
+		return ImmutableSet.copyOf(this.autoIndexedPropertyKeys);
+	}
+
+	@Override
+	public boolean awaitPendingTasks(final long timeout, final TimeUnit unit) throws InterruptedException {
+		checkArgument(timeout >= 0, "Precondition violation - argument 'timeout' must not be negative!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		if (this.executor == null) {
+			return true;
+		}
+		try {
+			// the executor has a single worker; once this task runs, all tasks scheduled before it are done
+			Future<?> future = this.executor.submit(() -> {
+			});
+			future.get(timeout, unit);
+			return true;
+		} catch (RejectedExecutionException e) {
+			return this.executor.awaitTermination(timeout, unit);
+		} catch (TimeoutException e) {
+			return false;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Unexpected failure of an empty task!", e);
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		if (this.executor == null) {
+			return;
+		}
+		// discard the tasks which did not start yet, but let a running index build finish; interrupting it
+		// might leave the index in an inconsistent state.
+		this.executor.getQueue().clear();
+		this.executor.shutdown();
+		try {
+			this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private boolean isIndexable(final EAttribute eAttribute, final Object value) {
+		if (eAttribute.isMany() || value == null) {
+			// indices match the individual entries of multiplicity-many values, whereas the graph filter compares
+			// the whole collection. Using an index would change the query semantics.
+			return false;
+		}
+		Class<?> instanceClass = eAttribute.getEAttributeType().getInstanceClass();
+		if (instanceClass == null) {
+			return false;
+		}
+		instanceClass = Primitives.wrap(instanceClass);
+		if (String.class.equals(instanceClass)) {
+			return value instanceof String;
+		} else if (isLongType(instanceClass)) {
+			return ReflectionUtils.isLongCompatible(value);
+		} else if (isDoubleType(instanceClass)) {
+			return ReflectionUtils.isDoubleCompatible(value) && ReflectionUtils.isLongCompatible(value) == false;
+		} else {
+			// the index would not be used for values of other types
+			return false;
+		}
+	}
+
+	private void scheduleIndexCreation(final EAttribute eAttribute, final String propertyKey) {
+		if (this.pendingPropertyKeys.add(propertyKey) == false) {
+			// there already is a pending task for this property
+			return;
+		}
+		Class<?> instanceClass = Primitives.wrap(eAttribute.getEAttributeType().getInstanceClass());
+		this.schedule(propertyKey, () -> {
+			ChronoGraphIndexManager indexManager = this.getGraphIndexManager();
+			if (indexManager.isVertexPropertyIndexed(propertyKey)) {
+				// the index has been created in the meantime
+				return;
+			}
+			ElementTypeChoiceIndexBuilder indexBuilder;
+			if (String.class.equals(instanceClass)) {
+				indexBuilder = indexManager.create().stringIndex();
+			} else if (isLongType(instanceClass)) {
+				indexBuilder = indexManager.create().longIndex();
+			} else {
+				indexBuilder = indexManager.create().doubleIndex();
+			}
+			indexBuilder.onVertexProperty(propertyKey).build();
+			this.autoIndexedPropertyKeys.add(propertyKey);
+			// the property key remains pending until the index is fully built. Until then, our filters count the
+			// incoming vertices, which keeps the queries away from the incomplete index.
+			ChronoGraphIndex index = indexManager.getVertexIndex(propertyKey);
+			try {
+				indexManager.reindex(index);
+			} catch (RuntimeException e) {
+				// an incomplete index would produce wrong query results
+				indexManager.dropIndex(index);
+				this.autoIndexedPropertyKeys.remove(propertyKey);
+				throw e;
+			}
+		});
+	}
+
+	private void scheduleDropOfUnusedIndices(final long filterNumber) {
+		if (this.dropAfterUnusedFilters <= 0) {
+			// dropping unused indices is disabled
+			return;
+		}
+		for (String propertyKey : this.autoIndexedPropertyKeys) {
+			FilterStatistics statistics = this.propertyKeyToStatistics.get(propertyKey);
+			if (statistics != null && filterNumber - statistics.lastExecution <= this.dropAfterUnusedFilters) {
+				// the index is still in use
+				continue;
+			}
+			if (this.pendingPropertyKeys.add(propertyKey) == false) {
+				// there already is a pending task for this property
+				continue;
+			}
+			this.schedule(propertyKey, () -> {
+				ChronoGraphIndexManager indexManager = this.getGraphIndexManager();
+				ChronoGraphIndex index = indexManager.getVertexIndex(propertyKey);
+				if (index != null) {
+					indexManager.dropIndex(index);
+				}
+				this.autoIndexedPropertyKeys.remove(propertyKey);
+				// the attribute has to qualify again before it gets indexed the next time
+				this.propertyKeyToStatistics.remove(propertyKey);
+			});
+		}
+	}
+
+	private void schedule(final String propertyKey, final Runnable task) {
+		try {
+			this.executor.execute(() -> {
+				try {
+					task.run();
+				} catch (Exception e) {
+					ChronoLogger.logError("Auto indexing of vertex property '" + propertyKey + "' failed!", e);
+				} finally {
+					this.pendingPropertyKeys.remove(propertyKey);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// we have been shut down
+			this.pendingPropertyKeys.remove(propertyKey);
+		}
+	}
+
+	private ChronoGraphIndexManager getGraphIndexManager() {
+		return this.owningSphere.getRootGraph().getIndexManager();
+	}
+
+	private static boolean isLongType(final Class<?> clazz) {
+		return Byte.class.equals(clazz) || Short.class.equals(clazz) || Integer.class.equals(clazz)
+				|| Long.class.equals(clazz);
+	}
+
+	private static boolean isDoubleType(final Class<?> clazz) {
+		return Float.class.equals(clazz) || Double.class.equals(clazz);
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	private static class FilterStatistics {
+
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder inputs = new LongAdder();
+		private final LongAdder matches = new LongAdder();
+		private volatile long lastExecution;
+
+		public void recordExecution(final long filterNumber) {
+			this.executions.increment();
+			this.lastExecution = filterNumber;
+		}
+
+		public boolean qualifiesForIndex(final int minFilterCount, final double maxSelectivity) {
+			if (this.executions.sum() < minFilterCount) {
+				// not used often enough
+				return false;
+			}
+			long inputCount = this.inputs.sum();
+			if (inputCount <= 0) {
+				// we know nothing about the selectivity yet
+				return false;
+			}
+			return (double) this.matches.sum() / inputCount <= maxSelectivity;
+		}
+
+	}
+
+}
@@ -13,12 +13,14 @@ import org.chronos.chronosphere.api.*;
 import org.chronos.chronosphere.api.exceptions.ChronoSphereConfigurationException;
 import org.chronos.chronosphere.impl.transaction.ChronoSphereTransactionImpl;
 import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.api.EAttributeAutoIndexer;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
 import org.chronos.chronosphere.internal.configuration.impl.ChronoSphereConfigurationImpl;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.EObjectToGraphMapper;
 import org.chronos.chronosphere.internal.ogm.api.EPackageToGraphMapper;
+import org.chronos.chronosphere.internal.ogm.impl.EObjectBulkImporter;
 import org.chronos.chronosphere.internal.ogm.impl.EObjectToGraphMapperImpl;
 import org.chronos.chronosphere.internal.ogm.impl.EPackageToGraphMapperImpl;
 import org.chronos.common.configuration.ChronosConfigurationUtil;
@@ -48,6 +50,7 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
 
     private final EObjectToGraphMapper eObjectToGraphMapper;
     private final EPackageToGraphMapper ePackageToGraphMapper;
+    private final EAttributeAutoIndexer autoIndexer;
 
     private final Lock branchLock;
     private final Map<SphereBranch, ChronoSphereIndexManager> branchToIndexManager;
@@ -67,6 +70,7 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         this.ePackageManager = new ChronoSphereEPackageManagerImpl(this);
         this.branchLock = new ReentrantLock(true);
         this.branchToIndexManager = Maps.newHashMap();
+        this.autoIndexer = new EAttributeAutoIndexerImpl(this, this.configuration);
         // ensure that the graph format is correct
         this.ensureGraphFormatIsCompatible();
         // make sure that the graph has the default indices registered
@@ -85,6 +89,8 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
 
     @Override
     public void close() {
+        // stop the background indexing before the graph goes away
+        this.autoIndexer.shutdown();
         this.graph.close();
     }
 
@@ -194,10 +200,11 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         checkArgument(this.getBranchManager().existsBranch(branch),
             "Precondition violation - argument 'branch' must refer to an existing branch!");
         checkNotNull(model, "Precondition violation - argument 'model' must not be NULL!");
+        // the transaction only serves as the (read-only) context of the import, the bulk loader writes the data
         try (ChronoSphereTransactionInternal tx = (ChronoSphereTransactionInternal) this.tx(branch)) {
-            tx.commitIncremental();
-            tx.batchInsert(model);
-            tx.commit();
+            int batchSize = this.configuration.getBatchInsertBatchSize();
+            boolean parallel = this.configuration.isBatchInsertParallelEnabled();
+            new EObjectBulkImporter(tx, batchSize, parallel).importEObjects(model);
         }
     }
 
@@ -297,6 +304,11 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         return this.ePackageToGraphMapper;
     }
 
+    @Override
+    public EAttributeAutoIndexer getAutoIndexer() {
+        return this.autoIndexer;
+    }
+
     // =====================================================================================================================
     // HELPER METHODS
     // =====================================================================================================================
@@ -311,6 +323,40 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         if (classIndex == null) {
             indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__ECLASS_ID).build();
         }
+        ChronoGraphIndex extentIndex = indexManager.getVertexIndex(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT);
+        if (extentIndex == null) {
+            indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT).build();
+            // the graph may contain EObjects written by older versions which do not have an extent yet
+            this.updateEClassExtentsOnAllBranches();
+        }
+        ChronoGraphIndex ancestorsIndex = indexManager.getVertexIndex(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS);
+        if (ancestorsIndex == null) {
+            indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS).build();
+            // the graph may contain EObjects written by older versions which do not have their ancestors yet
+            this.updateEContainerAncestorsOnAllBranches();
+        }
+    }
+
+    private void updateEClassExtentsOnAllBranches() {
+        for (String branchName : this.graph.getBranchManager().getBranchNames()) {
+            try (ChronoGraph txGraph = this.graph.tx().createThreadedTx(branchName)) {
+                int updatedVertices = this.ePackageToGraphMapper.updateEClassExtents(txGraph);
+                if (updatedVertices > 0) {
+                    txGraph.tx().commit("ChronoSphere EClass extent update");
+                }
+            }
+        }
+    }
+
+    private void updateEContainerAncestorsOnAllBranches() {
+        for (String branchName : this.graph.getBranchManager().getBranchNames()) {
+            try (ChronoGraph txGraph = this.graph.tx().createThreadedTx(branchName)) {
+                int updatedVertices = this.eObjectToGraphMapper.updateEContainerAncestors(txGraph);
+                if (updatedVertices > 0) {
+                    txGraph.tx().commit("ChronoSphere eContainer ancestors update");
+                }
+            }
+        }
     }
 
     private void ensureGraphFormatIsCompatible() {
@@ -0,0 +1,289 @@
+package org.chronos.chronosphere.impl.evolution;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.api.MetaModelEvolutionContext;
+import org.chronos.chronosphere.api.MetaModelEvolutionIncubator;
+import org.chronos.chronosphere.api.exceptions.ElementCannotBeEvolvedException;
+import org.chronos.chronosphere.api.exceptions.MetaModelEvolutionCanceledException;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A variant of the {@link IncubatorBasedModelEvolutionController} which migrates the instance model in place.
+ *
+ * <p>
+ * Instead of rebuilding the whole instance model, this controller only migrates the direct instances of those
+ * {@link EClass}es which have been changed (or removed) by the metamodel evolution. An EClass is considered to be
+ * unchanged if the new metamodel contains an EClass with the same name in an EPackage with the same namespace URI,
+ * with the same supertypes and with the same structural features (compared by name, type, multiplicity and
+ * containment). EObjects of unchanged EClasses are not passed to the {@linkplain MetaModelEvolutionIncubator
+ * incubator} and keep their state as-is, which requires that the incubator would have migrated them 1:1 anyways.
+ *
+ * <p>
+ * The affected EObjects are processed in batches of a fixed size; the changes are
+ * {@linkplain MetaModelEvolutionContext#flush() flushed} after each batch.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class IncrementalIncubatorBasedModelEvolutionController extends IncubatorBasedModelEvolutionController {
+
+    // =====================================================================================================================
+    // FIELDS
+    // =====================================================================================================================
+
+    private final int batchSize;
+
+    /** The IDs of the EObjects which have been migrated in phase 1, in the order of their migration. */
+    private final List<String> evolvedEObjectIds = Lists.newArrayList();
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public IncrementalIncubatorBasedModelEvolutionController(final MetaModelEvolutionIncubator incubator,
+                                                             final int batchSize) {
+        super(incubator);
+        checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+        this.batchSize = batchSize;
+    }
+
+    // =====================================================================================================================
+    // PUBLIC API
+    // =====================================================================================================================
+
+    @Override
+    public void migrate(final MetaModelEvolutionContext context) throws MetaModelEvolutionCanceledException {
+        checkNotNull(context, "Precondition violation - argument 'context' must not be NULL!");
+        checkArgument(context instanceof ModelEvolutionContextImpl,
+                "Precondition violation - argument 'context' must be created by the metamodel evolution process!");
+        this.evolvedEObjectIds.clear();
+        super.migrate(context);
+    }
+
+    // =====================================================================================================================
+    // INTERNAL HELPER METHODS
+    // =====================================================================================================================
+
+    @Override
+    protected void executeClassEvolutionPhase(final MetaModelEvolutionContext context) {
+        ModelEvolutionContextImpl contextImpl = (ModelEvolutionContextImpl) context;
+        ChronoEPackageRegistry newRegistry = contextImpl.newTx.getEPackageRegistry();
+        ChronoGraph newGraph = contextImpl.newTx.getGraph();
+        List<String> affectedEObjectIds = this.findAffectedEObjectIds(contextImpl);
+        for (List<String> batch : Iterables.partition(affectedEObjectIds, this.batchSize)) {
+            for (String eObjectId : batch) {
+                EObject oldObject = contextImpl.oldTx.getEObjectById(eObjectId);
+                // ask the incubator which EClass this object should have in the new model
+                EClass eClass;
+                try {
+                    eClass = this.incubator.migrateClass(oldObject, context);
+                } catch (ElementCannotBeEvolvedException ignored) {
+                    // this element cannot be evolved; simply do not include it in the new repository state
+                    eClass = null;
+                }
+                // the incubator re-creates the attribute values and references in phases 2 and 3, so we
+                // start from a "plain" EObject, just like the full migration does
+                detachContents(contextImpl.oldTx.getGraph(), newGraph, eObjectId);
+                Vertex vertex = ChronoSphereGraphFormat.getVertexForEObject(newGraph, eObjectId);
+                if (vertex == null) {
+                    // the EClass of the object has been removed, and the vertex has been deleted along with it
+                    if (eClass != null) {
+                        context.createAndAttachEvolvedEObject(oldObject, eClass);
+                        this.evolvedEObjectIds.add(eObjectId);
+                    }
+                    continue;
+                }
+                clearEObjectVertex(vertex);
+                if (eClass == null) {
+                    // no eclass is specified... we have to discard the element
+                    vertex.remove();
+                    continue;
+                }
+                ChronoSphereGraphFormat.setEClassForEObjectVertex(newRegistry, vertex, eClass);
+                this.evolvedEObjectIds.add(eObjectId);
+            }
+            context.flush();
+        }
+    }
+
+    @Override
+    protected void executePropertyEvolutionPhase(final MetaModelEvolutionContext context) {
+        ModelEvolutionContextImpl contextImpl = (ModelEvolutionContextImpl) context;
+        for (List<String> batch : Iterables.partition(this.evolvedEObjectIds, this.batchSize)) {
+            for (String eObjectId : batch) {
+                EObject newObject = contextImpl.newTx.getEObjectById(eObjectId);
+                if (newObject == null) {
+                    // the object has been deleted in the meantime
+                    continue;
+                }
+                EObject oldObject = context.getCorrespondingEObjectInOldModel(newObject);
+                try {
+                    // ask the incubator to do the translation of attribute values
+                    this.incubator.updateAttributeValues(oldObject, newObject, context);
+                } catch (ElementCannotBeEvolvedException e) {
+                    // the incubator realized during attribute value evolution that this
+                    // EObject cannot be migrated. We have to delete it from the new model.
+                    context.deleteInNewModel(newObject);
+                }
+            }
+            context.flush();
+        }
+    }
+
+    @Override
+    protected void executeReferenceEvolutionPhase(final MetaModelEvolutionContext context) {
+        ModelEvolutionContextImpl contextImpl = (ModelEvolutionContextImpl) context;
+        for (List<String> batch : Iterables.partition(this.evolvedEObjectIds, this.batchSize)) {
+            for (String eObjectId : batch) {
+                EObject newObject = contextImpl.newTx.getEObjectById(eObjectId);
+                if (newObject == null) {
+                    // the object has been deleted in the meantime
+                    continue;
+                }
+                EObject oldObject = context.getCorrespondingEObjectInOldModel(newObject);
+                try {
+                    // ask the incubator to do the translation of reference targets
+                    this.incubator.updateReferenceTargets(oldObject, newObject, context);
+                } catch (ElementCannotBeEvolvedException e) {
+                    // the incubator realized during reference target evolution that this
+                    // EObject cannot be migrated. We have to delete it from the new model.
+                    context.deleteInNewModel(newObject);
+                }
+            }
+            context.flush();
+        }
+    }
+
+    private List<String> findAffectedEObjectIds(final ModelEvolutionContextImpl context) {
+        ChronoEPackageRegistry oldRegistry = context.oldTx.getEPackageRegistry();
+        ChronoGraph oldGraph = context.oldTx.getGraph();
+        List<String> eObjectIds = Lists.newArrayList();
+        for (EClass oldEClass : oldRegistry.getEClasses()) {
+            if (isAffected(oldEClass, context) == false) {
+                continue;
+            }
+            // only the direct instances, the instances of subclasses are checked separately
+            Iterator<Vertex> vertices = oldGraph.traversal().V()
+                    .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString())
+                    .has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, oldRegistry.getEClassID(oldEClass));
+            vertices.forEachRemaining(vertex -> eObjectIds.add((String) vertex.id()));
+        }
+        return eObjectIds;
+    }
+
+    private static boolean isAffected(final EClass oldEClass, final MetaModelEvolutionContext context) {
+        EPackage oldEPackage = oldEClass.getEPackage();
+        if (oldEPackage == null) {
+            return true;
+        }
+        EPackage newEPackage = context.getNewEPackage(oldEPackage.getNsURI());
+        if (newEPackage == null) {
+            return true;
+        }
+        EClassifier newEClassifier = newEPackage.getEClassifier(oldEClass.getName());
+        if (newEClassifier instanceof EClass == false) {
+            return true;
+        }
+        return createSignature(oldEClass).equals(createSignature((EClass) newEClassifier)) == false;
+    }
+
+    private static List<String> createSignature(final EClass eClass) {
+        List<String> signature = Lists.newArrayList();
+        signature.add("abstract=" + eClass.isAbstract() + ", interface=" + eClass.isInterface());
+        signature.add("supertypes=" + eClass.getEAllSuperTypes().stream().map(
+                IncrementalIncubatorBasedModelEvolutionController::getQualifiedName).collect(Collectors.toList()));
+        // the order of the features matters, as it determines the (persisted) feature IDs
+        for (EStructuralFeature feature : eClass.getEAllStructuralFeatures()) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(feature.getName());
+            builder.append(feature instanceof EAttribute ? " attribute " : " reference ");
+            builder.append(getQualifiedName(feature.getEType()));
+            builder.append(" [").append(feature.getLowerBound()).append("..").append(feature.getUpperBound());
+            builder.append("] ordered=").append(feature.isOrdered());
+            builder.append(", unique=").append(feature.isUnique());
+            if (feature instanceof EAttribute) {
+                builder.append(", id=").append(((EAttribute) feature).isID());
+            } else {
+                EReference eReference = (EReference) feature;
+                builder.append(", containment=").append(eReference.isContainment());
+                EReference eOpposite = eReference.getEOpposite();
+                builder.append(", opposite=").append(eOpposite != null ? eOpposite.getName() : null);
+            }
+            signature.add(builder.toString());
+        }
+        return signature;
+    }
+
+    private static String getQualifiedName(final EClassifier eClassifier) {
+        if (eClassifier == null) {
+            return null;
+        }
+        String nsURI = eClassifier.getEPackage() != null ? eClassifier.getEPackage().getNsURI() : null;
+        String qualifiedName = nsURI + "#" + eClassifier.getName();
+        if (eClassifier instanceof EEnum) {
+            // a changed set of literals requires the attribute values to be migrated
+            qualifiedName += ((EEnum) eClassifier).getELiterals().stream().map(EEnumLiteral::getLiteral)
+                    .collect(Collectors.toList());
+        }
+        return qualifiedName;
+    }
+
+    private static void clearEObjectVertex(final Vertex vertex) {
+        // remove the attribute values...
+        Set<String> propertyKeys = Sets.newHashSet(vertex.keys());
+        for (String propertyKey : propertyKeys) {
+            if (propertyKey.startsWith(ChronoSphereGraphFormat.V_PROP_PREFIX__EATTRIBUTE_VALUE)) {
+                vertex.property(propertyKey).remove();
+            }
+        }
+        // ... the outgoing references...
+        vertex.edges(Direction.OUT).forEachRemaining(edge -> {
+            if (edge.label().startsWith(ChronoSphereGraphFormat.E_LABEL_PREFIX__EREFERENCE)) {
+                edge.remove();
+            }
+        });
+        // ... but keep the eContainer of the vertex itself, as the containing EObject is either unaffected (and
+        // therefore keeps its reference to this vertex) or migrated itself.
+    }
+
+    private static void detachContents(final ChronoGraph oldGraph, final ChronoGraph newGraph,
+                                       final String eObjectId) {
+        // the containment references are restored by the incubator in phase 3. We use the old graph to find the
+        // contents, because the vertex may have been deleted in the new graph together with its EClass.
+        Vertex oldVertex = ChronoSphereGraphFormat.getVertexForEObject(oldGraph, eObjectId);
+        List<Object> contentIds = Lists.newArrayList();
+        oldVertex.vertices(Direction.IN, ChronoSphereGraphFormat.E_LABEL__ECONTAINER)
+                .forEachRemaining(content -> contentIds.add(content.id()));
+        for (Object contentId : contentIds) {
+            Vertex content = ChronoSphereGraphFormat.getVertexForEObject(newGraph, (String) contentId);
+            if (content == null) {
+                continue;
+            }
+            ChronoSphereGraphFormat.setEContainer(content, null);
+            ChronoSphereGraphFormat.setEContainingFeatureId(content, null);
+        }
+    }
+
+}
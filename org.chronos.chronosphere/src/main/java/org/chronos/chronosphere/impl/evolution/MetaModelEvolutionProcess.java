@@ -3,6 +3,7 @@ package org.chronos.chronosphere.impl.evolution;
 import org.chronos.chronosphere.api.*;
 import org.chronos.chronosphere.api.exceptions.MetaModelEvolutionCanceledException;
 import org.chronos.chronosphere.internal.api.ChronoSphereEPackageManagerInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 
@@ -17,7 +18,14 @@ public class MetaModelEvolutionProcess {
         checkNotNull(repository, "Precondition violation - argument 'repository' must not be NULL!");
         checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
         checkNotNull(incubator, "Precondition violation - argument 'incubator' must not be NULL!");
-        MetaModelEvolutionController controller = new IncubatorBasedModelEvolutionController(incubator);
+        ChronoSphereConfiguration configuration = repository.getConfiguration();
+        MetaModelEvolutionController controller;
+        if (configuration.isIncrementalEvolutionEnabled()) {
+            controller = new IncrementalIncubatorBasedModelEvolutionController(incubator,
+                    configuration.getEvolutionBatchSize());
+        } else {
+            controller = new IncubatorBasedModelEvolutionController(incubator);
+        }
         return execute(repository, branch, controller, newEPackages);
     }
 
@@ -39,10 +47,12 @@ public class MetaModelEvolutionProcess {
                     newEPackages);
             newTx.commitIncremental();
 
-            // delete all existing EObjects to start from an empty instance graph
-            Iterator<EObject> allEObjects = newTx.find().startingFromAllEObjects().toIterator();
-            newTx.delete(allEObjects, false);
-            newTx.commitIncremental();
+            if (controller instanceof IncrementalIncubatorBasedModelEvolutionController == false) {
+                // delete all existing EObjects to start from an empty instance graph
+                Iterator<EObject> allEObjects = newTx.find().startingFromAllEObjects().toIterator();
+                newTx.delete(allEObjects, false);
+                newTx.commitIncremental();
+            }
 
             // invoke the controller
             controller.migrate(context);
@@ -130,12 +130,12 @@ public abstract class AbstractQueryStepBuilder<S, I, E> implements QueryStepBuil
 
     @Override
     public Set<E> toSet() {
-        return QueryUtils.prepareTerminalOperation(this, true).toSet();
+        return ParallelQueryExecutor.toSet(this, true);
     }
 
     @Override
     public List<E> toList() {
-        return QueryUtils.prepareTerminalOperation(this, true).toList();
+        return ParallelQueryExecutor.toList(this, true);
     }
 
     @Override
@@ -145,7 +145,7 @@ public abstract class AbstractQueryStepBuilder<S, I, E> implements QueryStepBuil
 
     @Override
     public long count() {
-        return QueryUtils.prepareTerminalOperation(this, true).count().next();
+        return ParallelQueryExecutor.count(this, true);
     }
 
     @Override
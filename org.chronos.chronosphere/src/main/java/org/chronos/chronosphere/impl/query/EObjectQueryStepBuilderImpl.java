@@ -77,16 +77,14 @@ public abstract class EObjectQueryStepBuilderImpl<S, I> implements EObjectQueryS
     @Override
     public Set<EObject> toSet() {
         QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
-        GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
-        return traversal.toSet();
+        return ParallelQueryExecutor.toSet(finalStep, true);
     }
 
 
     @Override
     public List<EObject> toList() {
         QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
-        GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
-        return traversal.toList();
+        return ParallelQueryExecutor.toList(finalStep, true);
     }
 
     @Override
@@ -105,8 +103,7 @@ public abstract class EObjectQueryStepBuilderImpl<S, I> implements EObjectQueryS
 
     @Override
     public long count() {
-        GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(this, false);
-        return traversal.count().next();
+        return ParallelQueryExecutor.count(this, false);
     }
 
     @Override
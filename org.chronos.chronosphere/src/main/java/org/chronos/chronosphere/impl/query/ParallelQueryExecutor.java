@@ -0,0 +1,224 @@
+package org.chronos.chronosphere.impl.query;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
+import org.chronos.chronosphere.api.query.QueryStepBuilderInternal;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryAndStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryDistinctStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryLimitStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryNotStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryOrStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryAndStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryDistinctStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryEObjectUnionStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryLimitStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryNotStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryOrStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryOrderByStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryUnionStepBuilder;
+import org.chronos.chronosphere.impl.query.traversal.TraversalBaseSource;
+import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
+import org.chronos.chronosphere.impl.transaction.ChronoSphereTransactionImpl;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Evaluates the terminal operations of queries, partitioning the start elements of the query across several threads
+ * if the {@linkplain ChronoSphereConfiguration#isParallelQueryExecutionEnabled() configuration} permits it.
+ *
+ * <p>
+ * The start vertices produced by the {@link TraversalBaseSource} of a query are split into partitions, and each
+ * partition is processed on the common fork-join pool. Every partition is evaluated in its own transaction on the
+ * branch and timestamp of the query transaction. This transaction serves as a read-only view of the same snapshot
+ * which does not share any (non-thread-safe) element state with the other partitions. All partition transactions
+ * share the EPackage registry of the query transaction, so the EClasses and features captured by the query steps
+ * remain valid. Since EMF computes the derived feature lists of EClasses lazily (and not thread-safe), they are
+ * computed for all EClasses of the registry before the partitions are evaluated. The EObjects in the partial results are replaced by their counterparts in the query transaction
+ * before the partial results are merged.
+ *
+ * <p>
+ * A query is evaluated sequentially (in the query transaction) if:
+ * <ul>
+ * <li>parallel query execution is disabled, or
+ * <li>the query transaction has uncommitted changes, which would be invisible to the partition transactions, or
+ * <li>the query contains steps whose result depends on more than one element of the stream (e.g. limit, orderBy or
+ * distinct), or steps which evaluate subqueries, or
+ * <li>the start set of the query is too small to form more than one partition.
+ * </ul>
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class ParallelQueryExecutor {
+
+    /** The query steps which cannot be evaluated on a partition of the start elements in isolation. */
+    private static final Set<Class<?>> NON_PARTITIONABLE_STEPS = ImmutableSet.of(
+            ObjectQueryLimitStepBuilder.class,
+            ObjectQueryOrderByStepBuilder.class,
+            ObjectQueryDistinctStepBuilder.class,
+            EObjectQueryLimitStepBuilder.class,
+            EObjectQueryDistinctStepBuilder.class,
+            // the subquery steps modify their subquery chains upon traversal creation
+            ObjectQueryAndStepBuilder.class,
+            ObjectQueryOrStepBuilder.class,
+            ObjectQueryNotStepBuilder.class,
+            ObjectQueryUnionStepBuilder.class,
+            ObjectQueryEObjectUnionStepBuilder.class,
+            EObjectQueryAndStepBuilder.class,
+            EObjectQueryOrStepBuilder.class,
+            EObjectQueryNotStepBuilder.class
+    );
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public static <E> Set<E> toSet(final QueryStepBuilderInternal<?, E> builder,
+                                   final boolean forceReifyEObjectsAtEnd) {
+        checkNotNull(builder, "Precondition violation - argument 'builder' must not be NULL!");
+        List<Set<E>> partialResults = execute(builder, forceReifyEObjectsAtEnd, GraphTraversal::toSet);
+        if (partialResults.size() == 1) {
+            return partialResults.get(0);
+        }
+        Set<E> result = Sets.newHashSet();
+        partialResults.forEach(result::addAll);
+        return result;
+    }
+
+    public static <E> List<E> toList(final QueryStepBuilderInternal<?, E> builder,
+                                     final boolean forceReifyEObjectsAtEnd) {
+        checkNotNull(builder, "Precondition violation - argument 'builder' must not be NULL!");
+        List<List<E>> partialResults = execute(builder, forceReifyEObjectsAtEnd, GraphTraversal::toList);
+        if (partialResults.size() == 1) {
+            return partialResults.get(0);
+        }
+        // the partitions are merged in the order of the start elements
+        List<E> result = Lists.newArrayList();
+        partialResults.forEach(result::addAll);
+        return result;
+    }
+
+    public static long count(final QueryStepBuilderInternal<?, ?> builder, final boolean forceReifyEObjectsAtEnd) {
+        checkNotNull(builder, "Precondition violation - argument 'builder' must not be NULL!");
+        List<Long> partialResults = execute(builder, forceReifyEObjectsAtEnd, traversal -> traversal.count().next());
+        return partialResults.stream().mapToLong(Long::longValue).sum();
+    }
+
+    // =================================================================================================================
+    // INTERNAL HELPER METHODS
+    // =================================================================================================================
+
+    @SuppressWarnings("unchecked")
+    private static <E, R> List<R> execute(final QueryStepBuilderInternal<?, E> builder,
+                                          final boolean forceReifyEObjectsAtEnd,
+                                          final Function<GraphTraversal<?, E>, R> terminalOperation) {
+        ChronoSphereTransactionInternal tx = QueryUtils.getTransactionFromTraversalBaseSourceOf(builder);
+        List<TraversalChainElement> chain = QueryUtils.resolveTraversalChainElements(builder,
+                forceReifyEObjectsAtEnd);
+        TraversalBaseSource<?, ?> source = (TraversalBaseSource<?, ?>) chain.get(0);
+        if (isPartitionable(tx, chain) == false) {
+            return executeSequentially(tx, chain, source, terminalOperation);
+        }
+        List<Object> startIds = source.createTraversal().map(traverser -> ((Vertex) traverser.get()).id()).toList();
+        List<List<Object>> partitions = partition(tx.getOwningSphere().getConfiguration(), startIds);
+        if (partitions.size() < 2) {
+            return executeSequentially(tx, chain, source, terminalOperation);
+        }
+        // the registry is used by all partitions concurrently; it is not necessarily a prepared shared registry
+        EMFUtils.computeDerivedFeatureLists(tx.getEPackageRegistry().getEClasses());
+        ChronoGraphTransaction graphTx = tx.getGraph().tx().getCurrentTransaction();
+        ChronoSphereInternal sphere = tx.getOwningSphere();
+        List<ChronoSphereTransactionInternal> partitionTransactions = Lists.newArrayList();
+        try {
+            // the traversals are created here, because creating them is not thread-safe for all query steps
+            List<GraphTraversal<?, E>> traversals = Lists.newArrayList();
+            for (List<Object> partition : partitions) {
+                ChronoGraph partitionGraph = sphere.getRootGraph().tx()
+                        .createThreadedTx(graphTx.getBranchName(), graphTx.getTimestamp());
+                ChronoSphereTransactionInternal partitionTx = new ChronoSphereTransactionImpl(sphere, partitionGraph,
+                        tx.getEPackageRegistry());
+                partitionTransactions.add(partitionTx);
+                GraphTraversal<Vertex, Vertex> start = partitionGraph.traversal().V(partition.toArray());
+                traversals.add(QueryUtils.applyTraversalChain(chain, start, partitionTx));
+            }
+            List<R> partialResults = traversals.parallelStream()
+                    .map(terminalOperation)
+                    .collect(Collectors.toList());
+            // the EObjects in the partial results belong to the partition transactions
+            return partialResults.stream()
+                    .map(partialResult -> (R) replaceEObjects(tx, partialResult))
+                    .collect(Collectors.toList());
+        } finally {
+            partitionTransactions.forEach(ChronoSphereTransactionInternal::close);
+        }
+    }
+
+    private static <E, R> List<R> executeSequentially(final ChronoSphereTransactionInternal tx,
+                                                      final List<TraversalChainElement> chain,
+                                                      final TraversalBaseSource<?, ?> source,
+                                                      final Function<GraphTraversal<?, E>, R> terminalOperation) {
+        GraphTraversal<?, E> traversal = QueryUtils.applyTraversalChain(chain, source.createTraversal(), tx);
+        return Collections.singletonList(terminalOperation.apply(traversal));
+    }
+
+    private static boolean isPartitionable(final ChronoSphereTransactionInternal tx,
+                                           final List<TraversalChainElement> chain) {
+        if (tx.getOwningSphere().getConfiguration().isParallelQueryExecutionEnabled() == false) {
+            return false;
+        }
+        ChronoGraphTransaction graphTx = tx.getGraph().tx().getCurrentTransaction();
+        if (graphTx.getContext().isDirty()) {
+            // the partition transactions would not see the uncommitted changes
+            return false;
+        }
+        return chain.stream().noneMatch(element -> NON_PARTITIONABLE_STEPS.contains(element.getClass()));
+    }
+
+    private static List<List<Object>> partition(final ChronoSphereConfiguration configuration,
+                                                final List<Object> startIds) {
+        int minPartitionSize = Math.max(1, configuration.getParallelQueryMinPartitionSize());
+        int partitionCount = Math.min(configuration.getParallelQueryMaxPartitions(),
+                startIds.size() / minPartitionSize);
+        if (partitionCount < 2) {
+            return Collections.singletonList(startIds);
+        }
+        int partitionSize = (startIds.size() + partitionCount - 1) / partitionCount;
+        return Lists.partition(startIds, partitionSize);
+    }
+
+    private static Object replaceEObjects(final ChronoSphereTransactionInternal tx, final Object partialResult) {
+        if (partialResult instanceof Collection == false) {
+            return partialResult;
+        }
+        Stream<Object> elements = ((Collection<?>) partialResult).stream().map(element -> {
+            if (element instanceof ChronoEObject) {
+                return tx.getEObjectById(((ChronoEObject) element).getId());
+            } else {
+                return element;
+            }
+        });
+        if (partialResult instanceof Set) {
+            return elements.collect(Collectors.toSet());
+        } else {
+            return elements.collect(Collectors.toList());
+        }
+    }
+
+}
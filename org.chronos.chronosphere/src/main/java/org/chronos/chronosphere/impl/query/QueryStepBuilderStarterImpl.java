@@ -10,6 +10,7 @@ import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
 import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryIdentityStepBuilder;
 import org.chronos.chronosphere.impl.query.traversal.TraversalBaseSource;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.api.EAttributeAutoIndexer;
 import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.VertexKind;
@@ -48,15 +49,28 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
 
     @Override
     public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final EClass eClass) {
+        return this.startingFromInstancesOf(eClass, false);
+    }
+
+    @Override
+    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final EClass eClass,
+                                                                   final boolean allowSubclasses) {
         checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
         String id = this.owningTransaction.getEPackageRegistry().getEClassID(eClass);
+        // the extent contains the EClass itself as well as all supertypes, so a lookup on it includes the subclasses
+        String key;
+        if (allowSubclasses) {
+            key = ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT;
+        } else {
+            key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
+        }
         TraversalBaseSource<Vertex, Vertex> source = new TraversalBaseSource<>
             (this.owningTransaction,
                 g -> g.traversal()
                     // start with all vertices
                     .V()
                     // restrict to the instances of the given eclass
-                    .has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, id)
+                    .has(key, id)
                     // restrict to EObjects only
                     .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString())
             );
@@ -65,6 +79,12 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
 
     @Override
     public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final String eClassName) {
+        return this.startingFromInstancesOf(eClassName, false);
+    }
+
+    @Override
+    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final String eClassName,
+                                                                   final boolean allowSubclasses) {
         checkNotNull(eClassName, "Precondition violation - argument 'eClassName' must not be NULL!");
         // try to get the EClass via qualified name
         EClass eClass = this.owningTransaction.getEClassByQualifiedName(eClassName);
@@ -72,7 +92,7 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
             // try to get it via simple name
             eClass = this.owningTransaction.getEClassBySimpleName(eClassName);
         }
-        return this.startingFromInstancesOf(eClass);
+        return this.startingFromInstancesOf(eClass, allowSubclasses);
     }
 
     @Override
@@ -80,14 +100,15 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
         checkNotNull(attribute, "Precondition violation - argument 'attribute' must not be NULL!");
         ChronoEPackageRegistry registry = this.owningTransaction.getEPackageRegistry();
         String vertexPropertyKey = ChronoSphereGraphFormat.createVertexPropertyKey(registry, attribute);
+        EAttributeAutoIndexer autoIndexer = this.owningTransaction.getOwningSphere().getAutoIndexer();
         TraversalBaseSource<Vertex, Vertex> source = new TraversalBaseSource<>
-            (this.owningTransaction, g -> g.traversal()
-                // start with all vertices
-                .V()
-                // restrict to EObject vertices only
-                .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString())
+            (this.owningTransaction, g -> autoIndexer.has(g.traversal()
+                    // start with all vertices
+                    .V()
+                    // restrict to EObject vertices only
+                    .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString()),
                 // restrict to EObject vertices that have the given attribute set to the given value
-                .has(vertexPropertyKey, value)
+                attribute, vertexPropertyKey, value)
             );
         return this.createEQueryStepBuilderFromTraversalSource(source);
     }
@@ -3,8 +3,10 @@ package org.chronos.chronosphere.impl.query;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
@@ -13,18 +15,29 @@ import org.chronos.chronosphere.api.query.QueryStepBuilder;
 import org.chronos.chronosphere.api.query.QueryStepBuilderInternal;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryAsEObjectStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.eobject.EObjectQueryEObjectFilterStepBuilder;
 import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryEObjectReifyStepBuilder;
+import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryFilterStepBuilder;
 import org.chronos.chronosphere.impl.query.steps.object.ObjectQueryTerminalConverterStepBuilder;
+import org.chronos.chronosphere.impl.query.traversal.FusedTraversalTransformer;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalBaseSource;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.impl.query.traversal.TraversalSource;
 import org.chronos.chronosphere.impl.query.traversal.TraversalTransformer;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.eclipse.emf.ecore.EObject;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.*;
 
 public class QueryUtils {
 
@@ -55,6 +68,27 @@ public class QueryUtils {
 
     @SuppressWarnings("unchecked")
     public static <S, E> GraphTraversal<S, E> resolveTraversalChain(QueryStepBuilder<S, E> builder, ChronoSphereTransactionInternal tx, boolean forceReifyEObjectsAtEnd) {
+        List<TraversalChainElement> chainElements = resolveTraversalChainElements(builder, forceReifyEObjectsAtEnd);
+        TraversalSource source = (TraversalSource) chainElements.get(0);
+        return applyTraversalChain(chainElements, source.createTraversal(), tx);
+    }
+
+    /**
+     * Resolves the given query into the optimized list of elements which make up its traversal chain.
+     *
+     * <p>
+     * The first element of the returned list is always the {@link TraversalSource}, all other elements are
+     * {@link TraversalTransformer}s. Use
+     * {@link #applyTraversalChain(List, GraphTraversal, ChronoSphereTransactionInternal)} to create the actual graph
+     * traversal.
+     *
+     * @param builder                 The last step of the query to resolve. Must not be <code>null</code>.
+     * @param forceReifyEObjectsAtEnd Use <code>true</code> to make sure that the traversal emits EObjects instead of
+     *                                vertices.
+     * @return The list of chain elements. Never <code>null</code>, never empty.
+     */
+    public static List<TraversalChainElement> resolveTraversalChainElements(QueryStepBuilder<?, ?> builder,
+                                                                            boolean forceReifyEObjectsAtEnd) {
         List<TraversalChainElement> chainElements = Lists.newArrayList();
         TraversalChainElement currentBuilder = (TraversalChainElement) builder;
         while (currentBuilder != null) {
@@ -67,7 +101,7 @@ public class QueryUtils {
                 currentBuilder = null;
             }
         }
-        chainElements = Lists.reverse(chainElements);
+        chainElements = Lists.newArrayList(Lists.reverse(chainElements));
         if (chainElements.isEmpty()) {
             throw new IllegalStateException("At least one element must be on the query chain!");
         }
@@ -75,7 +109,6 @@ public class QueryUtils {
         if (first instanceof TraversalSource == false) {
             throw new IllegalStateException("There is no traversal source for this query chain!");
         }
-        TraversalSource source = (TraversalSource) first;
 
         optimizeTraversalChain(chainElements);
 
@@ -89,7 +122,27 @@ public class QueryUtils {
             }
         }
 
-        GraphTraversal traversal = source.createTraversal();
+        // the chain is complete, we can fuse the stateless steps now
+        fuseStatelessTransformers(chainElements);
+        return chainElements;
+    }
+
+    /**
+     * Applies the transformers of the given traversal chain to the given start traversal.
+     *
+     * @param chainElements The chain elements, as produced by
+     *                      {@link #resolveTraversalChainElements(QueryStepBuilder, boolean)}. The first element (the
+     *                      traversal source) is ignored. Must not be <code>null</code>.
+     * @param start         The traversal to use in place of the one produced by the traversal source. Must not be
+     *                      <code>null</code>.
+     * @param tx            The transaction to evaluate the query steps in. Must not be <code>null</code>.
+     * @return The resulting traversal. Never <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, E> GraphTraversal<S, E> applyTraversalChain(List<TraversalChainElement> chainElements,
+                                                                  GraphTraversal<S, ?> start,
+                                                                  ChronoSphereTransactionInternal tx) {
+        GraphTraversal traversal = start;
         for (int i = 1; i < chainElements.size(); i++) {
             TraversalChainElement element = chainElements.get(i);
             if (element instanceof TraversalTransformer == false) {
@@ -101,6 +154,7 @@ public class QueryUtils {
         return traversal;
     }
 
+    @SuppressWarnings("unchecked")
     private static void optimizeTraversalChain(final List<TraversalChainElement> chainElements) {
         // if we find the following sequence:
         // ReifyEObject (vertex to eobject) -> AsEObject (eobject as vertex)
@@ -135,6 +189,58 @@ public class QueryUtils {
             }
         }
 
+        // if we find the following sequence:
+        // ReifyEObject (vertex to eobject) -> Filter (on eobjects) -> ... -> AsEObject (eobject as vertex)
+        // ... we replace it by a single step which applies the filters to the EObjects, but keeps the vertices in
+        // the stream. This saves the lookup of the vertex for each EObject.
+        for (int i = 1; i < chainElements.size(); i++) {
+            if (chainElements.get(i) instanceof ObjectQueryEObjectReifyStepBuilder == false) {
+                continue;
+            }
+            int end = i + 1;
+            while (end < chainElements.size() && chainElements.get(end) instanceof ObjectQueryFilterStepBuilder) {
+                end++;
+            }
+            if (end == i + 1 || end >= chainElements.size()
+                    || chainElements.get(end) instanceof EObjectQueryAsEObjectStepBuilder == false) {
+                continue;
+            }
+            List<TraversalChainElement> sequence = chainElements.subList(i, end + 1);
+            List<Predicate<Object>> predicates = Lists.newArrayList();
+            for (TraversalChainElement element : sequence.subList(1, sequence.size() - 1)) {
+                predicates.add(((ObjectQueryFilterStepBuilder<?, Object>) element).getPredicate());
+            }
+            sequence.clear();
+            chainElements.add(i, new EObjectQueryEObjectFilterStepBuilder<>(chainElements.get(i - 1), predicates));
+        }
+    }
+
+    private static void fuseStatelessTransformers(final List<TraversalChainElement> chainElements) {
+        // adjacent stateless transformers are combined into a single traversal step, which saves the creation of
+        // (and the bookkeeping for) the intermediate traversers
+        List<TraversalChainElement> fusedElements = Lists.newArrayList();
+        List<StatelessTraversalTransformer<?, ?, ?>> currentRun = Lists.newArrayList();
+        for (TraversalChainElement element : chainElements) {
+            if (element instanceof StatelessTraversalTransformer) {
+                currentRun.add((StatelessTraversalTransformer<?, ?, ?>) element);
+                continue;
+            }
+            addFusedTransformers(fusedElements, currentRun);
+            fusedElements.add(element);
+        }
+        addFusedTransformers(fusedElements, currentRun);
+        chainElements.clear();
+        chainElements.addAll(fusedElements);
+    }
+
+    private static void addFusedTransformers(final List<TraversalChainElement> chainElements,
+                                             final List<StatelessTraversalTransformer<?, ?, ?>> run) {
+        if (run.size() == 1) {
+            chainElements.add(run.get(0));
+        } else if (run.size() > 1) {
+            chainElements.add(new FusedTraversalTransformer<>(run));
+        }
+        run.clear();
     }
 
     @SuppressWarnings("unchecked")
@@ -175,12 +281,13 @@ public class QueryUtils {
         return innerTraversals.toArray((GraphTraversal<Object, Object>[]) new GraphTraversal[innerTraversals.size()]);
     }
 
-    public static <S, C> GraphTraversal<S, C> castTraversalTo(GraphTraversal<S, ?> traversal, final Class<C> clazz) {
-        return traversal.filter(t -> clazz.isInstance(t.get())).map(t -> clazz.cast(t.get()));
+    public static Function<Object, Object> castTo(final Class<?> clazz) {
+        return element -> clazz.isInstance(element) ? element : StatelessTraversalTransformer.DISCARD;
     }
 
-    public static <S, C> GraphTraversal<S, C> castTraversalToNumeric(GraphTraversal<S, ?> traversal, final Function<Number, C> conversion) {
-        return traversal.filter(t -> t.get() instanceof Number).map(t -> conversion.apply((Number) t.get()));
+    public static Function<Object, Object> castToNumeric(final Function<Number, ?> conversion) {
+        return element -> element instanceof Number ? conversion.apply((Number) element)
+                : StatelessTraversalTransformer.DISCARD;
     }
 
 
@@ -217,5 +324,65 @@ public class QueryUtils {
         return Iterators.getOnlyElement(graph.vertices(cEObject.getId()), null);
     }
 
+    /**
+     * Calculates the transitive closure of the given vertex along the edges with the given label.
+     *
+     * <p>
+     * The closure is computed with a breadth-first search which expands one frontier (i.e. all vertices at the same
+     * distance from the start vertex) at a time. Every vertex is visited only once, regardless of the number of paths
+     * that lead to it. The start vertex itself is not part of the result.
+     *
+     * @param start     The vertex to start the closure from. Must not be <code>null</code>.
+     * @param direction The direction in which to follow the edges. Must not be <code>null</code>.
+     * @param label     The label of the edges to follow. Must not be <code>null</code>.
+     * @return The vertices in the closure, in breadth-first order. May be empty, but never <code>null</code>.
+     */
+    public static List<Vertex> closure(final Vertex start, final Direction direction, final String label) {
+        checkNotNull(start, "Precondition violation - argument 'start' must not be NULL!");
+        checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+        checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+        Set<Object> visitedIds = Sets.newHashSet(start.id());
+        List<Vertex> result = Lists.newArrayList();
+        List<Vertex> frontier = Collections.singletonList(start);
+        while (frontier.isEmpty() == false) {
+            List<Vertex> nextFrontier = Lists.newArrayList();
+            for (Vertex vertex : frontier) {
+                Iterator<Vertex> neighbors = vertex.vertices(direction, label);
+                while (neighbors.hasNext()) {
+                    Vertex neighbor = neighbors.next();
+                    if (visitedIds.add(neighbor.id())) {
+                        nextFrontier.add(neighbor);
+                    }
+                }
+            }
+            result.addAll(nextFrontier);
+            frontier = nextFrontier;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the vertices which represent the {@linkplain EObject#eAllContents() eAllContents} of the EObject
+     * represented by the given vertex.
+     *
+     * <p>
+     * If the {@linkplain ChronoSphereGraphFormat#V_PROP__ECONTAINER_ANCESTORS eContainer ancestors} are indexed, the
+     * contents are retrieved with a single index lookup. Otherwise, the containment tree is traversed.
+     *
+     * @param graph  The graph to work on. Must not be <code>null</code>.
+     * @param vertex The vertex representing the EObject to get the contents for. Must not be <code>null</code>.
+     * @return An iterator over the vertices representing the contents. May be empty, but never <code>null</code>.
+     */
+    public static Iterator<Vertex> eAllContents(final ChronoGraph graph, final Vertex vertex) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+        String ancestorsKey = ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS;
+        if (graph.getIndexManager().isVertexPropertyIndexed(ancestorsKey)) {
+            return graph.traversal().V().has(ancestorsKey, vertex.id());
+        } else {
+            return closure(vertex, Direction.IN, ChronoSphereGraphFormat.E_LABEL__ECONTAINER).iterator();
+        }
+    }
+
 
 }
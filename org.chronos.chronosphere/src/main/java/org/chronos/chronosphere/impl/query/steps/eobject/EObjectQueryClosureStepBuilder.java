@@ -4,6 +4,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.api.query.Direction;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
@@ -12,7 +13,6 @@ import org.chronos.common.exceptions.UnknownEnumLiteralException;
 import org.eclipse.emf.ecore.EReference;
 
 import static com.google.common.base.Preconditions.*;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.*;
 
 public class EObjectQueryClosureStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex> {
 
@@ -31,20 +31,22 @@ public class EObjectQueryClosureStepBuilder<S> extends EObjectQueryStepBuilderIm
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
         ChronoEPackageRegistry registry = tx.getEPackageRegistry();
         String label = ChronoSphereGraphFormat.createReferenceEdgeLabel(registry, this.eReference);
-        GraphTraversal<Vertex, Vertex> closureTraversal;
+        org.apache.tinkerpop.gremlin.structure.Direction edgeDirection;
         switch (this.direction) {
             case INCOMING:
-                closureTraversal = in(label);
+                edgeDirection = org.apache.tinkerpop.gremlin.structure.Direction.IN;
                 break;
             case OUTGOING:
-                closureTraversal = out(label);
+                edgeDirection = org.apache.tinkerpop.gremlin.structure.Direction.OUT;
                 break;
             case BOTH:
-                closureTraversal = both(label);
+                edgeDirection = org.apache.tinkerpop.gremlin.structure.Direction.BOTH;
                 break;
             default:
                 throw new UnknownEnumLiteralException(this.direction);
         }
-        return traversal.repeat(closureTraversal.simplePath()).emit().until(t -> false).dedup();
+        // a breadth-first search visits every vertex only once, whereas enumerating all simple paths may take
+        // exponential time on densely connected models
+        return traversal.flatMap(t -> QueryUtils.closure(t.get(), edgeDirection, label).iterator()).dedup();
     }
 }
@@ -1,12 +1,11 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
-import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 
 public class EObjectQueryEAllContentsStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex> {
 
@@ -16,14 +15,8 @@ public class EObjectQueryEAllContentsStepBuilder<S> extends EObjectQueryStepBuil
 
     @Override
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal
-            .repeat(
-                // walk the incoming EContainer edges
-                __.in(ChronoSphereGraphFormat.E_LABEL__ECONTAINER))
-            // emit every step
-            .emit()
-            // don't quit until the last possible vertex was reached in the loop
-            .until(t -> false);
+        // look up the contents via the eContainer ancestors instead of walking the containment tree edge by edge
+        return traversal.flatMap(t -> QueryUtils.eAllContents(tx.getGraph(), t.get()));
     }
 
 }
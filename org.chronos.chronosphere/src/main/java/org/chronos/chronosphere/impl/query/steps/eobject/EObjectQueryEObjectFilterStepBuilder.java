@@ -0,0 +1,56 @@
+package org.chronos.chronosphere.impl.query.steps.eobject;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
+import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.eclipse.emf.ecore.EObject;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Filters a stream of EObject vertices with predicates that are specified on the EObject API.
+ *
+ * <p>
+ * This step is not created by the query API directly. It replaces the sequence "reify EObjects, filter, transform
+ * EObjects back into vertices" when the query is compiled, and passes the incoming vertex on instead of looking it
+ * up again for the EObject.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class EObjectQueryEObjectFilterStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex>
+        implements StatelessTraversalTransformer<S, Vertex, Vertex> {
+
+    private final List<Predicate<Object>> predicates;
+
+    public EObjectQueryEObjectFilterStepBuilder(final TraversalChainElement previous,
+                                                final List<? extends Predicate<Object>> predicates) {
+        super(previous);
+        checkNotNull(predicates, "Precondition violation - argument 'predicates' must not be NULL!");
+        this.predicates = ImmutableList.copyOf(predicates);
+    }
+
+    @Override
+    public Function<Vertex, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return vertex -> {
+            EObject eObject = QueryUtils.mapVertexToEObject(tx, vertex);
+            for (Predicate<Object> predicate : this.predicates) {
+                if (predicate.test(eObject) == false) {
+                    return DISCARD;
+                }
+            }
+            if (eObject == null) {
+                // the EObject could not be transformed back into a vertex
+                return DISCARD;
+            }
+            return vertex;
+        };
+    }
+}
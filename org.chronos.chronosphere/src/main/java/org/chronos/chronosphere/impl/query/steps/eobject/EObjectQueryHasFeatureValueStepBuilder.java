@@ -34,8 +34,10 @@ public class EObjectQueryHasFeatureValueStepBuilder<S> extends EObjectQueryStepB
         EStructuralFeature storedFeature = registry.getRegisteredEStructuralFeature(this.feature);
         if (storedFeature instanceof EAttribute) {
             // for EAttributes, we can use what's in the graph directly
-            String key = ChronoSphereGraphFormat.createVertexPropertyKey(registry, (EAttribute) storedFeature);
-            return traversal.has(key, this.value);
+            EAttribute storedAttribute = (EAttribute) storedFeature;
+            String key = ChronoSphereGraphFormat.createVertexPropertyKey(registry, storedAttribute);
+            // let the auto indexer keep track of the filter
+            return tx.getOwningSphere().getAutoIndexer().has(traversal, storedAttribute, key, this.value);
         } else {
             // it's an EReference.
             return traversal
@@ -1,15 +1,12 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
-import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
-import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EObject;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -27,25 +24,15 @@ public class EObjectQueryInstanceOfEClassStepBuilder<S> extends EObjectQueryStep
 
     @Override
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
+        String eClassID = tx.getEPackageRegistry().getEClassID(this.eClass);
         if (this.allowSubclasses == false) {
-            String eClassID = tx.getEPackageRegistry().getEClassID(this.eClass);
             String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
             return traversal.has(key, eClassID);
         } else {
-            // we want to include subclasses, we don't have much choice other
-            // than resolving the EObjects and using the Ecore API. Optimization?
-            return traversal
-                .map(t -> QueryUtils.mapVertexToEObject(tx, t))
-                .filter(this::filterEObject)
-                .map(t -> QueryUtils.mapEObjectToVertex(tx.getGraph(), t.get()));
+            // the EClass extent of each EObject vertex contains the IDs of all of its (transitive) EClasses
+            return traversal.filter(t ->
+                eClassID != null && ChronoSphereGraphFormat.isInEClassExtent(t.get(), eClassID)
+            );
         }
     }
-
-    private boolean filterEObject(Traverser<EObject> traverser) {
-        EObject eObject = traverser.get();
-        if (eObject == null) {
-            return false;
-        }
-        return this.eClass.isSuperTypeOf(eObject.eClass());
-    }
 }
@@ -1,19 +1,22 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
-public class EObjectQueryNonNullStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex> {
+import java.util.function.Function;
+
+public class EObjectQueryNonNullStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex>
+        implements StatelessTraversalTransformer<S, Vertex, Vertex> {
 
     public EObjectQueryNonNullStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal.filter(t -> t.get() != null);
+    public Function<Vertex, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return vertex -> vertex != null ? vertex : DISCARD;
     }
 }
@@ -1,19 +1,22 @@
 package org.chronos.chronosphere.impl.query.steps.numeric;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.NumericQueryStepBuilderImpl;
 import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
-public class NumericQueryAsByteStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Byte> {
+import java.util.function.Function;
+
+public class NumericQueryAsByteStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Byte>
+        implements StatelessTraversalTransformer<S, Object, Byte> {
 
     public NumericQueryAsByteStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, Byte> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Object> traversal) {
-        return QueryUtils.castTraversalToNumeric(traversal, Number::byteValue);
+    public Function<Object, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return QueryUtils.castToNumeric(Number::byteValue);
     }
 }
@@ -1,19 +1,22 @@
 package org.chronos.chronosphere.impl.query.steps.numeric;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.NumericQueryStepBuilderImpl;
 import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
-public class NumericQueryAsDoubleStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Double> {
+import java.util.function.Function;
+
+public class NumericQueryAsDoubleStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Double>
+        implements StatelessTraversalTransformer<S, Object, Double> {
 
     public NumericQueryAsDoubleStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, Double> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Object> traversal) {
-        return QueryUtils.castTraversalToNumeric(traversal, Number::doubleValue);
+    public Function<Object, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return QueryUtils.castToNumeric(Number::doubleValue);
     }
 }
@@ -1,19 +1,22 @@
 package org.chronos.chronosphere.impl.query.steps.numeric;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.NumericQueryStepBuilderImpl;
 import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
-public class NumericQueryAsIntegerStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Integer> {
+import java.util.function.Function;
+
+public class NumericQueryAsIntegerStepBuilder<S> extends NumericQueryStepBuilderImpl<S, Object, Integer>
+        implements StatelessTraversalTransformer<S, Object, Integer> {
 
     public NumericQueryAsIntegerStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, Integer> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Object> traversal) {
-        return QueryUtils.castTraversalToNumeric(traversal, Number::intValue);
+    public Function<Object, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return QueryUtils.castToNumeric(Number::intValue);
     }
 }
@@ -1,28 +1,32 @@
 package org.chronos.chronosphere.impl.query.steps.numeric;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.NumericQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
-public class NumericQueryRoundStepBuilder<S, N extends Number> extends NumericQueryStepBuilderImpl<S, N, Long> {
+import java.util.function.Function;
+
+public class NumericQueryRoundStepBuilder<S, N extends Number> extends NumericQueryStepBuilderImpl<S, N, Long>
+        implements StatelessTraversalTransformer<S, N, Long> {
 
     public NumericQueryRoundStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, Long> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, N> traversal) {
-        return traversal.map(traverser -> {
-            if (traverser == null || traverser.get() == null) {
-                // skip NULL values
-                return null;
-            }
-            Number element = traverser.get();
+    public Function<N, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return element -> {
             if (element == null) {
+                // skip NULL values
                 return null;
             }
             return Math.round(element.doubleValue());
-        });
+        };
+    }
+
+    @Override
+    public boolean isDiscardingElements() {
+        return false;
     }
 }
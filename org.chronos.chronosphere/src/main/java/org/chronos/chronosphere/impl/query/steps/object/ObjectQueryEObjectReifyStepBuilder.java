@@ -1,23 +1,30 @@
 package org.chronos.chronosphere.impl.query.steps.object;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.ObjectQueryStepBuilderImpl;
 import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.eclipse.emf.ecore.EObject;
 
-public class ObjectQueryEObjectReifyStepBuilder<S> extends ObjectQueryStepBuilderImpl<S, Vertex, EObject> {
+import java.util.function.Function;
+
+public class ObjectQueryEObjectReifyStepBuilder<S> extends ObjectQueryStepBuilderImpl<S, Vertex, EObject>
+        implements StatelessTraversalTransformer<S, Vertex, EObject> {
 
     public ObjectQueryEObjectReifyStepBuilder(final TraversalChainElement previous) {
         super(previous);
     }
 
     @Override
-    public GraphTraversal<S, EObject> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal.map(t -> QueryUtils.mapVertexToEObject(tx, t));
+    public Function<Vertex, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return vertex -> QueryUtils.mapVertexToEObject(tx, vertex);
     }
 
+    @Override
+    public boolean isDiscardingElements() {
+        return false;
+    }
 
 }
@@ -1,15 +1,17 @@
 package org.chronos.chronosphere.impl.query.steps.object;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.ObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.*;
 
-public class ObjectQueryFilterStepBuilder<S, E> extends ObjectQueryStepBuilderImpl<S, E, E> {
+public class ObjectQueryFilterStepBuilder<S, E> extends ObjectQueryStepBuilderImpl<S, E, E>
+        implements StatelessTraversalTransformer<S, E, E> {
 
     private final Predicate<E> predicate;
 
@@ -19,12 +21,13 @@ public class ObjectQueryFilterStepBuilder<S, E> extends ObjectQueryStepBuilderIm
         this.predicate = predicate;
     }
 
+    public Predicate<E> getPredicate() {
+        return this.predicate;
+    }
+
     @Override
-    public GraphTraversal<S, E> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, E> traversal) {
-        return traversal.filter(traverser -> {
-            E object = traverser.get();
-            return this.predicate.test(object);
-        });
+    public Function<E, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return object -> this.predicate.test(object) ? object : DISCARD;
     }
 
 }
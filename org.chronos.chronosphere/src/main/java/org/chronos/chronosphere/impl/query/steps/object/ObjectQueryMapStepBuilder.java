@@ -1,7 +1,7 @@
 package org.chronos.chronosphere.impl.query.steps.object;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.chronos.chronosphere.impl.query.ObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.StatelessTraversalTransformer;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
@@ -9,7 +9,8 @@ import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.*;
 
-public class ObjectQueryMapStepBuilder<S, I, E> extends ObjectQueryStepBuilderImpl<S, I, E> {
+public class ObjectQueryMapStepBuilder<S, I, E> extends ObjectQueryStepBuilderImpl<S, I, E>
+        implements StatelessTraversalTransformer<S, I, E> {
 
     private final Function<I, E> function;
 
@@ -20,7 +21,12 @@ public class ObjectQueryMapStepBuilder<S, I, E> extends ObjectQueryStepBuilderIm
     }
 
     @Override
-    public GraphTraversal<S, E> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, I> traversal) {
-        return traversal.map(t -> this.function.apply(t.get()));
+    public Function<I, Object> createElementFunction(final ChronoSphereTransactionInternal tx) {
+        return this.function::apply;
+    }
+
+    @Override
+    public boolean isDiscardingElements() {
+        return false;
     }
 }
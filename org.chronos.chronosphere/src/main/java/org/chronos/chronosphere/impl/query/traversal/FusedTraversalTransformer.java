@@ -0,0 +1,87 @@
+package org.chronos.chronosphere.impl.query.traversal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A {@link TraversalTransformer} which applies a sequence of {@link StatelessTraversalTransformer}s in a single pass.
+ *
+ * <p>
+ * Each element of the stream is passed through the element functions of all fused transformers, one after the
+ * other. The result is a single mapping step in the graph traversal (followed by a single filtering step if any of
+ * the fused transformers may discard elements), regardless of the number of fused transformers.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public class FusedTraversalTransformer<S> implements TraversalTransformer<S, Object, Object> {
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final List<StatelessTraversalTransformer<?, ?, ?>> transformers;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public FusedTraversalTransformer(final List<? extends StatelessTraversalTransformer<?, ?, ?>> transformers) {
+        checkNotNull(transformers, "Precondition violation - argument 'transformers' must not be NULL!");
+        checkArgument(transformers.isEmpty() == false,
+                "Precondition violation - argument 'transformers' must not be empty!");
+        this.transformers = ImmutableList.copyOf(transformers);
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public List<StatelessTraversalTransformer<?, ?, ?>> getTransformers() {
+        return this.transformers;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GraphTraversal<S, Object> transformTraversal(final ChronoSphereTransactionInternal tx,
+                                                        final GraphTraversal<S, Object> traversal) {
+        // create the element functions only once per traversal, not once per element
+        List<Function<Object, Object>> functions = Lists.newArrayListWithCapacity(this.transformers.size());
+        boolean discardingElements = false;
+        for (StatelessTraversalTransformer<?, ?, ?> member : this.transformers) {
+            // each member receives the output of its predecessor, which is typed as Object in the fused chain
+            StatelessTraversalTransformer<?, Object, ?> transformer =
+                    (StatelessTraversalTransformer<?, Object, ?>) member;
+            functions.add(transformer.createElementFunction(tx));
+            discardingElements = discardingElements || transformer.isDiscardingElements();
+        }
+        GraphTraversal<S, Object> result = traversal.map(traverser -> applyFunctions(functions, traverser.get()));
+        if (discardingElements) {
+            result = result.filter(traverser -> traverser.get() != StatelessTraversalTransformer.DISCARD);
+        }
+        return result;
+    }
+
+    // =================================================================================================================
+    // INTERNAL HELPER METHODS
+    // =================================================================================================================
+
+    private static Object applyFunctions(final List<Function<Object, Object>> functions, final Object element) {
+        Object current = element;
+        for (Function<Object, Object> function : functions) {
+            current = function.apply(current);
+            if (current == StatelessTraversalTransformer.DISCARD) {
+                // the remaining functions must not see the discarded element
+                return current;
+            }
+        }
+        return current;
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.chronos.chronosphere.impl.query.traversal;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * A {@link TraversalTransformer} which processes every element of the stream on its own (without any state that is
+ * shared among the elements) and produces at most one result element per input element.
+ *
+ * <p>
+ * Instead of appending one traversal step per query step, adjacent stateless transformers are fused into a single
+ * {@link FusedTraversalTransformer} when the query is compiled. The fused transformer applies the
+ * {@linkplain #createElementFunction(ChronoSphereTransactionInternal) element functions} of all of its members in
+ * one pass.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface StatelessTraversalTransformer<S, I, E> extends TraversalTransformer<S, I, E> {
+
+    /** The result of an element function which removes the element from the stream. */
+    public static final Object DISCARD = new Object();
+
+    /**
+     * Creates the function which transforms a single element of the stream.
+     *
+     * <p>
+     * The returned function either returns the transformed element, or {@link #DISCARD} if the element should be
+     * removed from the stream.
+     *
+     * @param tx The transaction on which the query is executed. Must not be <code>null</code>.
+     * @return The element function. Never <code>null</code>.
+     */
+    public Function<I, Object> createElementFunction(ChronoSphereTransactionInternal tx);
+
+    /**
+     * Checks if the {@linkplain #createElementFunction(ChronoSphereTransactionInternal) element function} of this
+     * transformer may return {@link #DISCARD}.
+     *
+     * @return <code>true</code> if this transformer may remove elements from the stream, or <code>false</code> if it
+     * produces exactly one result element for every input element.
+     */
+    public default boolean isDiscardingElements() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public default GraphTraversal<S, E> transformTraversal(final ChronoSphereTransactionInternal tx,
+                                                          final GraphTraversal<S, I> traversal) {
+        FusedTraversalTransformer<S> fused = new FusedTraversalTransformer<>(Collections.singletonList(this));
+        return (GraphTraversal<S, E>) fused.transformTraversal(tx, (GraphTraversal<S, Object>) traversal);
+    }
+
+}
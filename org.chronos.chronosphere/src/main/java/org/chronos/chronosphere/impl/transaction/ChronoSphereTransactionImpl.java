@@ -70,8 +70,21 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.txGraph = txGraph;
 		this.tx = txGraph.tx().getCurrentTransaction();
 		this.eObjectCache = CacheUtils.buildWeak(this::loadEObjectById);
-		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper()
-				.readChronoEPackageRegistryFromGraph(txGraph);
+		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper().getChronoEPackageRegistry(txGraph);
+		this.graphEStore = new ChronoGraphEStore(this);
+	}
+
+	public ChronoSphereTransactionImpl(final ChronoSphereInternal owningSphere, final ChronoGraph txGraph,
+			final ChronoEPackageRegistry ePackageRegistry) {
+		checkNotNull(owningSphere, "Precondition violation - argument 'owningSphere' must not be NULL!");
+		checkNotNull(txGraph, "Precondition violation - argument 'txGraph' must not be NULL!");
+		checkNotNull(ePackageRegistry, "Precondition violation - argument 'ePackageRegistry' must not be NULL!");
+		this.owningSphere = owningSphere;
+		this.txGraph = txGraph;
+		this.tx = txGraph.tx().getCurrentTransaction();
+		this.eObjectCache = CacheUtils.buildWeak(this::loadEObjectById);
+		// the registry is shared, so EClasses and features are identical to the ones of the given registry
+		this.ePackageRegistry = ePackageRegistry;
 		this.graphEStore = new ChronoGraphEStore(this);
 	}
 
@@ -311,6 +324,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.commit();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEObjectStateCache();
 		this.closed = true;
 	}
 
@@ -319,6 +333,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.commit(commitMetadata);
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEObjectStateCache();
 		this.closed = true;
 	}
 
@@ -326,6 +341,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 	public void commitIncremental() {
 		this.assertNotClosed();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEObjectStateCache();
 		this.tx.commitIncremental();
 	}
 
@@ -334,6 +350,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.rollback();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEObjectStateCache();
 		this.closed = true;
 	}
 
@@ -389,8 +406,9 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 
 	@Override
 	public void reloadEPackageRegistryFromGraph() {
-		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper()
-				.readChronoEPackageRegistryFromGraph(this.txGraph);
+		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper().getChronoEPackageRegistry(this.txGraph);
+		// the cached feature values have been decoded with the old registry
+		this.graphEStore.clearEObjectStateCache();
 	}
 
 	// =================================================================================================================
@@ -13,4 +13,6 @@ public interface ChronoSphereInternal extends ChronoSphere {
 
 	public EPackageToGraphMapper getEPackageToGraphMapper();
 
+	public EAttributeAutoIndexer getAutoIndexer();
+
 }
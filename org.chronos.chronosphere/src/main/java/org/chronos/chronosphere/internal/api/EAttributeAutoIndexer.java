@@ -0,0 +1,78 @@
+package org.chronos.chronosphere.internal.api;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.eclipse.emf.ecore.EAttribute;
+
+/**
+ * Observes the {@link EAttribute} value filters of the queries executed on a ChronoSphere instance, and creates (or
+ * drops) secondary indices accordingly.
+ *
+ * <p>
+ * For every filtered attribute, the auto indexer records how often the filter is executed and how many of the
+ * incoming EObjects pass it. Once an unindexed attribute has been filtered
+ * {@linkplain ChronoSphereConfiguration#getAutoIndexingMinFilterCount() often enough} with a
+ * {@linkplain ChronoSphereConfiguration#getAutoIndexingMaxSelectivity() low enough selectivity}, an index on it is
+ * created and built in the background. Indices which have been created by the auto indexer are dropped again if no
+ * query filters on them for a {@linkplain ChronoSphereConfiguration#getAutoIndexingDropAfterUnusedFilters() while}.
+ * Indices which have been created manually are never dropped.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface EAttributeAutoIndexer {
+
+	/**
+	 * Appends a filter to the given traversal which only lets those EObject vertices pass that have the given value
+	 * for the given {@link EAttribute}, and records the filter execution.
+	 *
+	 * <p>
+	 * If auto indexing is disabled, this is equivalent to <code>traversal.has(propertyKey, value)</code>.
+	 *
+	 * @param traversal
+	 *            The traversal to append the filter to. Must not be <code>null</code>.
+	 * @param eAttribute
+	 *            The EAttribute to filter by. Must not be <code>null</code>.
+	 * @param propertyKey
+	 *            The vertex property key that holds the values of the EAttribute. Must not be <code>null</code>.
+	 * @param value
+	 *            The value to filter by.
+	 * @return The resulting traversal. Never <code>null</code>.
+	 */
+	public <S> GraphTraversal<S, Vertex> has(GraphTraversal<S, Vertex> traversal, EAttribute eAttribute,
+			String propertyKey, Object value);
+
+	/**
+	 * Returns the vertex property keys of the indices which have been created by this auto indexer.
+	 *
+	 * @return An immutable snapshot of the property keys. May be empty, but never <code>null</code>.
+	 */
+	public Set<String> getAutoIndexedPropertyKeys();
+
+	/**
+	 * Waits until all index creations and deletions which have been scheduled so far have been completed.
+	 *
+	 * @param timeout
+	 *            The maximum time to wait. Must not be negative.
+	 * @param unit
+	 *            The unit of the timeout. Must not be <code>null</code>.
+	 * @return <code>true</code> if all scheduled tasks have been completed, or <code>false</code> if the timeout
+	 *         elapsed first.
+	 * @throws InterruptedException
+	 *             Thrown if the current thread was interrupted while waiting.
+	 */
+	public boolean awaitPendingTasks(long timeout, TimeUnit unit) throws InterruptedException;
+
+	/**
+	 * Shuts this auto indexer down.
+	 *
+	 * <p>
+	 * Index creations which are already running are allowed to finish; no further tasks will be scheduled.
+	 */
+	public void shutdown();
+
+}
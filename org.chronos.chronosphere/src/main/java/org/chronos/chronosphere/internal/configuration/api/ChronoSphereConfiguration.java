@@ -12,6 +12,19 @@ public interface ChronoSphereConfiguration extends ChronosConfiguration {
 	public static final String NS_DOT = NAMESPACE + '.';
 
 	public static final String BATCH_INSERT__BATCH_SIZE = NS_DOT + "batchInsert.batchSize";
+	public static final String BATCH_INSERT__PARALLEL = NS_DOT + "batchInsert.parallel";
+
+	public static final String AUTO_INDEXING__ENABLED = NS_DOT + "autoIndexing.enabled";
+	public static final String AUTO_INDEXING__MIN_FILTER_COUNT = NS_DOT + "autoIndexing.minFilterCount";
+	public static final String AUTO_INDEXING__MAX_SELECTIVITY = NS_DOT + "autoIndexing.maxSelectivity";
+	public static final String AUTO_INDEXING__DROP_AFTER_UNUSED_FILTERS = NS_DOT + "autoIndexing.dropAfterUnusedFilters";
+
+	public static final String EVOLUTION__INCREMENTAL = NS_DOT + "evolution.incremental";
+	public static final String EVOLUTION__BATCH_SIZE = NS_DOT + "evolution.batchSize";
+
+	public static final String QUERY__PARALLEL = NS_DOT + "query.parallel";
+	public static final String QUERY__PARALLEL_MIN_PARTITION_SIZE = NS_DOT + "query.parallel.minPartitionSize";
+	public static final String QUERY__PARALLEL_MAX_PARTITIONS = NS_DOT + "query.parallel.maxPartitions";
 
 	// =================================================================================================================
 	// GENERAL CONFIGURATION
@@ -19,4 +32,36 @@ public interface ChronoSphereConfiguration extends ChronosConfiguration {
 
 	public int getBatchInsertBatchSize();
 
+	public boolean isBatchInsertParallelEnabled();
+
+	// =================================================================================================================
+	// AUTO INDEXING CONFIGURATION
+	// =================================================================================================================
+
+	public boolean isAutoIndexingEnabled();
+
+	public int getAutoIndexingMinFilterCount();
+
+	public double getAutoIndexingMaxSelectivity();
+
+	public long getAutoIndexingDropAfterUnusedFilters();
+
+	// =================================================================================================================
+	// METAMODEL EVOLUTION CONFIGURATION
+	// =================================================================================================================
+
+	public boolean isIncrementalEvolutionEnabled();
+
+	public int getEvolutionBatchSize();
+
+	// =================================================================================================================
+	// QUERY CONFIGURATION
+	// =================================================================================================================
+
+	public boolean isParallelQueryExecutionEnabled();
+
+	public int getParallelQueryMinPartitionSize();
+
+	public int getParallelQueryMaxPartitions();
+
 }
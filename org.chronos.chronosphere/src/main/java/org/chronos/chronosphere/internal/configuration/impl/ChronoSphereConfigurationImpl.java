@@ -15,6 +15,36 @@ public class ChronoSphereConfigurationImpl extends AbstractConfiguration impleme
 	@Parameter(key = BATCH_INSERT__BATCH_SIZE, optional = true)
 	private int batchInsertBatchSize = 10_000;
 
+	@Parameter(key = BATCH_INSERT__PARALLEL, optional = true)
+	private boolean batchInsertParallel = false;
+
+	@Parameter(key = AUTO_INDEXING__ENABLED, optional = true)
+	private boolean autoIndexingEnabled = false;
+
+	@Parameter(key = AUTO_INDEXING__MIN_FILTER_COUNT, optional = true)
+	private int autoIndexingMinFilterCount = 100;
+
+	@Parameter(key = AUTO_INDEXING__MAX_SELECTIVITY, optional = true)
+	private double autoIndexingMaxSelectivity = 0.1;
+
+	@Parameter(key = AUTO_INDEXING__DROP_AFTER_UNUSED_FILTERS, optional = true)
+	private long autoIndexingDropAfterUnusedFilters = 100_000;
+
+	@Parameter(key = EVOLUTION__INCREMENTAL, optional = true)
+	private boolean incrementalEvolution = false;
+
+	@Parameter(key = EVOLUTION__BATCH_SIZE, optional = true)
+	private int evolutionBatchSize = 10_000;
+
+	@Parameter(key = QUERY__PARALLEL, optional = true)
+	private boolean parallelQueryExecution = false;
+
+	@Parameter(key = QUERY__PARALLEL_MIN_PARTITION_SIZE, optional = true)
+	private int parallelQueryMinPartitionSize = 10_000;
+
+	@Parameter(key = QUERY__PARALLEL_MAX_PARTITIONS, optional = true)
+	private int parallelQueryMaxPartitions = Runtime.getRuntime().availableProcessors();
+
 	// =====================================================================================================================
 	// GETTERS & SETTERS
 	// =====================================================================================================================
@@ -24,4 +54,54 @@ public class ChronoSphereConfigurationImpl extends AbstractConfiguration impleme
 		return this.batchInsertBatchSize;
 	}
 
+	@Override
+	public boolean isBatchInsertParallelEnabled() {
+		return this.batchInsertParallel;
+	}
+
+	@Override
+	public boolean isAutoIndexingEnabled() {
+		return this.autoIndexingEnabled;
+	}
+
+	@Override
+	public int getAutoIndexingMinFilterCount() {
+		return this.autoIndexingMinFilterCount;
+	}
+
+	@Override
+	public double getAutoIndexingMaxSelectivity() {
+		return this.autoIndexingMaxSelectivity;
+	}
+
+	@Override
+	public long getAutoIndexingDropAfterUnusedFilters() {
+		return this.autoIndexingDropAfterUnusedFilters;
+	}
+
+	@Override
+	public boolean isIncrementalEvolutionEnabled() {
+		return this.incrementalEvolution;
+	}
+
+	@Override
+	public int getEvolutionBatchSize() {
+		return this.evolutionBatchSize;
+	}
+
+	@Override
+	public boolean isParallelQueryExecutionEnabled() {
+		return this.parallelQueryExecution;
+	}
+
+	@Override
+	public int getParallelQueryMinPartitionSize() {
+		return this.parallelQueryMinPartitionSize;
+	}
+
+	@Override
+	public int getParallelQueryMaxPartitions() {
+		return this.parallelQueryMaxPartitions;
+	}
+
 }
@@ -2,6 +2,7 @@ package org.chronos.chronosphere.internal.ogm.api;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.exceptions.EObjectPersistenceException;
@@ -30,6 +31,12 @@ public class ChronoSphereGraphFormat {
      * the vertex property that contains the ID of the EClass.
      */
     public static final String V_PROP__ECLASS_ID = "eClass";
+    /**
+     * The vertex property that contains the IDs of the EClass of an {@link EObject} and all of its
+     * {@linkplain EClass#getEAllSuperTypes() supertypes}. The property is indexed, which allows to find all (direct or
+     * transitive) instances of an EClass with a single index lookup.
+     */
+    public static final String V_PROP__ECLASS_EXTENT = "eClassExtent";
     /**
      * The common prefix for vertex properties that represent {@link EAttribute} values.
      */
@@ -58,6 +65,12 @@ public class ChronoSphereGraphFormat {
      * The vertex property that holds the numeric Ecore ID of the {@link EObject#eContainingFeature()}.
      */
     public static final String V_PROP__ECONTAININGFEATUREID = "eContainingFeatureID";
+    /**
+     * The vertex property that contains the IDs of all (direct and transitive) {@linkplain EObject#eContainer()
+     * eContainers} of an {@link EObject}, starting with the direct eContainer. The property is indexed, which allows to
+     * find the {@linkplain EObject#eAllContents() eAllContents} of an EObject with a single index lookup.
+     */
+    public static final String V_PROP__ECONTAINER_ANCESTORS = "eContainerAncestors";
 
     /**
      * The edge label that marks the connections between the central EPackage Registry and the registered bundles.
@@ -100,6 +113,11 @@ public class ChronoSphereGraphFormat {
      * The edge property that contains the ordering for multiplicity-many {@link EReference} links.
      */
     public static final String E_PROP__ORDER = "eRefOrder";
+    /**
+     * The distance between the {@linkplain #E_PROP__ORDER order} values of adjacent {@link EReference} edges after
+     * (re-)numbering. The gaps allow to insert or move single edges without touching their neighbours.
+     */
+    public static final int E_REFERENCE_ORDER_GAP = 1 << 10;
 
     public static final String V_ID__EPACKAGE_REGISTRY = "EPackageRegistry_ca68f96b-676c-49de-a260-ac6628a7c455";
 
@@ -108,6 +126,12 @@ public class ChronoSphereGraphFormat {
      */
     public static final String VARIABLES__GRAPH_FORMAT_VERSION = "chronosphere.graphformat.version";
 
+    /**
+     * Graph Variable Name: An identifier for the current state of the metamodel (i.e. the mapped {@link EPackage}s).
+     * A new identifier is assigned whenever the metamodel is modified.
+     */
+    public static final String VARIABLES__METAMODEL_VERSION = "chronosphere.metamodel.version";
+
     // =====================================================================================================================
     // PUBLIC API
     // =====================================================================================================================
@@ -206,19 +230,43 @@ public class ChronoSphereGraphFormat {
             vertex.property(propertyKey).remove();
             return null;
         } else {
-            // create a duplicate of the values collection such that we have a "clean" value to persist,
-            // i.e. we don't want to store an EList or anything that is a notifier or has some EMF connectoins.
-            Collection<?> valueToStore = Lists.newArrayList(values).stream()
-                    // for each entry, convert it into a persistable form
-                    .map(value -> convertSingleEAttributeValueToPersistableObject(attribute, value))
-                    // collect the results in a list
-                    .collect(Collectors.toList());
             // store the value in the vertex
-            vertex.property(propertyKey, valueToStore);
+            vertex.property(propertyKey, createPersistableEAttributeValue(attribute, values));
             return vertex.property(propertyKey);
         }
     }
 
+    /**
+     * Converts the given {@linkplain EAttribute attribute} value into the form in which it is stored in a
+     * {@link Vertex} property.
+     *
+     * @param attribute The attribute to convert the value for. Must not be <code>null</code>.
+     * @param value     The value to convert. For {@linkplain EAttribute#isMany() many-valued} attributes, this must be
+     *                  a {@link Collection}. May be <code>null</code>.
+     * @return The persistable value, or <code>null</code> if the attribute has no value and the property should be
+     * cleared.
+     */
+    public static Object createPersistableEAttributeValue(final EAttribute attribute, final Object value) {
+        checkNotNull(attribute, "Precondition violation - argument 'attribute' must not be NULL!");
+        if (value == null) {
+            return null;
+        }
+        if (attribute.isMany() == false) {
+            return convertSingleEAttributeValueToPersistableObject(attribute, value);
+        }
+        Collection<?> values = (Collection<?>) value;
+        if (values.isEmpty()) {
+            return null;
+        }
+        // create a duplicate of the values collection such that we have a "clean" value to persist,
+        // i.e. we don't want to store an EList or anything that is a notifier or has some EMF connectoins.
+        return Lists.newArrayList(values).stream()
+                // for each entry, convert it into a persistable form
+                .map(element -> convertSingleEAttributeValueToPersistableObject(attribute, element))
+                // collect the results in a list
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns the values for the given multiplicity-many {@linkplain EAttribute attribute} in the given {@link Vertex}.
      *
@@ -241,7 +289,7 @@ public class ChronoSphereGraphFormat {
         Collection<?> storedValue = (Collection<?>) vertex.property(propertyKey).orElse(Lists.newArrayList());
         List<?> resultList = storedValue.stream()
                 // for each entry, convert it back from the persistable format into the EObject format
-                .map(value -> convertSinglePersistableObjectToEAttributeValue(attribute, attribute))
+                .map(value -> convertSinglePersistableObjectToEAttributeValue(attribute, value))
                 // collect the results in a list
                 .collect(Collectors.toList());
         // return the result
@@ -269,8 +317,7 @@ public class ChronoSphereGraphFormat {
         String propertyKey = createVertexPropertyKey(registry, attribute);
         if (value != null) {
             // store the value in the vertex
-            Object persistentValue = convertSingleEAttributeValueToPersistableObject(attribute, value);
-            vertex.property(propertyKey, persistentValue);
+            vertex.property(propertyKey, createPersistableEAttributeValue(attribute, value));
             return vertex.property(propertyKey);
         } else {
             // no value given; clear the property
@@ -316,6 +363,24 @@ public class ChronoSphereGraphFormat {
         edge.property(E_PROP__ORDER, orderIndex);
     }
 
+    /**
+     * Computes the <code>order</code> value for the link at the given index when all links of a multiplicity-many
+     * {@link EReference} are written at once.
+     *
+     * <p>
+     * The links are spread out evenly with a {@linkplain #E_REFERENCE_ORDER_GAP gap} between each other, such that
+     * later insertions can be placed between them without modifying the existing edges.
+     *
+     * @param index The index of the link. Must not be negative, must be less than <code>count</code>.
+     * @param count The total number of links in the reference. Must be greater than zero.
+     * @return The order value for the link. Never negative.
+     */
+    public static int computeEReferenceEdgeOrder(final int index, final int count) {
+        checkElementIndex(index, count, "Precondition violation - argument 'index' is out of bounds!");
+        long gap = Math.max(1, Math.min(E_REFERENCE_ORDER_GAP, Integer.MAX_VALUE / (count + 1L)));
+        return (int) ((index + 1) * gap);
+    }
+
     /**
      * Returns the <code>order</code> property of the given {@link Edge} that represents an {@link EReference} link.
      *
@@ -371,19 +436,41 @@ public class ChronoSphereGraphFormat {
         checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
         String edgeLabel = createReferenceEdgeLabel(registry, eReference);
         if (eReference.isOrdered()) {
-            // get the reference edges (as they contain the ordering)
-            List<Edge> edges = Lists.newArrayList(eObjectVertex.edges(Direction.OUT, edgeLabel));
+            // for each edge, get the target vertex
+            List<Edge> edges = getEReferenceEdges(registry, eObjectVertex, eReference);
+            return edges.stream().map(edge -> edge.inVertex()).collect(Collectors.toList());
+        } else {
+            return Lists.newArrayList(eObjectVertex.vertices(Direction.OUT, edgeLabel));
+        }
+    }
+
+    /**
+     * Returns the edges that represent the links of the given {@link EReference} on the given {@link EObject} vertex.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex that represents the EObject to get the reference edges for. Must not be
+     *                      <code>null</code>.
+     * @param eReference    The EReference to get the edges for. Must not be <code>null</code>. Must be many-valued.
+     * @return The reference edges, sorted by their {@linkplain #getEReferenceEdgeOrder(Edge) order} if the reference is
+     * ordered. May be empty, but never <code>null</code>. The list is mutable and not shared.
+     */
+    public static List<Edge> getEReferenceEdges(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                final EReference eReference) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        List<Edge> edges = Lists.newArrayList(eObjectVertex.edges(Direction.OUT, edgeLabel));
+        if (eReference.isOrdered()) {
             // sort the edges by their ordering
             edges.sort((e1, e2) -> {
                 int order1 = getEReferenceEdgeOrder(e1);
                 int order2 = getEReferenceEdgeOrder(e2);
                 return Integer.compare(order1, order2);
             });
-            // for each edge, get the target vertex
-            return edges.stream().map(edge -> edge.inVertex()).collect(Collectors.toList());
-        } else {
-            return Lists.newArrayList(eObjectVertex.vertices(Direction.OUT, edgeLabel));
         }
+        return edges;
     }
 
     /**
@@ -421,9 +508,10 @@ public class ChronoSphereGraphFormat {
      * @param eReference    The EReference to set. Must not be <code>null</code>, must be many-valued.
      * @param targets       The vertices representing the target EObjects. May be <code>null</code> or empty to clear the
      *                      reference.
+     * @return The reference edges, in the same order as the given targets. May be empty, but never <code>null</code>.
      */
-    public static void setEReferenceTargets(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
-                                            final EReference eReference, final List<Vertex> targets) {
+    public static List<Edge> setEReferenceTargets(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                  final EReference eReference, final List<Vertex> targets) {
         checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
         checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
         checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
@@ -432,15 +520,146 @@ public class ChronoSphereGraphFormat {
         if (targets == null || targets.isEmpty()) {
             // remove the edge(s)
             eObjectVertex.edges(Direction.OUT, edgeLabel).forEachRemaining(edge -> edge.remove());
+            return Lists.newArrayList();
         } else {
             // set the targets
             List<Edge> edges = GremlinUtils.setEdgeTargets(eObjectVertex, edgeLabel, targets);
-            int order = 0;
-            for (Edge edge : edges) {
-                setEReferenceEdgeOrder(edge, order);
-                order++;
-            }
+            renumberEReferenceEdges(edges);
+            return edges;
+        }
+    }
+
+    /**
+     * Inserts a link to the given target vertex into a multiplicity-many {@link EReference}, at the given index.
+     *
+     * <p>
+     * In contrast to {@link #setEReferenceTargets(ChronoEPackageRegistry, Vertex, EReference, List)}, this method only
+     * creates a single edge. For ordered references, the new edge receives an order value between the ones of its
+     * neighbours. Only if there is no gap left between them, all edges of the reference are renumbered.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex representing the EObject that owns the reference. Must not be <code>null</code>.
+     * @param eReference    The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param edges         The current reference edges, as returned by
+     *                      {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}. Must not be
+     *                      <code>null</code>. Will be updated to contain the new edge.
+     * @param index         The index at which to insert the new link. Must be between zero and the number of edges
+     *                      (inclusive).
+     * @param target        The vertex representing the target EObject. Must not be <code>null</code>.
+     * @return The newly created edge. Never <code>null</code>.
+     */
+    public static Edge insertEReferenceTarget(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                              final EReference eReference, final List<Edge> edges, final int index,
+                                              final Vertex target) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkPositionIndex(index, edges.size(), "Precondition violation - argument 'index' is out of bounds!");
+        checkNotNull(target, "Precondition violation - argument 'target' must not be NULL!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        Edge edge = eObjectVertex.addEdge(edgeLabel, target);
+        edges.add(index, edge);
+        if (eReference.isOrdered()) {
+            assignEReferenceEdgeOrder(edges, index);
         }
+        return edge;
+    }
+
+    /**
+     * Removes the link at the given index from a multiplicity-many {@link EReference}.
+     *
+     * <p>
+     * Only the edge in question is deleted; the order values of the remaining edges stay valid.
+     *
+     * @param edges The current reference edges, as returned by
+     *              {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}. Must not be
+     *              <code>null</code>. Will be updated to no longer contain the removed edge.
+     * @param index The index of the link to remove. Must be a valid index in the list of edges.
+     * @return The vertex representing the former target EObject of the link. Never <code>null</code>.
+     */
+    public static Vertex removeEReferenceTarget(final List<Edge> edges, final int index) {
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(index, edges.size(), "Precondition violation - argument 'index' is out of bounds!");
+        Edge edge = edges.remove(index);
+        Vertex target = edge.inVertex();
+        edge.remove();
+        return target;
+    }
+
+    /**
+     * Replaces the target of the link at the given index in a multiplicity-many {@link EReference}.
+     *
+     * <p>
+     * The edge to the old target is replaced by an edge to the new target which has the same order value.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex representing the EObject that owns the reference. Must not be <code>null</code>.
+     * @param eReference    The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param edges         The current reference edges, as returned by
+     *                      {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}. Must not be
+     *                      <code>null</code>. Will be updated to contain the new edge.
+     * @param index         The index of the link to replace. Must be a valid index in the list of edges.
+     * @param target        The vertex representing the new target EObject. Must not be <code>null</code>.
+     * @return The vertex representing the former target EObject of the link. Never <code>null</code>.
+     */
+    public static Vertex replaceEReferenceTarget(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                 final EReference eReference, final List<Edge> edges, final int index,
+                                                 final Vertex target) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(index, edges.size(), "Precondition violation - argument 'index' is out of bounds!");
+        checkNotNull(target, "Precondition violation - argument 'target' must not be NULL!");
+        Edge oldEdge = edges.get(index);
+        Vertex oldTarget = oldEdge.inVertex();
+        if (oldTarget.equals(target)) {
+            // nothing to do
+            return oldTarget;
+        }
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        Edge newEdge = eObjectVertex.addEdge(edgeLabel, target);
+        if (eReference.isOrdered()) {
+            setEReferenceEdgeOrder(newEdge, Math.max(0, getEReferenceEdgeOrder(oldEdge)));
+        }
+        oldEdge.remove();
+        edges.set(index, newEdge);
+        return oldTarget;
+    }
+
+    /**
+     * Moves the link at the given source index in a multiplicity-many {@link EReference} to the given target index.
+     *
+     * <p>
+     * For ordered references, only the order value of the moved edge changes, unless there is no gap left between its
+     * new neighbours (in which case all edges of the reference are renumbered).
+     *
+     * @param eReference  The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param edges       The current reference edges, as returned by
+     *                    {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}. Must not be
+     *                    <code>null</code>. Will be updated to reflect the move.
+     * @param targetIndex The index to move the link to. Must be a valid index in the list of edges.
+     * @param sourceIndex The index of the link to move. Must be a valid index in the list of edges.
+     * @return The vertex representing the target EObject of the moved link. Never <code>null</code>.
+     */
+    public static Vertex moveEReferenceTarget(final EReference eReference, final List<Edge> edges,
+                                              final int targetIndex, final int sourceIndex) {
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(targetIndex, edges.size(),
+                "Precondition violation - argument 'targetIndex' is out of bounds!");
+        checkElementIndex(sourceIndex, edges.size(),
+                "Precondition violation - argument 'sourceIndex' is out of bounds!");
+        Edge edge = edges.remove(sourceIndex);
+        edges.add(targetIndex, edge);
+        if (eReference.isOrdered() && targetIndex != sourceIndex) {
+            assignEReferenceEdgeOrder(edges, targetIndex);
+        }
+        return edge.inVertex();
     }
 
     /**
@@ -869,6 +1088,54 @@ public class ChronoSphereGraphFormat {
         ChronoGraph graph = (ChronoGraph) vertex.graph();
         Vertex eClassVertex = getVertexForEClass(registry, graph, eClass);
         vertex.property(V_PROP__ECLASS_ID, (String) eClassVertex.id());
+        vertex.property(V_PROP__ECLASS_EXTENT, createEClassExtent(registry, eClass));
+    }
+
+    /**
+     * Creates the value for the {@linkplain #V_PROP__ECLASS_EXTENT EClass extent} property of the vertices which
+     * represent instances of the given {@link EClass}.
+     *
+     * @param registry The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eClass   The EClass to create the extent for. Must be part of the given package. Must not be
+     *                 <code>null</code>.
+     * @return The list of IDs of the given EClass and all of its supertypes which are known to the registry. The ID
+     * of the given EClass is always the first entry. Never <code>null</code>.
+     */
+    public static List<String> createEClassExtent(final ChronoEPackageRegistry registry, final EClass eClass) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+        String eClassID = registry.getEClassID(eClass);
+        if (eClassID == null) {
+            throw new IllegalStateException("There is no ID for EClass '" + eClass.getName()
+                + "'! Did you forget to register an EPackage?");
+        }
+        List<String> extent = Lists.newArrayList(eClassID);
+        for (EClass superType : eClass.getEAllSuperTypes()) {
+            String superTypeID = registry.getEClassID(superType);
+            if (superTypeID != null && extent.contains(superTypeID) == false) {
+                extent.add(superTypeID);
+            }
+        }
+        return extent;
+    }
+
+    /**
+     * Checks if the {@link EObject} represented by the given vertex is a (direct or transitive) instance of the
+     * {@link EClass} with the given ID, according to the {@linkplain #V_PROP__ECLASS_EXTENT EClass extent} stored in
+     * the vertex.
+     *
+     * @param vertex   The vertex to check. Must not be <code>null</code>.
+     * @param eClassID The ID of the EClass to check. Must not be <code>null</code>.
+     * @return <code>true</code> if the vertex is in the extent of the given EClass, otherwise <code>false</code>.
+     */
+    public static boolean isInEClassExtent(final Vertex vertex, final String eClassID) {
+        checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+        checkNotNull(eClassID, "Precondition violation - argument 'eClassID' must not be NULL!");
+        Object extent = vertex.property(V_PROP__ECLASS_EXTENT).orElse(null);
+        if (extent instanceof Collection) {
+            return ((Collection<?>) extent).contains(eClassID);
+        }
+        return eClassID.equals(extent);
     }
 
     /**
@@ -886,6 +1153,71 @@ public class ChronoSphereGraphFormat {
         } else {
             GremlinUtils.setEdgeTarget(sourceVertex, E_LABEL__ECONTAINER, targetVertex);
         }
+        updateEContainerAncestors(sourceVertex);
+    }
+
+    /**
+     * Returns the IDs of the vertices which represent the (direct and transitive) {@linkplain EObject#eContainer()
+     * eContainers} of the {@link EObject} represented by the given vertex, as stored in the
+     * {@linkplain #V_PROP__ECONTAINER_ANCESTORS ancestors} property.
+     *
+     * @param eObjectVertex The vertex representing the EObject to get the ancestors for. Must not be <code>null</code>.
+     * @return The IDs of the ancestors, starting with the direct eContainer. May be empty, but never <code>null</code>.
+     */
+    public static List<String> getEContainerAncestors(final Vertex eObjectVertex) {
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        Object ancestors = eObjectVertex.property(V_PROP__ECONTAINER_ANCESTORS).orElse(null);
+        if (ancestors == null) {
+            return Collections.emptyList();
+        } else if (ancestors instanceof Collection) {
+            return ((Collection<?>) ancestors).stream().map(String::valueOf).collect(Collectors.toList());
+        } else {
+            return Collections.singletonList(String.valueOf(ancestors));
+        }
+    }
+
+    /**
+     * Recalculates the {@linkplain #V_PROP__ECONTAINER_ANCESTORS ancestors} of the {@link EObject} represented by the
+     * given vertex from the ancestors of its {@linkplain EObject#eContainer() eContainer}.
+     *
+     * <p>
+     * If the ancestors of the given vertex change, the ancestors of all of its (transitive) contents are recalculated
+     * as well.
+     *
+     * @param eObjectVertex The vertex representing the EObject to update. Must not be <code>null</code>.
+     * @return The number of vertices that have been updated.
+     */
+    public static int updateEContainerAncestors(final Vertex eObjectVertex) {
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        int updatedVertices = 0;
+        Set<Object> visitedIds = Sets.newHashSet();
+        Deque<Vertex> verticesToUpdate = new ArrayDeque<>();
+        verticesToUpdate.add(eObjectVertex);
+        while (verticesToUpdate.isEmpty() == false) {
+            Vertex vertex = verticesToUpdate.poll();
+            if (visitedIds.add(vertex.id()) == false) {
+                // guard against (illegal) containment cycles
+                continue;
+            }
+            List<String> ancestors = Lists.newArrayList();
+            Vertex eContainerVertex = getEContainer(vertex);
+            if (eContainerVertex != null) {
+                ancestors.add((String) eContainerVertex.id());
+                ancestors.addAll(getEContainerAncestors(eContainerVertex));
+            }
+            if (ancestors.equals(getEContainerAncestors(vertex))) {
+                // nothing changed here, so the ancestors of the contents are still valid as well
+                continue;
+            }
+            if (ancestors.isEmpty()) {
+                vertex.property(V_PROP__ECONTAINER_ANCESTORS).remove();
+            } else {
+                vertex.property(V_PROP__ECONTAINER_ANCESTORS, ancestors);
+            }
+            updatedVertices++;
+            vertex.vertices(Direction.IN, E_LABEL__ECONTAINER).forEachRemaining(verticesToUpdate::add);
+        }
+        return updatedVertices;
     }
 
     /**
@@ -993,6 +1325,35 @@ public class ChronoSphereGraphFormat {
         return ePackageVertex;
     }
 
+    /**
+     * Returns the identifier of the current state of the metamodel in the given graph.
+     *
+     * <p>
+     * Two graphs (e.g. at different timestamps or on different branches) which return the same identifier contain the
+     * same metamodel.
+     *
+     * @param graph The graph to get the metamodel version for. Must not be <code>null</code>.
+     * @return The metamodel version, or <code>null</code> if the graph does not contain a metamodel version (e.g.
+     * because no EPackage has been registered yet).
+     */
+    public static String getMetamodelVersion(final ChronoGraph graph) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        return (String) graph.variables().get(VARIABLES__METAMODEL_VERSION).orElse(null);
+    }
+
+    /**
+     * Assigns a new {@linkplain #getMetamodelVersion(ChronoGraph) metamodel version} to the given graph.
+     *
+     * <p>
+     * This method must be called whenever the metamodel in the graph is modified.
+     *
+     * @param graph The graph to update the metamodel version for. Must not be <code>null</code>.
+     */
+    public static void updateMetamodelVersion(final ChronoGraph graph) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        graph.variables().set(VARIABLES__METAMODEL_VERSION, UUID.randomUUID().toString());
+    }
+
     /**
      * Returns the set of {@linkplain Vertex vertices} that represent {@link EPackageBundle}s.
      *
@@ -1055,4 +1416,71 @@ public class ChronoSphereGraphFormat {
         return value;
     }
 
+    private static void assignEReferenceEdgeOrder(final List<Edge> edges, final int index) {
+        Edge edge = edges.get(index);
+        // note: we use longs here to avoid overflows in the arithmetic
+        long lowerOrder = index > 0 ? getEReferenceEdgeOrder(edges.get(index - 1)) : 0;
+        if (index == edges.size() - 1) {
+            // fast path: appending at the end only needs to look at the predecessor
+            long order = lowerOrder + E_REFERENCE_ORDER_GAP;
+            if (order <= Integer.MAX_VALUE) {
+                setEReferenceEdgeOrder(edge, (int) order);
+                return;
+            }
+        } else {
+            long upperOrder = getEReferenceEdgeOrder(edges.get(index + 1));
+            if (upperOrder - lowerOrder > 1) {
+                // there is a gap between the neighbours, use its center
+                setEReferenceEdgeOrder(edge, (int) ((lowerOrder + upperOrder) / 2));
+                return;
+            }
+        }
+        // no space left at the desired position
+        rebalanceEReferenceEdgeOrders(edges, index);
+    }
+
+    private static void rebalanceEReferenceEdgeOrders(final List<Edge> edges, final int index) {
+        // we look for the smallest window around the index which offers enough space to spread out the
+        // edges within it evenly. The larger the window, the smaller the required spacing becomes, which
+        // keeps the number of modified edges low (amortized) even if we keep inserting at the same position.
+        int lastIndex = edges.size() - 1;
+        for (int radius = 1; ; radius *= 2) {
+            int low = Math.max(0, index - radius);
+            int high = Math.min(lastIndex, index + radius);
+            if (low == 0 && high == lastIndex) {
+                break;
+            }
+            int count = high - low + 1;
+            long lowerBound = low > 0 ? getEReferenceEdgeOrder(edges.get(low - 1)) : 0;
+            long upperBound;
+            if (high < lastIndex) {
+                upperBound = getEReferenceEdgeOrder(edges.get(high + 1));
+            } else {
+                // the window is at the end of the list, we may use more space
+                upperBound = Math.min(Integer.MAX_VALUE, lowerBound + (count + 1L) * E_REFERENCE_ORDER_GAP);
+            }
+            long spacing = (upperBound - lowerBound) / (count + 1);
+            if (spacing >= Math.max(2, E_REFERENCE_ORDER_GAP / (2 * radius))) {
+                long order = lowerBound;
+                for (int i = low; i <= high; i++) {
+                    order += spacing;
+                    setEReferenceEdgeOrder(edges.get(i), (int) order);
+                }
+                return;
+            }
+        }
+        // the window spans the entire list
+        renumberEReferenceEdges(edges);
+    }
+
+    private static void renumberEReferenceEdges(final List<Edge> edges) {
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            int order = computeEReferenceEdgeOrder(i, edges.size());
+            if (getEReferenceEdgeOrder(edge) != order) {
+                setEReferenceEdgeOrder(edge, order);
+            }
+        }
+    }
+
 }
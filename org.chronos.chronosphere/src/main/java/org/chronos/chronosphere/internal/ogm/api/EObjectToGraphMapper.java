@@ -1,6 +1,7 @@
 package org.chronos.chronosphere.internal.ogm.api;
 
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.internal.api.SphereTransactionContext;
 import org.eclipse.emf.ecore.EAttribute;
@@ -22,4 +23,14 @@ public interface EObjectToGraphMapper {
 
 	public void mapEClassReferenceToGraph(SphereTransactionContext ctx, ChronoEObject eObject);
 
+	/**
+	 * Recalculates the {@linkplain ChronoSphereGraphFormat#V_PROP__ECONTAINER_ANCESTORS eContainer ancestors} of all
+	 * EObject vertices in the given graph.
+	 *
+	 * @param graph
+	 *            The graph to update. Must not be <code>null</code>. Changes are not committed.
+	 * @return The number of vertices that have been updated.
+	 */
+	public int updateEContainerAncestors(ChronoGraph graph);
+
 }
@@ -39,6 +39,21 @@ public interface EPackageToGraphMapper {
 	 */
 	public ChronoEPackageRegistry readChronoEPackageRegistryFromGraph(ChronoGraph graph);
 
+	/**
+	 * Returns the {@link ChronoEPackageRegistry} for the metamodel contained in the given graph.
+	 *
+	 * <p>
+	 * In contrast to {@link #readChronoEPackageRegistryFromGraph(ChronoGraph)}, the registry is cached per
+	 * {@linkplain ChronoSphereGraphFormat#getMetamodelVersion(ChronoGraph) metamodel version}. All callers which
+	 * request the registry for the same metamodel version receive the same instance, therefore neither the registry
+	 * nor the {@link EPackage}s it contains may be modified.
+	 *
+	 * @param graph
+	 *            The graph to get the registry for. Must not be <code>null</code>.
+	 * @return The (shared) {@link ChronoEPackageRegistry}. Never <code>null</code>.
+	 */
+	public ChronoEPackageRegistry getChronoEPackageRegistry(ChronoGraph graph);
+
 	/**
 	 * Removes the graph representation of the given {@link EPackageBundle}, as well as all {@link EObject}s that are
 	 * instances of the classifiers contained within the bundle.
@@ -53,4 +68,18 @@ public interface EPackageToGraphMapper {
 	 */
 	public void deleteInGraph(ChronoGraph graph, EPackageBundle bundle);
 
+	/**
+	 * Updates the {@linkplain ChronoSphereGraphFormat#V_PROP__ECLASS_EXTENT EClass extent} of all {@link EObject}
+	 * vertices in the given graph whose extent does not match the current supertype hierarchy of their EClass.
+	 *
+	 * <p>
+	 * This is required whenever the supertypes of an EClass change, and for graphs which have been written by older
+	 * versions that did not maintain the EClass extent.
+	 *
+	 * @param graph
+	 *            The graph to update. Must not be <code>null</code>. Must be self-contained.
+	 * @return The number of EObject vertices which have been updated. Never negative.
+	 */
+	public int updateEClassExtents(ChronoGraph graph);
+
 }
\ No newline at end of file
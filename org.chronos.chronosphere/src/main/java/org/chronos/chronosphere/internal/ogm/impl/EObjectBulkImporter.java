@@ -0,0 +1,387 @@
+package org.chronos.chronosphere.internal.ogm.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphBulkLoader;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Imports a model of detached {@link ChronoEObject}s into the graph via a {@link ChronoGraphBulkLoader}.
+ *
+ * <p>
+ * In contrast to {@linkplain ChronoSphereTransactionInternal#batchInsert(Iterator) attaching} the model in a regular
+ * transaction, the importer does not create any graph elements in a transaction context, and it does not replace the
+ * stores of the given EObjects. The import runs in two passes over the containment trees of the given root elements:
+ * <ol>
+ * <li>The first pass creates one vertex per EObject, carrying the EClass, the EAttribute values, the containing
+ * feature and the IDs of the eContainer ancestors. The vertex ID is the (pre-assigned)
+ * {@linkplain ChronoEObject#getId() ID} of the EObject. The EObjects are processed in batches; within a batch, the
+ * vertex properties may be assembled by several threads.
+ * <li>The second pass creates the <code>eContainer</code> and EReference edges. At this point, all vertices are known,
+ * so cross-references between arbitrary parts of the model can be resolved.
+ * </ol>
+ *
+ * <p>
+ * Reference targets which are neither part of the import nor already present in the graph are ignored.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class EObjectBulkImporter {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	private final ChronoGraph rootGraph;
+	private final ChronoGraph txGraph;
+	private final String branchName;
+	private final ChronoEPackageRegistry registry;
+	private final int batchSize;
+	private final boolean parallel;
+
+	/** The metadata per EClass; only modified by the importing thread. */
+	private final Map<EClass, EClassInfo> eClassToInfo = Maps.newHashMap();
+	/** The IDs of the EObjects which have been added in the first pass. */
+	private final Set<String> importedIds = Sets.newHashSet();
+	/** The IDs of the imported EObjects whose eContainer is neither imported nor present in the graph. */
+	private final Set<String> unresolvableContainerIds = Sets.newHashSet();
+	/** The IDs of the (direct and transitive) eContainers of the imported EObjects which have a resolvable eContainer. */
+	private final Map<String, List<String>> idToEContainerAncestors = Maps.newHashMap();
+	/** Caches whether or not an EObject which is not part of the import has a vertex in the graph. */
+	private final Map<String, Boolean> existingIdToPresence = Maps.newHashMap();
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * Creates a new importer.
+	 *
+	 * @param tx
+	 *            The transaction which determines the target branch, the EPackage registry, and the state of the graph
+	 *            against which references to existing EObjects are resolved. Must not be <code>null</code>. The
+	 *            transaction itself will not be modified.
+	 * @param batchSize
+	 *            The number of EObjects (and graph entries) to process per batch. Must be greater than zero.
+	 * @param parallel
+	 *            Use <code>true</code> to assemble the vertices of a batch with multiple threads, or <code>false</code>
+	 *            to use only the calling thread.
+	 */
+	public EObjectBulkImporter(final ChronoSphereTransactionInternal tx, final int batchSize,
+			final boolean parallel) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		this.rootGraph = tx.getOwningSphere().getRootGraph();
+		this.txGraph = tx.getGraph();
+		this.branchName = tx.getBranch().getName();
+		this.registry = tx.getEPackageRegistry();
+		this.batchSize = batchSize;
+		this.parallel = parallel;
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	/**
+	 * Imports the given EObjects, including all of their {@linkplain EObject#eAllContents() contents}, and commits
+	 * them to the graph.
+	 *
+	 * @param eObjects
+	 *            The EObjects to import. Must not be <code>null</code>. EObjects which are already attached to a
+	 *            repository will be ignored.
+	 *
+	 * @return The number of imported EObjects.
+	 */
+	public int importEObjects(final Iterator<? extends EObject> eObjects) {
+		checkNotNull(eObjects, "Precondition violation - argument 'eObjects' must not be NULL!");
+		List<ChronoEObjectInternal> roots = this.collectRoots(eObjects);
+		try (ChronoGraphBulkLoader loader = this.rootGraph.bulkLoader(this.branchName)) {
+			loader.withBatchSize(this.batchSize).parallel(this.parallel);
+			this.addVertices(loader, roots);
+			this.addEdges(loader, roots);
+			loader.commit();
+		}
+		return this.importedIds.size();
+	}
+
+	// =====================================================================================================================
+	// FIRST PASS: VERTICES & ATTRIBUTES
+	// =====================================================================================================================
+
+	private void addVertices(final ChronoGraphBulkLoader loader, final List<ChronoEObjectInternal> roots) {
+		List<ChronoEObjectInternal> batch = Lists.newArrayListWithCapacity(this.batchSize);
+		Iterator<ChronoEObjectInternal> iterator = this.iterateContents(roots);
+		while (iterator.hasNext()) {
+			ChronoEObjectInternal eObject = iterator.next();
+			if (eObject.isAttached()) {
+				// already attached to a repository, nothing to import
+				continue;
+			}
+			if (this.importedIds.add(eObject.getId()) == false) {
+				throw new IllegalArgumentException(
+						"The EObject with ID '" + eObject.getId() + "' occurs more than once in the model!");
+			}
+			// resolve everything that requires graph access or shared caches before the batch is (possibly)
+			// processed in parallel
+			this.getEClassInfo(eObject.eClass());
+			EObject eContainer = eObject.eContainer();
+			if (eContainer != null && this.hasVertex(eContainer) == false) {
+				this.unresolvableContainerIds.add(eObject.getId());
+			} else if (eContainer != null) {
+				this.idToEContainerAncestors.put(eObject.getId(), this.createEContainerAncestors(eContainer));
+			}
+			batch.add(eObject);
+			if (batch.size() >= this.batchSize) {
+				this.addVertexBatch(loader, batch);
+				batch.clear();
+			}
+		}
+		if (batch.isEmpty() == false) {
+			this.addVertexBatch(loader, batch);
+		}
+	}
+
+	private void addVertexBatch(final ChronoGraphBulkLoader loader, final List<ChronoEObjectInternal> batch) {
+		// note: every EObject has its own in-memory store, so the EObjects of a batch can safely be read in parallel.
+		// The loader serializes all calls anyways, so we hand the vertices over from this thread only. This avoids the
+		// contention on the loader and keeps the order of insertion (and thus the batches) deterministic.
+		Stream<ChronoEObjectInternal> stream = this.parallel ? batch.parallelStream() : batch.stream();
+		List<Object[]> vertexKeyValues = stream.map(this::createVertexKeyValues).collect(Collectors.toList());
+		vertexKeyValues.forEach(loader::addVertex);
+	}
+
+	private Object[] createVertexKeyValues(final ChronoEObjectInternal eObject) {
+		EClassInfo eClassInfo = this.eClassToInfo.get(eObject.eClass());
+		List<Object> keyValues = Lists.newArrayList();
+		keyValues.add(T.id);
+		keyValues.add(eObject.getId());
+		keyValues.add(ChronoSphereGraphFormat.V_PROP__KIND);
+		keyValues.add(VertexKind.EOBJECT.toString());
+		keyValues.add(ChronoSphereGraphFormat.V_PROP__ECLASS_ID);
+		keyValues.add(eClassInfo.eClassID);
+		keyValues.add(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT);
+		keyValues.add(Lists.newArrayList(eClassInfo.eClassExtent));
+		for (Map.Entry<EAttribute, String> entry : eClassInfo.eAttributeToPropertyKey.entrySet()) {
+			EAttribute eAttribute = entry.getKey();
+			if (eObject.eIsSet(eAttribute) == false) {
+				// ignore eAttributes that have no value assigned in the given EObject
+				continue;
+			}
+			Object value = ChronoSphereGraphFormat.createPersistableEAttributeValue(eAttribute,
+					eObject.eGet(eAttribute));
+			if (value != null) {
+				keyValues.add(entry.getValue());
+				keyValues.add(value);
+			}
+		}
+		Integer eContainingFeatureID = this.getEContainingFeatureID(eObject);
+		if (eContainingFeatureID != null) {
+			keyValues.add(ChronoSphereGraphFormat.V_PROP__ECONTAININGFEATUREID);
+			keyValues.add(eContainingFeatureID);
+		}
+		List<String> eContainerAncestors = this.idToEContainerAncestors.get(eObject.getId());
+		if (eContainerAncestors != null) {
+			keyValues.add(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS);
+			keyValues.add(eContainerAncestors);
+		}
+		return keyValues.toArray();
+	}
+
+	private Integer getEContainingFeatureID(final ChronoEObjectInternal eObject) {
+		if (eObject.eContainer() == null || this.unresolvableContainerIds.contains(eObject.getId())) {
+			return null;
+		}
+		// note: this is the ID in the Ecore encoding, i.e. negative if the containment has no opposite
+		return eObject.eContainerFeatureID();
+	}
+
+	// =====================================================================================================================
+	// SECOND PASS: CONTAINMENT & REFERENCES
+	// =====================================================================================================================
+
+	@SuppressWarnings("unchecked")
+	private void addEdges(final ChronoGraphBulkLoader loader, final List<ChronoEObjectInternal> roots) {
+		Iterator<ChronoEObjectInternal> iterator = this.iterateContents(roots);
+		while (iterator.hasNext()) {
+			ChronoEObjectInternal eObject = iterator.next();
+			if (this.importedIds.contains(eObject.getId()) == false) {
+				continue;
+			}
+			String id = eObject.getId();
+			EObject eContainer = eObject.eContainer();
+			if (eContainer != null && this.unresolvableContainerIds.contains(id) == false) {
+				loader.addEdge(id, ChronoSphereGraphFormat.createEContainerReferenceEdgeLabel(),
+						((ChronoEObject) eContainer).getId());
+			}
+			EClassInfo eClassInfo = this.eClassToInfo.get(eObject.eClass());
+			for (Map.Entry<EReference, String> entry : eClassInfo.eReferenceToEdgeLabel.entrySet()) {
+				EReference eReference = entry.getKey();
+				if (eObject.eIsSet(eReference) == false) {
+					// reference is not set on this EObject, nothing to import
+					continue;
+				}
+				String label = entry.getValue();
+				Object value = eObject.eGet(eReference);
+				if (eReference.isMany()) {
+					List<String> targetIds = Lists.newArrayList();
+					for (EObject target : (Collection<EObject>) value) {
+						if (this.hasVertex(target)) {
+							targetIds.add(((ChronoEObject) target).getId());
+						}
+					}
+					for (int i = 0; i < targetIds.size(); i++) {
+						int order = ChronoSphereGraphFormat.computeEReferenceEdgeOrder(i, targetIds.size());
+						loader.addEdge(id, label, targetIds.get(i), ChronoSphereGraphFormat.E_PROP__ORDER, order);
+					}
+				} else {
+					EObject target = (EObject) value;
+					if (this.hasVertex(target)) {
+						loader.addEdge(id, label, ((ChronoEObject) target).getId());
+					}
+				}
+			}
+		}
+	}
+
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private List<ChronoEObjectInternal> collectRoots(final Iterator<? extends EObject> eObjects) {
+		List<ChronoEObjectInternal> candidates = Lists.newArrayList();
+		eObjects.forEachRemaining(eObject -> {
+			checkArgument(eObject instanceof ChronoEObjectInternal,
+					"Precondition violation - argument 'eObjects' contains an EObject which is no ChronoEObject! "
+							+ "Did you use the correct EFactory in your EPackage?");
+			candidates.add((ChronoEObjectInternal) eObject);
+		});
+		// EObjects which are (transitively) contained in another given EObject are imported along with their container
+		Set<EObject> candidateSet = Sets.newHashSet(candidates);
+		List<ChronoEObjectInternal> roots = Lists.newArrayList();
+		Set<EObject> visitedRoots = Sets.newHashSet();
+		for (ChronoEObjectInternal candidate : candidates) {
+			boolean containedInCandidate = false;
+			for (EObject container = candidate.eContainer(); container != null; container = container.eContainer()) {
+				if (candidateSet.contains(container)) {
+					containedInCandidate = true;
+					break;
+				}
+			}
+			if (containedInCandidate == false && visitedRoots.add(candidate)) {
+				roots.add(candidate);
+			}
+		}
+		return roots;
+	}
+
+	private Iterator<ChronoEObjectInternal> iterateContents(final List<ChronoEObjectInternal> roots) {
+		return Iterators.concat(Iterators.transform(roots.iterator(),
+				root -> Iterators.concat(Iterators.singletonIterator(root),
+						Iterators.transform(root.eAllContents(), eObject -> (ChronoEObjectInternal) eObject))));
+	}
+
+	private boolean hasVertex(final EObject eObject) {
+		if (eObject instanceof ChronoEObject == false) {
+			return false;
+		}
+		String id = ((ChronoEObject) eObject).getId();
+		if (this.importedIds.contains(id)) {
+			return true;
+		}
+		return this.existingIdToPresence.computeIfAbsent(id,
+				key -> ChronoSphereGraphFormat.getVertexForEObject(this.txGraph, key) != null);
+	}
+
+	private List<String> createEContainerAncestors(final EObject eContainer) {
+		String eContainerId = ((ChronoEObject) eContainer).getId();
+		List<String> ancestors = Lists.newArrayList(eContainerId);
+		if (this.importedIds.contains(eContainerId)) {
+			// the eContainer is visited before its contents, so its ancestors are known already
+			ancestors.addAll(this.idToEContainerAncestors.getOrDefault(eContainerId, Collections.emptyList()));
+		} else {
+			Vertex eContainerVertex = ChronoSphereGraphFormat.getVertexForEObject(this.txGraph, eContainerId);
+			ancestors.addAll(ChronoSphereGraphFormat.getEContainerAncestors(eContainerVertex));
+		}
+		return ancestors;
+	}
+
+	private EClassInfo getEClassInfo(final EClass eClass) {
+		EClassInfo eClassInfo = this.eClassToInfo.get(eClass);
+		if (eClassInfo == null) {
+			eClassInfo = new EClassInfo(this.registry, eClass);
+			this.eClassToInfo.put(eClass, eClassInfo);
+		}
+		return eClassInfo;
+	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	/**
+	 * The graph format metadata of a single {@link EClass}.
+	 *
+	 * <p>
+	 * Instances are created by the importing thread only; afterwards they are read-only. Creating an instance also
+	 * initializes the lazily computed feature caches of the EClass, which are not thread-safe.
+	 */
+	private static class EClassInfo {
+
+		private final String eClassID;
+		private final List<String> eClassExtent;
+		private final Map<EAttribute, String> eAttributeToPropertyKey = Maps.newLinkedHashMap();
+		private final Map<EReference, String> eReferenceToEdgeLabel = Maps.newLinkedHashMap();
+
+		public EClassInfo(final ChronoEPackageRegistry registry, final EClass eClass) {
+			this.eClassID = registry.getEClassID(eClass);
+			if (this.eClassID == null) {
+				throw new IllegalStateException("There is no ID for EClass '" + eClass.getName()
+						+ "'! Did you forget to register an EPackage?");
+			}
+			this.eClassExtent = ChronoSphereGraphFormat.createEClassExtent(registry, eClass);
+			for (EStructuralFeature feature : eClass.getEAllStructuralFeatures()) {
+				eClass.getFeatureID(feature);
+				((EStructuralFeature.Internal) feature).getSettingDelegate();
+			}
+			for (EAttribute eAttribute : eClass.getEAllAttributes()) {
+				this.eAttributeToPropertyKey.put(eAttribute,
+						ChronoSphereGraphFormat.createVertexPropertyKey(registry, eAttribute));
+			}
+			for (EReference eReference : eClass.getEAllReferences()) {
+				this.eReferenceToEdgeLabel.put(eReference,
+						ChronoSphereGraphFormat.createReferenceEdgeLabel(registry, eReference));
+			}
+		}
+
+	}
+
+}
@@ -2,10 +2,16 @@ package org.chronos.chronosphere.internal.ogm.impl;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -21,6 +27,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -160,10 +167,8 @@ public class EObjectToGraphMapperImpl implements EObjectToGraphMapper {
 		ChronoEObject eContainer = (ChronoEObject) eObject.eContainer();
 		// get the vertex for the eContainer
 		Vertex eContainerVertex = ChronoSphereGraphFormat.getVertexForEObject(graph, eContainer);
-		// get the label
-		String label = ChronoSphereGraphFormat.createEContainerReferenceEdgeLabel();
-		// assign the edge target
-		GremlinUtils.setEdgeTarget(vertex, label, eContainerVertex);
+		// assign the edge target (this also updates the ancestors of the EObject and its contents)
+		ChronoSphereGraphFormat.setEContainer(vertex, eContainerVertex);
 	}
 
 	@Override
@@ -178,8 +183,49 @@ public class EObjectToGraphMapperImpl implements EObjectToGraphMapper {
 		EClass eClass = eObject.eClass();
 		// fetch the ID
 		String eClassId = cep.getEClassID(eClass);
-		// set the property value
+		// set the property values
 		vertex.property(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassId);
+		vertex.property(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT,
+				ChronoSphereGraphFormat.createEClassExtent(cep, eClass));
+	}
+
+	@Override
+	public int updateEContainerAncestors(final ChronoGraph graph) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		int updatedVertices = 0;
+		Iterator<Vertex> eObjectVertices = graph.traversal()
+				// start from all vertices
+				.V()
+				// restrict to EObjects only
+				.has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString());
+		while (eObjectVertices.hasNext()) {
+			Vertex root = eObjectVertices.next();
+			if (ChronoSphereGraphFormat.getEContainer(root) != null) {
+				// we process the containment trees top-down, starting at the roots
+				continue;
+			}
+			Deque<Pair<Vertex, List<String>>> queue = new ArrayDeque<>();
+			queue.add(Pair.of(root, Collections.emptyList()));
+			while (queue.isEmpty() == false) {
+				Pair<Vertex, List<String>> entry = queue.poll();
+				Vertex vertex = entry.getLeft();
+				List<String> ancestors = entry.getRight();
+				if (ancestors.equals(ChronoSphereGraphFormat.getEContainerAncestors(vertex)) == false) {
+					if (ancestors.isEmpty()) {
+						vertex.property(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS).remove();
+					} else {
+						vertex.property(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS, ancestors);
+					}
+					updatedVertices++;
+				}
+				List<String> childAncestors = Lists.newArrayListWithCapacity(ancestors.size() + 1);
+				childAncestors.add((String) vertex.id());
+				childAncestors.addAll(ancestors);
+				vertex.vertices(Direction.IN, ChronoSphereGraphFormat.createEContainerReferenceEdgeLabel())
+						.forEachRemaining(child -> queue.add(Pair.of(child, childAncestors)));
+			}
+		}
+		return updatedVertices;
 	}
 
 }
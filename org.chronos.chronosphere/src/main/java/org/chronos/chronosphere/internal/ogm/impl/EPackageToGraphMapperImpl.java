@@ -6,6 +6,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -25,16 +26,34 @@ import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 public class EPackageToGraphMapperImpl implements EPackageToGraphMapper {
 
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	/** The shared registries, keyed by metamodel version. */
+	private final Cache<String, ChronoEPackageRegistry> metamodelVersionToRegistry = CacheBuilder.newBuilder()
+			.softValues().build();
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
 	@Override
 	public void mapToGraph(final ChronoGraph graph, final EPackageBundle bundle) {
 		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
 		checkNotNull(bundle, "Precondition violation - argument 'bundle' must not be NULL!");
 		this.mergeEPackageBundleIntoGraph(bundle, graph);
+		ChronoSphereGraphFormat.updateMetamodelVersion(graph);
+		// the supertypes of existing EClasses may have changed
+		this.updateEClassExtents(graph);
 	}
 
 	@Override
@@ -54,6 +73,22 @@ public class EPackageToGraphMapperImpl implements EPackageToGraphMapper {
 		return registry;
 	}
 
+	@Override
+	public ChronoEPackageRegistry getChronoEPackageRegistry(final ChronoGraph graph) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		String metamodelVersion = ChronoSphereGraphFormat.getMetamodelVersion(graph);
+		if (metamodelVersion == null) {
+			// the metamodel has not been written by this version yet, so we can't tell whether it has changed
+			return this.readChronoEPackageRegistryFromGraph(graph);
+		}
+		try {
+			return this.metamodelVersionToRegistry.get(metamodelVersion, () -> this.readSharedRegistry(graph));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			throw new RuntimeException("Failed to read the EPackage registry of metamodel version '"
+					+ metamodelVersion + "'!", e.getCause());
+		}
+	}
+
 	@Override
 	public void deleteInGraph(final ChronoGraph graph, final EPackageBundle bundle) {
 		checkNotNull(bundle, "Precondition violation - argument 'bundle' must not be NULL!");
@@ -69,12 +104,51 @@ public class EPackageToGraphMapperImpl implements EPackageToGraphMapper {
 			this.deleteEPackageVertex(ePackageVertex);
 		}
 		bundleVertex.remove();
+		ChronoSphereGraphFormat.updateMetamodelVersion(graph);
+	}
+
+	@Override
+	public int updateEClassExtents(final ChronoGraph graph) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		ChronoEPackageRegistry registry = this.readChronoEPackageRegistryFromGraph(graph);
+		int updatedVertices = 0;
+		for (EClass eClass : registry.getEClasses()) {
+			String eClassID = registry.getEClassID(eClass);
+			List<String> extent = ChronoSphereGraphFormat.createEClassExtent(registry, eClass);
+			Iterator<Vertex> eObjectVertices = graph.traversal()
+					// start from all vertices
+					.V()
+					// restrict to EObjects only
+					.has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString())
+					// restrict to the direct instances of the EClass
+					.has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassID);
+			while (eObjectVertices.hasNext()) {
+				Vertex vertex = eObjectVertices.next();
+				Object currentExtent = vertex.property(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT).orElse(null);
+				if (extent.equals(currentExtent)) {
+					// all instances of an EClass share the same extent; if one of them is up to date, so are the others
+					break;
+				}
+				vertex.property(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT, extent);
+				updatedVertices++;
+			}
+		}
+		return updatedVertices;
 	}
 
 	// =================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =================================================================================================================
 
+	private ChronoEPackageRegistry readSharedRegistry(final ChronoGraph graph) {
+		ChronoEPackageRegistryInternal registry = (ChronoEPackageRegistryInternal) this
+				.readChronoEPackageRegistryFromGraph(graph);
+		registry.seal();
+		// the registry is shared among transactions (and threads), so we prepare it before it is published
+		EMFUtils.computeDerivedFeatureLists(registry.getEClasses());
+		return registry;
+	}
+
 	private void mergeEPackageBundleIntoGraph(final EPackageBundle bundle, final ChronoGraph graph) {
 		ChronoEPackageRegistryInternal registry = new ChronoEPackageRegistryImpl();
 		// check if one of the given EPackages is already mapped
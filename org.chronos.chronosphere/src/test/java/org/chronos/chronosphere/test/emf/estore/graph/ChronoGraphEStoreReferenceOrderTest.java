@@ -0,0 +1,196 @@
+package org.chronos.chronosphere.test.emf.estore.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.meta.FolderMetamodel;
+import org.chronos.chronosphere.testutils.EMFTestUtils;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class ChronoGraphEStoreReferenceOrderTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	public void appendingToAReferenceDoesNotModifyExistingEdges() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		ChronoSphereTransaction tx = sphere.tx();
+		EClass ecFolder = tx.getEClassBySimpleName("Folder");
+		EReference erChildren = EMFUtils.getEReference(ecFolder, "children");
+		EObject folder = tx.createAndAttach(ecFolder);
+		EList<EObject> children = EMFUtils.eGetMany(folder, erChildren);
+		for (int i = 0; i < 100; i++) {
+			children.add(tx.createAndAttach(ecFolder));
+		}
+		List<Edge> edges = getEdges(tx, folder, erChildren);
+		assertEquals(100, edges.size());
+		// the orders must be strictly increasing, with the regular gap between them
+		for (int i = 0; i < edges.size(); i++) {
+			int expectedOrder = (i + 1) * ChronoSphereGraphFormat.E_REFERENCE_ORDER_GAP;
+			assertEquals(expectedOrder, ChronoSphereGraphFormat.getEReferenceEdgeOrder(edges.get(i)));
+		}
+		// inserting in the middle only affects the new edge
+		EObject newChild = tx.createAndAttach(ecFolder);
+		children.add(50, newChild);
+		edges = getEdges(tx, folder, erChildren);
+		assertEquals(101, edges.size());
+		assertEquals(newChild, tx.getEObjectById((String) edges.get(50).inVertex().id()));
+		assertEquals(50 * ChronoSphereGraphFormat.E_REFERENCE_ORDER_GAP
+				+ ChronoSphereGraphFormat.E_REFERENCE_ORDER_GAP / 2,
+				ChronoSphereGraphFormat.getEReferenceEdgeOrder(edges.get(50)));
+		assertEquals(51 * ChronoSphereGraphFormat.E_REFERENCE_ORDER_GAP,
+				ChronoSphereGraphFormat.getEReferenceEdgeOrder(edges.get(51)));
+		tx.close();
+	}
+
+	@Test
+	public void randomModificationsProduceCorrectOrder() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		Random random = new Random(42);
+		String folderId;
+		List<String> expectedIds = Lists.newArrayList();
+		{
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EReference erChildren = EMFUtils.getEReference(ecFolder, "children");
+			EObject folder = tx.createAndAttach(ecFolder);
+			folderId = ((ChronoEObject) folder).getId();
+			EList<EObject> children = EMFUtils.eGetMany(folder, erChildren);
+			// keep inserting at the front, which exhausts the gaps quickly
+			for (int i = 0; i < 50; i++) {
+				EObject child = tx.createAndAttach(ecFolder);
+				children.add(0, child);
+				expectedIds.add(0, ((ChronoEObject) child).getId());
+			}
+			// keep inserting at the same position in the middle
+			for (int i = 0; i < 50; i++) {
+				EObject child = tx.createAndAttach(ecFolder);
+				children.add(25, child);
+				expectedIds.add(25, ((ChronoEObject) child).getId());
+			}
+			for (int i = 0; i < 200; i++) {
+				int operation = random.nextInt(4);
+				int index = random.nextInt(children.size());
+				switch (operation) {
+				case 0:
+					EObject child = tx.createAndAttach(ecFolder);
+					children.add(index, child);
+					expectedIds.add(index, ((ChronoEObject) child).getId());
+					break;
+				case 1:
+					children.remove(index);
+					expectedIds.remove(index);
+					break;
+				case 2:
+					int targetIndex = random.nextInt(children.size());
+					children.move(targetIndex, index);
+					expectedIds.add(targetIndex, expectedIds.remove(index));
+					break;
+				case 3:
+					EObject replacement = tx.createAndAttach(ecFolder);
+					EObject replaced = children.set(index, replacement);
+					expectedIds.set(index, ((ChronoEObject) replacement).getId());
+					assertNull(replaced.eContainer());
+					break;
+				default:
+					throw new RuntimeException("Unknown operation: " + operation);
+				}
+			}
+			assertEquals(expectedIds, EMFTestUtils.getIds(children));
+			for (EObject child : children) {
+				assertEquals(folder, child.eContainer());
+			}
+			tx.commit();
+		}
+		{
+			// reading the edges from the graph must produce the same order
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EReference erChildren = EMFUtils.getEReference(ecFolder, "children");
+			EObject folder = tx.getEObjectById(folderId);
+			assertEquals(expectedIds, EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erChildren)));
+			tx.close();
+		}
+	}
+
+	@Test
+	public void canInsertIntoReferencesWithConsecutiveOrders() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		String folderId;
+		List<String> expectedIds = Lists.newArrayList();
+		{
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EReference erLinks = EMFUtils.getEReference(ecFolder, "links");
+			EObject folder = tx.createAndAttach(ecFolder);
+			folderId = ((ChronoEObject) folder).getId();
+			for (int i = 0; i < 10; i++) {
+				EObject target = tx.createAndAttach(ecFolder);
+				EMFUtils.eGetMany(folder, erLinks).add(target);
+				expectedIds.add(((ChronoEObject) target).getId());
+			}
+			// simulate the order values written by older versions (without gaps)
+			List<Edge> edges = getEdges(tx, folder, erLinks);
+			for (int i = 0; i < edges.size(); i++) {
+				ChronoSphereGraphFormat.setEReferenceEdgeOrder(edges.get(i), i);
+			}
+			tx.commit();
+		}
+		{
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EReference erLinks = EMFUtils.getEReference(ecFolder, "links");
+			EObject folder = tx.getEObjectById(folderId);
+			EObject target = tx.createAndAttach(ecFolder);
+			EMFUtils.eGetMany(folder, erLinks).add(5, target);
+			expectedIds.add(5, ((ChronoEObject) target).getId());
+			EMFUtils.eGetMany(folder, erLinks).move(0, 9);
+			expectedIds.add(0, expectedIds.remove(9));
+			assertEquals(expectedIds, EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erLinks)));
+			tx.commit();
+		}
+		{
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EReference erLinks = EMFUtils.getEReference(ecFolder, "links");
+			EObject folder = tx.getEObjectById(folderId);
+			assertEquals(expectedIds, EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erLinks)));
+			tx.close();
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static List<Edge> getEdges(final ChronoSphereTransaction tx, final EObject eObject,
+			final EReference eReference) {
+		ChronoSphereTransactionInternal txInternal = (ChronoSphereTransactionInternal) tx;
+		ChronoEPackageRegistry registry = txInternal.getEPackageRegistry();
+		Vertex vertex = ChronoSphereGraphFormat.getVertexForEObject(txInternal.getGraph(), (ChronoEObject) eObject);
+		return ChronoSphereGraphFormat.getEReferenceEdges(registry, vertex, eReference);
+	}
+
+}
@@ -0,0 +1,159 @@
+package org.chronos.chronosphere.test.emf.estore.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class ChronoGraphEStoreStateCacheTest extends AllChronoSphereBackendsTest {
+
+	private static final String NS_URI = "http://www.example.com/model/container";
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void manyValuedFeatureModificationsAreVisibleWithinTransaction() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createContainerEPackage());
+		String containerId;
+		{
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecContainer = tx.getEClassBySimpleName("Container");
+			EReference erItems = EMFUtils.getEReference(ecContainer, "items");
+			EAttribute eaTags = EMFUtils.getEAttribute(ecContainer, "tags");
+			EObject container = tx.createAndAttach(ecContainer);
+			containerId = ((ChronoEObject) container).getId();
+			List<EObject> items = Lists.newArrayList();
+			for (int i = 0; i < 5; i++) {
+				EObject item = tx.createAndAttach(ecContainer);
+				items.add(item);
+				EMFUtils.eGetMany(container, erItems).add(item);
+			}
+			EList<EObject> containerItems = EMFUtils.eGetMany(container, erItems);
+			assertEquals(5, containerItems.size());
+			assertEquals(items.get(3), containerItems.get(3));
+			assertEquals(2, containerItems.indexOf(items.get(2)));
+			// move the first item to the end, remove the second one
+			containerItems.move(4, 0);
+			containerItems.remove(items.get(1));
+			assertEquals(Lists.newArrayList(items.get(2), items.get(3), items.get(4), items.get(0)),
+					Lists.newArrayList(containerItems));
+			EList<Object> tags = (EList<Object>) container.eGet(eaTags);
+			tags.add("a");
+			tags.add("b");
+			tags.add(0, "c");
+			tags.set(1, "d");
+			assertEquals(Lists.newArrayList("c", "d", "b"), Lists.newArrayList(tags));
+			tx.commit();
+		}
+		{
+			// the modifications must have been written to the graph
+			ChronoSphereTransaction tx = sphere.tx();
+			EClass ecContainer = tx.getEClassBySimpleName("Container");
+			EReference erItems = EMFUtils.getEReference(ecContainer, "items");
+			EAttribute eaTags = EMFUtils.getEAttribute(ecContainer, "tags");
+			EObject container = tx.getEObjectById(containerId);
+			assertEquals(4, EMFUtils.eGetMany(container, erItems).size());
+			assertEquals(Lists.newArrayList("c", "d", "b"), Lists.newArrayList((List<?>) container.eGet(eaTags)));
+			tx.close();
+		}
+	}
+
+	@Test
+	public void singleValuedFeatureModificationsAreVisibleWithinTransaction() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createContainerEPackage());
+		ChronoSphereTransaction tx = sphere.tx();
+		EClass ecContainer = tx.getEClassBySimpleName("Container");
+		EAttribute eaName = EMFUtils.getEAttribute(ecContainer, "name");
+		EReference erParent = EMFUtils.getEReference(ecContainer, "parent");
+		EObject container = tx.createAndAttach(ecContainer);
+		EObject parent = tx.createAndAttach(ecContainer);
+		assertFalse(container.eIsSet(eaName));
+		assertNull(container.eGet(erParent));
+		container.eSet(eaName, "Hello");
+		container.eSet(erParent, parent);
+		assertEquals("Hello", container.eGet(eaName));
+		assertEquals(parent, container.eGet(erParent));
+		container.eSet(eaName, "World");
+		container.eUnset(erParent);
+		assertEquals("World", container.eGet(eaName));
+		assertFalse(container.eIsSet(erParent));
+		// the state must survive an incremental commit
+		tx.commitIncremental();
+		assertEquals("World", container.eGet(eaName));
+		tx.close();
+	}
+
+	@Test
+	public void deletingAnEObjectRemovesItFromCachedReferenceLists() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createContainerEPackage());
+		ChronoSphereTransaction tx = sphere.tx();
+		EClass ecContainer = tx.getEClassBySimpleName("Container");
+		EReference erItems = EMFUtils.getEReference(ecContainer, "items");
+		EObject container = tx.createAndAttach(ecContainer);
+		EObject item1 = tx.createAndAttach(ecContainer);
+		EObject item2 = tx.createAndAttach(ecContainer);
+		EMFUtils.eGetMany(container, erItems).add(item1);
+		EMFUtils.eGetMany(container, erItems).add(item2);
+		assertEquals(2, EMFUtils.eGetMany(container, erItems).size());
+		tx.delete(item1);
+		assertEquals(Lists.newArrayList(item2), Lists.newArrayList(EMFUtils.eGetMany(container, erItems)));
+		tx.close();
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static EPackage createContainerEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setNsURI(NS_URI);
+		ePackage.setNsPrefix("container");
+		ePackage.setName("Container");
+		EClass ecContainer = EcoreFactory.eINSTANCE.createEClass();
+		ecContainer.setName("Container");
+		EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+		eaName.setName("name");
+		eaName.setEType(EcorePackage.Literals.ESTRING);
+		ecContainer.getEStructuralFeatures().add(eaName);
+		EAttribute eaTags = EcoreFactory.eINSTANCE.createEAttribute();
+		eaTags.setName("tags");
+		eaTags.setEType(EcorePackage.Literals.ESTRING);
+		eaTags.setUpperBound(-1);
+		eaTags.setUnique(false);
+		ecContainer.getEStructuralFeatures().add(eaTags);
+		EReference erItems = EcoreFactory.eINSTANCE.createEReference();
+		erItems.setName("items");
+		erItems.setEType(ecContainer);
+		erItems.setUpperBound(-1);
+		erItems.setOrdered(true);
+		ecContainer.getEStructuralFeatures().add(erItems);
+		EReference erParent = EcoreFactory.eINSTANCE.createEReference();
+		erParent.setName("parent");
+		erParent.setEType(ecContainer);
+		ecContainer.getEStructuralFeatures().add(erParent);
+		ePackage.getEClassifiers().add(ecContainer);
+		return ePackage;
+	}
+
+}
@@ -0,0 +1,258 @@
+package org.chronos.chronosphere.test.evolution;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.MetaModelEvolutionContext;
+import org.chronos.chronosphere.api.MetaModelEvolutionIncubator;
+import org.chronos.chronosphere.api.exceptions.ElementCannotBeEvolvedException;
+import org.chronos.chronosphere.api.exceptions.MetaModelEvolutionCanceledException;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class IncrementalMetamodelEvolutionTest extends AllChronoSphereBackendsTest {
+
+	private static final String NS_URI = "http://www.example.com/model/addressbook";
+
+	private static final int CONTACT_COUNT = 5;
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.EVOLUTION__INCREMENTAL, value = "true")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.EVOLUTION__BATCH_SIZE, value = "2")
+	public void onlyEObjectsOfChangedEClassesAreMigrated() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createAddressBookEPackage(false));
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EClass ecContact = tx.getEClassBySimpleName("Contact");
+			EClass ecNote = tx.getEClassBySimpleName("Note");
+			EObject folder = tx.createAndAttach(ecFolder);
+			folder.eSet(EMFUtils.getEAttribute(ecFolder, "name"), "friends");
+			List<EObject> contacts = Lists.newArrayList();
+			for (int i = 0; i < CONTACT_COUNT; i++) {
+				EObject contact = tx.createAndAttach(ecContact);
+				contact.eSet(EMFUtils.getEAttribute(ecContact, "firstName"), "John" + i);
+				contact.eSet(EMFUtils.getEAttribute(ecContact, "lastName"), "Doe");
+				EMFUtils.eGetMany(folder, EMFUtils.getEReference(ecFolder, "contacts")).add(contact);
+				contacts.add(contact);
+			}
+			for (int i = 0; i < CONTACT_COUNT; i++) {
+				contacts.get(i).eSet(EMFUtils.getEReference(ecContact, "friend"),
+						contacts.get((i + 1) % CONTACT_COUNT));
+			}
+			EObject note = tx.createAndAttach(ecNote);
+			note.eSet(EMFUtils.getEAttribute(ecNote, "text"), "call back");
+			note.eSet(EMFUtils.getEReference(ecNote, "contact"), contacts.get(0));
+			tx.commit();
+		}
+		long afterInsert = sphere.getBranchManager().getMasterBranch().getNow();
+
+		AddressBookIncubator incubator = new AddressBookIncubator();
+		sphere.getEPackageManager().evolveMetamodel(incubator, createAddressBookEPackage(true));
+		long afterEvolution = sphere.getBranchManager().getMasterBranch().getNow();
+		assertTrue(afterEvolution > afterInsert);
+		// the incubator has only been asked about the contacts
+		assertEquals(Sets.newHashSet("Contact"), incubator.migratedEClassNames);
+		assertEquals(CONTACT_COUNT, incubator.migrateClassCalls);
+
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EClass ecContact = tx.getEClassBySimpleName("Contact");
+			EClass ecNote = tx.getEClassBySimpleName("Note");
+			EAttribute eaName = EMFUtils.getEAttribute(ecContact, "name");
+			assertNull(ecContact.getEStructuralFeature("firstName"));
+			EObject folder = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(ecFolder).toSet());
+			EObject note = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(ecNote).toSet());
+			// the EObjects of unchanged EClasses have not been touched
+			assertEquals(Lists.newArrayList(afterInsert), Lists.newArrayList(tx.getEObjectHistory(folder)));
+			assertEquals(Lists.newArrayList(afterInsert), Lists.newArrayList(tx.getEObjectHistory(note)));
+			// ... but still refer to the migrated EObjects
+			List<EObject> contacts = EMFUtils.eGetMany(folder, EMFUtils.getEReference(ecFolder, "contacts"));
+			assertEquals(CONTACT_COUNT, contacts.size());
+			for (int i = 0; i < CONTACT_COUNT; i++) {
+				EObject contact = contacts.get(i);
+				assertEquals(ecContact, contact.eClass());
+				assertEquals("John" + i + " Doe", contact.eGet(eaName));
+				assertEquals(folder, contact.eContainer());
+				EObject friend = (EObject) contact.eGet(EMFUtils.getEReference(ecContact, "friend"));
+				assertEquals("John" + (i + 1) % CONTACT_COUNT + " Doe", friend.eGet(eaName));
+				// the history of the migrated EObjects is continuous
+				assertTrue(Iterators.contains(tx.getEObjectHistory(contact), afterInsert));
+			}
+			EObject noteContact = (EObject) note.eGet(EMFUtils.getEReference(ecNote, "contact"));
+			assertEquals(contacts.get(0), noteContact);
+			assertEquals(Sets.newHashSet(contacts), tx.find().startingFromEObject(folder).eAllContents().toSet());
+			assertEquals(1, tx.find().startingFromEObjectsWith(eaName, "John3 Doe").count());
+		}
+		// the old state is still available
+		try (ChronoSphereTransaction tx = sphere.tx(afterInsert)) {
+			EClass ecContact = tx.getEClassBySimpleName("Contact");
+			assertNotNull(ecContact.getEStructuralFeature("firstName"));
+			assertEquals(CONTACT_COUNT, tx.find().startingFromInstancesOf(ecContact).count());
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.EVOLUTION__INCREMENTAL, value = "true")
+	public void eObjectsOfRemovedEClassesAreDeleted() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createAddressBookEPackage(false));
+		String folderId;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EClass ecNote = tx.getEClassBySimpleName("Note");
+			EObject folder = tx.createAndAttach(ecFolder);
+			folder.eSet(EMFUtils.getEAttribute(ecFolder, "name"), "notes");
+			tx.createAndAttach(ecNote).eSet(EMFUtils.getEAttribute(ecNote, "text"), "a");
+			tx.createAndAttach(ecNote).eSet(EMFUtils.getEAttribute(ecNote, "text"), "b");
+			folderId = ((ChronoEObject) folder).getId();
+			tx.commit();
+		}
+		EPackage evolvedEPackage = createAddressBookEPackage(false);
+		evolvedEPackage.getEClassifiers().remove(evolvedEPackage.getEClassifier("Note"));
+		AddressBookIncubator incubator = new AddressBookIncubator();
+		sphere.getEPackageManager().evolveMetamodel(incubator, evolvedEPackage);
+		assertEquals(Sets.newHashSet("Note"), incubator.migratedEClassNames);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			Set<EObject> eObjects = tx.find().startingFromAllEObjects().toSet();
+			assertEquals(1, eObjects.size());
+			assertEquals(folderId, ((ChronoEObject) Iterables.getOnlyElement(eObjects)).getId());
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static EPackage createAddressBookEPackage(final boolean evolved) {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setNsURI(NS_URI);
+		ePackage.setNsPrefix("addressbook");
+		ePackage.setName("AddressBook");
+		EClass ecFolder = EcoreFactory.eINSTANCE.createEClass();
+		ecFolder.setName("Folder");
+		EClass ecContact = EcoreFactory.eINSTANCE.createEClass();
+		ecContact.setName("Contact");
+		EClass ecNote = EcoreFactory.eINSTANCE.createEClass();
+		ecNote.setName("Note");
+		ecFolder.getEStructuralFeatures().add(createEAttribute("name"));
+		ecFolder.getEStructuralFeatures().add(createEReference("contacts", ecContact, -1, true));
+		if (evolved) {
+			ecContact.getEStructuralFeatures().add(createEAttribute("name"));
+		} else {
+			ecContact.getEStructuralFeatures().add(createEAttribute("firstName"));
+			ecContact.getEStructuralFeatures().add(createEAttribute("lastName"));
+		}
+		ecContact.getEStructuralFeatures().add(createEReference("friend", ecContact, 1, false));
+		ecNote.getEStructuralFeatures().add(createEAttribute("text"));
+		ecNote.getEStructuralFeatures().add(createEReference("contact", ecContact, 1, false));
+		ePackage.getEClassifiers().add(ecFolder);
+		ePackage.getEClassifiers().add(ecContact);
+		ePackage.getEClassifiers().add(ecNote);
+		return ePackage;
+	}
+
+	private static EAttribute createEAttribute(final String name) {
+		EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+		eAttribute.setName(name);
+		eAttribute.setEType(EcorePackage.Literals.ESTRING);
+		return eAttribute;
+	}
+
+	private static EReference createEReference(final String name, final EClass type, final int upperBound,
+			final boolean containment) {
+		EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+		eReference.setName(name);
+		eReference.setEType(type);
+		eReference.setUpperBound(upperBound);
+		eReference.setContainment(containment);
+		return eReference;
+	}
+
+	private static class AddressBookIncubator implements MetaModelEvolutionIncubator {
+
+		private final Set<String> migratedEClassNames = Sets.newHashSet();
+		private int migrateClassCalls = 0;
+
+		@Override
+		public EClass migrateClass(final EObject oldObject, final MetaModelEvolutionContext context)
+				throws MetaModelEvolutionCanceledException, ElementCannotBeEvolvedException {
+			this.migratedEClassNames.add(oldObject.eClass().getName());
+			this.migrateClassCalls++;
+			EClass newEClass = (EClass) context.getNewEPackage(NS_URI).getEClassifier(oldObject.eClass().getName());
+			if (newEClass == null) {
+				throw new ElementCannotBeEvolvedException();
+			}
+			return newEClass;
+		}
+
+		@Override
+		public void updateAttributeValues(final EObject oldObject, final EObject newObject,
+				final MetaModelEvolutionContext context)
+				throws MetaModelEvolutionCanceledException, ElementCannotBeEvolvedException {
+			Map<String, Object> attributeValues = Maps.newHashMap();
+			for (EAttribute eAttribute : oldObject.eClass().getEAllAttributes()) {
+				attributeValues.put(eAttribute.getName(), oldObject.eGet(eAttribute));
+			}
+			for (EAttribute eAttribute : newObject.eClass().getEAllAttributes()) {
+				if (eAttribute.getName().equals("name") && attributeValues.containsKey("firstName")) {
+					newObject.eSet(eAttribute, attributeValues.get("firstName") + " " + attributeValues.get("lastName"));
+				} else if (attributeValues.get(eAttribute.getName()) != null) {
+					newObject.eSet(eAttribute, attributeValues.get(eAttribute.getName()));
+				}
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void updateReferenceTargets(final EObject oldObject, final EObject newObject,
+				final MetaModelEvolutionContext context)
+				throws MetaModelEvolutionCanceledException, ElementCannotBeEvolvedException {
+			for (EReference newEReference : newObject.eClass().getEAllReferences()) {
+				EStructuralFeature oldEReference = oldObject.eClass().getEStructuralFeature(newEReference.getName());
+				Object oldTargets = oldObject.eGet(oldEReference);
+				if (oldTargets == null) {
+					continue;
+				}
+				if (newEReference.isMany()) {
+					Collection<EObject> newTargets = Lists.newArrayList();
+					for (EObject oldTarget : (Collection<EObject>) oldTargets) {
+						newTargets.add(context.getCorrespondingEObjectInNewModel(oldTarget));
+					}
+					newObject.eSet(newEReference, newTargets);
+				} else {
+					newObject.eSet(newEReference, context.getCorrespondingEObjectInNewModel((EObject) oldTargets));
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+package org.chronos.chronosphere.test.indexing;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class EAttributeAutoIndexerTest extends AllChronoSphereBackendsTest {
+
+	private static final String NS_URI = "http://www.example.com/model/autoindexer";
+
+	private static final int ITEM_COUNT = 50;
+
+	@Test
+	public void autoIndexingIsDisabledByDefault() throws Exception {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		this.createItems(sphere);
+		for (int i = 0; i < 150; i++) {
+			this.assertItemsWithName(sphere, "item" + i % ITEM_COUNT, 1);
+		}
+		assertTrue(sphere.getAutoIndexer().awaitPendingTasks(1, TimeUnit.MINUTES));
+		assertFalse(sphere.getIndexManager().existsIndexOn(this.getEAttribute(sphere, "name")));
+		assertTrue(sphere.getAutoIndexer().getAutoIndexedPropertyKeys().isEmpty());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__MIN_FILTER_COUNT, value = "5")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__DROP_AFTER_UNUSED_FILTERS, value = "20")
+	public void canCreateAndDropIndicesAutomatically() throws Exception {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		this.createItems(sphere);
+		EAttribute eaName = this.getEAttribute(sphere, "name");
+		EAttribute eaSize = this.getEAttribute(sphere, "size");
+		EAttribute eaCategory = this.getEAttribute(sphere, "category");
+		// the category filter lets half of the items pass, which is not selective enough
+		for (int i = 0; i < 10; i++) {
+			this.assertItemsWithCategory(sphere, "even", ITEM_COUNT / 2);
+		}
+		for (int i = 0; i < 10; i++) {
+			this.assertItemsWithName(sphere, "item" + i, 1);
+		}
+		assertTrue(sphere.getAutoIndexer().awaitPendingTasks(1, TimeUnit.MINUTES));
+		assertTrue(sphere.getIndexManager().existsIndexOn(eaName));
+		assertFalse(sphere.getIndexManager().isIndexDirty(eaName));
+		assertFalse(sphere.getIndexManager().existsIndexOn(eaCategory));
+		// the query results must not change when the index is used
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			this.assertItemsWithName(sphere, "item" + i, 1);
+		}
+		this.assertItemsWithName(sphere, "unknown", 0);
+		// from now on, only the size is queried; the index on the name becomes obsolete
+		for (int i = 0; i < 30; i++) {
+			this.assertItemsWithSize(sphere, i, 1);
+		}
+		assertTrue(sphere.getAutoIndexer().awaitPendingTasks(1, TimeUnit.MINUTES));
+		assertFalse(sphere.getIndexManager().existsIndexOn(eaName));
+		assertTrue(sphere.getIndexManager().existsIndexOn(eaSize));
+		Set<String> autoIndexedKeys = sphere.getAutoIndexer().getAutoIndexedPropertyKeys();
+		assertEquals(1, autoIndexedKeys.size());
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			this.assertItemsWithName(sphere, "item" + i, 1);
+			this.assertItemsWithSize(sphere, i, 1);
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__MIN_FILTER_COUNT, value = "5")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__DROP_AFTER_UNUSED_FILTERS, value = "20")
+	public void manuallyCreatedIndicesAreNeverDropped() throws Exception {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		this.createItems(sphere);
+		EAttribute eaName = this.getEAttribute(sphere, "name");
+		assertTrue(sphere.getIndexManager().createIndexOn(eaName));
+		sphere.getIndexManager().reindexAll();
+		this.assertItemsWithName(sphere, "item1", 1);
+		for (int i = 0; i < 50; i++) {
+			this.assertItemsWithSize(sphere, i % ITEM_COUNT, 1);
+		}
+		assertTrue(sphere.getAutoIndexer().awaitPendingTasks(1, TimeUnit.MINUTES));
+		assertTrue(sphere.getIndexManager().existsIndexOn(eaName));
+		assertFalse(sphere.getAutoIndexer().getAutoIndexedPropertyKeys().isEmpty());
+		this.assertItemsWithName(sphere, "item1", 1);
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.AUTO_INDEXING__MIN_FILTER_COUNT, value = "5")
+	public void multiValuedAttributesAreNotIndexed() throws Exception {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		this.createItems(sphere);
+		EAttribute eaTags = this.getEAttribute(sphere, "tags");
+		for (int i = 0; i < 20; i++) {
+			try (ChronoSphereTransaction tx = sphere.tx()) {
+				EAttribute eaTxTags = EMFUtils.getEAttribute(tx.getEClassBySimpleName("Item"), "tags");
+				assertEquals(1, tx.find().startingFromAllEObjects()
+						.has(eaTxTags, Lists.newArrayList("tag" + i, "other")).count());
+			}
+		}
+		assertTrue(sphere.getAutoIndexer().awaitPendingTasks(1, TimeUnit.MINUTES));
+		assertFalse(sphere.getIndexManager().existsIndexOn(eaTags));
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private void createItems(final ChronoSphereInternal sphere) {
+		sphere.getEPackageManager().registerOrUpdateEPackage(createItemEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecItem = tx.getEClassBySimpleName("Item");
+			for (int i = 0; i < ITEM_COUNT; i++) {
+				EObject item = tx.createAndAttach(ecItem);
+				item.eSet(EMFUtils.getEAttribute(ecItem, "name"), "item" + i);
+				item.eSet(EMFUtils.getEAttribute(ecItem, "size"), i);
+				item.eSet(EMFUtils.getEAttribute(ecItem, "category"), i % 2 == 0 ? "even" : "odd");
+				item.eSet(EMFUtils.getEAttribute(ecItem, "tags"), Lists.newArrayList("tag" + i, "other"));
+			}
+			tx.commit();
+		}
+	}
+
+	private EAttribute getEAttribute(final ChronoSphereInternal sphere, final String name) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			return EMFUtils.getEAttribute(tx.getEClassBySimpleName("Item"), name);
+		}
+	}
+
+	private void assertItemsWithName(final ChronoSphereInternal sphere, final String name, final long count) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EAttribute eaName = EMFUtils.getEAttribute(tx.getEClassBySimpleName("Item"), "name");
+			assertEquals(count, tx.find().startingFromEObjectsWith(eaName, name).count());
+		}
+	}
+
+	private void assertItemsWithSize(final ChronoSphereInternal sphere, final int size, final long count) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EAttribute eaSize = EMFUtils.getEAttribute(tx.getEClassBySimpleName("Item"), "size");
+			assertEquals(count, tx.find().startingFromAllEObjects().has(eaSize, size).count());
+		}
+	}
+
+	private void assertItemsWithCategory(final ChronoSphereInternal sphere, final String category,
+			final long count) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EAttribute eaCategory = EMFUtils.getEAttribute(tx.getEClassBySimpleName("Item"), "category");
+			assertEquals(count, tx.find().startingFromAllEObjects().has(eaCategory, category).count());
+		}
+	}
+
+	private static EPackage createItemEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setNsURI(NS_URI);
+		ePackage.setNsPrefix("autoindexer");
+		ePackage.setName("AutoIndexer");
+		EClass ecItem = EcoreFactory.eINSTANCE.createEClass();
+		ecItem.setName("Item");
+		EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+		eaName.setName("name");
+		eaName.setEType(EcorePackage.Literals.ESTRING);
+		ecItem.getEStructuralFeatures().add(eaName);
+		EAttribute eaSize = EcoreFactory.eINSTANCE.createEAttribute();
+		eaSize.setName("size");
+		eaSize.setEType(EcorePackage.Literals.EINT);
+		ecItem.getEStructuralFeatures().add(eaSize);
+		EAttribute eaCategory = EcoreFactory.eINSTANCE.createEAttribute();
+		eaCategory.setName("category");
+		eaCategory.setEType(EcorePackage.Literals.ESTRING);
+		ecItem.getEStructuralFeatures().add(eaCategory);
+		EAttribute eaTags = EcoreFactory.eINSTANCE.createEAttribute();
+		eaTags.setName("tags");
+		eaTags.setEType(EcorePackage.Literals.ESTRING);
+		eaTags.setUpperBound(-1);
+		ecItem.getEStructuralFeatures().add(eaTags);
+		ePackage.getEClassifiers().add(ecItem);
+		return ePackage;
+	}
+
+}
@@ -0,0 +1,203 @@
+package org.chronos.chronosphere.test.query;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.query.Direction;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.meta.FolderMetamodel;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class ContainmentQueryTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	public void eAllContentsFollowsContainmentChanges() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EObject root = createFolder(tx, "root", null);
+			EObject a = createFolder(tx, "a", root);
+			EObject b = createFolder(tx, "b", a);
+			createFolder(tx, "c", a);
+			createFolder(tx, "d", b);
+			createFolder(tx, "other", null);
+			// the contents must also be found for uncommitted changes
+			assertEquals(Sets.newHashSet("a", "b", "c", "d"), eAllContentNames(tx, "root"));
+			tx.commit();
+		}
+		long afterInsert;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet("a", "b", "c", "d"), eAllContentNames(tx, "root"));
+			assertEquals(Sets.newHashSet("b", "c", "d"), eAllContentNames(tx, "a"));
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "other"));
+			afterInsert = tx.getTimestamp();
+			// move "b" (including "d") to another container
+			EMFUtils.eGetMany(getFolder(tx, "other"), getReference(tx, "children")).add(getFolder(tx, "b"));
+			assertEquals(Sets.newHashSet("a", "c"), eAllContentNames(tx, "root"));
+			assertEquals(Sets.newHashSet("b", "d"), eAllContentNames(tx, "other"));
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet("a", "c"), eAllContentNames(tx, "root"));
+			assertEquals(Sets.newHashSet("b", "d"), eAllContentNames(tx, "other"));
+			// "d" survives the deletion of its container and becomes a root
+			tx.delete(getFolder(tx, "b"), false);
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "other"));
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "other"));
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "d"));
+		}
+		// the ancestors are versioned along with the model
+		try (ChronoSphereTransaction tx = sphere.tx(afterInsert)) {
+			assertEquals(Sets.newHashSet("a", "b", "c", "d"), eAllContentNames(tx, "root"));
+		}
+	}
+
+	@Test
+	public void batchInsertedModelsHaveAncestors() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		EPackage ePackage = FolderMetamodel.createFolderEPackage();
+		sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+		EClass ecFolder = (EClass) ePackage.getEClassifier("Folder");
+		EAttribute eaName = EMFUtils.getEAttribute(ecFolder, "name");
+		EReference erChildren = EMFUtils.getEReference(ecFolder, "children");
+		EObject root = EcoreUtil.create(ecFolder);
+		root.eSet(eaName, "root");
+		EObject a = EcoreUtil.create(ecFolder);
+		a.eSet(eaName, "a");
+		EObject b = EcoreUtil.create(ecFolder);
+		b.eSet(eaName, "b");
+		EMFUtils.eGetMany(root, erChildren).add(a);
+		EMFUtils.eGetMany(a, erChildren).add(b);
+		sphere.batchInsertModelData(root);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet("a", "b"), eAllContentNames(tx, "root"));
+			assertEquals(Sets.newHashSet("b"), eAllContentNames(tx, "a"));
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "b"));
+		}
+	}
+
+	@Test
+	public void closureHandlesCycles() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EReference erLinks = getReference(tx, "links");
+			EObject a = createFolder(tx, "a", null);
+			EObject b = createFolder(tx, "b", null);
+			EObject c = createFolder(tx, "c", null);
+			EObject d = createFolder(tx, "d", null);
+			createFolder(tx, "e", null);
+			// a -> b -> c -> a, plus a diamond a -> b -> d, a -> c -> d
+			EMFUtils.eGetMany(a, erLinks).add(b);
+			EMFUtils.eGetMany(b, erLinks).add(c);
+			EMFUtils.eGetMany(c, erLinks).add(a);
+			EMFUtils.eGetMany(b, erLinks).add(d);
+			EMFUtils.eGetMany(c, erLinks).add(d);
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EReference erLinks = getReference(tx, "links");
+			assertEquals(Sets.newHashSet("b", "c", "d"), names(tx.find().startingFromEObject(getFolder(tx, "a"))
+					.closure(erLinks).toSet()));
+			assertEquals(Sets.newHashSet("a", "b", "c"), names(tx.find().startingFromEObject(getFolder(tx, "d"))
+					.closure(erLinks, Direction.INCOMING).toSet()));
+			assertEquals(Sets.newHashSet(), names(tx.find().startingFromEObject(getFolder(tx, "e"))
+					.closure(erLinks, Direction.BOTH).toSet()));
+			// the closures of several EObjects are merged without duplicates
+			Set<String> startNames = Sets.newHashSet("a", "d");
+			assertEquals(Sets.newHashSet("a", "b", "c", "d"), names(tx.find()
+					.startingFromInstancesOf(tx.getEClassBySimpleName("Folder"))
+					.filter(eObject -> startNames.contains(eObject.eGet(getAttribute(tx, "name"))))
+					.closure(erLinks, Direction.BOTH).toSet()));
+		}
+	}
+
+	@Test
+	public void canComputeMissingAncestors() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EObject root = createFolder(tx, "root", null);
+			EObject a = createFolder(tx, "a", root);
+			createFolder(tx, "b", a);
+			tx.commit();
+		}
+		// simulate the state written by older versions which did not maintain the ancestors
+		try (ChronoGraph txGraph = sphere.getRootGraph().tx().createThreadedTx()) {
+			Iterator<Vertex> vertices = txGraph.traversal().V().has(ChronoSphereGraphFormat.V_PROP__KIND,
+					VertexKind.EOBJECT.toString());
+			vertices.forEachRemaining(v -> v.property(ChronoSphereGraphFormat.V_PROP__ECONTAINER_ANCESTORS).remove());
+			txGraph.tx().commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet(), eAllContentNames(tx, "root"));
+		}
+		try (ChronoGraph txGraph = sphere.getRootGraph().tx().createThreadedTx()) {
+			assertEquals(2, sphere.getEObjectToGraphMapper().updateEContainerAncestors(txGraph));
+			assertEquals(0, sphere.getEObjectToGraphMapper().updateEContainerAncestors(txGraph));
+			txGraph.tx().commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet("a", "b"), eAllContentNames(tx, "root"));
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static EObject createFolder(final ChronoSphereTransaction tx, final String name, final EObject parent) {
+		EObject folder = tx.createAndAttach(tx.getEClassBySimpleName("Folder"));
+		folder.eSet(getAttribute(tx, "name"), name);
+		if (parent != null) {
+			EMFUtils.eGetMany(parent, getReference(tx, "children")).add(folder);
+		}
+		return folder;
+	}
+
+	private static EObject getFolder(final ChronoSphereTransaction tx, final String name) {
+		return tx.find().startingFromEObjectsWith(getAttribute(tx, "name"), name).toSet().iterator().next();
+	}
+
+	private static Set<String> eAllContentNames(final ChronoSphereTransaction tx, final String name) {
+		return names(tx.find().startingFromEObject(getFolder(tx, name)).eAllContents().toSet());
+	}
+
+	private static Set<String> names(final Set<EObject> eObjects) {
+		return eObjects.stream().map(eObject -> (String) eObject.eGet(eObject.eClass().getEStructuralFeature("name")))
+				.collect(Collectors.toSet());
+	}
+
+	private static EAttribute getAttribute(final ChronoSphereTransaction tx, final String name) {
+		return EMFUtils.getEAttribute(tx.getEClassBySimpleName("Folder"), name);
+	}
+
+	private static EReference getReference(final ChronoSphereTransaction tx, final String name) {
+		return EMFUtils.getEReference(tx.getEClassBySimpleName("Folder"), name);
+	}
+
+}
@@ -0,0 +1,158 @@
+package org.chronos.chronosphere.test.query;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class EClassExtentQueryTest extends AllChronoSphereBackendsTest {
+
+	private static final String NS_URI = "http://www.example.com/model/eclassextent";
+
+	@Test
+	public void canQueryInstancesIncludingSubclasses() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createFileSystemEPackage(true));
+		String documentId;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			tx.createAndAttach(tx.getEClassBySimpleName("Folder"));
+			tx.createAndAttach(tx.getEClassBySimpleName("File"));
+			tx.createAndAttach(tx.getEClassBySimpleName("File"));
+			EObject document = tx.createAndAttach(tx.getEClassBySimpleName("Document"));
+			documentId = ((ChronoEObject) document).getId();
+			// the extent must also be respected for uncommitted changes
+			assertInstanceCounts(tx, 4, 3, 1);
+			tx.commit();
+		}
+		long afterInsert;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertInstanceCounts(tx, 4, 3, 1);
+			afterInsert = tx.getTimestamp();
+			tx.delete(tx.getEObjectById(documentId));
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertInstanceCounts(tx, 3, 2, 0);
+		}
+		// the extent index is temporal, older states remain accessible
+		try (ChronoSphereTransaction tx = sphere.tx(afterInsert)) {
+			assertInstanceCounts(tx, 4, 3, 1);
+		}
+	}
+
+	@Test
+	public void changingTheSupertypesUpdatesTheExtent() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createFileSystemEPackage(false));
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			tx.createAndAttach(tx.getEClassBySimpleName("Folder"));
+			tx.createAndAttach(tx.getEClassBySimpleName("File"));
+			tx.createAndAttach(tx.getEClassBySimpleName("Document"));
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecNamedElement = tx.getEClassBySimpleName("NamedElement");
+			assertEquals(1, tx.find().startingFromInstancesOf(ecNamedElement, true).count());
+		}
+		// "File" becomes a subclass of "NamedElement"
+		sphere.getEPackageManager().registerOrUpdateEPackage(createFileSystemEPackage(true));
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertInstanceCounts(tx, 3, 2, 1);
+		}
+	}
+
+	@Test
+	public void canComputeMissingExtents() {
+		ChronoSphereInternal sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(createFileSystemEPackage(true));
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			tx.createAndAttach(tx.getEClassBySimpleName("Folder"));
+			tx.createAndAttach(tx.getEClassBySimpleName("File"));
+			tx.createAndAttach(tx.getEClassBySimpleName("Document"));
+			tx.commit();
+		}
+		// simulate the state written by older versions which did not maintain the extent
+		try (ChronoGraph txGraph = sphere.getRootGraph().tx().createThreadedTx()) {
+			Iterator<Vertex> vertices = txGraph.traversal().V().has(ChronoSphereGraphFormat.V_PROP__KIND,
+					VertexKind.EOBJECT.toString());
+			vertices.forEachRemaining(v -> v.property(ChronoSphereGraphFormat.V_PROP__ECLASS_EXTENT).remove());
+			txGraph.tx().commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecNamedElement = tx.getEClassBySimpleName("NamedElement");
+			assertEquals(0, tx.find().startingFromInstancesOf(ecNamedElement, true).count());
+		}
+		try (ChronoGraph txGraph = sphere.getRootGraph().tx().createThreadedTx()) {
+			assertEquals(3, sphere.getEPackageToGraphMapper().updateEClassExtents(txGraph));
+			assertEquals(0, sphere.getEPackageToGraphMapper().updateEClassExtents(txGraph));
+			txGraph.tx().commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertInstanceCounts(tx, 3, 2, 1);
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static void assertInstanceCounts(final ChronoSphereTransaction tx, final long namedElements,
+			final long files, final long documents) {
+		EClass ecNamedElement = tx.getEClassBySimpleName("NamedElement");
+		EClass ecFile = tx.getEClassBySimpleName("File");
+		EClass ecDocument = tx.getEClassBySimpleName("Document");
+		// the abstract EClass has no direct instances
+		assertEquals(0, tx.find().startingFromInstancesOf(ecNamedElement).count());
+		assertEquals(namedElements, tx.find().startingFromInstancesOf(ecNamedElement, true).count());
+		assertEquals(namedElements, tx.find().startingFromInstancesOf("NamedElement", true).count());
+		assertEquals(files, tx.find().startingFromInstancesOf(ecFile, true).count());
+		assertEquals(documents, tx.find().startingFromInstancesOf(ecDocument, true).count());
+		// filters in the middle of a query use the extent as well
+		assertEquals(files, tx.find().startingFromAllEObjects().isInstanceOf(ecFile, true).count());
+		assertEquals(files, tx.find().startingFromAllEObjects().isInstanceOf("File", true).count());
+		assertEquals(files - documents, tx.find().startingFromAllEObjects().isInstanceOf(ecFile, false).count());
+	}
+
+	private static EPackage createFileSystemEPackage(final boolean fileIsNamedElement) {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setNsURI(NS_URI);
+		ePackage.setNsPrefix("eclassextent");
+		ePackage.setName("EClassExtent");
+		EClass ecNamedElement = EcoreFactory.eINSTANCE.createEClass();
+		ecNamedElement.setName("NamedElement");
+		ecNamedElement.setAbstract(true);
+		ePackage.getEClassifiers().add(ecNamedElement);
+		EClass ecFolder = EcoreFactory.eINSTANCE.createEClass();
+		ecFolder.setName("Folder");
+		ecFolder.getESuperTypes().add(ecNamedElement);
+		ePackage.getEClassifiers().add(ecFolder);
+		EClass ecFile = EcoreFactory.eINSTANCE.createEClass();
+		ecFile.setName("File");
+		if (fileIsNamedElement) {
+			ecFile.getESuperTypes().add(ecNamedElement);
+		}
+		ePackage.getEClassifiers().add(ecFile);
+		EClass ecDocument = EcoreFactory.eINSTANCE.createEClass();
+		ecDocument.setName("Document");
+		ecDocument.getESuperTypes().add(ecFile);
+		ePackage.getEClassifiers().add(ecDocument);
+		return ePackage;
+	}
+
+}
@@ -0,0 +1,85 @@
+package org.chronos.chronosphere.test.query;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.instance.JohnDoeFamilyModel;
+import org.chronos.chronosphere.testutils.ChronoSphereTestUtils;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+@Category(IntegrationTest.class)
+public class ParallelQueryTest extends AllChronoSphereBackendsTest {
+
+    @Test
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL, value = "true")
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL_MIN_PARTITION_SIZE, value = "2")
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL_MAX_PARTITIONS, value = "4")
+    public void parallelQueriesProduceTheSameResultsAsSequentialQueries() {
+        ChronoSphere sphere = this.getChronoSphere();
+        JohnDoeFamilyModel testModel = ChronoSphereTestUtils.registerAndAttach(sphere, new JohnDoeFamilyModel());
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            Set<EObject> does = tx.find().startingFromAllEObjects().has("lastName", "Doe").toSet();
+            assertEquals(Sets.newHashSet(testModel.getJohnDoe(), testModel.getJaneDoe(), testModel.getSarahDoe()),
+                does);
+            // the resulting EObjects belong to the transaction of the query
+            assertEquals(Sets.newHashSet("John", "Jane", "Sarah"), firstNames(tx, does));
+            List<EObject> all = tx.find().startingFromAllEObjects().toList();
+            assertEquals(5, all.size());
+            assertEquals(5, Sets.newHashSet(all).size());
+            assertEquals(5, tx.find().startingFromAllEObjects().count());
+            assertEquals(2, tx.find().startingFromAllEObjects().has("firstName", "John").count());
+            Set<Object> lastNames = tx.find().startingFromAllEObjects().eGet("lastName").toSet();
+            assertEquals(Sets.newHashSet("Doe", "Smith", "Parker"), lastNames);
+            assertEquals(Sets.newHashSet(testModel.getSarahDoe()), tx.find().startingFromAllEObjects()
+                .eGet("child").asEObject().toSet());
+        }
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL, value = "true")
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL_MIN_PARTITION_SIZE, value = "2")
+    @InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PARALLEL_MAX_PARTITIONS, value = "4")
+    public void queriesWhichCannotBePartitionedAreEvaluatedSequentially() {
+        ChronoSphere sphere = this.getChronoSphere();
+        ChronoSphereTestUtils.registerAndAttach(sphere, new JohnDoeFamilyModel());
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            assertEquals(2, tx.find().startingFromAllEObjects().limit(2).count());
+            assertEquals(Sets.newHashSet("Doe", "Smith", "Parker"), Sets.newHashSet(tx.find()
+                .startingFromAllEObjects().eGet("lastName").distinct().toList()));
+            List<Object> firstNames = tx.find().startingFromAllEObjects().eGet("firstName")
+                .orderBy((a, b) -> ((String) a).compareTo((String) b)).toList();
+            assertEquals(Lists.newArrayList("Jack", "Jane", "John", "John", "Sarah"), firstNames);
+            // uncommitted changes are invisible to other transactions, so they must be queried sequentially
+            EClass ecPerson = tx.getEClassBySimpleName("Person");
+            EObject person = tx.createAndAttach(ecPerson);
+            person.eSet(ecPerson.getEStructuralFeature("firstName"), "Tom");
+            assertEquals(6, tx.find().startingFromAllEObjects().count());
+            assertEquals(Sets.newHashSet(person), tx.find().startingFromAllEObjects().has("firstName", "Tom").toSet());
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private static Set<String> firstNames(final ChronoSphereTransaction tx, final Set<EObject> eObjects) {
+        EAttribute eaFirstName = (EAttribute) tx.getEClassBySimpleName("Person").getEStructuralFeature("firstName");
+        return eObjects.stream().map(eObject -> (String) eObject.eGet(eaFirstName)).collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.chronos.chronosphere.test.query;
+
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.query.QueryStepBuilder;
+import org.chronos.chronosphere.api.query.QueryStepBuilderInternal;
+import org.chronos.chronosphere.impl.query.QueryUtils;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.instance.JohnDoeFamilyModel;
+import org.chronos.chronosphere.testutils.ChronoSphereTestUtils;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@Category(IntegrationTest.class)
+public class QueryCompilationTest extends AllChronoSphereBackendsTest {
+
+    @Test
+    public void adjacentStatelessStepsAreFused() {
+        ChronoSphere sphere = this.getChronoSphere();
+        JohnDoeFamilyModel testModel = ChronoSphereTestUtils.registerAndAttach(sphere, new JohnDoeFamilyModel());
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            QueryStepBuilder<?, EObject> oneFilter = tx.find().startingFromAllEObjects()
+                .has("firstName", "John")
+                .filter(eObject -> eObject != null);
+            QueryStepBuilder<?, EObject> threeFilters = tx.find().startingFromAllEObjects()
+                .has("firstName", "John")
+                .has("lastName", "Doe")
+                .notNull()
+                .filter(eObject -> eObject != null)
+                .filter(eObject -> eObject.eContainer() == null);
+            // the number of traversal steps does not grow with the number of stateless query steps
+            assertEquals(countSteps(oneFilter), countSteps(threeFilters));
+            assertEquals(Sets.newHashSet(testModel.getJohnDoe(), testModel.getJohnParker()), oneFilter.toSet());
+            assertEquals(Sets.newHashSet(testModel.getJohnDoe()), threeFilters.toSet());
+        }
+    }
+
+    @Test
+    public void fusedStepsDiscardElementsCorrectly() {
+        ChronoSphere sphere = this.getChronoSphere();
+        ChronoSphereTestUtils.registerAndAttach(sphere, new JohnDoeFamilyModel());
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            // the casts discard all elements of the wrong type
+            Set<Integer> lengths = tx.find().startingFromAllEObjects()
+                .eGet("firstName")
+                .map(name -> name.toString().length() > 4 ? name : ((String) name).length())
+                .asInteger()
+                .map(length -> length * 10)
+                .toSet();
+            assertEquals(Sets.newHashSet(40), lengths);
+            assertEquals(0, tx.find().startingFromAllEObjects()
+                .eGet("firstName")
+                .map(name -> name.toString().length() > 4 ? name : ((String) name).length())
+                .asInteger()
+                .map(length -> "x")
+                .filter(x -> false)
+                .count());
+            assertEquals(5, tx.find().startingFromAllEObjects().eGet("lastName").map(name -> ((String) name).length())
+                .filter(length -> length > 0).count());
+        }
+    }
+
+    @Test
+    public void namedStepsCanBeUsedBetweenFusedSteps() {
+        ChronoSphere sphere = this.getChronoSphere();
+        JohnDoeFamilyModel testModel = ChronoSphereTestUtils.registerAndAttach(sphere, new JohnDoeFamilyModel());
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            Set<EObject> parents = tx.find().startingFromAllEObjects()
+                .has("lastName", "Doe")
+                .named("person")
+                .filter(eObject -> eObject != null)
+                .eGet("child")
+                .asEObject()
+                .has("firstName", "Sarah")
+                .back("person")
+                .asEObject()
+                .toSet();
+            assertEquals(Sets.newHashSet(testModel.getJohnDoe(), testModel.getJaneDoe()), parents);
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private static int countSteps(final QueryStepBuilder<?, ?> query) {
+        GraphTraversal<?, ?> traversal = QueryUtils.prepareTerminalOperation(
+            (QueryStepBuilderInternal<?, ?>) query, true);
+        return traversal.asAdmin().getSteps().size();
+    }
+
+}
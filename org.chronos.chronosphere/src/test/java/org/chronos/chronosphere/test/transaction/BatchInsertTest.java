@@ -0,0 +1,171 @@
+package org.chronos.chronosphere.test.transaction;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.meta.FolderMetamodel;
+import org.chronos.chronosphere.testutils.EMFTestUtils;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+@Category(IntegrationTest.class)
+public class BatchInsertTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "7")
+	public void canBatchInsertModel() {
+		this.runBatchInsertTest();
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "7")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__PARALLEL, value = "true")
+	public void canBatchInsertModelInParallel() {
+		assertTrue(this.getChronoSphere().getConfiguration().isBatchInsertParallelEnabled());
+		this.runBatchInsertTest();
+	}
+
+	@Test
+	public void batchInsertResolvesReferencesToExistingEObjects() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(FolderMetamodel.createFolderEPackage());
+		String existingId;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EObject existing = tx.createAndAttach(tx.getEClassBySimpleName("Folder"));
+			existingId = ((ChronoEObject) existing).getId();
+			tx.commit();
+		}
+		String newId;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecFolder = tx.getEClassBySimpleName("Folder");
+			EAttribute eaName = EMFUtils.getEAttribute(ecFolder, "name");
+			EReference erLinks = EMFUtils.getEReference(ecFolder, "links");
+			EObject existing = tx.getEObjectById(existingId);
+			EObject folder = EcoreUtil.create(ecFolder);
+			newId = ((ChronoEObject) folder).getId();
+			folder.eSet(eaName, "new");
+			// the second link target is neither part of the import nor present in the repository
+			EObject dangling = EcoreUtil.create(ecFolder);
+			EMFUtils.eGetMany(folder, erLinks).add(existing);
+			EMFUtils.eGetMany(folder, erLinks).add(dangling);
+			EMFUtils.eGetMany(folder, erLinks).add(existing);
+			sphere.batchInsertModelData(folder);
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EObject folder = tx.getEObjectById(newId);
+			assertNotNull(folder);
+			EReference erTxLinks = EMFUtils.getEReference(tx.getEClassBySimpleName("Folder"), "links");
+			List<EObject> links = EMFUtils.eGetMany(folder, erTxLinks);
+			assertEquals(2, links.size());
+			assertEquals(existingId, ((ChronoEObject) links.get(0)).getId());
+			assertEquals(existingId, ((ChronoEObject) links.get(1)).getId());
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private void runBatchInsertTest() {
+		ChronoSphere sphere = this.getChronoSphere();
+		EPackage ePackage = FolderMetamodel.createFolderEPackage();
+		sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+		EClass ecFolder = (EClass) ePackage.getEClassifier("Folder");
+		EAttribute eaName = EMFUtils.getEAttribute(ecFolder, "name");
+		EAttribute eaTags = EMFUtils.getEAttribute(ecFolder, "tags");
+		EReference erChildren = EMFUtils.getEReference(ecFolder, "children");
+		EReference erLinks = EMFUtils.getEReference(ecFolder, "links");
+		// create two containment trees with random cross-references (also between the trees)
+		Random random = new Random(42);
+		List<EObject> roots = Lists.newArrayList();
+		List<EObject> allFolders = Lists.newArrayList();
+		for (int r = 0; r < 2; r++) {
+			EObject root = EcoreUtil.create(ecFolder);
+			root.eSet(eaName, "root" + r);
+			roots.add(root);
+			allFolders.add(root);
+		}
+		for (int i = 0; i < 60; i++) {
+			EObject folder = EcoreUtil.create(ecFolder);
+			folder.eSet(eaName, "folder" + i);
+			folder.eSet(eaTags, Lists.newArrayList("tag" + i % 3, "tag" + i % 5));
+			EObject parent = allFolders.get(random.nextInt(allFolders.size()));
+			EMFUtils.eGetMany(parent, erChildren).add(folder);
+			allFolders.add(folder);
+		}
+		for (EObject folder : allFolders) {
+			for (int i = 0; i < 4; i++) {
+				EMFUtils.eGetMany(folder, erLinks).add(allFolders.get(random.nextInt(allFolders.size())));
+			}
+		}
+		// remember the expected state
+		Map<String, String> idToName = Maps.newHashMap();
+		Map<String, List<?>> idToTags = Maps.newHashMap();
+		Map<String, String> idToContainerId = Maps.newHashMap();
+		Map<String, List<String>> idToChildIds = Maps.newHashMap();
+		Map<String, List<String>> idToLinkIds = Maps.newHashMap();
+		for (EObject folder : allFolders) {
+			String id = ((ChronoEObject) folder).getId();
+			idToName.put(id, (String) folder.eGet(eaName));
+			idToTags.put(id, Lists.newArrayList((List<?>) folder.eGet(eaTags)));
+			EObject eContainer = folder.eContainer();
+			idToContainerId.put(id, eContainer == null ? null : ((ChronoEObject) eContainer).getId());
+			idToChildIds.put(id, EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erChildren)));
+			idToLinkIds.put(id, EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erLinks)));
+		}
+		// the second root is contained in the list twice, and a nested folder is passed explicitly
+		List<EObject> input = Lists.newArrayList(roots);
+		input.add(roots.get(1));
+		input.add(allFolders.get(10));
+		sphere.batchInsertModelData(input);
+		// the given EObjects remain detached
+		for (EObject folder : allFolders) {
+			assertFalse(((ChronoEObjectInternal) folder).isAttached());
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecTxFolder = tx.getEClassBySimpleName("Folder");
+			EAttribute eaTxName = EMFUtils.getEAttribute(ecTxFolder, "name");
+			EAttribute eaTxTags = EMFUtils.getEAttribute(ecTxFolder, "tags");
+			EReference erTxChildren = EMFUtils.getEReference(ecTxFolder, "children");
+			EReference erTxLinks = EMFUtils.getEReference(ecTxFolder, "links");
+			assertEquals(allFolders.size(), tx.find().startingFromInstancesOf(ecTxFolder).count());
+			for (String id : idToName.keySet()) {
+				EObject folder = tx.getEObjectById(id);
+				assertNotNull(folder);
+				assertEquals(idToName.get(id), folder.eGet(eaTxName));
+				assertEquals(idToTags.get(id), Lists.newArrayList((List<?>) folder.eGet(eaTxTags)));
+				String containerId = idToContainerId.get(id);
+				if (containerId == null) {
+					assertNull(folder.eContainer());
+				} else {
+					assertEquals(containerId, ((ChronoEObject) folder.eContainer()).getId());
+					assertEquals(erTxChildren, folder.eContainingFeature());
+				}
+				assertEquals(idToChildIds.get(id), EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erTxChildren)));
+				assertEquals(idToLinkIds.get(id), EMFTestUtils.getIds(EMFUtils.eGetMany(folder, erTxLinks)));
+			}
+		}
+	}
+
+}
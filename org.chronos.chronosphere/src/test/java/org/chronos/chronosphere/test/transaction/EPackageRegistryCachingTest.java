@@ -0,0 +1,74 @@
+package org.chronos.chronosphere.test.transaction;
+
+import static org.junit.Assert.*;
+
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.chronosphere.testmodels.meta.PersonMetamodel;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class EPackageRegistryCachingTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	public void transactionsOnTheSameMetamodelShareTheEPackages() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(PersonMetamodel.createPersonEPackage());
+		try (ChronoSphereTransaction tx1 = sphere.tx(); ChronoSphereTransaction tx2 = sphere.tx()) {
+			EClass ecPerson = tx1.getEClassBySimpleName("Person");
+			assertNotNull(ecPerson);
+			assertSame(ecPerson, tx2.getEClassBySimpleName("Person"));
+			assertSame(tx1.getEPackageByNsURI(PersonMetamodel.PERSON_EPACKAGE_NS_URI),
+					tx2.getEPackageByNsURI(PersonMetamodel.PERSON_EPACKAGE_NS_URI));
+		}
+		// data commits do not change the metamodel
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecPerson = tx.getEClassBySimpleName("Person");
+			tx.createAndAttach(ecPerson);
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx1 = sphere.tx(); ChronoSphereTransaction tx2 = sphere.tx()) {
+			assertSame(tx1.getEClassBySimpleName("Person"), tx2.getEClassBySimpleName("Person"));
+		}
+	}
+
+	@Test
+	public void metamodelChangesAreVisibleToNewTransactions() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(PersonMetamodel.createPersonEPackage());
+		long afterFirstRegistration;
+		EClass oldPersonEClass;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			afterFirstRegistration = tx.getTimestamp();
+			oldPersonEClass = tx.getEClassBySimpleName("Person");
+			assertNull(oldPersonEClass.getEStructuralFeature("age"));
+		}
+		// add an attribute to the "Person" EClass
+		EPackage evolvedEPackage = PersonMetamodel.createPersonEPackage();
+		EAttribute eaAge = EcoreFactory.eINSTANCE.createEAttribute();
+		eaAge.setName("age");
+		eaAge.setEType(EcorePackage.Literals.EINT);
+		((EClass) evolvedEPackage.getEClassifier("Person")).getEStructuralFeatures().add(eaAge);
+		sphere.getEPackageManager().registerOrUpdateEPackage(evolvedEPackage);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass ecPerson = tx.getEClassBySimpleName("Person");
+			assertNotSame(oldPersonEClass, ecPerson);
+			assertNotNull(ecPerson.getEStructuralFeature("age"));
+		}
+		// historic transactions still see the old metamodel
+		try (ChronoSphereTransaction tx = sphere.tx(afterFirstRegistration)) {
+			EClass ecPerson = tx.getEClassBySimpleName("Person");
+			assertSame(oldPersonEClass, ecPerson);
+			assertNull(ecPerson.getEStructuralFeature("age"));
+		}
+	}
+
+}
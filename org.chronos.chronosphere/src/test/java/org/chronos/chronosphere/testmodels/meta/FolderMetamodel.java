@@ -0,0 +1,56 @@
+package org.chronos.chronosphere.testmodels.meta;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+
+public class FolderMetamodel {
+
+	public static final String FOLDER_EPACKAGE_NS_URI = "http://www.example.com/model/folder";
+
+	public static EPackage createFolderEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setNsURI(FOLDER_EPACKAGE_NS_URI);
+		ePackage.setNsPrefix("folder");
+		ePackage.setName("Folder");
+		{
+			EClass ecFolder = EcoreFactory.eINSTANCE.createEClass();
+			ecFolder.setName("Folder");
+			{
+				EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+				eaName.setName("name");
+				eaName.setEType(EcorePackage.Literals.ESTRING);
+				ecFolder.getEStructuralFeatures().add(eaName);
+
+				EAttribute eaTags = EcoreFactory.eINSTANCE.createEAttribute();
+				eaTags.setName("tags");
+				eaTags.setEType(EcorePackage.Literals.ESTRING);
+				eaTags.setUpperBound(-1);
+				eaTags.setUnique(false);
+				ecFolder.getEStructuralFeatures().add(eaTags);
+
+				EReference erChildren = EcoreFactory.eINSTANCE.createEReference();
+				erChildren.setName("children");
+				erChildren.setEType(ecFolder);
+				erChildren.setUpperBound(-1);
+				erChildren.setOrdered(true);
+				erChildren.setContainment(true);
+				ecFolder.getEStructuralFeatures().add(erChildren);
+
+				EReference erLinks = EcoreFactory.eINSTANCE.createEReference();
+				erLinks.setName("links");
+				erLinks.setEType(ecFolder);
+				erLinks.setUpperBound(-1);
+				erLinks.setOrdered(true);
+				erLinks.setUnique(false);
+				ecFolder.getEStructuralFeatures().add(erLinks);
+			}
+			ePackage.getEClassifiers().add(ecFolder);
+		}
+		return ePackage;
+	}
+
+}
@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 import org.chronos.chronosphere.api.ChronoSphere;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.testmodels.instance.TestModel;
 
 public class ChronoSphereTestUtils {
 
@@ -22,4 +23,15 @@ public class ChronoSphereTestUtils {
 		}
 	}
 
+	public static <T extends TestModel> T registerAndAttach(final ChronoSphere sphere, final T testModel) {
+		checkNotNull(sphere, "Precondition violation - argument 'sphere' must not be NULL!");
+		checkNotNull(testModel, "Precondition violation - argument 'testModel' must not be NULL!");
+		sphere.getEPackageManager().registerOrUpdateEPackage(testModel.getEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			tx.attach(testModel);
+			tx.commit();
+		}
+		return testModel;
+	}
+
 }
@@ -4,12 +4,15 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.List;
 
+import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 
+import com.google.common.collect.Lists;
+
 public class EMFTestUtils {
 
 	public static EClassifier getEClassifierRecursive(final EPackage rootEPackage, final String classifierName) {
@@ -65,4 +68,13 @@ public class EMFTestUtils {
 		List<EObject> list = (List<EObject>) eGet;
 		list.remove(target);
 	}
+
+	public static List<String> getIds(final List<EObject> eObjects) {
+		checkNotNull(eObjects, "Precondition violation - argument 'eObjects' must not be NULL!");
+		List<String> ids = Lists.newArrayList();
+		for (EObject eObject : eObjects) {
+			ids.add(((ChronoEObject) eObject).getId());
+		}
+		return ids;
+	}
 }